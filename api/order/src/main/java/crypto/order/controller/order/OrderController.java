@@ -4,6 +4,7 @@ import crypto.common.api.response.ApiResponse;
 import crypto.order.controller.order.request.LimitOrderRequest;
 import crypto.order.controller.order.request.MarketBuyOrderRequest;
 import crypto.order.controller.order.request.MarketSellOrderRequest;
+import crypto.order.controller.order.request.StopOrderRequest;
 import crypto.order.controller.order.response.*;
 import crypto.order.service.order.OrderService;
 
@@ -41,4 +42,28 @@ public class OrderController {
 
         return ApiResponse.success(orderService.createMarketSellOrder(request.toServiceRequest()));
     }
+
+    @PostMapping("/api/v1/orders/stop/buy")
+    public ApiResponse<OrderCreateResponse> createStopBuyOrder(@RequestBody StopOrderRequest request) {
+
+        return ApiResponse.success(orderService.createStopBuyOrder(request.toServiceRequest()));
+    }
+
+    @PostMapping("/api/v1/orders/stop/sell")
+    public ApiResponse<OrderCreateResponse> createStopSellOrder(@RequestBody StopOrderRequest request) {
+
+        return ApiResponse.success(orderService.createStopSellOrder(request.toServiceRequest()));
+    }
+
+    @DeleteMapping("/api/v1/orders/{orderId}")
+    public ApiResponse<OrderCancelResponse> cancelOrder(@PathVariable Long orderId, @RequestParam String symbol) {
+
+        return ApiResponse.success(orderService.cancelOrder(orderId, symbol));
+    }
+
+    @PutMapping("/api/v1/orders/{orderId}")
+    public ApiResponse<OrderReplaceResponse> replaceOrder(@PathVariable Long orderId, @RequestBody LimitOrderRequest request) {
+
+        return ApiResponse.success(orderService.replaceOrder(orderId, request.toServiceRequest()));
+    }
 }
@@ -1,5 +1,6 @@
 package crypto.order.controller.order.request;
 
+import crypto.event.TimeInForce;
 import crypto.order.service.order.request.LimitOrderServiceRequest;
 import lombok.Builder;
 import lombok.Getter;
@@ -15,12 +16,14 @@ public class LimitOrderRequest {
     private String symbol;
     private BigDecimal price;
     private BigDecimal quantity;
+    private TimeInForce timeInForce;
 
     @Builder
-    public LimitOrderRequest(String symbol, BigDecimal price, BigDecimal quantity) {
+    public LimitOrderRequest(String symbol, BigDecimal price, BigDecimal quantity, TimeInForce timeInForce) {
         this.symbol = symbol;
         this.price = price;
         this.quantity = quantity;
+        this.timeInForce = timeInForce;
     }
 
     public LimitOrderServiceRequest toServiceRequest() {
@@ -28,6 +31,7 @@ public class LimitOrderRequest {
                 .symbol(symbol)
                 .price(price)
                 .quantity(quantity)
+                .timeInForce(timeInForce)
                 .build();
     }
 }
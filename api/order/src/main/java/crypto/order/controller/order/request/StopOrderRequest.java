@@ -0,0 +1,40 @@
+package crypto.order.controller.order.request;
+
+import crypto.order.service.order.request.StopOrderServiceRequest;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+
+// price 가 있으면 스톱 지정가, 없으면 스톱 시장가 주문이다. 스톱 시장가 매수는 totalPrice, 매도는 quantity 를 쓴다.
+@Getter
+@NoArgsConstructor
+public class StopOrderRequest {
+
+    private String symbol;
+    private BigDecimal triggerPrice;
+    private BigDecimal price;
+    private BigDecimal quantity;
+    private BigDecimal totalPrice;
+
+    @Builder
+    public StopOrderRequest(String symbol, BigDecimal triggerPrice, BigDecimal price, BigDecimal quantity, BigDecimal totalPrice) {
+        this.symbol = symbol;
+        this.triggerPrice = triggerPrice;
+        this.price = price;
+        this.quantity = quantity;
+        this.totalPrice = totalPrice;
+    }
+
+    public StopOrderServiceRequest toServiceRequest() {
+        return StopOrderServiceRequest.builder()
+                .symbol(symbol)
+                .triggerPrice(triggerPrice)
+                .price(price)
+                .quantity(quantity)
+                .totalPrice(totalPrice)
+                .build();
+    }
+}
@@ -0,0 +1,29 @@
+package crypto.order.controller.order.response;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+
+@Getter
+@NoArgsConstructor
+public class OrderReplaceResponse {
+
+    private Long orderId;
+    private LocalDateTime requestedAt;
+
+    @Builder
+    public OrderReplaceResponse(Long orderId, LocalDateTime requestedAt) {
+        this.orderId = orderId;
+        this.requestedAt = requestedAt;
+    }
+
+    public static OrderReplaceResponse of(Long orderId, LocalDateTime requestedAt) {
+        return OrderReplaceResponse.builder()
+                .orderId(orderId)
+                .requestedAt(requestedAt)
+                .build();
+    }
+}
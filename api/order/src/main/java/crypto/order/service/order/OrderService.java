@@ -1,13 +1,17 @@
 package crypto.order.service.order;
 
+import crypto.common.fixedpoint.Amount;
+import crypto.common.fixedpoint.Price;
+import crypto.common.fixedpoint.Quantity;
 import crypto.common.security.context.UserContext;
 import crypto.common.time.TimeProvider;
 import crypto.event.eventsender.OrderEventSender;
-import crypto.event.payload.EventPayload;
+import crypto.event.payload.OrderPayload;
 import crypto.order.controller.order.response.*;
 import crypto.order.service.order.request.LimitOrderServiceRequest;
 import crypto.order.service.order.request.MarketBuyOrderServiceRequest;
 import crypto.order.service.order.request.MarketSellOrderServiceRequest;
+import crypto.order.service.order.request.StopOrderServiceRequest;
 
 import lombok.RequiredArgsConstructor;
 
@@ -33,12 +37,13 @@ public class OrderService {
 
         orderEventSender.send(
                 LIMIT_BUY_ORDER_CREATE,
-                EventPayload.builder()
+                OrderPayload.builder()
                         .userId(userId)
                         .symbol(request.getSymbol())
-                        .price(request.getPrice())
-                        .quantity(request.getQuantity())
+                        .price(Price.of(request.getPrice()))
+                        .quantity(Quantity.of(request.getQuantity()))
                         .orderSide(BUY.name())
+                        .timeInForce(request.getTimeInForce())
                         .build()
         );
 
@@ -51,12 +56,13 @@ public class OrderService {
 
         orderEventSender.send(
                 LIMIT_SELL_ORDER_CREATE,
-                EventPayload.builder()
+                OrderPayload.builder()
                         .userId(userId)
                         .symbol(request.getSymbol())
-                        .price(request.getPrice())
-                        .quantity(request.getQuantity())
+                        .price(Price.of(request.getPrice()))
+                        .quantity(Quantity.of(request.getQuantity()))
                         .orderSide(SELL.name())
+                        .timeInForce(request.getTimeInForce())
                         .build()
         );
 
@@ -69,10 +75,10 @@ public class OrderService {
 
         orderEventSender.send(
                 MARKET_BUY_ORDER_CREATE,
-                EventPayload.builder()
+                OrderPayload.builder()
                         .userId(userId)
                         .symbol(request.getSymbol())
-                        .marketTotalPrice(request.getTotalPrice())
+                        .marketTotalPrice(Amount.of(request.getTotalPrice()))
                         .build()
         );
 
@@ -85,24 +91,93 @@ public class OrderService {
 
         orderEventSender.send(
                 MARKET_SELL_ORDER_CREATE,
-                EventPayload.builder()
+                OrderPayload.builder()
                         .userId(userId)
                         .symbol(request.getSymbol())
-                        .marketTotalQuantity(request.getTotalAmount())
+                        .marketTotalQuantity(Quantity.of(request.getTotalAmount()))
                         .build()
         );
 
         return OrderCreateResponse.of(createdAt);
     }
 
-//    @Transactional
-//    public OrderDeleteResponse deleteOrder(Long orderId) {
-//        LocalDateTime deletedDateTime = timeProvider.now();
-//
-//        Order order = orderRepository.findById(orderId)
-//                .orElseThrow(OrderNotFoundException::new);
-//        order.markDeleted(deletedDateTime);
-//
-//        return OrderDeleteResponse.of(order);
-//    }
+    // 발동 가격에 닿을 때까지 체결 애플리케이션의 스톱 호가창에 보관된다. 가격이 없으면 totalPrice 만큼 시장가로 매수한다.
+    public OrderCreateResponse createStopBuyOrder(StopOrderServiceRequest request) {
+        Long userId = UserContext.getUserId();
+        LocalDateTime createdAt = timeProvider.now();
+        boolean limit = request.getPrice() != null;
+
+        orderEventSender.send(
+                STOP_ORDER_CREATE,
+                OrderPayload.builder()
+                        .userId(userId)
+                        .symbol(request.getSymbol())
+                        .triggerPrice(Price.of(request.getTriggerPrice()))
+                        .price(limit ? Price.of(request.getPrice()) : null)
+                        .quantity(limit ? Quantity.of(request.getQuantity()) : null)
+                        .marketTotalPrice(limit ? null : Amount.of(request.getTotalPrice()))
+                        .orderSide(BUY.name())
+                        .build()
+        );
+
+        return OrderCreateResponse.of(createdAt);
+    }
+
+    // 가격이 없으면 발동 시 quantity 만큼 시장가로 매도한다.
+    public OrderCreateResponse createStopSellOrder(StopOrderServiceRequest request) {
+        Long userId = UserContext.getUserId();
+        LocalDateTime createdAt = timeProvider.now();
+        boolean limit = request.getPrice() != null;
+
+        orderEventSender.send(
+                STOP_ORDER_CREATE,
+                OrderPayload.builder()
+                        .userId(userId)
+                        .symbol(request.getSymbol())
+                        .triggerPrice(Price.of(request.getTriggerPrice()))
+                        .price(limit ? Price.of(request.getPrice()) : null)
+                        .quantity(limit ? Quantity.of(request.getQuantity()) : null)
+                        .marketTotalQuantity(limit ? null : Quantity.of(request.getQuantity()))
+                        .orderSide(SELL.name())
+                        .build()
+        );
+
+        return OrderCreateResponse.of(createdAt);
+    }
+
+    // 취소도 심볼을 키로 보내 같은 심볼의 주문 생성 이벤트 뒤에 처리된다.
+    public OrderCancelResponse cancelOrder(Long orderId, String symbol) {
+        Long userId = UserContext.getUserId();
+        LocalDateTime requestedAt = timeProvider.now();
+
+        orderEventSender.send(
+                LIMIT_ORDER_CANCEL,
+                OrderPayload.builder()
+                        .orderId(orderId)
+                        .userId(userId)
+                        .symbol(symbol)
+                        .build()
+        );
+
+        return OrderCancelResponse.of(orderId, requestedAt);
+    }
+
+    // 취소 후 재주문 대신 한 이벤트로 가격/수량을 바꾼다. 잠금은 체결 애플리케이션이 차이만큼 조정한다.
+    public OrderReplaceResponse replaceOrder(Long orderId, LimitOrderServiceRequest request) {
+        Long userId = UserContext.getUserId();
+        LocalDateTime requestedAt = timeProvider.now();
+
+        orderEventSender.send(
+                LIMIT_ORDER_REPLACE,
+                OrderPayload.builder()
+                        .orderId(orderId)
+                        .userId(userId)
+                        .symbol(request.getSymbol())
+                        .price(Price.of(request.getPrice()))
+                        .quantity(Quantity.of(request.getQuantity()))
+                        .build()
+        );
+
+        return OrderReplaceResponse.of(orderId, requestedAt);
+    }
 }
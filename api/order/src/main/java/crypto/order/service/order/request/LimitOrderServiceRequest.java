@@ -1,5 +1,7 @@
 package crypto.order.service.order.request;
 
+import crypto.event.TimeInForce;
+
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -14,11 +16,13 @@ public class LimitOrderServiceRequest {
     private String symbol;
     private BigDecimal price;
     private BigDecimal quantity;
+    private TimeInForce timeInForce;
 
     @Builder
-    public LimitOrderServiceRequest(String symbol, BigDecimal price, BigDecimal quantity) {
+    public LimitOrderServiceRequest(String symbol, BigDecimal price, BigDecimal quantity, TimeInForce timeInForce) {
         this.symbol = symbol;
         this.price = price;
         this.quantity = quantity;
+        this.timeInForce = timeInForce;
     }
 }
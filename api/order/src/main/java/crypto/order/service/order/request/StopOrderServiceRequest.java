@@ -0,0 +1,28 @@
+package crypto.order.service.order.request;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+
+@Getter
+@NoArgsConstructor
+public class StopOrderServiceRequest {
+
+    private String symbol;
+    private BigDecimal triggerPrice;
+    private BigDecimal price;
+    private BigDecimal quantity;
+    private BigDecimal totalPrice;
+
+    @Builder
+    public StopOrderServiceRequest(String symbol, BigDecimal triggerPrice, BigDecimal price, BigDecimal quantity, BigDecimal totalPrice) {
+        this.symbol = symbol;
+        this.triggerPrice = triggerPrice;
+        this.price = price;
+        this.quantity = quantity;
+        this.totalPrice = totalPrice;
+    }
+}
@@ -8,6 +8,7 @@ import crypto.common.security.config.SecurityConfig;
 import crypto.order.controller.order.request.LimitOrderRequest;
 import crypto.order.controller.order.request.MarketBuyOrderRequest;
 import crypto.order.controller.order.request.MarketSellOrderRequest;
+import crypto.order.controller.order.request.StopOrderRequest;
 import crypto.order.controller.order.response.*;
 
 import org.junit.jupiter.api.DisplayName;
@@ -163,4 +164,127 @@ class OrderControllerTest {
         assertThat(apiResponse.getStatus()).isEqualTo(HttpStatus.OK);
         assertThat(apiResponse.getMessage()).isEqualTo("요청이 정상적으로 처리되었습니다.");
     }
-}
\ No newline at end of file
+
+    @DisplayName("스톱 지정가 판매 주문을 요청한다.")
+    @Test
+    void createStopSellOrder() throws Exception {
+        // given
+        HttpHeaders headers = new HttpHeaders();
+        headers.add("X-UID", "42");
+
+        StopOrderRequest request = StopOrderRequest.builder()
+                .symbol("BTC")
+                .triggerPrice(BigDecimal.valueOf(49500))
+                .price(BigDecimal.valueOf(49000))
+                .quantity(BigDecimal.valueOf(0.5))
+                .build();
+
+        HttpEntity<StopOrderRequest> requestEntity = new HttpEntity<>(request, headers);
+
+        // when
+        ResponseEntity<String> response = restTemplate.postForEntity(
+                "/api/v1/orders/stop/sell",
+                requestEntity,
+                String.class
+        );
+
+        // then
+        ApiResponse<OrderCreateResponse> apiResponse = objectMapper.readValue(
+                response.getBody(),
+                new TypeReference<ApiResponse<OrderCreateResponse>>() {}
+        );
+
+        assertThat(apiResponse.getCode()).isEqualTo(200);
+        assertThat(apiResponse.getStatus()).isEqualTo(HttpStatus.OK);
+        assertThat(apiResponse.getMessage()).isEqualTo("요청이 정상적으로 처리되었습니다.");
+    }
+
+    @DisplayName("지정가 주문 취소를 요청한다.")
+    @Test
+    void cancelOrder() throws Exception {
+        // given
+        HttpHeaders headers = new HttpHeaders();
+        headers.add("X-UID", "42");
+
+        HttpEntity<Void> requestEntity = new HttpEntity<>(headers);
+
+        // when
+        ResponseEntity<String> response = restTemplate.exchange(
+                "/api/v1/orders/{orderId}?symbol={symbol}",
+                HttpMethod.DELETE,
+                requestEntity,
+                String.class,
+                7L, "BTC"
+        );
+
+        // then
+        ApiResponse<OrderCancelResponse> apiResponse = objectMapper.readValue(
+                response.getBody(),
+                new TypeReference<ApiResponse<OrderCancelResponse>>() {}
+        );
+
+        assertThat(apiResponse.getCode()).isEqualTo(200);
+        assertThat(apiResponse.getStatus()).isEqualTo(HttpStatus.OK);
+        assertThat(apiResponse.getData().getOrderId()).isEqualTo(7L);
+    }
+
+    @DisplayName("지정가 주문 정정을 요청한다.")
+    @Test
+    void replaceOrder() throws Exception {
+        // given
+        HttpHeaders headers = new HttpHeaders();
+        headers.add("X-UID", "42");
+
+        LimitOrderRequest request = LimitOrderRequest.builder()
+                .symbol("BTC")
+                .price(BigDecimal.valueOf(50000))
+                .quantity(BigDecimal.valueOf(0.5))
+                .build();
+
+        HttpEntity<LimitOrderRequest> requestEntity = new HttpEntity<>(request, headers);
+
+        // when
+        ResponseEntity<String> response = restTemplate.exchange(
+                "/api/v1/orders/{orderId}",
+                HttpMethod.PUT,
+                requestEntity,
+                String.class,
+                7L
+        );
+
+        // then
+        ApiResponse<OrderReplaceResponse> apiResponse = objectMapper.readValue(
+                response.getBody(),
+                new TypeReference<ApiResponse<OrderReplaceResponse>>() {}
+        );
+
+        assertThat(apiResponse.getCode()).isEqualTo(200);
+        assertThat(apiResponse.getStatus()).isEqualTo(HttpStatus.OK);
+        assertThat(apiResponse.getData().getOrderId()).isEqualTo(7L);
+    }
+
+    @DisplayName("알 수 없는 유효 조건으로 지정가 주문을 요청하면 이벤트를 보내지 않고 400 으로 거절한다.")
+    @Test
+    void createLimitOrderWithUnknownTimeInForce() {
+        // given
+        HttpHeaders headers = new HttpHeaders();
+        headers.add("X-UID", "42");
+        headers.setContentType(MediaType.APPLICATION_JSON);
+
+        String request = """
+                {"symbol": "BTC", "price": 50000, "quantity": 1.2345, "timeInForce": "IOX"}
+                """;
+
+        HttpEntity<String> requestEntity = new HttpEntity<>(request, headers);
+
+        // when
+        ResponseEntity<String> response = restTemplate.postForEntity(
+                "/api/v1/orders/limit/buy",
+                requestEntity,
+                String.class
+        );
+
+        // then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+}
@@ -0,0 +1,19 @@
+package crypto.benchmark.trade;
+
+// 미체결 주문이 가격 레벨에 흩어진 모양. 한 레벨에 몇 개의 주문이 쌓이는지로 나타낸다.
+public enum BookShape {
+    SINGLE_LEVEL(Integer.MAX_VALUE),
+    UNIFORM(1),
+    CLUSTERED(10);
+
+    private final int ordersPerLevel;
+
+    BookShape(int ordersPerLevel) {
+        this.ordersPerLevel = ordersPerLevel;
+    }
+
+    // 최우선 호가에서 몇 번째 레벨인지. index 는 체결 우선순위 순서이다.
+    int levelOf(int index) {
+        return index / ordersPerLevel;
+    }
+}
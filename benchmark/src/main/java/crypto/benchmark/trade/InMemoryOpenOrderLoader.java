@@ -0,0 +1,26 @@
+package crypto.benchmark.trade;
+
+import crypto.trade.entity.TradeOrder;
+import crypto.trade.orderbook.OpenOrderLoader;
+
+import java.util.List;
+
+
+// DB 대신 미리 만든 미체결 주문 목록으로 호가창을 적재한다.
+class InMemoryOpenOrderLoader extends OpenOrderLoader {
+
+    private List<TradeOrder> openOrders = List.of();
+
+    InMemoryOpenOrderLoader() {
+        super(null, null, null, 1);
+    }
+
+    void setOpenOrders(List<TradeOrder> openOrders) {
+        this.openOrders = openOrders;
+    }
+
+    @Override
+    public List<TradeOrder> load(String symbol) {
+        return openOrders;
+    }
+}
@@ -0,0 +1,28 @@
+package crypto.benchmark.trade;
+
+import crypto.trade.entity.TradeStopOrder;
+import crypto.trade.trigger.StopOrderStore;
+
+import java.util.List;
+
+
+// 벤치마크에는 스톱 주문이 없으므로 DB 대신 빈 목록을 적재하고 쓰기는 버린다.
+class InMemoryStopOrderStore extends StopOrderStore {
+
+    InMemoryStopOrderStore() {
+        super(null);
+    }
+
+    @Override
+    public List<TradeStopOrder> load(String symbol) {
+        return List.of();
+    }
+
+    @Override
+    public void save(TradeStopOrder stopOrder) {
+    }
+
+    @Override
+    public void delete(List<Long> stopOrderIds) {
+    }
+}
@@ -0,0 +1,50 @@
+package crypto.benchmark.trade;
+
+import crypto.trade.entity.Trade;
+import crypto.trade.entity.TradeOrder;
+import crypto.trade.journal.TradeJournal;
+import crypto.trade.persistence.TradeWriteBehind;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+
+// ID 만 부여하고 DB 쓰기는 버린다. 매칭 비용만 측정하기 위해 트랜잭션 없이 동작한다.
+class InMemoryTradeWriteBehind extends TradeWriteBehind {
+
+    private long nextId = 1L;
+
+    InMemoryTradeWriteBehind(TradeJournal tradeJournal) {
+        super(1, 1, 0L, 1, 0L, null, null, null, null, null, null, tradeJournal, new SimpleMeterRegistry());
+    }
+
+    @Override
+    public TradeOrder insertOrder(TradeOrder order) {
+        if (order.getId() == null) {
+            order.assignId(nextId++);
+        }
+        return order;
+    }
+
+    @Override
+    public Trade insertTrade(Trade trade) {
+        trade.assignId(nextId++);
+        return trade;
+    }
+
+    @Override
+    public void updateFilledOrder(TradeOrder order) {
+    }
+
+    @Override
+    public void markProcessed(String eventId) {
+    }
+
+    @Override
+    public boolean isProcessed(String eventId) {
+        return false;
+    }
+
+    @Override
+    public void awaitFlushed() {
+    }
+}
@@ -0,0 +1,133 @@
+package crypto.benchmark.trade;
+
+import crypto.common.fee.FeePolicy;
+import crypto.common.fixedpoint.Amount;
+import crypto.common.fixedpoint.Price;
+import crypto.common.fixedpoint.Quantity;
+import crypto.common.time.TimeProvider;
+import crypto.event.Event;
+import crypto.event.EventType;
+import crypto.event.payload.OrderPayload;
+import crypto.trade.entity.TradeOrder;
+import crypto.trade.entity.TradeOrderSide;
+import crypto.trade.eventhandler.LimitBuyOrderCreateEventHandler;
+import crypto.trade.eventhandler.LimitSellOrderCreateEventHandler;
+import crypto.trade.eventhandler.MarketBuyOrderCreateEventHandler;
+import crypto.trade.eventhandler.MarketSellOrderCreateEventHandler;
+import crypto.trade.eventhandler.TradeProcessor;
+import crypto.trade.journal.TradeJournal;
+import crypto.trade.marketdata.CandleAggregator;
+import crypto.trade.marketdata.TickerAggregator;
+import crypto.trade.orderbook.OrderBook;
+import crypto.trade.orderbook.OrderBookManager;
+import crypto.trade.trigger.StopOrderTrigger;
+
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static crypto.trade.entity.TradeOrderRole.TAKER;
+import static crypto.trade.entity.TradeOrderSide.*;
+
+
+// 매칭 핸들러를 스프링 없이 조립한다. DB, 카프카, 저널은 메모리 대역으로 바꾸고 캔들/티커 집계는 실제 구현을 쓴다.
+@Getter
+public class MatchingFixture {
+
+    public static final String SYMBOL = "BTC";
+    // 가격은 10.0000 을 기준으로 0.0001 단위로 벌어진다. 캔들/티커 거래대금이 긴 측정 중에 넘치지 않도록 낮게 잡는다.
+    private static final long BASE_PRICE_TICKS = 100_000L;
+    private static final int PRICE_SCALE = 4;
+
+    private final InMemoryOpenOrderLoader openOrderLoader = new InMemoryOpenOrderLoader();
+    private final OrderBookManager orderBookManager;
+    private final TradeProcessor tradeProcessor;
+    private final LimitBuyOrderCreateEventHandler limitBuyHandler;
+    private final LimitSellOrderCreateEventHandler limitSellHandler;
+    private final MarketBuyOrderCreateEventHandler marketBuyHandler;
+    private final MarketSellOrderCreateEventHandler marketSellHandler;
+    private final LocalDateTime registeredDateTime = LocalDateTime.of(2025, 7, 23, 10, 0, 0);
+
+    private long nextOrderId = 1L;
+
+    public MatchingFixture() {
+        TimeProvider timeProvider = new TimeProvider();
+        TradeJournal tradeJournal = new TradeJournal(false, "build/journal", 1, false);
+        InMemoryTradeWriteBehind tradeWriteBehind = new InMemoryTradeWriteBehind(tradeJournal);
+
+        this.orderBookManager = new OrderBookManager(openOrderLoader, tradeJournal, tradeWriteBehind);
+        this.tradeProcessor = new TradeProcessor(new NoOpSettlementEventSender(), new NoOpOrderEventSender(), new FeePolicy(), tradeJournal, tradeWriteBehind,
+                new CandleAggregator(null, null, null, timeProvider), new TickerAggregator(null, timeProvider),
+                new StopOrderTrigger(new InMemoryStopOrderStore(), new NoOpOrderEventSender()));
+
+        this.limitBuyHandler = new LimitBuyOrderCreateEventHandler(tradeProcessor, orderBookManager, timeProvider);
+        this.limitSellHandler = new LimitSellOrderCreateEventHandler(tradeProcessor, orderBookManager, timeProvider);
+        this.marketBuyHandler = new MarketBuyOrderCreateEventHandler(tradeProcessor, orderBookManager, timeProvider);
+        this.marketSellHandler = new MarketSellOrderCreateEventHandler(tradeProcessor, orderBookManager, timeProvider);
+    }
+
+    // restingSide 쪽에 수량 1 짜리 주문 depth 개를 깔고 호가창을 새로 적재한다. 반환 목록은 체결 우선순위 순서이다.
+    public List<TradeOrder> resetBook(TradeOrderSide restingSide, BookShape shape, int depth) {
+        List<TradeOrder> restingOrders = new ArrayList<>(depth);
+
+        for (int i = 0; i < depth; i++) {
+            restingOrders.add(createOrder(restingSide, restingPrice(restingSide, shape, i), Quantity.of("1")));
+        }
+
+        openOrderLoader.setOpenOrders(restingOrders);
+        orderBookManager.invalidate(SYMBOL);
+        orderBookManager.getOrderBook(SYMBOL);
+        return restingOrders;
+    }
+
+    // 체결로 빠진 앞쪽 makerCount 개의 주문을 같은 가격으로 다시 깔아 호가창 모양을 유지한다.
+    public void replenish(TradeOrderSide restingSide, BookShape shape, int makerCount) {
+        OrderBook orderBook = orderBookManager.getOrderBook(SYMBOL);
+
+        for (int i = 0; i < makerCount; i++) {
+            orderBook.add(createOrder(restingSide, restingPrice(restingSide, shape, i), Quantity.of("1")));
+        }
+    }
+
+    public TradeOrder createOrder(TradeOrderSide side, Price price, Quantity quantity) {
+        long orderId = nextOrderId++;
+        TradeOrder order = TradeOrder.create(orderId, orderId, SYMBOL, price, quantity, side, registeredDateTime);
+        order.assignId(orderId);
+        return order;
+    }
+
+    // 호가창 전체를 가로지르는 지정가 주문.
+    public Price crossingPrice(TradeOrderSide takerSide, BookShape shape, int depth) {
+        TradeOrderSide restingSide = (takerSide == BUY) ? SELL : BUY;
+        return restingPrice(restingSide, shape, depth);
+    }
+
+    // 앞에서부터 makerCount 개의 미체결 주문을 수수료까지 포함해 정확히 살 수 있는 금액.
+    public Amount marketBuyBudget(List<TradeOrder> restingOrders, int makerCount) {
+        Amount budget = Amount.ZERO;
+
+        for (int i = 0; i < makerCount; i++) {
+            TradeOrder restingOrder = restingOrders.get(i);
+            Amount matchedAmount = restingOrder.getPrice().multiply(restingOrder.getQuantity());
+            budget = budget.add(matchedAmount).add(tradeProcessor.calculateTradeFee(matchedAmount, TAKER));
+        }
+        return budget;
+    }
+
+    public Event event(EventType type, TradeOrder takerOrder, OrderPayload.OrderPayloadBuilder payload) {
+        return Event.of(String.valueOf(takerOrder.getId()), type, payload
+                .orderId(takerOrder.getId())
+                .userId(takerOrder.getUserId())
+                .symbol(SYMBOL)
+                .build());
+    }
+
+    private static Price restingPrice(TradeOrderSide restingSide, BookShape shape, int index) {
+        long level = shape.levelOf(index);
+        long ticks = (restingSide == SELL) ? BASE_PRICE_TICKS + level : BASE_PRICE_TICKS - level;
+        return Price.of(BigDecimal.valueOf(ticks, PRICE_SCALE));
+    }
+}
@@ -0,0 +1,22 @@
+package crypto.benchmark.trade;
+
+import crypto.event.EventType;
+import crypto.event.eventsender.OrderEventSender;
+import crypto.event.payload.EventPayload;
+
+
+// 주문 완료/취소 이벤트를 카프카로 보내지 않고 버린다.
+class NoOpOrderEventSender extends OrderEventSender {
+
+    NoOpOrderEventSender() {
+        super(null, null, null, null);
+    }
+
+    @Override
+    public void sendFailCompleteEventAfterCommit(EventType type, Long key, EventPayload payload) {
+    }
+
+    @Override
+    public void sendFailCompleteEvent(EventType type, Long key, EventPayload payload) {
+    }
+}
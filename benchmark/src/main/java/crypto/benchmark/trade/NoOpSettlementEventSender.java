@@ -0,0 +1,18 @@
+package crypto.benchmark.trade;
+
+import crypto.event.EventType;
+import crypto.event.eventsender.SettlementEventSender;
+import crypto.event.payload.EventPayload;
+
+
+// 정산 이벤트를 카프카로 보내지 않고 버린다.
+class NoOpSettlementEventSender extends SettlementEventSender {
+
+    NoOpSettlementEventSender() {
+        super(null, null, null, null);
+    }
+
+    @Override
+    public void send(EventType type, Long key, EventPayload payload) {
+    }
+}
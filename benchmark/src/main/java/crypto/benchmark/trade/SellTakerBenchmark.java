@@ -0,0 +1,74 @@
+package crypto.benchmark.trade;
+
+import crypto.common.fixedpoint.Quantity;
+import crypto.event.Event;
+import crypto.event.payload.OrderPayload;
+import crypto.trade.entity.TradeOrder;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+import static crypto.event.EventType.LIMIT_SELL_ORDER_TRADE;
+import static crypto.event.EventType.MARKET_SELL_ORDER_TRADE;
+import static crypto.trade.entity.TradeOrderSide.*;
+
+
+// 매수 호가창에 매도 주문 하나가 들어와 takerSize 개의 미체결 주문을 체결하는 비용. 호가창은 한 번만 깔고, 매 호출 뒤에 체결된 만큼 다시 채운다.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SellTakerBenchmark {
+
+    @Param({"100", "10000"})
+    private int depth;
+
+    @Param({"SINGLE_LEVEL", "UNIFORM", "CLUSTERED"})
+    private BookShape shape;
+
+    @Param({"1", "10", "100"})
+    private int takerSize;
+
+    private MatchingFixture fixture;
+    private TradeOrder limitOrder;
+    private Event limitEvent;
+    private Event marketEvent;
+
+    @Setup(Level.Trial)
+    public void setUpBook() {
+        fixture = new MatchingFixture();
+        fixture.resetBook(BUY, shape, depth);
+    }
+
+    @Setup(Level.Invocation)
+    public void setUpTaker() {
+        Quantity takerQuantity = Quantity.of(BigDecimal.valueOf(takerSize));
+
+        limitOrder = fixture.createOrder(SELL, fixture.crossingPrice(SELL, shape, depth), takerQuantity);
+        limitEvent = fixture.event(LIMIT_SELL_ORDER_TRADE, limitOrder, OrderPayload.builder());
+
+        TradeOrder marketOrder = fixture.createOrder(SELL, null, takerQuantity);
+        marketEvent = fixture.event(MARKET_SELL_ORDER_TRADE, marketOrder, OrderPayload.builder().marketTotalQuantity(takerQuantity));
+    }
+
+    @TearDown(Level.Invocation)
+    public void replenishBook() {
+        fixture.replenish(BUY, shape, takerSize);
+    }
+
+    @Benchmark
+    public TradeOrder limitSell() {
+        fixture.getLimitSellHandler().handle(limitEvent, limitOrder);
+        return limitOrder;
+    }
+
+    @Benchmark
+    public Event marketSell() {
+        fixture.getMarketSellHandler().handle(marketEvent, null);
+        return marketEvent;
+    }
+}
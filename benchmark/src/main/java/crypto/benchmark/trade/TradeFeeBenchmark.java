@@ -0,0 +1,42 @@
+package crypto.benchmark.trade;
+
+import crypto.common.fixedpoint.Amount;
+import crypto.trade.eventhandler.TradeProcessor;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static crypto.trade.entity.TradeOrderRole.*;
+
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TradeFeeBenchmark {
+
+    @Param({"1", "123456.78901234"})
+    private String amount;
+
+    private TradeProcessor tradeProcessor;
+    private Amount tradeAmount;
+
+    @Setup
+    public void setUp() {
+        tradeProcessor = new MatchingFixture().getTradeProcessor();
+        tradeAmount = Amount.of(amount);
+    }
+
+    @Benchmark
+    public Amount takerFee() {
+        return tradeProcessor.calculateTradeFee(tradeAmount, TAKER);
+    }
+
+    @Benchmark
+    public Amount makerFee() {
+        return tradeProcessor.calculateTradeFee(tradeAmount, MAKER);
+    }
+}
@@ -0,0 +1,74 @@
+package crypto.baseentity.id;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+
+// 41비트 타임스탬프(ms) + 10비트 워커 ID + 12비트 시퀀스로 구성된 64비트 ID 를 발급한다.
+public class Snowflake {
+
+    static final long EPOCH = 1735689600000L; // 2025-01-01T00:00:00Z
+
+    private static final int WORKER_ID_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    private static final long MAX_WORKER_ID = (1L << WORKER_ID_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final long MAX_CLOCK_BACKWARD_MILLIS = 5L;
+
+    private static final Map<Long, Snowflake> INSTANCES = new ConcurrentHashMap<>();
+
+    private final long workerId;
+    private long lastTimestamp = -1L;
+    private long sequence;
+
+    Snowflake(long workerId) {
+        if (workerId < 0 || workerId > MAX_WORKER_ID) {
+            throw new IllegalArgumentException("Worker id must be between 0 and " + MAX_WORKER_ID + ": " + workerId);
+        }
+        this.workerId = workerId;
+    }
+
+    // 같은 워커 ID 를 쓰는 엔티티끼리 하나의 시퀀스를 공유해 프로세스 안에서 ID 가 겹치지 않게 한다.
+    public static Snowflake forWorker(long workerId) {
+        return INSTANCES.computeIfAbsent(workerId, Snowflake::new);
+    }
+
+    public synchronized long nextId() {
+        long timestamp = currentTimeMillis();
+
+        if (timestamp < lastTimestamp) {
+            if (lastTimestamp - timestamp > MAX_CLOCK_BACKWARD_MILLIS) {
+                throw new IllegalStateException("Clock moved backwards by " + (lastTimestamp - timestamp) + "ms");
+            }
+            timestamp = waitUntil(lastTimestamp);
+        }
+
+        if (timestamp == lastTimestamp) {
+            sequence = (sequence + 1) & SEQUENCE_MASK;
+            if (sequence == 0) {
+                timestamp = waitUntil(lastTimestamp + 1);
+            }
+        } else {
+            sequence = 0;
+        }
+
+        lastTimestamp = timestamp;
+
+        return ((timestamp - EPOCH) << (WORKER_ID_BITS + SEQUENCE_BITS))
+                | (workerId << SEQUENCE_BITS)
+                | sequence;
+    }
+
+    long currentTimeMillis() {
+        return System.currentTimeMillis();
+    }
+
+    private long waitUntil(long targetMillis) {
+        long timestamp = currentTimeMillis();
+        while (timestamp < targetMillis) {
+            Thread.onSpinWait();
+            timestamp = currentTimeMillis();
+        }
+        return timestamp;
+    }
+}
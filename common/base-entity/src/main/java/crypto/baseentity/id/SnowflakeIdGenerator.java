@@ -0,0 +1,53 @@
+package crypto.baseentity.id;
+
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.hibernate.id.factory.spi.CustomIdGeneratorCreationContext;
+
+import java.lang.reflect.Member;
+import java.util.Map;
+
+
+public class SnowflakeIdGenerator implements IdentifierGenerator {
+
+    public static final String WORKER_ID = "crypto.id.worker-id";
+
+    private final Snowflake snowflake;
+
+    public SnowflakeIdGenerator(SnowflakeId config, Member member, CustomIdGeneratorCreationContext context) {
+        ConfigurationService configurationService = context.getServiceRegistry().requireService(ConfigurationService.class);
+        this.snowflake = Snowflake.forWorker(workerId(configurationService.getSettings()));
+    }
+
+    // 인스턴스마다 다른 워커 ID 를 받아야 ID 가 겹치지 않으므로, 설정이 없으면 기본값으로 넘어가지 않고 기동을 멈춘다.
+    static long workerId(Map<String, Object> settings) {
+        Object value = settings.get(WORKER_ID);
+        if (value == null || value.toString().isBlank()) {
+            throw new IllegalStateException(WORKER_ID + " is not set. Each instance needs its own worker id (ID_WORKER_ID).");
+        }
+
+        try {
+            return Long.parseLong(value.toString().trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalStateException(WORKER_ID + " is not a number: " + value, e);
+        }
+    }
+
+    // 쓰기 지연 저장처럼 애플리케이션이 미리 발급한 ID 가 있으면 그대로 INSERT 한다.
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object object) {
+        if (object != null) {
+            Object assignedId = session.getEntityPersister(null, object).getIdentifier(object, session);
+            if (assignedId != null) {
+                return assignedId;
+            }
+        }
+        return snowflake.nextId();
+    }
+
+    @Override
+    public boolean allowAssignedIdentifiers() {
+        return true;
+    }
+}
@@ -0,0 +1,41 @@
+package crypto.baseentity.id;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static crypto.baseentity.id.SnowflakeIdGenerator.WORKER_ID;
+import static org.assertj.core.api.Assertions.*;
+
+
+class SnowflakeIdGeneratorTest {
+
+    @DisplayName("설정한 워커 ID 를 읽는다.")
+    @Test
+    void readWorkerId() {
+        // when
+        long workerId = SnowflakeIdGenerator.workerId(Map.of(WORKER_ID, "7"));
+
+        // then
+        assertThat(workerId).isEqualTo(7);
+    }
+
+    @DisplayName("워커 ID 가 없으면 기본값으로 넘어가지 않고 예외가 발생한다.")
+    @Test
+    void missingWorkerId() {
+        // when then
+        assertThatThrownBy(() -> SnowflakeIdGenerator.workerId(Map.of()))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining(WORKER_ID);
+    }
+
+    @DisplayName("환경 변수가 없어 치환되지 않은 값이 들어오면 예외가 발생한다.")
+    @Test
+    void unresolvedWorkerId() {
+        // when then
+        assertThatThrownBy(() -> SnowflakeIdGenerator.workerId(Map.of(WORKER_ID, "${ID_WORKER_ID}")))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("is not a number");
+    }
+}
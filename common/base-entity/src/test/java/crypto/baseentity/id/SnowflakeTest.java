@@ -0,0 +1,128 @@
+package crypto.baseentity.id;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+
+import static org.assertj.core.api.Assertions.*;
+
+
+class SnowflakeTest {
+
+    private static final long NOW = Snowflake.EPOCH + 1_000_000L;
+    private static final int SEQUENCE_BITS = 12;
+    private static final int TIMESTAMP_SHIFT = 22;
+
+    @DisplayName("연속으로 발급한 ID 는 항상 커진다.")
+    @Test
+    void nextIdIsMonotonic() {
+        // given
+        Snowflake snowflake = new Snowflake(1);
+        long previous = snowflake.nextId();
+
+        // when then
+        for (int i = 0; i < 100_000; i++) {
+            long next = snowflake.nextId();
+            assertThat(next).isGreaterThan(previous);
+            previous = next;
+        }
+    }
+
+    @DisplayName("같은 밀리초에 시퀀스를 다 쓰면 다음 밀리초를 기다려 시퀀스 0 부터 다시 발급한다.")
+    @Test
+    void sequenceRollsOverToNextMillisecond() {
+        // given
+        long[] times = new long[4097 + 1];
+        Arrays.fill(times, 0, 4097, NOW);
+        times[4097] = NOW + 1;
+        Snowflake snowflake = new StubClockSnowflake(7, times);
+
+        long last = 0;
+        for (int i = 0; i < 4096; i++) {
+            last = snowflake.nextId();
+        }
+
+        // when
+        long rolledOver = snowflake.nextId();
+
+        // then
+        assertThat(timestampOf(last)).isEqualTo(NOW);
+        assertThat(sequenceOf(last)).isEqualTo(4095);
+        assertThat(timestampOf(rolledOver)).isEqualTo(NOW + 1);
+        assertThat(sequenceOf(rolledOver)).isZero();
+        assertThat(workerIdOf(rolledOver)).isEqualTo(7);
+        assertThat(rolledOver).isGreaterThan(last);
+    }
+
+    @DisplayName("시계가 조금 뒤로 가면 마지막 발급 시각까지 기다렸다가 발급한다.")
+    @Test
+    void waitsForSmallClockRollback() {
+        // given
+        Snowflake snowflake = new StubClockSnowflake(1, NOW, NOW - 3, NOW - 1, NOW);
+        long first = snowflake.nextId();
+
+        // when
+        long second = snowflake.nextId();
+
+        // then
+        assertThat(second).isGreaterThan(first);
+        assertThat(timestampOf(second)).isEqualTo(NOW);
+        assertThat(sequenceOf(second)).isEqualTo(1);
+    }
+
+    @DisplayName("시계가 허용 범위보다 많이 뒤로 가면 ID 를 발급하지 않는다.")
+    @Test
+    void rejectsLargeClockRollback() {
+        // given
+        Snowflake snowflake = new StubClockSnowflake(1, NOW, NOW - 10);
+        snowflake.nextId();
+
+        // when then
+        assertThatThrownBy(snowflake::nextId)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Clock moved backwards by 10ms");
+    }
+
+    @DisplayName("워커 ID 가 10비트 범위를 벗어나면 만들 수 없다.")
+    @Test
+    void rejectsWorkerIdOutOfRange() {
+        // when then
+        assertThatThrownBy(() -> new Snowflake(1024))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new Snowflake(-1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static long timestampOf(long id) {
+        return (id >>> TIMESTAMP_SHIFT) + Snowflake.EPOCH;
+    }
+
+    private static long workerIdOf(long id) {
+        return (id >>> SEQUENCE_BITS) & 0x3FF;
+    }
+
+    private static long sequenceOf(long id) {
+        return id & 0xFFF;
+    }
+
+    // 정해 둔 시각을 차례로 돌려주고, 마지막 시각은 계속 돌려준다.
+    private static class StubClockSnowflake extends Snowflake {
+
+        private final Deque<Long> times = new ArrayDeque<>();
+
+        StubClockSnowflake(long workerId, long... times) {
+            super(workerId);
+            for (long time : times) {
+                this.times.add(time);
+            }
+        }
+
+        @Override
+        long currentTimeMillis() {
+            return (times.size() > 1) ? times.poll() : times.peek();
+        }
+    }
+}
@@ -1,21 +1,21 @@
 package crypto.common.fee;
 
-import org.springframework.stereotype.Component;
+import crypto.common.fixedpoint.FeeRate;
 
-import java.math.BigDecimal;
+import org.springframework.stereotype.Component;
 
 
 @Component
 public class FeePolicy {
 
-    private static final BigDecimal TAKER_FEE_RATE = new BigDecimal("0.04");
-    private static final BigDecimal MAKER_FEE_RATE = new BigDecimal("0.04");
+    private static final FeeRate TAKER_FEE_RATE = FeeRate.of("0.04");
+    private static final FeeRate MAKER_FEE_RATE = FeeRate.of("0.04");
 
-    public BigDecimal getTakerFeeRate() {
+    public FeeRate getTakerFeeRate() {
         return TAKER_FEE_RATE;
     }
 
-    public BigDecimal getMakerFeeRate() {
+    public FeeRate getMakerFeeRate() {
         return MAKER_FEE_RATE;
     }
 }
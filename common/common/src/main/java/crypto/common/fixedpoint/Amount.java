@@ -0,0 +1,56 @@
+package crypto.common.fixedpoint;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+import java.math.BigDecimal;
+
+
+public record Amount(long value) implements Comparable<Amount> {
+
+    public static final Amount ZERO = new Amount(0L);
+
+    @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+    public static Amount of(BigDecimal value) {
+        return (value == null) ? null : new Amount(FixedPoint.fromBigDecimal(value));
+    }
+
+    public static Amount of(String value) {
+        return of(new BigDecimal(value));
+    }
+
+    public Amount add(Amount other) {
+        return new Amount(FixedPoint.add(value, other.value));
+    }
+
+    public Amount subtract(Amount other) {
+        return new Amount(FixedPoint.subtract(value, other.value));
+    }
+
+    public Amount multiply(FeeRate feeRate) {
+        return new Amount(FixedPoint.multiply(value, feeRate.value()));
+    }
+
+    public Quantity divide(Price price) {
+        return new Quantity(FixedPoint.divide(value, price.value()));
+    }
+
+    public boolean isPositive() {
+        return value > 0;
+    }
+
+    @JsonValue
+    public BigDecimal toBigDecimal() {
+        return FixedPoint.toBigDecimal(value);
+    }
+
+    @Override
+    public int compareTo(Amount other) {
+        return Long.compare(value, other.value);
+    }
+
+    @Override
+    public String toString() {
+        return toBigDecimal().toPlainString();
+    }
+}
@@ -0,0 +1,20 @@
+package crypto.common.fixedpoint;
+
+import java.math.BigDecimal;
+
+
+public record FeeRate(long value) {
+
+    public static FeeRate of(String value) {
+        return new FeeRate(FixedPoint.fromBigDecimal(new BigDecimal(value)));
+    }
+
+    public BigDecimal toBigDecimal() {
+        return FixedPoint.toBigDecimal(value);
+    }
+
+    @Override
+    public String toString() {
+        return toBigDecimal().toPlainString();
+    }
+}
@@ -0,0 +1,113 @@
+package crypto.common.fixedpoint;
+
+import crypto.common.fixedpoint.exception.FixedPointOverflowException;
+import crypto.common.fixedpoint.exception.FixedPointScaleException;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+
+// 1e-8 단위로 스케일된 long 값 연산. 모든 결과는 RoundingMode.DOWN 과 같이 0 방향으로 버린다.
+public final class FixedPoint {
+
+    public static final int SCALE = 8;
+    public static final long ONE = 100_000_000L;
+
+    private FixedPoint() {
+    }
+
+    public static long fromBigDecimal(BigDecimal value) {
+        try {
+            return value.setScale(SCALE, RoundingMode.UNNECESSARY).unscaledValue().longValueExact();
+        } catch (ArithmeticException e) {
+            throw new FixedPointScaleException(value);
+        }
+    }
+
+    public static BigDecimal toBigDecimal(long value) {
+        return BigDecimal.valueOf(value, SCALE);
+    }
+
+    public static long add(long a, long b) {
+        try {
+            return Math.addExact(a, b);
+        } catch (ArithmeticException e) {
+            throw new FixedPointOverflowException();
+        }
+    }
+
+    public static long subtract(long a, long b) {
+        try {
+            return Math.subtractExact(a, b);
+        } catch (ArithmeticException e) {
+            throw new FixedPointOverflowException();
+        }
+    }
+
+    public static long multiply(long a, long b) {
+        long aHigh = a / ONE;
+        long aLow = a % ONE;
+        long bHigh = b / ONE;
+        long bLow = b % ONE;
+
+        try {
+            long high = Math.multiplyExact(aHigh, b);
+            long middle = Math.multiplyExact(aLow, bHigh);
+            return Math.addExact(Math.addExact(high, middle), aLow * bLow / ONE);
+        } catch (ArithmeticException e) {
+            throw new FixedPointOverflowException();
+        }
+    }
+
+    public static long divide(long a, long b) {
+        if (b == 0) {
+            throw new ArithmeticException("Division by zero");
+        }
+        if (a == Long.MIN_VALUE || b == Long.MIN_VALUE) {
+            throw new FixedPointOverflowException();
+        }
+
+        boolean negative = (a < 0) != (b < 0);
+        long dividend = Math.abs(a);
+        long divisor = Math.abs(b);
+
+        long quotient = dividend / divisor;
+        long remainder = dividend % divisor;
+
+        try {
+            quotient = Math.multiplyExact(quotient, ONE);
+        } catch (ArithmeticException e) {
+            throw new FixedPointOverflowException();
+        }
+
+        long fraction = 0;
+        for (int i = 0; i < SCALE; i++) {
+            long digit;
+
+            if (remainder <= Long.MAX_VALUE / 10) {
+                long shifted = remainder * 10;
+                digit = shifted / divisor;
+                remainder = shifted % divisor;
+            } else {
+                // remainder * 10 이 long 범위를 넘으면 나머지를 열 번 더하며 몫과 나머지를 구한다.
+                digit = 0;
+                long gap = divisor - remainder;
+                long accumulated = 0;
+                for (int j = 0; j < 10; j++) {
+                    if (accumulated >= gap) {
+                        accumulated -= gap;
+                        digit++;
+                    } else {
+                        accumulated += remainder;
+                    }
+                }
+                remainder = accumulated;
+            }
+
+            fraction = fraction * 10 + digit;
+        }
+
+        long result = add(quotient, fraction);
+        return negative ? -result : result;
+    }
+}
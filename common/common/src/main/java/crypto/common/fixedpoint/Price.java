@@ -0,0 +1,44 @@
+package crypto.common.fixedpoint;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+import java.math.BigDecimal;
+
+
+public record Price(long value) implements Comparable<Price> {
+
+    public static final Price ZERO = new Price(0L);
+
+    @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+    public static Price of(BigDecimal value) {
+        return (value == null) ? null : new Price(FixedPoint.fromBigDecimal(value));
+    }
+
+    public static Price of(String value) {
+        return of(new BigDecimal(value));
+    }
+
+    public Amount multiply(Quantity quantity) {
+        return new Amount(FixedPoint.multiply(value, quantity.value()));
+    }
+
+    public boolean isPositive() {
+        return value > 0;
+    }
+
+    @JsonValue
+    public BigDecimal toBigDecimal() {
+        return FixedPoint.toBigDecimal(value);
+    }
+
+    @Override
+    public int compareTo(Price other) {
+        return Long.compare(value, other.value);
+    }
+
+    @Override
+    public String toString() {
+        return toBigDecimal().toPlainString();
+    }
+}
@@ -0,0 +1,56 @@
+package crypto.common.fixedpoint;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+import java.math.BigDecimal;
+
+
+public record Quantity(long value) implements Comparable<Quantity> {
+
+    public static final Quantity ZERO = new Quantity(0L);
+
+    @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+    public static Quantity of(BigDecimal value) {
+        return (value == null) ? null : new Quantity(FixedPoint.fromBigDecimal(value));
+    }
+
+    public static Quantity of(String value) {
+        return of(new BigDecimal(value));
+    }
+
+    public Quantity add(Quantity other) {
+        return new Quantity(FixedPoint.add(value, other.value));
+    }
+
+    public Quantity subtract(Quantity other) {
+        return new Quantity(FixedPoint.subtract(value, other.value));
+    }
+
+    public Quantity min(Quantity other) {
+        return (value <= other.value) ? this : other;
+    }
+
+    public boolean isPositive() {
+        return value > 0;
+    }
+
+    public boolean isZero() {
+        return value == 0;
+    }
+
+    @JsonValue
+    public BigDecimal toBigDecimal() {
+        return FixedPoint.toBigDecimal(value);
+    }
+
+    @Override
+    public int compareTo(Quantity other) {
+        return Long.compare(value, other.value);
+    }
+
+    @Override
+    public String toString() {
+        return toBigDecimal().toPlainString();
+    }
+}
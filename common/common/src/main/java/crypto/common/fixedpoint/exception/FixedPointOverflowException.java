@@ -0,0 +1,11 @@
+package crypto.common.fixedpoint.exception;
+
+import crypto.common.entity.exception.DomainException;
+
+
+public class FixedPointOverflowException extends DomainException {
+
+    public FixedPointOverflowException() {
+        super("금액 또는 수량이 표현 가능한 범위를 초과했습니다.");
+    }
+}
@@ -0,0 +1,13 @@
+package crypto.common.fixedpoint.exception;
+
+import crypto.common.entity.exception.DomainException;
+
+import java.math.BigDecimal;
+
+
+public class FixedPointScaleException extends DomainException {
+
+    public FixedPointScaleException(BigDecimal value) {
+        super("소수점 8자리를 초과하거나 표현 범위를 벗어난 값입니다. value=" + value);
+    }
+}
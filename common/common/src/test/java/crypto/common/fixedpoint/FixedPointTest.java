@@ -0,0 +1,105 @@
+package crypto.common.fixedpoint;
+
+import crypto.common.fixedpoint.exception.FixedPointOverflowException;
+import crypto.common.fixedpoint.exception.FixedPointScaleException;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+
+class FixedPointTest {
+
+    @DisplayName("가격과 수량을 곱하면 소수점 8자리 아래는 버린 금액이 된다.")
+    @Test
+    void multiplyPriceAndQuantity() {
+        // given
+        Price price = Price.of("1234.56789012");
+        Quantity quantity = Quantity.of("0.00012345");
+
+        // when
+        Amount amount = price.multiply(quantity);
+
+        // then
+        assertThat(amount.toBigDecimal())
+                .isEqualByComparingTo(new BigDecimal("1234.56789012").multiply(new BigDecimal("0.00012345")).setScale(8, RoundingMode.DOWN));
+    }
+
+    @DisplayName("금액을 가격으로 나누면 소수점 8자리 아래는 버린 수량이 된다.")
+    @Test
+    void divideAmountByPrice() {
+        // given
+        Amount amount = Amount.of("10000");
+        Price price = Price.of("3");
+
+        // when
+        Quantity quantity = amount.divide(price);
+
+        // then
+        assertThat(quantity).isEqualTo(Quantity.of("3333.33333333"));
+    }
+
+    @DisplayName("곱셈과 나눗셈 결과는 BigDecimal 로 계산하고 DOWN 으로 버린 값과 같다.")
+    @Test
+    void matchesBigDecimalArithmetic() {
+        // given
+        Random random = new Random(42L);
+
+        for (int i = 0; i < 10_000; i++) {
+            long a = random.nextLong(1L, 1_000_000_000_000_000L);
+            long b = random.nextLong(1L, 1_000_000_000_000L);
+            BigDecimal left = FixedPoint.toBigDecimal(a);
+            BigDecimal right = FixedPoint.toBigDecimal(b);
+
+            // when
+            long divided = FixedPoint.divide(a, b);
+            BigDecimal expectedProduct = left.multiply(right).setScale(8, RoundingMode.DOWN);
+
+            // then
+            assertThat(FixedPoint.toBigDecimal(divided)).isEqualByComparingTo(left.divide(right, 8, RoundingMode.DOWN));
+            if (expectedProduct.unscaledValue().bitLength() < 63) {
+                assertThat(FixedPoint.toBigDecimal(FixedPoint.multiply(a, b))).isEqualByComparingTo(expectedProduct);
+            }
+        }
+    }
+
+    @DisplayName("나누는 값이 매우 커도 나머지 계산에서 오버플로가 발생하지 않는다.")
+    @Test
+    void divideByLargeDivisor() {
+        // given
+        long a = Long.MAX_VALUE - 1;
+        long b = Long.MAX_VALUE;
+
+        // when
+        long result = FixedPoint.divide(a, b);
+
+        // then
+        assertThat(FixedPoint.toBigDecimal(result))
+                .isEqualByComparingTo(BigDecimal.valueOf(a).divide(BigDecimal.valueOf(b), 8, RoundingMode.DOWN));
+    }
+
+    @DisplayName("표현 범위를 넘는 연산은 예외가 발생한다.")
+    @Test
+    void overflow() {
+        // given
+        Price price = Price.of("10000000000");
+        Quantity quantity = Quantity.of("10");
+
+        // when // then
+        assertThatThrownBy(() -> price.multiply(quantity))
+                .isInstanceOf(FixedPointOverflowException.class);
+    }
+
+    @DisplayName("소수점 8자리를 초과하는 값은 생성할 수 없다.")
+    @Test
+    void rejectExcessScale() {
+        // when // then
+        assertThatThrownBy(() -> Quantity.of("0.000000001"))
+                .isInstanceOf(FixedPointScaleException.class);
+    }
+}
@@ -3,18 +3,55 @@ package crypto.dataserializer;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
-import lombok.RequiredArgsConstructor;
+import crypto.dataserializer.binary.BinaryReader;
+import crypto.dataserializer.binary.BinarySchema;
+import crypto.dataserializer.binary.BinaryWriter;
+
 import lombok.extern.slf4j.Slf4j;
 
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class DataSerializer {
 
+    // 바이너리 메시지의 첫 바이트. JSON 은 '{' 로 시작하므로 첫 바이트만 보고 형식을 구분한다.
+    public static final byte BINARY_VERSION = 0x01;
+    private static final int INITIAL_BINARY_CAPACITY = 128;
+
     private final ObjectMapper objectMapper;
+    private final Map<Class<?>, BinarySchema<?>> schemas;
+    private final Set<String> binaryTopics;
+
+    @Autowired
+    public DataSerializer(ObjectMapper objectMapper,
+                          ObjectProvider<BinarySchema<?>> schemas,
+                          @Value("${crypto.serializer.binary-topics:}") Set<String> binaryTopics) {
+        this(objectMapper, schemas.orderedStream().toList(), binaryTopics);
+    }
+
+    public DataSerializer(ObjectMapper objectMapper) {
+        this(objectMapper, List.of(), Set.of());
+    }
+
+    public DataSerializer(ObjectMapper objectMapper, List<BinarySchema<?>> schemas, Set<String> binaryTopics) {
+        this.objectMapper = objectMapper;
+        this.schemas = schemas.stream().collect(Collectors.toMap(BinarySchema::type, Function.identity()));
+        this.binaryTopics = binaryTopics;
+    }
 
     public <T> T deserialize(String data, Class<T> clazz) {
         try {
@@ -33,4 +70,63 @@ public class DataSerializer {
             return null;
         }
     }
+
+    // 토픽이 바이너리로 설정되어 있고 스키마가 있는 타입이면 바이너리로, 아니면 JSON 으로 직렬화한다.
+    public byte[] serialize(String topic, Object object) {
+        BinarySchema<?> schema = schemas.get(object.getClass());
+
+        if (schema == null || !binaryTopics.contains(topic)) {
+            String json = serialize(object);
+            return (json == null) ? null : json.getBytes(StandardCharsets.UTF_8);
+        }
+
+        try {
+            BinaryWriter writer = new BinaryWriter(INITIAL_BINARY_CAPACITY);
+            writer.writeByte(BINARY_VERSION);
+            writeWith(schema, object, writer);
+            return writer.toByteArray();
+        } catch (RuntimeException e) {
+            log.error("[DataSerializer.serialize] topic={}, object={}", topic, object, e);
+            return null;
+        }
+    }
+
+    // 형식은 첫 바이트로 판단하므로 토픽을 바이너리로 바꾸는 동안 두 형식이 섞여 들어와도 읽을 수 있다.
+    public <T> T deserialize(byte[] data, Class<T> clazz) {
+        if (data == null || data.length == 0) {
+            return null;
+        }
+
+        try {
+            if (data[0] == BINARY_VERSION) {
+                BinarySchema<?> schema = schemas.get(clazz);
+                if (schema == null) {
+                    log.error("[DataSerializer.deserialize] Binary schema not found. clazz={}", clazz);
+                    return null;
+                }
+                return clazz.cast(schema.read(new BinaryReader(data, 1)));
+            }
+
+            return objectMapper.readValue(data, clazz);
+        } catch (IOException | RuntimeException e) {
+            log.error("[DataSerializer.deserialize] data={}, clazz={}", toText(data), clazz, e);
+            return null;
+        }
+    }
+
+    // 로그와 DLQ 에 남길 문자열. JSON 은 그대로, 바이너리는 Base64 로 바꾼다.
+    public String toText(byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        if (data.length > 0 && data[0] == BINARY_VERSION) {
+            return Base64.getEncoder().encodeToString(data);
+        }
+        return new String(data, StandardCharsets.UTF_8);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> void writeWith(BinarySchema<T> schema, Object object, BinaryWriter writer) {
+        schema.write((T) object, writer);
+    }
 }
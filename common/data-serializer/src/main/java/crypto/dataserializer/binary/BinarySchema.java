@@ -0,0 +1,11 @@
+package crypto.dataserializer.binary;
+
+// 타입 하나의 바이너리 레이아웃. 필드를 추가할 때는 기존 필드의 순서와 인코딩을 바꾸지 않고 뒤에 붙인다.
+public interface BinarySchema<T> {
+
+    Class<T> type();
+
+    void write(T value, BinaryWriter writer);
+
+    T read(BinaryReader reader);
+}
@@ -0,0 +1,51 @@
+package crypto.dataserializer.binary;
+
+import crypto.dataserializer.binary.exception.BinaryFormatException;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+
+// 자주 쓰는 심볼을 작은 번호로 쓴다. 번호는 목록의 위치이므로 새 심볼은 끝에만 추가하고, 사전에 없는 심볼은 문자열로 쓴다.
+public class SymbolDictionary {
+
+    private static final int INLINE = 0;
+
+    private final List<String> symbols;
+    private final Map<String, Integer> codes = new HashMap<>();
+
+    private SymbolDictionary(List<String> symbols) {
+        this.symbols = List.copyOf(symbols);
+        for (int i = 0; i < this.symbols.size(); i++) {
+            codes.put(this.symbols.get(i), i + 1);
+        }
+    }
+
+    public static SymbolDictionary of(String... symbols) {
+        return new SymbolDictionary(List.of(symbols));
+    }
+
+    public void write(String symbol, BinaryWriter writer) {
+        Integer code = codes.get(symbol);
+
+        if (code == null) {
+            writer.writeVarLong(INLINE);
+            writer.writeString(symbol);
+        } else {
+            writer.writeVarLong(code);
+        }
+    }
+
+    public String read(BinaryReader reader) {
+        int code = (int) reader.readVarLong();
+
+        if (code == INLINE) {
+            return reader.readString();
+        }
+        if (code > symbols.size()) {
+            throw new BinaryFormatException();
+        }
+        return symbols.get(code - 1);
+    }
+}
@@ -0,0 +1,8 @@
+package crypto.dataserializer.binary.exception;
+
+public class BinaryFormatException extends RuntimeException {
+
+    public BinaryFormatException() {
+        super("바이너리 메시지 형식이 올바르지 않습니다.");
+    }
+}
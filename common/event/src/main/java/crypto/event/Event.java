@@ -1,21 +1,39 @@
 package crypto.event;
 
+import crypto.event.eventserializer.EventJsonDeserializer;
+import crypto.event.exception.PayloadTypeMismatchException;
 import crypto.event.payload.EventPayload;
 
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+
 import lombok.Getter;
 
 
 @Getter
+@JsonPropertyOrder({"eventId", "type", "payload"})
+@JsonDeserialize(using = EventJsonDeserializer.class)
 public class Event {
     private String eventId;
     private EventType type;
     private EventPayload payload;
 
     public static Event of(String eventId, EventType type, EventPayload payload) {
+        if (payload != null && (type == null || !type.getPayloadType().isInstance(payload))) {
+            throw new PayloadTypeMismatchException();
+        }
+
         Event event = new Event();
         event.eventId = eventId;
         event.type = type;
         event.payload = payload;
         return event;
     }
+
+    public <T extends EventPayload> T getPayload(Class<T> payloadType) {
+        if (payload != null && !payloadType.isInstance(payload)) {
+            throw new PayloadTypeMismatchException();
+        }
+        return payloadType.cast(payload);
+    }
 }
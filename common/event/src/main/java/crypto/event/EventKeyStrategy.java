@@ -0,0 +1,48 @@
+package crypto.event;
+
+import crypto.event.payload.EventPayload;
+import crypto.event.payload.OrderPayload;
+import crypto.event.payload.RefundPayload;
+import crypto.event.payload.SettlementPayload;
+
+
+// 이벤트를 어느 파티션으로 보낼지 정하는 카프카 메시지 키 규칙. 같은 키는 같은 파티션으로 가서 순서가 지켜진다.
+public enum EventKeyStrategy {
+
+    // 같은 심볼의 주문이 한 파티션으로 모여 가격-시간 순서가 지켜진다.
+    SYMBOL {
+        @Override
+        public String keyOf(EventPayload payload, Long sourceKey) {
+            String symbol = switch (payload) {
+                case OrderPayload orderPayload -> orderPayload.symbol();
+                case SettlementPayload settlementPayload -> settlementPayload.symbol();
+                case null, default -> null;
+            };
+            return (symbol != null) ? symbol : SOURCE.keyOf(payload, sourceKey);
+        }
+    },
+
+    // 같은 사용자의 잔고 변경이 한 파티션으로 모인다. 체결 정산은 테이커 기준이며, 메이커 행은 다른 파티션과 겹칠 수 있다.
+    USER {
+        @Override
+        public String keyOf(EventPayload payload, Long sourceKey) {
+            Long userId = switch (payload) {
+                case SettlementPayload settlementPayload -> settlementPayload.takerId();
+                case RefundPayload refundPayload -> refundPayload.userId();
+                case OrderPayload orderPayload -> orderPayload.userId();
+                case null, default -> null;
+            };
+            return (userId != null) ? String.valueOf(userId) : SOURCE.keyOf(payload, sourceKey);
+        }
+    },
+
+    // 호출한 쪽이 넘긴 키를 그대로 쓴다. 키가 없으면 파티션을 가리지 않는다.
+    SOURCE {
+        @Override
+        public String keyOf(EventPayload payload, Long sourceKey) {
+            return (sourceKey != null) ? String.valueOf(sourceKey) : null;
+        }
+    };
+
+    public abstract String keyOf(EventPayload payload, Long sourceKey);
+}
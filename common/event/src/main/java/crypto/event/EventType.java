@@ -1,6 +1,8 @@
 package crypto.event;
 
 import crypto.event.exception.MatchingTypeNotExistException;
+import crypto.event.payload.*;
+
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -11,30 +13,42 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public enum EventType {
 
-    LIMIT_BUY_ORDER_CREATE(Topic.CRYPTO_ORDER, "LIMIT_BUY_ORDER_TRADE"),
-    LIMIT_SELL_ORDER_CREATE(Topic.CRYPTO_ORDER, "LIMIT_SELL_ORDER_TRADE"),
-    MARKET_BUY_ORDER_CREATE(Topic.CRYPTO_ORDER, "MARKET_BUY_ORDER_TRADE"),
-    MARKET_SELL_ORDER_CREATE(Topic.CRYPTO_ORDER, "MARKET_SELL_ORDER_TRADE"),
+    LIMIT_BUY_ORDER_CREATE(Topic.CRYPTO_ORDER, "LIMIT_BUY_ORDER_TRADE", OrderPayload.class),
+    LIMIT_SELL_ORDER_CREATE(Topic.CRYPTO_ORDER, "LIMIT_SELL_ORDER_TRADE", OrderPayload.class),
+    MARKET_BUY_ORDER_CREATE(Topic.CRYPTO_ORDER, "MARKET_BUY_ORDER_TRADE", OrderPayload.class),
+    MARKET_SELL_ORDER_CREATE(Topic.CRYPTO_ORDER, "MARKET_SELL_ORDER_TRADE", OrderPayload.class),
+    LIMIT_ORDER_CANCEL(Topic.CRYPTO_ORDER, "LIMIT_ORDER_CANCEL_TRADE", OrderPayload.class),
+    LIMIT_ORDER_REPLACE(Topic.CRYPTO_ORDER, "LIMIT_ORDER_REPLACE_TRADE", OrderPayload.class),
+    STOP_ORDER_CREATE(Topic.CRYPTO_ORDER, "STOP_ORDER_TRADE", OrderPayload.class),
 
-    LIMIT_BUY_ORDER_TRADE(Topic.CRYPTO_TRADE, null),
-    LIMIT_SELL_ORDER_TRADE(Topic.CRYPTO_TRADE, null),
-    MARKET_BUY_ORDER_TRADE(Topic.CRYPTO_TRADE, null),
-    MARKET_SELL_ORDER_TRADE(Topic.CRYPTO_TRADE, null),
+    LIMIT_BUY_ORDER_TRADE(Topic.CRYPTO_TRADE, null, OrderPayload.class),
+    LIMIT_SELL_ORDER_TRADE(Topic.CRYPTO_TRADE, null, OrderPayload.class),
+    MARKET_BUY_ORDER_TRADE(Topic.CRYPTO_TRADE, null, OrderPayload.class),
+    MARKET_SELL_ORDER_TRADE(Topic.CRYPTO_TRADE, null, OrderPayload.class),
+    LIMIT_ORDER_CANCEL_TRADE(Topic.CRYPTO_TRADE, null, OrderPayload.class),
+    LIMIT_ORDER_REPLACE_TRADE(Topic.CRYPTO_TRADE, null, OrderPayload.class),
+    STOP_ORDER_TRADE(Topic.CRYPTO_TRADE, null, OrderPayload.class),
 
-    BUY_ORDER_SETTLEMENT(Topic.CRYPTO_SETTLEMENT, null),
-    SELL_ORDER_SETTLEMENT(Topic.CRYPTO_SETTLEMENT, null),
-    REFUND_LOCKED_BALANCE(Topic.CRYPTO_SETTLEMENT, null),
+    BUY_ORDER_SETTLEMENT(Topic.CRYPTO_SETTLEMENT, null, SettlementPayload.class),
+    SELL_ORDER_SETTLEMENT(Topic.CRYPTO_SETTLEMENT, null, SettlementPayload.class),
+    REFUND_LOCKED_BALANCE(Topic.CRYPTO_SETTLEMENT, null, RefundPayload.class),
+    UNLOCK_CANCELLED_ORDER(Topic.CRYPTO_SETTLEMENT, null, RefundPayload.class),
+    ADJUST_REPLACED_ORDER_LOCK(Topic.CRYPTO_SETTLEMENT, null, RefundPayload.class),
 
-    ORDER_CANCEL_EVENT(Topic.CRYPTO_ORDER_CANCEL, null),
-    TRADE_CANCEL_EVENT(Topic.CRYPTO_TRADE_CANCEL, null),
-    ORDER_COMPLETE_EVENT(Topic.CRYPTO_ORDER_COMPLETE, null),
+    ORDER_CANCEL_EVENT(Topic.CRYPTO_ORDER_CANCEL, null, CancelPayload.class),
+    TRADE_CANCEL_EVENT(Topic.CRYPTO_TRADE_CANCEL, null, CancelPayload.class),
+    ORDER_COMPLETE_EVENT(Topic.CRYPTO_ORDER_COMPLETE, null, CancelPayload.class),
+    ORDER_CANCELLED_EVENT(Topic.CRYPTO_ORDER_COMPLETE, null, CancelPayload.class),
+    ORDER_REPLACED_EVENT(Topic.CRYPTO_ORDER_COMPLETE, null, OrderPayload.class),
+    ORDER_REPLACE_REJECTED_EVENT(Topic.CRYPTO_ORDER_COMPLETE, null, CancelPayload.class),
 
-    FAIL_ORDER_EVENT(Topic.CRYPTO_ORDER_DLQ, null),
-    FAIL_TRADE_EVENT(Topic.CRYPTO_TRADE_DLQ, null),
-    FAIL_SETTLEMENT_EVENT(Topic.CRYPTO_SETTLEMENT_DLQ, null);
+    FAIL_ORDER_EVENT(Topic.CRYPTO_ORDER_DLQ, null, DeadLetterPayload.class),
+    FAIL_TRADE_EVENT(Topic.CRYPTO_TRADE_DLQ, null, DeadLetterPayload.class),
+    FAIL_SETTLEMENT_EVENT(Topic.CRYPTO_SETTLEMENT_DLQ, null, DeadLetterPayload.class);
 
     private final String topic;
     private final String matchingTypeName;
+    private final Class<? extends EventPayload> payloadType;
 
     public EventType toMatchingEventType() {
         if (this.matchingTypeName == null) {
@@ -50,6 +64,7 @@ public enum EventType {
         public static final String CRYPTO_TRADE = "crypto-trade";
         public static final String CRYPTO_TRADE_CANCEL = "crypto-trade-cancel";
         public static final String CRYPTO_SETTLEMENT = "crypto-settlement";
+        public static final String CRYPTO_MARKET_DEPTH = "crypto-market-depth";
         public static final String CRYPTO_ORDER_DLQ = "crypto-order-dlq";
         public static final String CRYPTO_TRADE_DLQ = "crypto-trade-dlq";
         public static final String CRYPTO_SETTLEMENT_DLQ = "crypto-settlement-dlq";
@@ -0,0 +1,23 @@
+package crypto.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+
+// 지정가 주문의 유효 조건. 주문 API 가 요청을 받을 때 이 값으로 바인딩하므로 잘못된 값은 이벤트가 되기 전에 거절된다.
+@Getter
+@RequiredArgsConstructor
+public enum TimeInForce {
+
+    GTC("체결될 때까지 유지", true),
+    IOC("즉시 체결 후 잔량 취소", false),
+    FOK("전량 즉시 체결 아니면 취소", false),
+    POST_ONLY("메이커 전용", true);
+
+    private final String text;
+    private final boolean resting;
+
+    public static TimeInForce orDefault(TimeInForce timeInForce) {
+        return (timeInForce == null) ? GTC : timeInForce;
+    }
+}
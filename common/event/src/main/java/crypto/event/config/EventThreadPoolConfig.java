@@ -1,22 +0,0 @@
-package crypto.event.config;
-
-import org.springframework.context.annotation.Bean;
-import org.springframework.context.annotation.Configuration;
-import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
-
-import java.util.concurrent.Executor;
-
-
-@Configuration
-public class EventThreadPoolConfig {
-    
-    @Bean
-    public Executor publishEventExecutor() {
-        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(20);
-        executor.setMaxPoolSize(50);
-        executor.setQueueCapacity(100);
-        executor.setThreadNamePrefix("pub-event-");
-        return executor;
-    }
-}
\ No newline at end of file
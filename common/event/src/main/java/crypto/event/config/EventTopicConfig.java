@@ -0,0 +1,35 @@
+package crypto.event.config;
+
+import org.apache.kafka.clients.admin.NewTopic;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.TopicBuilder;
+
+import static crypto.event.EventType.Topic.*;
+
+
+// 키로 파티션을 나누는 토픽. 리스너 concurrency 를 같은 설정값으로 맞춰 파티션마다 스레드 하나가 순서대로 처리한다.
+// 파티션 수를 설정한 서비스(토픽을 소비하는 서비스)만 토픽을 만든다. 보내기만 하는 서비스가 먼저 떠서 파티션 하나짜리로 만들지 않게 한다.
+@Configuration
+public class EventTopicConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "crypto.event.partitions.crypto-order")
+    public NewTopic orderTopic(@Value("${crypto.event.partitions.crypto-order:1}") int partitions) {
+        return TopicBuilder.name(CRYPTO_ORDER).partitions(partitions).build();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "crypto.event.partitions.crypto-trade")
+    public NewTopic tradeTopic(@Value("${crypto.event.partitions.crypto-trade:1}") int partitions) {
+        return TopicBuilder.name(CRYPTO_TRADE).partitions(partitions).build();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "crypto.event.partitions.crypto-settlement")
+    public NewTopic settlementTopic(@Value("${crypto.event.partitions.crypto-settlement:1}") int partitions) {
+        return TopicBuilder.name(CRYPTO_SETTLEMENT).partitions(partitions).build();
+    }
+}
@@ -0,0 +1,193 @@
+package crypto.event.consumer;
+
+import crypto.dataserializer.DataSerializer;
+import crypto.event.Event;
+import crypto.event.EventType;
+import crypto.event.payload.DeadLetterPayload;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.Acknowledgment;
+
+import java.util.*;
+import java.util.function.Consumer;
+
+
+// 배치 리스너의 공통 흐름.
+// 배치를 파싱해 이벤트 ID 로 중복을 걸러내고, 처리한 이벤트 ID 는 저장소 왕복 한 번으로 선점한다.
+// 키 레인 실행기가 있으면 같은 키끼리 순서를 지키며 키가 다른 이벤트는 동시에 처리한다.
+// 실패한 이벤트만 DLQ 로 보내고, 오프셋은 배치마다 한 번 커밋한다.
+@Slf4j
+public abstract class BatchEventConsumer {
+
+    private final DataSerializer dataSerializer;
+    private final KafkaTemplate<String, byte[]> kafkaTemplate;
+    private final ProcessedEventStore processedEventStore;
+    private final String deadLetterTopic;
+    private final EventType deadLetterType;
+    private final KeyedEventExecutor keyedEventExecutor;
+
+    protected BatchEventConsumer(DataSerializer dataSerializer, KafkaTemplate<String, byte[]> kafkaTemplate,
+                                 ProcessedEventStore processedEventStore, String deadLetterTopic, EventType deadLetterType) {
+        this(dataSerializer, kafkaTemplate, processedEventStore, deadLetterTopic, deadLetterType, null);
+    }
+
+    protected BatchEventConsumer(DataSerializer dataSerializer, KafkaTemplate<String, byte[]> kafkaTemplate,
+                                 ProcessedEventStore processedEventStore, String deadLetterTopic, EventType deadLetterType,
+                                 KeyedEventExecutor keyedEventExecutor) {
+        this.dataSerializer = dataSerializer;
+        this.kafkaTemplate = kafkaTemplate;
+        this.processedEventStore = processedEventStore;
+        this.deadLetterTopic = deadLetterTopic;
+        this.deadLetterType = deadLetterType;
+        this.keyedEventExecutor = keyedEventExecutor;
+    }
+
+    protected void consume(List<ConsumerRecord<String, byte[]>> records, Acknowledgment ack, String failMessage, BatchEventHandler handler) {
+        Map<String, Event> events = new LinkedHashMap<>();
+        Map<String, byte[]> messages = new HashMap<>();
+        Map<String, String> keys = new HashMap<>();
+
+        for (ConsumerRecord<String, byte[]> record : records) {
+            byte[] message = record.value();
+            Event event = dataSerializer.deserialize(message, Event.class);
+
+            if (event == null || event.getEventId() == null) {
+                log.error("[{}.consume] Failed to parse event from message: message={}", name(), dataSerializer.toText(message));
+                sendToDeadLetterQueue(dataSerializer.toText(message), "EVENT_IS_NULL_AFTER_PARSING");
+                continue;
+            }
+            if (events.putIfAbsent(event.getEventId(), event) != null) {
+                log.warn("[{}.consume] Duplicate event in batch, skipping processing. eventId={}", name(), event.getEventId());
+                continue;
+            }
+            messages.put(event.getEventId(), message);
+            keys.put(event.getEventId(), record.key());
+        }
+
+        Set<String> claimed = events.isEmpty() ? Set.of() : processedEventStore.claimAll(events.keySet());
+        List<Event> newEvents = new ArrayList<>(claimed.size());
+
+        for (Event event : events.values()) {
+            if (claimed.contains(event.getEventId())) {
+                newEvents.add(event);
+            } else {
+                log.warn("[{}.consume] Duplicate event detected, skipping processing. eventId={}", name(), event.getEventId());
+            }
+        }
+
+        List<EventFailure> failures = newEvents.isEmpty() ? List.of() : handleByKey(handler, newEvents, keys);
+
+        if (!failures.isEmpty()) {
+            List<String> failedEventIds = new ArrayList<>(failures.size());
+
+            for (EventFailure failure : failures) {
+                Event event = failure.event();
+                String message = dataSerializer.toText(messages.get(event.getEventId()));
+                log.error("[{}.consume] Error processing event: eventId={}, type={}, message={}, error={}",
+                        name(), event.getEventId(), event.getType(), message, failure.cause().getMessage(), failure.cause());
+
+                failedEventIds.add(event.getEventId());
+                notifyFailure(failure);
+                sendToDeadLetterQueue(message, failMessage);
+            }
+            processedEventStore.releaseAll(failedEventIds);
+        }
+
+        ack.acknowledge();
+        log.info("[{}.consume] Batch processed. records={}, processed={}, failed={}", name(), records.size(), newEvents.size(), failures.size());
+    }
+
+    // 실패한 이벤트의 보상 이벤트가 필요하면 재정의한다.
+    protected void onFailure(Event event, Exception cause) {
+    }
+
+    // 배치 전체를 한 트랜잭션으로 처리하고, 실패하면 이벤트마다 따로 처리해 실패한 이벤트만 골라낸다.
+    protected BatchEventHandler inBatchTransaction(Consumer<List<Event>> batchHandler, Consumer<Event> eventHandler) {
+        BatchEventHandler fallback = perEvent(eventHandler);
+
+        return events -> {
+            if (events.size() == 1) {
+                return fallback.handle(events);
+            }
+
+            try {
+                batchHandler.accept(events);
+                return List.of();
+            } catch (Exception e) {
+                log.warn("[{}.inBatchTransaction] Batch rolled back, retrying events one by one. size={}, error={}", name(), events.size(), e.getMessage());
+                return fallback.handle(events);
+            }
+        };
+    }
+
+    protected static BatchEventHandler perEvent(Consumer<Event> eventHandler) {
+        return events -> {
+            List<EventFailure> failures = new ArrayList<>();
+
+            for (Event event : events) {
+                try {
+                    eventHandler.accept(event);
+                } catch (Exception e) {
+                    failures.add(new EventFailure(event, e));
+                }
+            }
+            return failures;
+        };
+    }
+
+    public void sendToDeadLetterQueue(String originalMessage, String failMessage) {
+        byte[] message = deadLetterMessage(originalMessage, failMessage);
+
+        kafkaTemplate.send(deadLetterTopic, message)
+                .whenComplete((result, ex) -> {
+                    if (ex == null) {
+                        log.info("[{}.sendToDeadLetterQueue] Successfully sent message to DLQ. topic={}, message={}", name(), deadLetterTopic, originalMessage);
+                    } else {
+                        log.error("[{}.sendToDeadLetterQueue] Failed to send message to DLQ. topic={}, message={}, error={}", name(), deadLetterTopic, originalMessage, ex.getMessage(), ex);
+                    }
+                });
+    }
+
+    protected byte[] deadLetterMessage(String originalMessage, String failMessage) {
+        DeadLetterPayload payload = DeadLetterPayload.builder()
+                .originalMessage(originalMessage)
+                .failMessage(failMessage)
+                .build();
+
+        return dataSerializer.serialize(deadLetterTopic, Event.of(
+                UUID.randomUUID().toString(), deadLetterType, payload
+        ));
+    }
+
+    private List<EventFailure> handleByKey(BatchEventHandler handler, List<Event> events, Map<String, String> keys) {
+        if (keyedEventExecutor == null) {
+            return handle(handler, events);
+        }
+        return keyedEventExecutor.execute(events, event -> keys.get(event.getEventId()), laneEvents -> handle(handler, laneEvents));
+    }
+
+    private List<EventFailure> handle(BatchEventHandler handler, List<Event> events) {
+        try {
+            return handler.handle(events);
+        } catch (Exception e) {
+            return events.stream()
+                    .map(event -> new EventFailure(event, e))
+                    .toList();
+        }
+    }
+
+    private void notifyFailure(EventFailure failure) {
+        try {
+            onFailure(failure.event(), failure.cause());
+        } catch (Exception e) {
+            log.error("[{}.onFailure] CRITICAL: Failed to send failure event. eventId={}, error={}", name(), failure.event().getEventId(), e.getMessage(), e);
+        }
+    }
+
+    private String name() {
+        return getClass().getSimpleName();
+    }
+}
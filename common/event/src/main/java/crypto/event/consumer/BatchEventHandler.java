@@ -0,0 +1,13 @@
+package crypto.event.consumer;
+
+import crypto.event.Event;
+
+import java.util.List;
+
+
+@FunctionalInterface
+public interface BatchEventHandler {
+
+    // 처리에 실패한 이벤트만 반환한다. 반환된 이벤트는 DLQ 로 보내고 나머지 배치는 그대로 커밋한다.
+    List<EventFailure> handle(List<Event> events);
+}
@@ -0,0 +1,7 @@
+package crypto.event.consumer;
+
+import crypto.event.Event;
+
+
+public record EventFailure(Event event, Exception cause) {
+}
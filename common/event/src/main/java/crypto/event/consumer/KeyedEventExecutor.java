@@ -0,0 +1,112 @@
+package crypto.event.consumer;
+
+import crypto.event.Event;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+
+// 한 파티션에서 받은 배치를 메시지 키로 레인에 나눠 워커 스레드에서 동시에 처리한다.
+// 같은 키는 항상 같은 레인에서 배치 순서대로 처리되고, 모든 레인이 끝나야 반환하므로 커밋된 오프셋 앞의 레코드는 모두 처리가 끝난 상태이다.
+@Slf4j
+@Component
+public class KeyedEventExecutor implements AutoCloseable {
+
+    private final int lanes;
+    private final ExecutorService workers;
+
+    public KeyedEventExecutor(@Value("${crypto.event.consumer.key-lanes:1}") int lanes) {
+        this.lanes = Math.max(lanes, 1);
+        this.workers = Executors.newCachedThreadPool(workerThreadFactory());
+    }
+
+    public List<EventFailure> execute(List<Event> events, Function<Event, String> keyOf, BatchEventHandler handler) {
+        if (lanes == 1 || events.size() == 1) {
+            return handler.handle(events);
+        }
+
+        List<List<Event>> laneEvents = new ArrayList<>(lanes);
+        for (int i = 0; i < lanes; i++) {
+            laneEvents.add(new ArrayList<>());
+        }
+        for (Event event : events) {
+            laneEvents.get(Math.floorMod(Objects.hashCode(keyOf.apply(event)), lanes)).add(event);
+        }
+        laneEvents.removeIf(List::isEmpty);
+
+        if (laneEvents.size() == 1) {
+            return handler.handle(events);
+        }
+
+        // 첫 레인은 리스너 스레드가 직접 처리하고 나머지 레인만 워커로 넘긴다.
+        List<CompletableFuture<List<EventFailure>>> futures = new ArrayList<>(laneEvents.size() - 1);
+        for (List<Event> lane : laneEvents.subList(1, laneEvents.size())) {
+            futures.add(submit(lane, handler));
+        }
+
+        List<EventFailure> failures = new ArrayList<>(handleLane(laneEvents.get(0), handler));
+        for (int i = 0; i < futures.size(); i++) {
+            failures.addAll(join(futures.get(i), laneEvents.get(i + 1)));
+        }
+        return failures;
+    }
+
+    @Override
+    public void close() {
+        workers.shutdown();
+    }
+
+    private CompletableFuture<List<EventFailure>> submit(List<Event> lane, BatchEventHandler handler) {
+        try {
+            return CompletableFuture.supplyAsync(() -> handler.handle(lane), workers);
+        } catch (RejectedExecutionException e) {
+            // 종료 중이라 워커를 쓸 수 없으면 리스너 스레드에서 처리한다.
+            return CompletableFuture.completedFuture(handleLane(lane, handler));
+        }
+    }
+
+    private static List<EventFailure> handleLane(List<Event> lane, BatchEventHandler handler) {
+        try {
+            return handler.handle(lane);
+        } catch (Exception e) {
+            return failed(lane, e);
+        }
+    }
+
+    private static List<EventFailure> join(CompletableFuture<List<EventFailure>> future, List<Event> lane) {
+        try {
+            return future.join();
+        } catch (Exception e) {
+            return failed(lane, (e.getCause() instanceof Exception cause) ? cause : e);
+        }
+    }
+
+    private static List<EventFailure> failed(List<Event> lane, Exception cause) {
+        log.error("[KeyedEventExecutor.execute] Lane failed unexpectedly. size={}, error={}", lane.size(), cause.getMessage(), cause);
+        return lane.stream()
+                .map(event -> new EventFailure(event, cause))
+                .toList();
+    }
+
+    private static ThreadFactory workerThreadFactory() {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "event-worker-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,14 @@
+package crypto.event.consumer;
+
+import java.util.Collection;
+import java.util.Set;
+
+
+// 처리한 이벤트 ID 저장소. 배치 단위로 한 번에 선점하고 해제한다.
+public interface ProcessedEventStore {
+
+    // 아직 선점되지 않은 이벤트 ID 를 선점하고, 이번에 선점한 ID 만 반환한다.
+    Set<String> claimAll(Collection<String> eventIds);
+
+    void releaseAll(Collection<String> eventIds);
+}
@@ -0,0 +1,43 @@
+package crypto.event.consumer;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+
+// 최근에 본 eventId 를 크기 제한을 두고 기억한다. 가득 차면 가장 오래된 것부터 잊는다.
+public class RecentEventIdCache {
+
+    private final int capacity;
+    private final Map<String, Boolean> eventIds;
+
+    public RecentEventIdCache(int capacity) {
+        this.capacity = capacity;
+        this.eventIds = new LinkedHashMap<>(16, 0.75f, false) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+                return size() > RecentEventIdCache.this.capacity;
+            }
+        };
+    }
+
+    // 캐시에 없는 eventId 만 입력 순서대로 돌려준다.
+    public synchronized List<String> filterUnseen(Collection<String> candidates) {
+        return candidates.stream()
+                .filter(eventId -> !eventIds.containsKey(eventId))
+                .toList();
+    }
+
+    public synchronized void addAll(Collection<String> seen) {
+        seen.forEach(eventId -> eventIds.put(eventId, Boolean.TRUE));
+    }
+
+    public synchronized void removeAll(Collection<String> released) {
+        released.forEach(eventIds::remove);
+    }
+
+    public synchronized int size() {
+        return eventIds.size();
+    }
+}
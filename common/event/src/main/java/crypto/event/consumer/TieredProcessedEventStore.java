@@ -0,0 +1,72 @@
+package crypto.event.consumer;
+
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+
+// 중복 확인을 세 단계로 나눈다. 프로세스 안의 최근 eventId 캐시에 있으면 Redis 에 묻지 않고 중복으로 보고,
+// 나머지는 SET NX 를 파이프라인으로 묶어 배치당 한 번만 Redis 에 묻는다.
+// 최종 판단은 ProcessedEvent 행이 맡는다. 주문/정산은 처리 트랜잭션의 INSERT 가 기본키에 걸려 롤백되고,
+// 체결은 행이 쓰기 지연으로 늦게 남으므로 매칭 전에 아직 반영되지 않은 것까지 함께 확인한다.
+public abstract class TieredProcessedEventStore implements ProcessedEventStore {
+
+    private static final String PROCESSED_VALUE = "1";
+
+    private final StringRedisTemplate redisTemplate;
+    private final String keyFormat;
+    private final Duration ttl;
+    private final RecentEventIdCache recentEventIds;
+
+    protected TieredProcessedEventStore(StringRedisTemplate redisTemplate, String keyFormat, Duration ttl, int localCacheSize) {
+        this.redisTemplate = redisTemplate;
+        this.keyFormat = keyFormat;
+        this.ttl = ttl;
+        this.recentEventIds = new RecentEventIdCache(localCacheSize);
+    }
+
+    @Override
+    public Set<String> claimAll(Collection<String> eventIds) {
+        List<String> candidates = recentEventIds.filterUnseen(eventIds);
+        if (candidates.isEmpty()) {
+            return Set.of();
+        }
+
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            for (String eventId : candidates) {
+                stringConnection.set(generateKey(eventId), PROCESSED_VALUE, Expiration.from(ttl), SetOption.ifAbsent());
+            }
+            return null;
+        });
+
+        Set<String> claimed = new HashSet<>();
+        for (int i = 0; i < candidates.size(); i++) {
+            if (Boolean.TRUE.equals(results.get(i))) {
+                claimed.add(candidates.get(i));
+            }
+        }
+
+        // 선점했든 다른 곳이 이미 선점했든 이 eventId 는 다시 처리하지 않으므로 캐시에 남긴다.
+        recentEventIds.addAll(candidates);
+        return claimed;
+    }
+
+    @Override
+    public void releaseAll(Collection<String> eventIds) {
+        recentEventIds.removeAll(eventIds);
+        redisTemplate.delete(eventIds.stream().map(this::generateKey).toList());
+    }
+
+    public String generateKey(String eventId) {
+        return keyFormat.formatted(eventId);
+    }
+}
@@ -2,16 +2,20 @@ package crypto.event.eventsender;
 
 import crypto.dataserializer.DataSerializer;
 import crypto.event.Event;
+import crypto.event.EventKeyStrategy;
 import crypto.event.EventType;
+import crypto.event.outbox.EventOutbox;
+import crypto.event.payload.DeadLetterPayload;
 import crypto.event.payload.EventPayload;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.SendResult;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
@@ -21,49 +25,98 @@ import static crypto.event.EventType.FAIL_ORDER_EVENT;
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class OrderEventSender {
 
-    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final KafkaTemplate<String, byte[]> kafkaTemplate;
     private final DataSerializer dataSerializer;
+    private final EventOutbox eventOutbox;
+    private final EventKeyStrategy keyStrategy;
+
+    public OrderEventSender(KafkaTemplate<String, byte[]> kafkaTemplate, DataSerializer dataSerializer, EventOutbox eventOutbox,
+                            @Value("${crypto.event.key-strategy.order:SYMBOL}") EventKeyStrategy keyStrategy) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.dataSerializer = dataSerializer;
+        this.eventOutbox = eventOutbox;
+        this.keyStrategy = keyStrategy;
+    }
 
-    @Async("publishEventExecutor")
     public void send(EventType type, EventPayload payload) {
-        String message = dataSerializer.serialize(Event.of(
+        Event event = Event.of(
                 UUID.randomUUID().toString(),
                 type,
                 payload
-        ));
+        );
+        byte[] message = dataSerializer.serialize(type.getTopic(), event);
+        String key = keyStrategy.keyOf(payload, null);
 
-        CompletableFuture<SendResult<String, String>> future = kafkaTemplate.send(type.getTopic(), message);
+        if (eventOutbox.append(type.getTopic(), key, message)) {
+            return;
+        }
+
+        CompletableFuture<SendResult<String, byte[]>> future = kafkaTemplate.send(type.getTopic(), key, message);
 
         future.whenComplete((result, ex) -> {
             if (ex != null) {
-                log.error("[OrderEventSender.send] Unable to send message=[{}] due to an error", message, ex);
-                sendToDeadLetterQueue(message, "ERROR_SENDING_ORDER_EVENT");
+                log.error("[OrderEventSender.send] Unable to send eventId=[{}] due to an error", event.getEventId(), ex);
+                sendToDeadLetterQueue(dataSerializer.toText(message), "ERROR_SENDING_ORDER_EVENT");
             } else {
-                log.info("[OrderEventSender.send] Sent message=[{}] with offset=[{}]", message, result.getRecordMetadata().offset());
+                log.info("[OrderEventSender.send] Sent eventId=[{}], type=[{}] with offset=[{}]", event.getEventId(), type, result.getRecordMetadata().offset());
+            }
+        });
+    }
+
+    // 트랜잭션 안에서 만든 이벤트를 아웃박스에 함께 남기거나, 아웃박스가 없으면 커밋된 뒤에 보낸다.
+    public void sendAfterCommit(EventType type, EventPayload payload) {
+        if (eventOutbox.isAvailable() || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            send(type, payload);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                send(type, payload);
+            }
+        });
+    }
+
+    // 트랜잭션 안에서 호출되면 아웃박스에 함께 남기고, 아웃박스가 없으면 커밋된 뒤에 보낸다.
+    // 롤백된 배치를 이벤트별로 다시 처리할 때 같은 이벤트가 두 번 나가지 않는다.
+    public void sendFailCompleteEventAfterCommit(EventType type, Long key, EventPayload payload) {
+        if (eventOutbox.isAvailable() || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            sendFailCompleteEvent(type, key, payload);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                sendFailCompleteEvent(type, key, payload);
             }
         });
     }
 
-    @Async("publishEventExecutor")
     public void sendFailCompleteEvent(EventType type, Long key, EventPayload payload) {
-        String message = dataSerializer.serialize(Event.of(
+        Event event = Event.of(
                 UUID.randomUUID().toString(),
                 type,
                 payload
-        ));
+        );
+        byte[] message = dataSerializer.serialize(type.getTopic(), event);
+
+        if (eventOutbox.append(type.getTopic(), String.valueOf(key), message)) {
+            return;
+        }
 
-        CompletableFuture<SendResult<String, String>> future = kafkaTemplate.send(
+        CompletableFuture<SendResult<String, byte[]>> future = kafkaTemplate.send(
                 type.getTopic(), String.valueOf(key), message);
 
         future.whenComplete((result, ex) -> {
             if (ex != null) {
-                log.error("[OrderEventSender.sendFailCompleteEvent] Unable to send message=[{}] due to an error", message, ex);
-                sendToDeadLetterQueue(message, "ERROR_SENDING_ORDER_EVENT");
+                log.error("[OrderEventSender.sendFailCompleteEvent] Unable to send eventId=[{}] due to an error", event.getEventId(), ex);
+                sendToDeadLetterQueue(dataSerializer.toText(message), "ERROR_SENDING_ORDER_EVENT");
             } else {
-                log.info("[OrderEventSender.sendFailCompleteEvent] Sent message=[{}] with offset=[{}]", message, result.getRecordMetadata().offset());
+                log.info("[OrderEventSender.sendFailCompleteEvent] Sent eventId=[{}], type=[{}] with offset=[{}]", event.getEventId(), type, result.getRecordMetadata().offset());
             }
         });
     }
@@ -71,16 +124,16 @@ public class OrderEventSender {
     public void sendToDeadLetterQueue(String originalMessage, String failMessage) {
         String dlqTopic = EventType.Topic.CRYPTO_ORDER_DLQ;
 
-        EventPayload payload = EventPayload.builder()
+        DeadLetterPayload payload = DeadLetterPayload.builder()
                 .originalMessage(originalMessage)
                 .failMessage(failMessage)
                 .build();
 
-        String json = dataSerializer.serialize(Event.of(
+        byte[] message = dataSerializer.serialize(dlqTopic, Event.of(
                 UUID.randomUUID().toString(), FAIL_ORDER_EVENT, payload
         ));
 
-        kafkaTemplate.send(dlqTopic, json)
+        kafkaTemplate.send(dlqTopic, message)
                 .whenComplete((result, ex) -> {
                     if (ex == null) {
                         log.info("[OrderEventSender.sendToDeadLetterQueue] Successfully sent message to DLQ. topic={}, message={}", dlqTopic, originalMessage);
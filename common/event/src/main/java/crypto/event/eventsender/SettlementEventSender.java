@@ -2,15 +2,17 @@ package crypto.event.eventsender;
 
 import crypto.dataserializer.DataSerializer;
 import crypto.event.Event;
+import crypto.event.EventKeyStrategy;
 import crypto.event.EventType;
+import crypto.event.outbox.EventOutbox;
+import crypto.event.payload.DeadLetterPayload;
 import crypto.event.payload.EventPayload;
 
-import lombok.RequiredArgsConstructor;
-
 import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.SendResult;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
 import java.util.UUID;
@@ -22,30 +24,44 @@ import static crypto.event.EventType.FAIL_TRADE_EVENT;
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class SettlementEventSender {
 
-    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final KafkaTemplate<String, byte[]> kafkaTemplate;
     private final DataSerializer dataSerializer;
+    private final EventOutbox eventOutbox;
+    private final EventKeyStrategy keyStrategy;
+
+    public SettlementEventSender(KafkaTemplate<String, byte[]> kafkaTemplate, DataSerializer dataSerializer, EventOutbox eventOutbox,
+                                 @Value("${crypto.event.key-strategy.settlement:USER}") EventKeyStrategy keyStrategy) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.dataSerializer = dataSerializer;
+        this.eventOutbox = eventOutbox;
+        this.keyStrategy = keyStrategy;
+    }
 
-    @Async("publishEventExecutor")
     public void send(EventType type, Long key, EventPayload payload) {
-        String message = dataSerializer.serialize(Event.of(
+        Event event = Event.of(
                 UUID.randomUUID().toString(),
                 type,
                 payload
-        ));
+        );
+        byte[] message = dataSerializer.serialize(type.getTopic(), event);
+        String messageKey = keyStrategy.keyOf(payload, key);
+
+        if (eventOutbox.append(type.getTopic(), messageKey, message)) {
+            return;
+        }
 
-        CompletableFuture<SendResult<String, String>> future = kafkaTemplate.send(
-                type.getTopic(), String.valueOf(key), message
+        CompletableFuture<SendResult<String, byte[]>> future = kafkaTemplate.send(
+                type.getTopic(), messageKey, message
         );
 
         future.whenComplete((result, ex) -> {
             if (ex != null) {
-                log.error("[SettlementEventSender.send] Unable to send message=[{}] due to an error", message, ex);
-                sendToDeadLetterQueue(message, "ERROR_SENDING_ORDER_EVENT");
+                log.error("[SettlementEventSender.send] Unable to send eventId=[{}] due to an error", event.getEventId(), ex);
+                sendToDeadLetterQueue(dataSerializer.toText(message), "ERROR_SENDING_ORDER_EVENT");
             } else {
-                log.info("[SettlementEventSender.send] Sent message=[{}] with offset=[{}]", message, result.getRecordMetadata().offset());
+                log.info("[SettlementEventSender.send] Sent eventId=[{}], type=[{}] with offset=[{}]", event.getEventId(), type, result.getRecordMetadata().offset());
             }
         });
     }
@@ -53,16 +69,16 @@ public class SettlementEventSender {
     public void sendToDeadLetterQueue(String originalMessage, String failMessage) {
         String dlqTopic = EventType.Topic.CRYPTO_SETTLEMENT_DLQ;
 
-        EventPayload payload = EventPayload.builder()
+        DeadLetterPayload payload = DeadLetterPayload.builder()
                 .originalMessage(originalMessage)
                 .failMessage(failMessage)
                 .build();
 
-        String json = dataSerializer.serialize(Event.of(
+        byte[] message = dataSerializer.serialize(dlqTopic, Event.of(
                 UUID.randomUUID().toString(), FAIL_SETTLEMENT_EVENT, payload
         ));
 
-        kafkaTemplate.send(dlqTopic, json)
+        kafkaTemplate.send(dlqTopic, message)
                 .whenComplete((result, ex) -> {
                     if (ex == null) {
                         log.info("[SettlementEventSender.sendToDeadLetterQueue] Successfully sent message to DLQ. topic={}, message={}", dlqTopic, originalMessage);
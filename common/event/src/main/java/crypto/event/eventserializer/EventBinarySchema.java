@@ -0,0 +1,307 @@
+package crypto.event.eventserializer;
+
+import crypto.common.fixedpoint.Amount;
+import crypto.common.fixedpoint.Price;
+import crypto.common.fixedpoint.Quantity;
+import crypto.dataserializer.binary.BinaryReader;
+import crypto.dataserializer.binary.BinarySchema;
+import crypto.dataserializer.binary.BinaryWriter;
+import crypto.dataserializer.binary.SymbolDictionary;
+import crypto.dataserializer.binary.exception.BinaryFormatException;
+import crypto.event.Event;
+import crypto.event.EventType;
+import crypto.event.TimeInForce;
+import crypto.event.payload.*;
+
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+
+import static crypto.event.EventType.*;
+
+
+// Event 의 바이너리 레이아웃.
+// [이벤트 ID][타입 코드][페이로드 유무][필드 존재 비트맵][존재하는 필드...] 순서로 쓴다.
+// 비트맵은 이벤트 타입이 정한 페이로드 레코드의 필드만 다루므로 필드 수가 적은 타입일수록 짧다.
+// ID 는 지그재그 varint, 가격/수량/금액은 고정 소수점 long 을 지그재그 varint 로, 심볼은 사전 번호로 쓴다.
+@Component
+public class EventBinarySchema implements BinarySchema<Event> {
+
+    // 타입 코드, 유효 조건 코드와 심볼 번호는 목록의 위치이다. 순서를 바꾸지 말고 끝에만 추가한다.
+    private static final List<EventType> TYPE_CODES = List.of(
+            LIMIT_BUY_ORDER_CREATE, LIMIT_SELL_ORDER_CREATE, MARKET_BUY_ORDER_CREATE, MARKET_SELL_ORDER_CREATE,
+            LIMIT_BUY_ORDER_TRADE, LIMIT_SELL_ORDER_TRADE, MARKET_BUY_ORDER_TRADE, MARKET_SELL_ORDER_TRADE,
+            BUY_ORDER_SETTLEMENT, SELL_ORDER_SETTLEMENT, REFUND_LOCKED_BALANCE,
+            ORDER_CANCEL_EVENT, TRADE_CANCEL_EVENT, ORDER_COMPLETE_EVENT,
+            FAIL_ORDER_EVENT, FAIL_TRADE_EVENT, FAIL_SETTLEMENT_EVENT,
+            LIMIT_ORDER_CANCEL, LIMIT_ORDER_CANCEL_TRADE, UNLOCK_CANCELLED_ORDER, ORDER_CANCELLED_EVENT,
+            LIMIT_ORDER_REPLACE, LIMIT_ORDER_REPLACE_TRADE, ADJUST_REPLACED_ORDER_LOCK,
+            STOP_ORDER_CREATE, STOP_ORDER_TRADE, ORDER_REPLACED_EVENT, ORDER_REPLACE_REJECTED_EVENT
+    );
+    private static final List<TimeInForce> TIME_IN_FORCE_CODES = List.of(
+            TimeInForce.GTC, TimeInForce.IOC, TimeInForce.FOK, TimeInForce.POST_ONLY
+    );
+    private static final SymbolDictionary SYMBOLS = SymbolDictionary.of("BTC", "ETH", "XRP", "SOL", "DOGE", "ADA");
+
+    private static final int ID_NULL = 0;
+    private static final int ID_UUID = 1;
+    private static final int ID_STRING = 2;
+
+    @Override
+    public Class<Event> type() {
+        return Event.class;
+    }
+
+    @Override
+    public void write(Event event, BinaryWriter writer) {
+        writeEventId(event.getEventId(), writer);
+        writer.writeVarLong(event.getType() == null ? 0 : TYPE_CODES.indexOf(event.getType()) + 1);
+
+        EventPayload payload = event.getPayload();
+        writer.writeByte(payload == null ? 0 : 1);
+        if (payload != null) {
+            writePayload(payload, writer);
+        }
+    }
+
+    @Override
+    public Event read(BinaryReader reader) {
+        String eventId = readEventId(reader);
+        int typeCode = (int) reader.readVarLong();
+        if (typeCode > TYPE_CODES.size()) {
+            throw new BinaryFormatException();
+        }
+
+        EventType type = (typeCode == 0) ? null : TYPE_CODES.get(typeCode - 1);
+        EventPayload payload = (reader.readByte() == 0) ? null : readPayload(type, reader);
+        return Event.of(eventId, type, payload);
+    }
+
+    private void writePayload(EventPayload payload, BinaryWriter writer) {
+        switch (payload) {
+            case OrderPayload order -> writeOrder(order, writer);
+            case SettlementPayload settlement -> writeSettlement(settlement, writer);
+            case RefundPayload refund -> writeRefund(refund, writer);
+            case CancelPayload cancel -> writeCancel(cancel, writer);
+            case DeadLetterPayload deadLetter -> writeDeadLetter(deadLetter, writer);
+        }
+    }
+
+    // 페이로드 타입은 이벤트 타입으로 정해지므로 따로 쓰지 않는다.
+    private EventPayload readPayload(EventType type, BinaryReader reader) {
+        if (type == null) {
+            throw new BinaryFormatException();
+        }
+
+        Class<? extends EventPayload> payloadType = type.getPayloadType();
+        if (payloadType == OrderPayload.class) return readOrder(reader);
+        if (payloadType == SettlementPayload.class) return readSettlement(reader);
+        if (payloadType == RefundPayload.class) return readRefund(reader);
+        if (payloadType == CancelPayload.class) return readCancel(reader);
+        if (payloadType == DeadLetterPayload.class) return readDeadLetter(reader);
+        throw new BinaryFormatException();
+    }
+
+    private void writeOrder(OrderPayload payload, BinaryWriter writer) {
+        writer.writeVarLong(bit(0, payload.orderId())
+                | bit(1, payload.userId())
+                | bit(2, payload.symbol())
+                | bit(3, payload.price())
+                | bit(4, payload.quantity())
+                | bit(5, payload.marketTotalQuantity())
+                | bit(6, payload.marketTotalPrice())
+                | bit(7, payload.orderSide())
+                | bit(8, payload.timeInForce())
+                | bit(9, payload.triggerPrice()));
+
+        if (payload.orderId() != null) writer.writeSignedVarLong(payload.orderId());
+        if (payload.userId() != null) writer.writeSignedVarLong(payload.userId());
+        if (payload.symbol() != null) SYMBOLS.write(payload.symbol(), writer);
+        if (payload.price() != null) writer.writeSignedVarLong(payload.price().value());
+        if (payload.quantity() != null) writer.writeSignedVarLong(payload.quantity().value());
+        if (payload.marketTotalQuantity() != null) writer.writeSignedVarLong(payload.marketTotalQuantity().value());
+        if (payload.marketTotalPrice() != null) writer.writeSignedVarLong(payload.marketTotalPrice().value());
+        if (payload.orderSide() != null) writer.writeString(payload.orderSide());
+        if (payload.timeInForce() != null) writer.writeByte(TIME_IN_FORCE_CODES.indexOf(payload.timeInForce()));
+        if (payload.triggerPrice() != null) writer.writeSignedVarLong(payload.triggerPrice().value());
+    }
+
+    private OrderPayload readOrder(BinaryReader reader) {
+        long mask = reader.readVarLong();
+
+        return OrderPayload.builder()
+                .orderId(has(mask, 0) ? reader.readSignedVarLong() : null)
+                .userId(has(mask, 1) ? reader.readSignedVarLong() : null)
+                .symbol(has(mask, 2) ? SYMBOLS.read(reader) : null)
+                .price(has(mask, 3) ? new Price(reader.readSignedVarLong()) : null)
+                .quantity(has(mask, 4) ? new Quantity(reader.readSignedVarLong()) : null)
+                .marketTotalQuantity(has(mask, 5) ? new Quantity(reader.readSignedVarLong()) : null)
+                .marketTotalPrice(has(mask, 6) ? new Amount(reader.readSignedVarLong()) : null)
+                .orderSide(has(mask, 7) ? reader.readString() : null)
+                .timeInForce(has(mask, 8) ? readTimeInForce(reader) : null)
+                .triggerPrice(has(mask, 9) ? new Price(reader.readSignedVarLong()) : null)
+                .build();
+    }
+
+    private static TimeInForce readTimeInForce(BinaryReader reader) {
+        int code = reader.readByte();
+        if (code >= TIME_IN_FORCE_CODES.size()) {
+            throw new BinaryFormatException();
+        }
+        return TIME_IN_FORCE_CODES.get(code);
+    }
+
+    private void writeSettlement(SettlementPayload payload, BinaryWriter writer) {
+        writer.writeVarLong(bit(0, payload.orderId())
+                | bit(1, payload.tradeId())
+                | bit(2, payload.takerOrderId())
+                | bit(3, payload.makerOrderId())
+                | bit(4, payload.takerId())
+                | bit(5, payload.makerId())
+                | bit(6, payload.takerTotalUsed())
+                | bit(7, payload.makerTotalUsed())
+                | bit(8, payload.matchedQuantity())
+                | bit(9, payload.symbol()));
+
+        if (payload.orderId() != null) writer.writeSignedVarLong(payload.orderId());
+        if (payload.tradeId() != null) writer.writeSignedVarLong(payload.tradeId());
+        if (payload.takerOrderId() != null) writer.writeSignedVarLong(payload.takerOrderId());
+        if (payload.makerOrderId() != null) writer.writeSignedVarLong(payload.makerOrderId());
+        if (payload.takerId() != null) writer.writeSignedVarLong(payload.takerId());
+        if (payload.makerId() != null) writer.writeSignedVarLong(payload.makerId());
+        if (payload.takerTotalUsed() != null) writer.writeSignedVarLong(payload.takerTotalUsed().value());
+        if (payload.makerTotalUsed() != null) writer.writeSignedVarLong(payload.makerTotalUsed().value());
+        if (payload.matchedQuantity() != null) writer.writeSignedVarLong(payload.matchedQuantity().value());
+        if (payload.symbol() != null) SYMBOLS.write(payload.symbol(), writer);
+    }
+
+    private SettlementPayload readSettlement(BinaryReader reader) {
+        long mask = reader.readVarLong();
+
+        return SettlementPayload.builder()
+                .orderId(has(mask, 0) ? reader.readSignedVarLong() : null)
+                .tradeId(has(mask, 1) ? reader.readSignedVarLong() : null)
+                .takerOrderId(has(mask, 2) ? reader.readSignedVarLong() : null)
+                .makerOrderId(has(mask, 3) ? reader.readSignedVarLong() : null)
+                .takerId(has(mask, 4) ? reader.readSignedVarLong() : null)
+                .makerId(has(mask, 5) ? reader.readSignedVarLong() : null)
+                .takerTotalUsed(has(mask, 6) ? new Amount(reader.readSignedVarLong()) : null)
+                .makerTotalUsed(has(mask, 7) ? new Amount(reader.readSignedVarLong()) : null)
+                .matchedQuantity(has(mask, 8) ? new Quantity(reader.readSignedVarLong()) : null)
+                .symbol(has(mask, 9) ? SYMBOLS.read(reader) : null)
+                .build();
+    }
+
+    private void writeRefund(RefundPayload payload, BinaryWriter writer) {
+        writer.writeVarLong(bit(0, payload.userId())
+                | bit(1, payload.totalRemainPrice())
+                | bit(2, payload.symbol())
+                | bit(3, payload.remainQuantity()));
+
+        if (payload.userId() != null) writer.writeSignedVarLong(payload.userId());
+        if (payload.totalRemainPrice() != null) writer.writeSignedVarLong(payload.totalRemainPrice().value());
+        if (payload.symbol() != null) SYMBOLS.write(payload.symbol(), writer);
+        if (payload.remainQuantity() != null) writer.writeSignedVarLong(payload.remainQuantity().value());
+    }
+
+    private RefundPayload readRefund(BinaryReader reader) {
+        long mask = reader.readVarLong();
+
+        return RefundPayload.builder()
+                .userId(has(mask, 0) ? reader.readSignedVarLong() : null)
+                .totalRemainPrice(has(mask, 1) ? new Amount(reader.readSignedVarLong()) : null)
+                .symbol(has(mask, 2) ? SYMBOLS.read(reader) : null)
+                .remainQuantity(has(mask, 3) ? new Quantity(reader.readSignedVarLong()) : null)
+                .build();
+    }
+
+    private void writeCancel(CancelPayload payload, BinaryWriter writer) {
+        writer.writeVarLong(bit(0, payload.orderId())
+                | bit(1, payload.tradeId())
+                | bit(2, payload.makerOrderId())
+                | bit(3, payload.matchedQuantity())
+                | bit(4, payload.failMessage()));
+
+        if (payload.orderId() != null) writer.writeSignedVarLong(payload.orderId());
+        if (payload.tradeId() != null) writer.writeSignedVarLong(payload.tradeId());
+        if (payload.makerOrderId() != null) writer.writeSignedVarLong(payload.makerOrderId());
+        if (payload.matchedQuantity() != null) writer.writeSignedVarLong(payload.matchedQuantity().value());
+        if (payload.failMessage() != null) writer.writeString(payload.failMessage());
+    }
+
+    private CancelPayload readCancel(BinaryReader reader) {
+        long mask = reader.readVarLong();
+
+        return CancelPayload.builder()
+                .orderId(has(mask, 0) ? reader.readSignedVarLong() : null)
+                .tradeId(has(mask, 1) ? reader.readSignedVarLong() : null)
+                .makerOrderId(has(mask, 2) ? reader.readSignedVarLong() : null)
+                .matchedQuantity(has(mask, 3) ? new Quantity(reader.readSignedVarLong()) : null)
+                .failMessage(has(mask, 4) ? reader.readString() : null)
+                .build();
+    }
+
+    private void writeDeadLetter(DeadLetterPayload payload, BinaryWriter writer) {
+        writer.writeVarLong(bit(0, payload.originalMessage()) | bit(1, payload.failMessage()));
+
+        if (payload.originalMessage() != null) writer.writeString(payload.originalMessage());
+        if (payload.failMessage() != null) writer.writeString(payload.failMessage());
+    }
+
+    private DeadLetterPayload readDeadLetter(BinaryReader reader) {
+        long mask = reader.readVarLong();
+
+        return DeadLetterPayload.builder()
+                .originalMessage(has(mask, 0) ? reader.readString() : null)
+                .failMessage(has(mask, 1) ? reader.readString() : null)
+                .build();
+    }
+
+    // UUID 형식의 이벤트 ID 는 36자 문자열 대신 16바이트로 쓴다.
+    private void writeEventId(String eventId, BinaryWriter writer) {
+        if (eventId == null) {
+            writer.writeByte(ID_NULL);
+            return;
+        }
+
+        UUID uuid = parseUuid(eventId);
+        if (uuid != null && uuid.toString().equals(eventId)) {
+            writer.writeByte(ID_UUID);
+            writer.writeLong(uuid.getMostSignificantBits());
+            writer.writeLong(uuid.getLeastSignificantBits());
+        } else {
+            writer.writeByte(ID_STRING);
+            writer.writeString(eventId);
+        }
+    }
+
+    private String readEventId(BinaryReader reader) {
+        return switch (reader.readByte()) {
+            case ID_NULL -> null;
+            case ID_UUID -> new UUID(reader.readLong(), reader.readLong()).toString();
+            case ID_STRING -> reader.readString();
+            default -> throw new BinaryFormatException();
+        };
+    }
+
+    private static UUID parseUuid(String value) {
+        if (value.length() != 36) {
+            return null;
+        }
+        try {
+            return UUID.fromString(value);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    // 필드 위치는 레코드 컴포넌트 순서와 같다.
+    private static long bit(int field, Object value) {
+        return (value == null) ? 0L : (1L << field);
+    }
+
+    private static boolean has(long mask, int field) {
+        return (mask & (1L << field)) != 0;
+    }
+}
@@ -0,0 +1,65 @@
+package crypto.event.eventserializer;
+
+import crypto.event.Event;
+import crypto.event.EventType;
+import crypto.event.payload.EventPayload;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import java.io.IOException;
+
+
+// 페이로드 타입은 type 필드로 정해지므로 @JsonTypeInfo 없이 스트리밍으로 읽는다.
+// 직렬화 순서상 type 이 payload 보다 먼저 오며, 순서가 뒤바뀐 메시지만 payload 를 버퍼에 담아 두었다가 읽는다.
+public class EventJsonDeserializer extends StdDeserializer<Event> {
+
+    public EventJsonDeserializer() {
+        super(Event.class);
+    }
+
+    @Override
+    public Event deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+        String eventId = null;
+        EventType type = null;
+        EventPayload payload = null;
+        TokenBuffer pendingPayload = null;
+
+        String field = parser.isExpectedStartObjectToken() ? parser.nextFieldName() : parser.currentName();
+        for (; field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+
+            switch (field) {
+                case "eventId" -> eventId = parser.getValueAsString();
+                case "type" -> type = context.readValue(parser, EventType.class);
+                case "payload" -> {
+                    if (type != null) {
+                        payload = readPayload(parser, context, type);
+                    } else {
+                        pendingPayload = context.bufferAsCopyOfValue(parser);
+                    }
+                }
+                default -> parser.skipChildren();
+            }
+        }
+
+        if (pendingPayload != null && type != null) {
+            try (JsonParser bufferedParser = pendingPayload.asParser(parser.getCodec())) {
+                bufferedParser.nextToken();
+                payload = readPayload(bufferedParser, context, type);
+            }
+        }
+
+        return Event.of(eventId, type, payload);
+    }
+
+    private EventPayload readPayload(JsonParser parser, DeserializationContext context, EventType type) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        return context.readValue(parser, type.getPayloadType());
+    }
+}
@@ -0,0 +1,11 @@
+package crypto.event.exception;
+
+import crypto.common.entity.exception.DomainException;
+
+
+public class PayloadTypeMismatchException extends DomainException {
+
+    public PayloadTypeMismatchException() {
+        super("이벤트 타입과 페이로드 타입이 일치하지 않습니다.");
+    }
+}
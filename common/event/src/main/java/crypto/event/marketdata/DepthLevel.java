@@ -0,0 +1,9 @@
+package crypto.event.marketdata;
+
+import crypto.common.fixedpoint.Price;
+import crypto.common.fixedpoint.Quantity;
+
+
+// 가격대 하나의 총 잔량. diff 에서 잔량 0 은 가격대가 사라졌다는 뜻이다.
+public record DepthLevel(Price price, Quantity quantity) {
+}
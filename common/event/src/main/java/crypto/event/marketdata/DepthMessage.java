@@ -0,0 +1,9 @@
+package crypto.event.marketdata;
+
+import java.util.List;
+
+
+// 심볼별 L2 호가 메시지. sequence 는 심볼마다 1씩 증가하며, 스냅샷도 시퀀스 하나를 차지한다.
+public record DepthMessage(String symbol, DepthMessageType type, long sequence,
+                           List<DepthLevel> bids, List<DepthLevel> asks, long publishedAt) {
+}
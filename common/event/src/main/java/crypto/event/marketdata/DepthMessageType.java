@@ -0,0 +1,7 @@
+package crypto.event.marketdata;
+
+
+public enum DepthMessageType {
+    SNAPSHOT,
+    DIFF
+}
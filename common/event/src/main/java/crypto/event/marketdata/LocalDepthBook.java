@@ -0,0 +1,82 @@
+package crypto.event.marketdata;
+
+import crypto.common.fixedpoint.Price;
+import crypto.common.fixedpoint.Quantity;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+
+// 깊이 피드 구독자용 로컬 호가창. 스냅샷으로 맞춘 뒤 연속된 diff 만 적용하고, 시퀀스가 끊기면 다음 스냅샷까지 diff 를 버린다.
+public class LocalDepthBook {
+
+    private static final long NOT_SYNCED = -1L;
+
+    private final String symbol;
+    private final NavigableMap<Price, Quantity> bids = new TreeMap<>(Comparator.reverseOrder());
+    private final NavigableMap<Price, Quantity> asks = new TreeMap<>();
+    private long sequence = NOT_SYNCED;
+
+    public LocalDepthBook(String symbol) {
+        this.symbol = symbol;
+    }
+
+    // 메시지를 반영했으면 true, 아직 스냅샷을 받지 못했거나 시퀀스가 끊겨 버렸으면 false 를 반환한다.
+    public boolean apply(DepthMessage message) {
+        if (!symbol.equals(message.symbol())) {
+            throw new IllegalArgumentException("Depth message symbol mismatch. expected=" + symbol + ", actual=" + message.symbol());
+        }
+
+        if (message.type() == DepthMessageType.SNAPSHOT) {
+            bids.clear();
+            asks.clear();
+            applyLevels(bids, message.bids());
+            applyLevels(asks, message.asks());
+            sequence = message.sequence();
+            return true;
+        }
+
+        if (sequence == NOT_SYNCED || message.sequence() <= sequence) {
+            return false;
+        }
+
+        if (message.sequence() != sequence + 1) {
+            sequence = NOT_SYNCED;
+            return false;
+        }
+
+        applyLevels(bids, message.bids());
+        applyLevels(asks, message.asks());
+        sequence = message.sequence();
+        return true;
+    }
+
+    public boolean isSynced() {
+        return sequence != NOT_SYNCED;
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    public NavigableMap<Price, Quantity> getBids() {
+        return Collections.unmodifiableNavigableMap(bids);
+    }
+
+    public NavigableMap<Price, Quantity> getAsks() {
+        return Collections.unmodifiableNavigableMap(asks);
+    }
+
+    private void applyLevels(NavigableMap<Price, Quantity> side, List<DepthLevel> levels) {
+        for (DepthLevel level : levels) {
+            if (level.quantity().isZero()) {
+                side.remove(level.price());
+            } else {
+                side.put(level.price(), level.quantity());
+            }
+        }
+    }
+}
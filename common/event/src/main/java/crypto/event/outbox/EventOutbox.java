@@ -0,0 +1,31 @@
+package crypto.event.outbox;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+
+// 트랜잭션 안에서 보내는 이벤트를 비즈니스 변경과 같은 트랜잭션으로 아웃박스에 남긴다. 실제 발행은 OutboxRelay 가 맡는다.
+@Component
+public class EventOutbox {
+
+    private final OutboxStore outboxStore;
+
+    public EventOutbox(ObjectProvider<OutboxStore> outboxStoreProvider) {
+        this.outboxStore = outboxStoreProvider.getIfAvailable();
+    }
+
+    // 아웃박스가 없는 서비스이거나 트랜잭션 밖이면 false 를 반환하고, 호출한 쪽이 바로 보낸다.
+    public boolean append(String topic, String key, byte[] message) {
+        if (!isAvailable()) {
+            return false;
+        }
+
+        outboxStore.append(topic, key, message);
+        return true;
+    }
+
+    public boolean isAvailable() {
+        return outboxStore != null && TransactionSynchronizationManager.isActualTransactionActive();
+    }
+}
@@ -0,0 +1,6 @@
+package crypto.event.outbox;
+
+
+// 아웃박스에 쌓인 메시지 한 건. message 는 토픽 형식으로 이미 직렬화된 값이다.
+public record OutboxMessage(Long id, String topic, String key, byte[] message) {
+}
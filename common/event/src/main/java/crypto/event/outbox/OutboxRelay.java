@@ -0,0 +1,152 @@
+package crypto.event.outbox;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+
+// 아웃박스를 id 순서대로 묶어 읽어 발행하고, 브로커가 받은 메시지만 지운다.
+// 지우기 전에 죽으면 다시 보내므로 최소 한 번 전달이며, 중복은 컨슈머가 eventId 로 걸러낸다.
+// 읽기부터 지우기까지 한 트랜잭션으로 묶어 읽은 행을 잠가 두므로, 인스턴스가 여럿이어도 같은 행을 함께 보내지 않는다.
+@Slf4j
+@Component
+public class OutboxRelay implements SmartLifecycle {
+
+    private final OutboxStore outboxStore;
+    private final KafkaTemplate<String, byte[]> kafkaTemplate;
+    private final int batchSize;
+    private final long pollIntervalMillis;
+    private final long sendTimeoutMillis;
+    private final TransactionTemplate transactionTemplate;
+
+    private Thread relay;
+    private volatile boolean running;
+
+    public OutboxRelay(ObjectProvider<OutboxStore> outboxStoreProvider,
+                       ObjectProvider<PlatformTransactionManager> transactionManagerProvider,
+                       KafkaTemplate<String, byte[]> kafkaTemplate,
+                       @Value("${crypto.outbox.batch-size:500}") int batchSize,
+                       @Value("${crypto.outbox.poll-interval-ms:50}") long pollIntervalMillis,
+                       @Value("${crypto.outbox.send-timeout-ms:10000}") long sendTimeoutMillis) {
+        this.outboxStore = outboxStoreProvider.getIfAvailable();
+        this.kafkaTemplate = kafkaTemplate;
+        this.batchSize = batchSize;
+        this.pollIntervalMillis = pollIntervalMillis;
+        this.sendTimeoutMillis = sendTimeoutMillis;
+        this.transactionTemplate = (outboxStore == null) ? null : new TransactionTemplate(transactionManagerProvider.getObject());
+    }
+
+    int relayBatch() {
+        Integer relayed = transactionTemplate.execute(status -> relayLockedBatch());
+        return (relayed == null) ? 0 : relayed;
+    }
+
+    // 한 배치를 순서대로 보내고, 앞에서부터 연속으로 성공한 메시지만 지운다. 실패한 메시지부터는 다음 배치에서 다시 보낸다.
+    private int relayLockedBatch() {
+        List<OutboxMessage> messages = outboxStore.findBatch(batchSize);
+        if (messages.isEmpty()) {
+            return 0;
+        }
+
+        List<CompletableFuture<SendResult<String, byte[]>>> futures = new ArrayList<>(messages.size());
+        for (OutboxMessage message : messages) {
+            futures.add(kafkaTemplate.send(message.topic(), message.key(), message.message()));
+        }
+        kafkaTemplate.flush();
+
+        List<Long> sentIds = new ArrayList<>(messages.size());
+        for (int i = 0; i < messages.size(); i++) {
+            try {
+                futures.get(i).get(sendTimeoutMillis, TimeUnit.MILLISECONDS);
+                sentIds.add(messages.get(i).id());
+            } catch (ExecutionException | TimeoutException e) {
+                log.error("[OutboxRelay.relayBatch] Failed to publish outbox message, it will be retried. outboxId={}, topic={}",
+                        messages.get(i).id(), messages.get(i).topic(), e);
+                break;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+
+        if (!sentIds.isEmpty()) {
+            outboxStore.deleteSent(sentIds);
+        }
+        return (sentIds.size() == messages.size()) ? sentIds.size() : -1;
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                int relayed = relayBatch();
+
+                // 꽉 찬 배치였으면 밀린 메시지가 더 있을 수 있으니 쉬지 않고 바로 다음 배치를 읽는다.
+                if (relayed < batchSize) {
+                    Thread.sleep(pollIntervalMillis);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("[OutboxRelay.run] Failed to relay outbox batch, retrying.", e);
+                sleepQuietly();
+            }
+        }
+    }
+
+    private void sleepQuietly() {
+        try {
+            Thread.sleep(pollIntervalMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+
+    @Override
+    public void start() {
+        if (outboxStore == null) {
+            return;
+        }
+
+        // 멈췄다가 다시 시작할 수 있도록 스레드는 시작할 때마다 새로 만든다.
+        running = true;
+        relay = new Thread(this::run, "outbox-relay");
+        relay.start();
+        log.info("[OutboxRelay.start] Outbox relay started. batchSize={}, pollIntervalMs={}", batchSize, pollIntervalMillis);
+    }
+
+    @Override
+    public void stop() {
+        if (!running) {
+            return;
+        }
+
+        running = false;
+        try {
+            relay.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        log.info("[OutboxRelay.stop] Outbox relay stopped.");
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+}
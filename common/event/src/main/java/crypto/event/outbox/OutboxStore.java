@@ -0,0 +1,16 @@
+package crypto.event.outbox;
+
+import java.util.List;
+
+
+// 서비스마다 자기 DB 에 아웃박스를 두고 구현한다. append 는 호출한 트랜잭션과 함께 커밋되어야 한다.
+public interface OutboxStore {
+
+    void append(String topic, String key, byte[] message);
+
+    // 기록된 순서(id 오름차순)대로 최대 limit 건을 읽는다. 릴레이 트랜잭션 안에서 호출되며,
+    // 읽은 행은 잠그고 다른 인스턴스가 잠근 행은 건너뛴다(FOR UPDATE SKIP LOCKED).
+    List<OutboxMessage> findBatch(int limit);
+
+    void deleteSent(List<Long> ids);
+}
@@ -0,0 +1,20 @@
+package crypto.event.payload;
+
+import crypto.common.fixedpoint.Quantity;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.Builder;
+
+
+// 주문/체결 취소와 주문 완료·사용자 취소·정정 거절(ORDER_CANCEL_EVENT, TRADE_CANCEL_EVENT, ORDER_COMPLETE_EVENT, ORDER_CANCELLED_EVENT, ORDER_REPLACE_REJECTED_EVENT) 페이로드.
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record CancelPayload(
+        Long orderId,
+        Long tradeId,
+        Long makerOrderId,
+        Quantity matchedQuantity,
+        String failMessage
+) implements EventPayload {
+}
@@ -0,0 +1,15 @@
+package crypto.event.payload;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.Builder;
+
+
+// DLQ(FAIL_*) 페이로드.
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record DeadLetterPayload(
+        String originalMessage,
+        String failMessage
+) implements EventPayload {
+}
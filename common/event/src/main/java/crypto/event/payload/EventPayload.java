@@ -1,38 +1,7 @@
 package crypto.event.payload;
 
-import lombok.AllArgsConstructor;
-import lombok.Builder;
-import lombok.Getter;
-import lombok.NoArgsConstructor;
 
-import java.math.BigDecimal;
-
-
-@Getter
-@Builder
-@NoArgsConstructor
-@AllArgsConstructor
-public class EventPayload {
-    private Long orderId;
-    private Long userId;
-    private String symbol;
-    private BigDecimal price;
-    private BigDecimal quantity;
-    private BigDecimal marketTotalQuantity;
-    private BigDecimal marketTotalPrice;
-    private String orderSide;
-
-    private Long takerId;
-    private Long makerId;
-    private Long takerOrderId;
-    private Long makerOrderId;
-    private Long tradeId;
-
-    private BigDecimal takerTotalUsed;
-    private BigDecimal makerTotalUsed;
-    private BigDecimal matchedQuantity;
-    private BigDecimal totalRemainPrice;
-
-    private String originalMessage;
-    private String failMessage;
+// 이벤트 타입마다 정해진 페이로드 타입. 어떤 타입을 쓰는지는 EventType.payloadType 이 정한다.
+public sealed interface EventPayload
+        permits OrderPayload, SettlementPayload, RefundPayload, CancelPayload, DeadLetterPayload {
 }
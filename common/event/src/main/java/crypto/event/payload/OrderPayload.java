@@ -0,0 +1,30 @@
+package crypto.event.payload;
+
+import crypto.common.fixedpoint.Amount;
+import crypto.common.fixedpoint.Price;
+import crypto.common.fixedpoint.Quantity;
+import crypto.event.TimeInForce;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.Builder;
+
+
+// 주문 생성(*_ORDER_CREATE)과 체결 요청(*_ORDER_TRADE), 정정 확정(ORDER_REPLACED_EVENT) 페이로드.
+// timeInForce 는 지정가 주문의 유효 조건(GTC, IOC, FOK, POST_ONLY)이며 없으면 GTC 로 본다.
+// triggerPrice 가 있으면 스톱 주문(STOP_ORDER_*)이며, price 가 있으면 스톱 지정가, 없으면 스톱 시장가 주문이다.
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record OrderPayload(
+        Long orderId,
+        Long userId,
+        String symbol,
+        Price price,
+        Quantity quantity,
+        Quantity marketTotalQuantity,
+        Amount marketTotalPrice,
+        String orderSide,
+        TimeInForce timeInForce,
+        Price triggerPrice
+) implements EventPayload {
+}
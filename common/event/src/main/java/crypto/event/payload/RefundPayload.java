@@ -0,0 +1,21 @@
+package crypto.event.payload;
+
+import crypto.common.fixedpoint.Amount;
+import crypto.common.fixedpoint.Quantity;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.Builder;
+
+
+// 체결되지 않은 잠금 잔고 환불(REFUND_LOCKED_BALANCE), 취소된 주문의 잠금 해제(UNLOCK_CANCELLED_ORDER), 정정된 주문의 잠금 조정(ADJUST_REPLACED_ORDER_LOCK) 페이로드.
+// 매수 주문은 totalRemainPrice 만큼 잔고를, 매도 주문은 remainQuantity 만큼 코인을 푼다.
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record RefundPayload(
+        Long userId,
+        Amount totalRemainPrice,
+        String symbol,
+        Quantity remainQuantity
+) implements EventPayload {
+}
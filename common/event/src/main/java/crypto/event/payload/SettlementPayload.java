@@ -0,0 +1,26 @@
+package crypto.event.payload;
+
+import crypto.common.fixedpoint.Amount;
+import crypto.common.fixedpoint.Quantity;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.Builder;
+
+
+// 체결 정산(BUY_ORDER_SETTLEMENT, SELL_ORDER_SETTLEMENT) 페이로드.
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record SettlementPayload(
+        Long orderId,
+        Long tradeId,
+        Long takerOrderId,
+        Long makerOrderId,
+        Long takerId,
+        Long makerId,
+        Amount takerTotalUsed,
+        Amount makerTotalUsed,
+        Quantity matchedQuantity,
+        String symbol
+) implements EventPayload {
+}
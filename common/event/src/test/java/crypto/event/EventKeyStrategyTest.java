@@ -0,0 +1,51 @@
+package crypto.event;
+
+import crypto.event.payload.CancelPayload;
+import crypto.event.payload.RefundPayload;
+import crypto.event.payload.SettlementPayload;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+
+class EventKeyStrategyTest {
+
+    @DisplayName("사용자 키 규칙은 체결 정산을 테이커, 환불을 환불 대상 사용자 ID 로 나눈다.")
+    @Test
+    void userKey() {
+        // given
+        SettlementPayload settlementPayload = SettlementPayload.builder()
+                .takerId(1L)
+                .makerId(2L)
+                .symbol("BTC")
+                .build();
+        RefundPayload refundPayload = RefundPayload.builder()
+                .userId(3L)
+                .build();
+
+        // when
+        String settlementKey = EventKeyStrategy.USER.keyOf(settlementPayload, 100L);
+        String refundKey = EventKeyStrategy.USER.keyOf(refundPayload, 100L);
+
+        // then
+        assertThat(settlementKey).isEqualTo("1");
+        assertThat(refundKey).isEqualTo("3");
+    }
+
+    @DisplayName("사용자를 알 수 없는 페이로드는 보내는 쪽이 넘긴 키를 쓴다.")
+    @Test
+    void userKeyFallsBackToSource() {
+        // given
+        CancelPayload cancelPayload = CancelPayload.builder()
+                .orderId(10L)
+                .build();
+
+        // when
+        String key = EventKeyStrategy.USER.keyOf(cancelPayload, 10L);
+
+        // then
+        assertThat(key).isEqualTo("10");
+    }
+}
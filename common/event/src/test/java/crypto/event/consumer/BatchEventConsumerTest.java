@@ -0,0 +1,208 @@
+package crypto.event.consumer;
+
+import crypto.dataserializer.DataSerializer;
+import crypto.event.Event;
+import crypto.event.payload.RefundPayload;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.Acknowledgment;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import static crypto.event.EventType.FAIL_SETTLEMENT_EVENT;
+import static crypto.event.EventType.REFUND_LOCKED_BALANCE;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+
+@ExtendWith(MockitoExtension.class)
+class BatchEventConsumerTest {
+
+    private static final String DEAD_LETTER_TOPIC = "crypto-settlement-dlq";
+
+    @Mock
+    private DataSerializer dataSerializer;
+
+    @Mock
+    private KafkaTemplate<String, byte[]> kafkaTemplate;
+
+    @Mock
+    private ProcessedEventStore processedEventStore;
+
+    @Mock
+    private Acknowledgment ack;
+
+    private TestConsumer consumer;
+
+    @BeforeEach
+    void setUp() {
+        consumer = new TestConsumer();
+    }
+
+    @DisplayName("선점한 이벤트는 배치 핸들러로 한 번에 처리하고, 오프셋을 한 번 커밋한다.")
+    @Test
+    void consumeInBatch() {
+        // given
+        Event first = event("event-1");
+        Event second = event("event-2");
+        Event third = event("event-3");
+        List<ConsumerRecord<String, byte[]>> records = records(first, second, third);
+        when(processedEventStore.claimAll(Set.of("event-1", "event-2", "event-3")))
+                .thenReturn(Set.of("event-1", "event-2", "event-3"));
+
+        // when
+        consumer.consume(records, ack);
+
+        // then
+        assertThat(consumer.batches).containsExactly(List.of(first, second, third));
+        assertThat(consumer.handled).isEmpty();
+        verify(processedEventStore, never()).releaseAll(any());
+        verifyNoInteractions(kafkaTemplate);
+        verify(ack, times(1)).acknowledge();
+    }
+
+    @DisplayName("배치 안의 중복은 한 번만 선점하고, 이미 선점된 이벤트는 처리하지 않는다.")
+    @Test
+    void skipDuplicates() {
+        // given
+        Event first = event("event-1");
+        Event second = event("event-2");
+        Event third = event("event-3");
+        List<ConsumerRecord<String, byte[]>> records = records(first, second, first, third);
+        when(processedEventStore.claimAll(Set.of("event-1", "event-2", "event-3")))
+                .thenReturn(Set.of("event-1", "event-3"));
+
+        // when
+        consumer.consume(records, ack);
+
+        // then
+        assertThat(consumer.batches).containsExactly(List.of(first, third));
+        verify(processedEventStore, times(1)).claimAll(any());
+        verify(ack, times(1)).acknowledge();
+    }
+
+    @DisplayName("배치가 롤백되면 이벤트마다 다시 처리하고, 실패한 이벤트만 보상·DLQ 로 보낸 뒤 선점을 해제한다.")
+    @Test
+    void fallbackToPerEvent() {
+        // given
+        Event first = event("event-1");
+        Event failing = event("event-2");
+        Event third = event("event-3");
+        List<ConsumerRecord<String, byte[]>> records = records(first, failing, third);
+        when(processedEventStore.claimAll(Set.of("event-1", "event-2", "event-3")))
+                .thenReturn(Set.of("event-1", "event-2", "event-3"));
+        when(dataSerializer.serialize(eq(DEAD_LETTER_TOPIC), any(Event.class))).thenReturn(new byte[0]);
+        when(kafkaTemplate.send(eq(DEAD_LETTER_TOPIC), any(byte[].class))).thenReturn(new CompletableFuture<>());
+        consumer.failBatch = true;
+        consumer.failingEventId = "event-2";
+
+        // when
+        consumer.consume(records, ack);
+
+        // then
+        assertThat(consumer.batches).containsExactly(List.of(first, failing, third));
+        assertThat(consumer.handled).containsExactly(first, third);
+        assertThat(consumer.failed).containsExactly(failing);
+        verify(kafkaTemplate, times(1)).send(eq(DEAD_LETTER_TOPIC), any(byte[].class));
+        verify(processedEventStore, times(1)).releaseAll(List.of("event-2"));
+        verify(ack, times(1)).acknowledge();
+    }
+
+    @DisplayName("이벤트가 하나면 배치 핸들러를 거치지 않고 바로 처리한다.")
+    @Test
+    void consumeSingleEvent() {
+        // given
+        Event event = event("event-1");
+        when(processedEventStore.claimAll(Set.of("event-1"))).thenReturn(Set.of("event-1"));
+
+        // when
+        consumer.consume(records(event), ack);
+
+        // then
+        assertThat(consumer.batches).isEmpty();
+        assertThat(consumer.handled).containsExactly(event);
+        verify(ack, times(1)).acknowledge();
+    }
+
+    @DisplayName("파싱에 실패한 메시지는 선점하지 않고 DLQ 로 보낸다.")
+    @Test
+    void sendUnparsableMessageToDeadLetterQueue() {
+        // given
+        byte[] message = {1, 2, 3};
+        when(dataSerializer.deserialize(message, Event.class)).thenReturn(null);
+        when(dataSerializer.toText(message)).thenReturn("broken");
+        when(dataSerializer.serialize(eq(DEAD_LETTER_TOPIC), any(Event.class))).thenReturn(new byte[0]);
+        when(kafkaTemplate.send(eq(DEAD_LETTER_TOPIC), any(byte[].class))).thenReturn(new CompletableFuture<>());
+
+        // when
+        consumer.consume(List.of(new ConsumerRecord<>("crypto-settlement", 0, 0L, "1", message)), ack);
+
+        // then
+        verify(kafkaTemplate, times(1)).send(eq(DEAD_LETTER_TOPIC), any(byte[].class));
+        verifyNoInteractions(processedEventStore);
+        assertThat(consumer.batches).isEmpty();
+        assertThat(consumer.handled).isEmpty();
+        verify(ack, times(1)).acknowledge();
+    }
+
+    private List<ConsumerRecord<String, byte[]>> records(Event... events) {
+        List<ConsumerRecord<String, byte[]>> records = new ArrayList<>();
+        for (Event event : events) {
+            byte[] message = event.getEventId().getBytes();
+            lenient().when(dataSerializer.deserialize(message, Event.class)).thenReturn(event);
+            records.add(new ConsumerRecord<>("crypto-settlement", 0, records.size(), "1", message));
+        }
+        return records;
+    }
+
+    private static Event event(String eventId) {
+        return Event.of(eventId, REFUND_LOCKED_BALANCE, RefundPayload.builder().userId(1L).build());
+    }
+
+    private class TestConsumer extends BatchEventConsumer {
+
+        private final List<List<Event>> batches = new ArrayList<>();
+        private final List<Event> handled = new ArrayList<>();
+        private final List<Event> failed = new ArrayList<>();
+        private boolean failBatch;
+        private String failingEventId;
+
+        TestConsumer() {
+            super(dataSerializer, kafkaTemplate, processedEventStore, DEAD_LETTER_TOPIC, FAIL_SETTLEMENT_EVENT);
+        }
+
+        void consume(List<ConsumerRecord<String, byte[]>> records, Acknowledgment ack) {
+            consume(records, ack, "FAILED", inBatchTransaction(this::handleBatch, this::handleEvent));
+        }
+
+        @Override
+        protected void onFailure(Event event, Exception cause) {
+            failed.add(event);
+        }
+
+        private void handleBatch(List<Event> events) {
+            batches.add(List.copyOf(events));
+            if (failBatch) {
+                throw new IllegalStateException("batch rolled back");
+            }
+        }
+
+        private void handleEvent(Event event) {
+            if (event.getEventId().equals(failingEventId)) {
+                throw new IllegalStateException("event failed");
+            }
+            handled.add(event);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package crypto.event.consumer;
+
+import crypto.event.Event;
+import crypto.event.payload.RefundPayload;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static crypto.event.EventType.REFUND_LOCKED_BALANCE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+
+class KeyedEventExecutorTest {
+
+    private KeyedEventExecutor keyedEventExecutor;
+
+    @AfterEach
+    void tearDown() {
+        keyedEventExecutor.close();
+    }
+
+    @DisplayName("키가 다른 이벤트는 여러 레인으로 나눠 처리하고, 같은 키의 이벤트는 배치 순서대로 처리한다.")
+    @Test
+    void executeByKey() {
+        // given
+        keyedEventExecutor = new KeyedEventExecutor(4);
+        List<Event> events = new ArrayList<>();
+        for (long i = 0; i < 40; i++) {
+            events.add(event(i % 8));
+        }
+        Map<String, List<String>> processedByKey = new ConcurrentHashMap<>();
+        List<String> threads = Collections.synchronizedList(new ArrayList<>());
+
+        // when
+        List<EventFailure> failures = keyedEventExecutor.execute(events, KeyedEventExecutorTest::keyOf, laneEvents -> {
+            threads.add(Thread.currentThread().getName());
+            for (Event event : laneEvents) {
+                processedByKey.computeIfAbsent(keyOf(event), key -> Collections.synchronizedList(new ArrayList<>())).add(event.getEventId());
+            }
+            return List.of();
+        });
+
+        // then
+        assertThat(failures).isEmpty();
+        assertThat(threads.size()).isGreaterThan(1);
+        assertThat(processedByKey).hasSize(8);
+        processedByKey.forEach((key, eventIds) -> assertThat(eventIds).isEqualTo(events.stream()
+                .filter(event -> keyOf(event).equals(key))
+                .map(Event::getEventId)
+                .toList()));
+    }
+
+    @DisplayName("레인이 예외로 끝나면 그 레인의 이벤트만 실패로 돌려준다.")
+    @Test
+    void executeLaneFailure() {
+        // given
+        keyedEventExecutor = new KeyedEventExecutor(2);
+        Event first = event(0L);
+        Event second = event(1L);
+        String failingKey = keyOf(second);
+
+        // when
+        List<EventFailure> failures = keyedEventExecutor.execute(List.of(first, second), KeyedEventExecutorTest::keyOf, laneEvents -> {
+            if (keyOf(laneEvents.get(0)).equals(failingKey)) {
+                throw new IllegalStateException("lane failed");
+            }
+            return List.of();
+        });
+
+        // then
+        assertThat(failures).extracting(EventFailure::event).containsExactly(second);
+    }
+
+    @DisplayName("레인이 하나면 리스너 스레드에서 배치를 그대로 처리한다.")
+    @Test
+    void executeSingleLane() {
+        // given
+        keyedEventExecutor = new KeyedEventExecutor(1);
+        List<Event> events = List.of(event(0L), event(1L));
+        List<String> threads = new ArrayList<>();
+
+        // when
+        keyedEventExecutor.execute(events, KeyedEventExecutorTest::keyOf, laneEvents -> {
+            threads.add(Thread.currentThread().getName());
+            return List.of();
+        });
+
+        // then
+        assertThat(threads).containsExactly(Thread.currentThread().getName());
+    }
+
+    private static Event event(Long userId) {
+        return Event.of(UUID.randomUUID().toString(), REFUND_LOCKED_BALANCE,
+                RefundPayload.builder().userId(userId).build());
+    }
+
+    private static String keyOf(Event event) {
+        return String.valueOf(event.getPayload(RefundPayload.class).userId());
+    }
+}
@@ -0,0 +1,79 @@
+package crypto.event.consumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+
+@ExtendWith(MockitoExtension.class)
+class TieredProcessedEventStoreTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    private TieredProcessedEventStore processedEventStore;
+
+    @BeforeEach
+    void setUp() {
+        processedEventStore = new TieredProcessedEventStore(redisTemplate, "test::event::%s::event-id", Duration.ofDays(7), 2) {
+        };
+    }
+
+    @DisplayName("배치의 eventId 를 한 번의 파이프라인으로 선점하고, Redis 에 이미 있는 eventId 는 제외한다.")
+    @Test
+    void claimAll() {
+        // given
+        when(redisTemplate.executePipelined(any(RedisCallback.class))).thenReturn(List.of(true, false));
+
+        // when
+        Set<String> claimed = processedEventStore.claimAll(List.of("event-1", "event-2"));
+
+        // then
+        assertThat(claimed).containsExactly("event-1");
+        verify(redisTemplate, times(1)).executePipelined(any(RedisCallback.class));
+    }
+
+    @DisplayName("최근에 본 eventId 만 있는 배치는 Redis 에 묻지 않고 중복으로 본다.")
+    @Test
+    void claimAllFromLocalCache() {
+        // given
+        when(redisTemplate.executePipelined(any(RedisCallback.class))).thenReturn(List.of(true));
+        processedEventStore.claimAll(List.of("event-1"));
+
+        // when
+        Set<String> claimed = processedEventStore.claimAll(List.of("event-1"));
+
+        // then
+        assertThat(claimed).isEmpty();
+        verify(redisTemplate, times(1)).executePipelined(any(RedisCallback.class));
+    }
+
+    @DisplayName("선점을 풀면 로컬 캐시에서도 지워 다시 선점할 수 있다.")
+    @Test
+    void releaseAll() {
+        // given
+        when(redisTemplate.executePipelined(any(RedisCallback.class))).thenReturn(List.of(true));
+        processedEventStore.claimAll(List.of("event-1"));
+
+        // when
+        processedEventStore.releaseAll(List.of("event-1"));
+        Set<String> claimed = processedEventStore.claimAll(List.of("event-1"));
+
+        // then
+        assertThat(claimed).containsExactly("event-1");
+        verify(redisTemplate).delete(List.of("test::event::event-1::event-id"));
+    }
+}
@@ -1,23 +1,25 @@
 package crypto.event.eventsender;
 
 import crypto.dataserializer.DataSerializer;
-import crypto.event.payload.EventPayload;
+import crypto.event.EventKeyStrategy;
+import crypto.event.outbox.EventOutbox;
+import crypto.event.payload.OrderPayload;
 
 import org.apache.kafka.clients.producer.ProducerRecord;
 import org.apache.kafka.clients.producer.RecordMetadata;
 import org.apache.kafka.common.KafkaException;
 import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
-import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.SendResult;
 
+import java.nio.charset.StandardCharsets;
 import java.util.concurrent.CompletableFuture;
 
 import static crypto.event.EventType.LIMIT_BUY_ORDER_CREATE;
@@ -29,20 +31,26 @@ import static org.mockito.Mockito.*;
 class OrderEventSenderTest {
 
     @Mock
-    private KafkaTemplate<String, String> kafkaTemplate;
+    private KafkaTemplate<String, byte[]> kafkaTemplate;
 
     @Mock
     private DataSerializer dataSerializer;
 
-    @Spy
-    @InjectMocks
+    @Mock
+    private EventOutbox eventOutbox;
+
     private OrderEventSender orderEventSender;
 
-    @DisplayName("메시지 전송 성공 시, 성공 로그를 기록하고 DLQ로 보내지 않는다.")
+    @BeforeEach
+    void setUp() {
+        orderEventSender = spy(new OrderEventSender(kafkaTemplate, dataSerializer, eventOutbox, EventKeyStrategy.SYMBOL));
+    }
+
+    @DisplayName("메시지 전송 성공 시, 심볼을 키로 보내고 DLQ로 보내지 않는다.")
     @Test
     void sendSuccess() {
         // given
-        EventPayload payload = EventPayload.builder()
+        OrderPayload payload = OrderPayload.builder()
                 .userId(42L)
                 .symbol("BTC")
                 .build();
@@ -54,27 +62,30 @@ class OrderEventSenderTest {
                         "\"userId\":42," +
                         "\"symbol\":\"BTC\"," +
                         "}}";
+        byte[] messageBytes = message.getBytes(StandardCharsets.UTF_8);
 
-        when(dataSerializer.serialize(any())).thenReturn(message);
+        when(dataSerializer.serialize(anyString(), any())).thenReturn(messageBytes);
 
         RecordMetadata recordMetadata = new RecordMetadata(new TopicPartition(
                 LIMIT_BUY_ORDER_CREATE.getTopic(), 0), 0, 0, 0, 0, 0
         );
-        SendResult<String, String> sendResult = new SendResult<>(new ProducerRecord<>(LIMIT_BUY_ORDER_CREATE.getTopic(), message), recordMetadata);
-        CompletableFuture<SendResult<String, String>> future = CompletableFuture.completedFuture(sendResult);
+        SendResult<String, byte[]> sendResult = new SendResult<>(new ProducerRecord<>(LIMIT_BUY_ORDER_CREATE.getTopic(), "BTC", messageBytes), recordMetadata);
+        CompletableFuture<SendResult<String, byte[]>> future = CompletableFuture.completedFuture(sendResult);
 
-        when(kafkaTemplate.send(anyString(), anyString())).thenReturn(future);
+        when(kafkaTemplate.send(anyString(), anyString(), any(byte[].class))).thenReturn(future);
 
         // when
         orderEventSender.send(LIMIT_BUY_ORDER_CREATE, payload);
 
         // then
         ArgumentCaptor<String> topicCaptor = ArgumentCaptor.forClass(String.class);
-        ArgumentCaptor<String> messageCaptor = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<String> keyCaptor = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<byte[]> messageCaptor = ArgumentCaptor.forClass(byte[].class);
 
-        verify(kafkaTemplate, timeout(1000)).send(topicCaptor.capture(), messageCaptor.capture());
+        verify(kafkaTemplate, timeout(1000)).send(topicCaptor.capture(), keyCaptor.capture(), messageCaptor.capture());
         assertThat(LIMIT_BUY_ORDER_CREATE.getTopic()).isEqualTo(topicCaptor.getValue());
-        assertThat(message).isEqualTo(messageCaptor.getValue());
+        assertThat(keyCaptor.getValue()).isEqualTo("BTC");
+        assertThat(messageBytes).isEqualTo(messageCaptor.getValue());
 
         verify(orderEventSender, never()).sendToDeadLetterQueue(anyString(), anyString());
     }
@@ -83,7 +94,7 @@ class OrderEventSenderTest {
     @Test
     void sendFailure() {
         // given
-        EventPayload payload = EventPayload.builder()
+        OrderPayload payload = OrderPayload.builder()
                 .userId(42L)
                 .symbol("BTC")
                 .build();
@@ -95,14 +106,16 @@ class OrderEventSenderTest {
                         "\"userId\":42," +
                         "\"symbol\":\"BTC\"," +
                         "}}";
+        byte[] messageBytes = message.getBytes(StandardCharsets.UTF_8);
 
-        when(dataSerializer.serialize(any())).thenReturn(message);
+        when(dataSerializer.serialize(anyString(), any())).thenReturn(messageBytes);
 
         KafkaException kafkaException = new KafkaException("Failed to connect to Kafka broker");
-        CompletableFuture<SendResult<String, String>> failedFuture = new CompletableFuture<>();
+        CompletableFuture<SendResult<String, byte[]>> failedFuture = new CompletableFuture<>();
         failedFuture.completeExceptionally(kafkaException);
 
-        when(kafkaTemplate.send(anyString(), anyString())).thenReturn(failedFuture);
+        when(kafkaTemplate.send(anyString(), anyString(), any(byte[].class))).thenReturn(failedFuture);
+        when(dataSerializer.toText(messageBytes)).thenReturn(message);
 
         // when
         orderEventSender.send(LIMIT_BUY_ORDER_CREATE, payload);
@@ -113,4 +126,25 @@ class OrderEventSenderTest {
                 eq("ERROR_SENDING_ORDER_EVENT")
         );
     }
-}
\ No newline at end of file
+
+    @DisplayName("트랜잭션 안에서 아웃박스에 기록되면 카프카로 바로 보내지 않는다.")
+    @Test
+    void sendThroughOutbox() {
+        // given
+        OrderPayload payload = OrderPayload.builder()
+                .userId(42L)
+                .symbol("BTC")
+                .build();
+        byte[] messageBytes = new byte[]{1, 2, 3};
+
+        when(dataSerializer.serialize(anyString(), any())).thenReturn(messageBytes);
+        when(eventOutbox.append(LIMIT_BUY_ORDER_CREATE.getTopic(), "BTC", messageBytes)).thenReturn(true);
+
+        // when
+        orderEventSender.send(LIMIT_BUY_ORDER_CREATE, payload);
+
+        // then
+        verify(eventOutbox).append(LIMIT_BUY_ORDER_CREATE.getTopic(), "BTC", messageBytes);
+        verifyNoInteractions(kafkaTemplate);
+    }
+}
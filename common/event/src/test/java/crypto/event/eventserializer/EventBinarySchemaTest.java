@@ -0,0 +1,153 @@
+package crypto.event.eventserializer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import crypto.common.fixedpoint.Amount;
+import crypto.common.fixedpoint.Price;
+import crypto.common.fixedpoint.Quantity;
+import crypto.dataserializer.DataSerializer;
+import crypto.event.Event;
+import crypto.event.TimeInForce;
+import crypto.event.payload.OrderPayload;
+import crypto.event.payload.RefundPayload;
+import crypto.event.payload.SettlementPayload;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import static crypto.event.EventType.*;
+import static crypto.event.EventType.Topic.*;
+import static org.assertj.core.api.Assertions.*;
+
+
+class EventBinarySchemaTest {
+
+    DataSerializer dataSerializer;
+
+    @BeforeEach
+    void setUp() {
+        this.dataSerializer = new DataSerializer(new ObjectMapper(), List.of(new EventBinarySchema()), Set.of(CRYPTO_SETTLEMENT));
+    }
+
+    @DisplayName("바이너리 토픽의 Event 는 버전 바이트로 시작하는 바이너리로 직렬화되고, 같은 값으로 역직렬화된다.")
+    @Test
+    void binaryRoundTrip() {
+        // given
+        SettlementPayload payload = SettlementPayload.builder()
+                .orderId(7_312_345_678_901_234L)
+                .tradeId(7_312_345_678_901_235L)
+                .takerOrderId(11L)
+                .makerOrderId(12L)
+                .takerId(42L)
+                .makerId(43L)
+                .takerTotalUsed(Amount.of("50020.12345678"))
+                .makerTotalUsed(Amount.of("50020"))
+                .matchedQuantity(Quantity.of("1.5"))
+                .symbol("BTC")
+                .build();
+        Event event = Event.of("a1b2c3d4-e5f6-7890-1234-567890ab1def", BUY_ORDER_SETTLEMENT, payload);
+
+        // when
+        byte[] message = dataSerializer.serialize(CRYPTO_SETTLEMENT, event);
+        Event deserializedEvent = dataSerializer.deserialize(message, Event.class);
+
+        // then
+        assertThat(message[0]).isEqualTo(DataSerializer.BINARY_VERSION);
+        assertThat(message.length).isLessThan(dataSerializer.serialize(event).getBytes(StandardCharsets.UTF_8).length / 3);
+
+        assertThat(deserializedEvent.getEventId()).isEqualTo(event.getEventId());
+        assertThat(deserializedEvent.getType()).isEqualTo(BUY_ORDER_SETTLEMENT);
+        assertThat(deserializedEvent.getPayload())
+                .usingRecursiveComparison()
+                .isEqualTo(payload);
+    }
+
+    @DisplayName("사전에 없는 심볼, UUID 가 아닌 이벤트 ID, 문자열 필드도 그대로 복원된다.")
+    @Test
+    void binaryRoundTripWithInlineValues() {
+        // given
+        OrderPayload payload = OrderPayload.builder()
+                .userId(42L)
+                .symbol("NEWCOIN")
+                .price(Price.of("0.00000001"))
+                .quantity(Quantity.of("10"))
+                .orderSide("BUY")
+                .build();
+        Event event = Event.of("retry-1", LIMIT_BUY_ORDER_CREATE, payload);
+
+        // when
+        Event deserializedEvent = dataSerializer.deserialize(dataSerializer.serialize(CRYPTO_SETTLEMENT, event), Event.class);
+
+        // then
+        assertThat(deserializedEvent.getEventId()).isEqualTo("retry-1");
+        assertThat(deserializedEvent.getPayload())
+                .usingRecursiveComparison()
+                .isEqualTo(payload);
+    }
+
+    @DisplayName("스톱 주문의 발동 가격과 유효 조건도 바이너리로 복원된다.")
+    @Test
+    void binaryRoundTripStopOrder() {
+        // given
+        OrderPayload payload = OrderPayload.builder()
+                .orderId(7_312_345_678_901_234L)
+                .userId(42L)
+                .symbol("BTC")
+                .price(Price.of("49000"))
+                .quantity(Quantity.of("0.5"))
+                .orderSide("SELL")
+                .timeInForce(TimeInForce.IOC)
+                .triggerPrice(Price.of("49500"))
+                .build();
+        Event event = Event.of("a1b2c3d4-e5f6-7890-1234-567890ab1def", STOP_ORDER_TRADE, payload);
+
+        // when
+        Event deserializedEvent = dataSerializer.deserialize(dataSerializer.serialize(CRYPTO_SETTLEMENT, event), Event.class);
+
+        // then
+        assertThat(deserializedEvent.getType()).isEqualTo(STOP_ORDER_TRADE);
+        assertThat(deserializedEvent.getPayload())
+                .usingRecursiveComparison()
+                .isEqualTo(payload);
+    }
+
+    @DisplayName("바이너리로 설정되지 않은 토픽은 JSON 으로 직렬화되고, 역직렬화는 첫 바이트로 형식을 판별한다.")
+    @Test
+    void jsonForOtherTopics() {
+        // given
+        Event event = Event.of("a1b2c3d4-e5f6-7890-1234-567890ab1def", REFUND_LOCKED_BALANCE, RefundPayload.builder()
+                .userId(42L)
+                .totalRemainPrice(Amount.of("100"))
+                .build());
+
+        // when
+        byte[] message = dataSerializer.serialize(CRYPTO_SETTLEMENT_DLQ, event);
+        Event deserializedEvent = dataSerializer.deserialize(message, Event.class);
+
+        // then
+        assertThat(dataSerializer.toText(message)).startsWith("{");
+        assertThat(deserializedEvent.getPayload(RefundPayload.class).totalRemainPrice()).isEqualTo(Amount.of("100"));
+    }
+
+    @DisplayName("잘린 바이너리 메시지는 역직렬화 시 null 을 반환한다.")
+    @Test
+    void truncatedBinary() {
+        // given
+        Event event = Event.of("a1b2c3d4-e5f6-7890-1234-567890ab1def", REFUND_LOCKED_BALANCE, RefundPayload.builder()
+                .userId(42L)
+                .build());
+        byte[] message = dataSerializer.serialize(CRYPTO_SETTLEMENT, event);
+
+        // when
+        Event deserializedEvent = dataSerializer.deserialize(Arrays.copyOf(message, message.length - 1), Event.class);
+
+        // then
+        assertThat(deserializedEvent).isNull();
+    }
+}
@@ -2,16 +2,18 @@ package crypto.event.eventserializer;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import crypto.common.fixedpoint.Price;
+import crypto.common.fixedpoint.Quantity;
 import crypto.dataserializer.DataSerializer;
 import crypto.event.Event;
-import crypto.event.payload.EventPayload;
+import crypto.event.payload.CancelPayload;
+import crypto.event.payload.OrderPayload;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import static crypto.event.EventType.*;
-import static java.math.BigDecimal.valueOf;
 import static org.assertj.core.api.Assertions.*;
 
 
@@ -45,11 +47,11 @@ public class EventSerializerTest {
         assertThat(event.getEventId()).isEqualTo("a1b2c3d4-e5f6-7890-1234-567890ab1def");
         assertThat(event.getType()).isEqualTo(LIMIT_BUY_ORDER_CREATE);
 
-        EventPayload payload = event.getPayload();
-        assertThat(payload.getUserId()).isEqualTo(42L);
-        assertThat(payload.getSymbol()).isEqualTo("BTC");
-        assertThat(payload.getPrice()).isEqualTo(valueOf(50000));
-        assertThat(payload.getQuantity()).isEqualTo(valueOf(10));
+        OrderPayload payload = event.getPayload(OrderPayload.class);
+        assertThat(payload.userId()).isEqualTo(42L);
+        assertThat(payload.symbol()).isEqualTo("BTC");
+        assertThat(payload.price()).isEqualTo(Price.of("50000"));
+        assertThat(payload.quantity()).isEqualTo(Quantity.of("10"));
     }
 
     @DisplayName("Event 객체를 json 문자열로 직렬화 한다.")
@@ -58,11 +60,11 @@ public class EventSerializerTest {
         // given
         String eventId = "a1b2c3d4-e5f6-7890-1234-567890ab1def";
 
-        EventPayload payload = EventPayload.builder()
+        OrderPayload payload = OrderPayload.builder()
                 .userId(42L)
                 .symbol("BTC")
-                .price(valueOf(50000))
-                .quantity(valueOf(10))
+                .price(Price.of("50000"))
+                .quantity(Quantity.of("10"))
                 .build();
 
         Event event = Event.of(eventId, LIMIT_BUY_ORDER_CREATE, payload);
@@ -76,10 +78,46 @@ public class EventSerializerTest {
 
         assertThat(deserializedEvent.getEventId()).isEqualTo(event.getEventId());
         assertThat(deserializedEvent.getType()).isEqualTo(event.getType());
-        assertThat(deserializedEvent.getPayload().getUserId()).isEqualTo(event.getPayload().getUserId());
-        assertThat(deserializedEvent.getPayload().getSymbol()).isEqualTo(event.getPayload().getSymbol());
-        assertThat(deserializedEvent.getPayload().getPrice()).isEqualTo(event.getPayload().getPrice());
-        assertThat(deserializedEvent.getPayload().getQuantity()).isEqualTo(event.getPayload().getQuantity());
+        assertThat(deserializedEvent.getPayload()).isEqualTo(payload);
+    }
+
+    @DisplayName("payload 가 type 보다 먼저 와도 이벤트 타입이 정한 페이로드 타입으로 역직렬화 한다.")
+    @Test
+    void deserializePayloadBeforeType() {
+        // given
+        String message =
+                "{\"payload\":{" +
+                        "\"orderId\":7," +
+                        "\"failMessage\":\"체결 실패\"" +
+                        "}," +
+                        "\"eventId\":\"a1b2c3d4-e5f6-7890-1234-567890ab1def\"," +
+                        "\"type\":\"ORDER_CANCEL_EVENT\"}";
+
+        // when
+        Event event = dataSerializer.deserialize(message, Event.class);
+
+        // then
+        assertThat(event.getType()).isEqualTo(ORDER_CANCEL_EVENT);
+        assertThat(event.getPayload()).isEqualTo(CancelPayload.builder()
+                .orderId(7L)
+                .failMessage("체결 실패")
+                .build());
+    }
+
+    @DisplayName("이벤트 타입과 맞지 않는 페이로드 필드가 있으면 null을 반환한다.")
+    @Test
+    void deserializeMismatchedPayload() {
+        // given
+        String message =
+                "{\"eventId\":\"a1b2c3d4-e5f6-7890-1234-567890ab1def\"," +
+                        "\"type\":\"REFUND_LOCKED_BALANCE\"," +
+                        "\"payload\":{\"orderSide\":\"BUY\"}}";
+
+        // when
+        Event event = dataSerializer.deserialize(message, Event.class);
+
+        // then
+        assertThat(event).isNull();
     }
 
     @DisplayName("유효하지 않은 json 문자열 역직렬화 시 null을 반환한다.")
@@ -0,0 +1,81 @@
+package crypto.event.marketdata;
+
+import crypto.common.fixedpoint.Price;
+import crypto.common.fixedpoint.Quantity;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static crypto.event.marketdata.DepthMessageType.*;
+import static org.assertj.core.api.Assertions.*;
+
+
+class LocalDepthBookTest {
+
+    private LocalDepthBook depthBook;
+
+    @BeforeEach
+    void setUp() {
+        depthBook = new LocalDepthBook("BTC");
+    }
+
+    @DisplayName("스냅샷 이후 연속된 diff 는 가격대 잔량을 갱신하고, 잔량 0 인 가격대는 제거한다.")
+    @Test
+    void applyDiffAfterSnapshot() {
+        // given
+        depthBook.apply(message(SNAPSHOT, 5L, List.of(level("1000", "2"), level("990", "1")), List.of(level("1010", "3"))));
+
+        // when
+        boolean applied = depthBook.apply(message(DIFF, 6L, List.of(level("1000", "0"), level("995", "4")), List.of()));
+
+        // then
+        assertThat(applied).isTrue();
+        assertThat(depthBook.getSequence()).isEqualTo(6L);
+        assertThat(depthBook.getBids()).containsExactly(
+                entry(Price.of("995"), Quantity.of("4")),
+                entry(Price.of("990"), Quantity.of("1")));
+        assertThat(depthBook.getAsks()).containsOnlyKeys(Price.of("1010"));
+    }
+
+    @DisplayName("시퀀스가 끊긴 diff 는 버리고 다음 스냅샷을 받을 때까지 동기화되지 않은 상태로 남는다.")
+    @Test
+    void detectSequenceGap() {
+        // given
+        depthBook.apply(message(SNAPSHOT, 5L, List.of(level("1000", "2")), List.of()));
+
+        // when
+        boolean gapApplied = depthBook.apply(message(DIFF, 7L, List.of(level("1000", "1")), List.of()));
+        boolean nextApplied = depthBook.apply(message(DIFF, 8L, List.of(level("1000", "3")), List.of()));
+        boolean snapshotApplied = depthBook.apply(message(SNAPSHOT, 9L, List.of(level("1000", "3")), List.of()));
+
+        // then
+        assertThat(gapApplied).isFalse();
+        assertThat(nextApplied).isFalse();
+        assertThat(snapshotApplied).isTrue();
+        assertThat(depthBook.isSynced()).isTrue();
+        assertThat(depthBook.getBids()).containsExactly(entry(Price.of("1000"), Quantity.of("3")));
+    }
+
+    @DisplayName("스냅샷을 받기 전의 diff 는 적용하지 않는다.")
+    @Test
+    void ignoreDiffBeforeSnapshot() {
+        // when
+        boolean applied = depthBook.apply(message(DIFF, 1L, List.of(level("1000", "1")), List.of()));
+
+        // then
+        assertThat(applied).isFalse();
+        assertThat(depthBook.isSynced()).isFalse();
+        assertThat(depthBook.getBids()).isEmpty();
+    }
+
+    private DepthMessage message(DepthMessageType type, long sequence, List<DepthLevel> bids, List<DepthLevel> asks) {
+        return new DepthMessage("BTC", type, sequence, bids, asks, 0L);
+    }
+
+    private DepthLevel level(String price, String quantity) {
+        return new DepthLevel(Price.of(price), Quantity.of(quantity));
+    }
+}
@@ -0,0 +1,127 @@
+package crypto.event.outbox;
+
+import org.apache.kafka.common.KafkaException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTest {
+
+    @Mock
+    private OutboxStore outboxStore;
+
+    @Mock
+    private ObjectProvider<OutboxStore> outboxStoreProvider;
+
+    @Mock
+    private KafkaTemplate<String, byte[]> kafkaTemplate;
+
+    @Mock
+    private ObjectProvider<PlatformTransactionManager> transactionManagerProvider;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private SendResult<String, byte[]> sendResult;
+
+    private OutboxRelay outboxRelay;
+
+    @BeforeEach
+    void setUp() {
+        when(outboxStoreProvider.getIfAvailable()).thenReturn(outboxStore);
+        when(transactionManagerProvider.getObject()).thenReturn(transactionManager);
+        outboxRelay = new OutboxRelay(outboxStoreProvider, transactionManagerProvider, kafkaTemplate, 10, 50L, 1000L);
+    }
+
+    @DisplayName("아웃박스 배치를 모두 발행하면 발행한 메시지를 지운다.")
+    @Test
+    void relayBatch() {
+        // given
+        OutboxMessage first = new OutboxMessage(1L, "crypto-trade", "10", new byte[]{1});
+        OutboxMessage second = new OutboxMessage(2L, "crypto-trade", "11", new byte[]{2});
+
+        when(outboxStore.findBatch(10)).thenReturn(List.of(first, second));
+        when(kafkaTemplate.send(anyString(), anyString(), any(byte[].class)))
+                .thenReturn(CompletableFuture.completedFuture(sendResult));
+
+        // when
+        int relayed = outboxRelay.relayBatch();
+
+        // then
+        assertThat(relayed).isEqualTo(2);
+        verify(kafkaTemplate).send("crypto-trade", "10", first.message());
+        verify(kafkaTemplate).send("crypto-trade", "11", second.message());
+        verify(outboxStore).deleteSent(List.of(1L, 2L));
+        verify(transactionManager, times(1)).commit(any());
+    }
+
+    @DisplayName("발행에 실패한 메시지부터는 지우지 않고 다음 배치에서 다시 보낸다.")
+    @Test
+    void relayBatchWithFailure() {
+        // given
+        OutboxMessage first = new OutboxMessage(1L, "crypto-trade", "10", new byte[]{1});
+        OutboxMessage second = new OutboxMessage(2L, "crypto-trade", "11", new byte[]{2});
+        OutboxMessage third = new OutboxMessage(3L, "crypto-trade", "12", new byte[]{3});
+
+        when(outboxStore.findBatch(10)).thenReturn(List.of(first, second, third));
+        when(kafkaTemplate.send(anyString(), anyString(), any(byte[].class)))
+                .thenReturn(CompletableFuture.completedFuture(sendResult))
+                .thenReturn(CompletableFuture.failedFuture(new KafkaException("broker unavailable")))
+                .thenReturn(CompletableFuture.completedFuture(sendResult));
+
+        // when
+        int relayed = outboxRelay.relayBatch();
+
+        // then
+        assertThat(relayed).isNegative();
+        verify(outboxStore).deleteSent(List.of(1L));
+    }
+
+    @DisplayName("아웃박스가 비어 있으면 아무것도 보내지 않는다.")
+    @Test
+    void relayEmptyBatch() {
+        // given
+        when(outboxStore.findBatch(10)).thenReturn(List.of());
+
+        // when
+        int relayed = outboxRelay.relayBatch();
+
+        // then
+        assertThat(relayed).isZero();
+        verifyNoInteractions(kafkaTemplate);
+        verify(outboxStore, never()).deleteSent(anyList());
+    }
+
+    @DisplayName("멈춘 릴레이를 다시 시작할 수 있다.")
+    @Test
+    void restartAfterStop() {
+        // given
+        lenient().when(outboxStore.findBatch(10)).thenReturn(List.of());
+        outboxRelay.start();
+        outboxRelay.stop();
+
+        // when
+        outboxRelay.start();
+
+        // then
+        assertThat(outboxRelay.isRunning()).isTrue();
+        outboxRelay.stop();
+        assertThat(outboxRelay.isRunning()).isFalse();
+    }
+}
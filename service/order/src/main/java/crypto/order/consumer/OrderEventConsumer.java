@@ -1,118 +1,51 @@
 package crypto.order.consumer;
 
 import crypto.dataserializer.DataSerializer;
-import crypto.event.Event;
-import crypto.event.payload.EventPayload;
+import crypto.event.consumer.BatchEventConsumer;
+import crypto.event.consumer.KeyedEventExecutor;
+import crypto.order.repository.order.OrderProcessedEventRepository;
 import crypto.order.service.order.OrderEventService;
 
-import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
-
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.stereotype.Component;
 
-import java.util.UUID;
+import java.util.List;
 
 import static crypto.event.EventType.FAIL_ORDER_EVENT;
 import static crypto.event.EventType.Topic;
 
 
-@Slf4j
 @Component
-@RequiredArgsConstructor
-public class OrderEventConsumer {
+public class OrderEventConsumer extends BatchEventConsumer {
 
-    private final DataSerializer dataSerializer;
-    private final KafkaTemplate<String, String> kafkaTemplate;
     private final OrderEventService orderEventService;
 
-    @KafkaListener(topics = Topic.CRYPTO_ORDER, groupId = "crypto-order", id = "orderListener")
-    public void listen(String message, Acknowledgment ack) {
-        log.info("[OrderEventConsumer.listen] received message={}", message);
-        Event event = dataSerializer.deserialize(message, Event.class);
-
-        if (event == null) {
-            log.error("[OrderEventConsumer.listen] Failed to parse event from message: message={}", message);
-            sendToDeadLetterQueue(message, "EVENT_IS_NULL_AFTER_PARSING");
-            ack.acknowledge();
-            return;
-        }
-
-        try {
-            orderEventService.handleEvent(event);
-            ack.acknowledge();
-        } catch (Exception e) {
-            log.error("[OrderEventConsumer.listen] Error processing order event: event={}, message={}, error={}", event, message, e.getMessage(), e);
-            sendToDeadLetterQueue(message, "ERROR_PROCESSING_ORDER_EVENT");
-            ack.acknowledge();
-        }
+    public OrderEventConsumer(DataSerializer dataSerializer, KafkaTemplate<String, byte[]> kafkaTemplate,
+                              OrderProcessedEventRepository orderProcessedEventRepository, OrderEventService orderEventService,
+                              KeyedEventExecutor keyedEventExecutor) {
+        super(dataSerializer, kafkaTemplate, orderProcessedEventRepository, Topic.CRYPTO_ORDER_DLQ, FAIL_ORDER_EVENT, keyedEventExecutor);
+        this.orderEventService = orderEventService;
     }
 
-    @KafkaListener(topics = Topic.CRYPTO_ORDER_CANCEL, groupId = "crypto-order-cancel", id = "orderFailListener")
-    public void listenFailEvent(String message, Acknowledgment ack) {
-        log.info("[OrderEventConsumer.listenFailEvent] received message={}", message);
-        Event event = dataSerializer.deserialize(message, Event.class);
-
-        if (event == null) {
-            log.error("[OrderEventConsumer.listenFailEvent] Failed to parse event from message: message={}", message);
-            sendToDeadLetterQueue(message, "EVENT_IS_NULL_AFTER_PARSING");
-            ack.acknowledge();
-            return;
-        }
-
-        try {
-            orderEventService.handleFailEvent(event);
-            ack.acknowledge();
-        } catch (Exception e) {
-            log.error("[OrderEventConsumer.listenFailEvent] Error processing order event: event={}, message={}, error={}", event, message, e.getMessage(), e);
-            sendToDeadLetterQueue(message, "ERROR_PROCESSING_ORDER_EVENT");
-            ack.acknowledge();
-        }
+    @KafkaListener(topics = Topic.CRYPTO_ORDER, groupId = "crypto-order", id = "orderListener", batch = "true",
+            concurrency = "${crypto.event.partitions.crypto-order:1}")
+    public void listen(List<ConsumerRecord<String, byte[]>> records, Acknowledgment ack) {
+        consume(records, ack, "ERROR_PROCESSING_ORDER_EVENT",
+                inBatchTransaction(orderEventService::handleEvents, orderEventService::handleEvent));
     }
 
-    @KafkaListener(topics = Topic.CRYPTO_ORDER_COMPLETE, groupId = "crypto-order-complete", id = "orderCompleteListener")
-    public void listenCompleteEvent(String message, Acknowledgment ack) {
-        log.info("[OrderEventConsumer.listenCompleteEvent] received message={}", message);
-        Event event = dataSerializer.deserialize(message, Event.class);
-
-        if (event == null) {
-            log.error("[OrderEventConsumer.listenCompleteEvent] Failed to parse event from message: message={}", message);
-            sendToDeadLetterQueue(message, "EVENT_IS_NULL_AFTER_PARSING");
-            ack.acknowledge();
-            return;
-        }
-
-        try {
-            orderEventService.handleCompleteEvent(event);
-            ack.acknowledge();
-        } catch (Exception e) {
-            log.error("[OrderEventConsumer.listenCompleteEvent] Error processing order event: event={}, message={}, error={}", event, message, e.getMessage(), e);
-            sendToDeadLetterQueue(message, "ERROR_PROCESSING_ORDER_EVENT");
-            ack.acknowledge();
-        }
+    @KafkaListener(topics = Topic.CRYPTO_ORDER_CANCEL, groupId = "crypto-order-cancel", id = "orderFailListener", batch = "true")
+    public void listenFailEvent(List<ConsumerRecord<String, byte[]>> records, Acknowledgment ack) {
+        consume(records, ack, "ERROR_PROCESSING_ORDER_EVENT",
+                inBatchTransaction(orderEventService::handleFailEvents, orderEventService::handleFailEvent));
     }
 
-    public void sendToDeadLetterQueue(String originalMessage, String failMessage) {
-        String dlqTopic = Topic.CRYPTO_ORDER_DLQ;
-
-        EventPayload payload = EventPayload.builder()
-                .originalMessage(originalMessage)
-                .failMessage(failMessage)
-                .build();
-
-        String json = dataSerializer.serialize(Event.of(
-                UUID.randomUUID().toString(), FAIL_ORDER_EVENT, payload
-        ));
-
-        kafkaTemplate.send(dlqTopic, json)
-                .whenComplete((result, ex) -> {
-                    if (ex == null) {
-                        log.info("[OrderEventConsumer.sendToDeadLetterQueue] Successfully sent message to DLQ. topic={}, message={}", dlqTopic, originalMessage);
-                    } else {
-                        log.error("[OrderEventConsumer.sendToDeadLetterQueue] Failed to send message to DLQ. topic={}, message={}, error={}", dlqTopic, originalMessage, ex.getMessage(), ex);
-                    }
-                });
+    @KafkaListener(topics = Topic.CRYPTO_ORDER_COMPLETE, groupId = "crypto-order-complete", id = "orderCompleteListener", batch = "true")
+    public void listenCompleteEvent(List<ConsumerRecord<String, byte[]>> records, Acknowledgment ack) {
+        consume(records, ack, "ERROR_PROCESSING_ORDER_EVENT",
+                inBatchTransaction(orderEventService::handleCompleteEvents, orderEventService::handleCompleteEvent));
     }
 }
@@ -1,6 +1,7 @@
 package crypto.order.entity.order;
 
 import crypto.baseentity.BaseEntity;
+import crypto.baseentity.id.SnowflakeId;
 import crypto.order.entity.coin.Coin;
 import crypto.order.entity.order.exception.OrderCycleStatus;
 import crypto.order.entity.user.User;
@@ -29,7 +30,7 @@ import static java.math.BigDecimal.ZERO;
 public class Order extends BaseEntity {
 
     @Id @Column(name = "order_id")
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     private Long id;
 
     private BigDecimal price = ZERO;
@@ -37,6 +38,9 @@ public class Order extends BaseEntity {
     private BigDecimal marKetTotalPrice = ZERO;
     private BigDecimal marketTotalQuantity = ZERO;
 
+    // 스톱 주문의 발동 가격. 일반 주문은 null 이다.
+    private BigDecimal triggerPrice;
+
     @Enumerated(EnumType.STRING)
     private OrderType orderType;
 
@@ -112,4 +116,20 @@ public class Order extends BaseEntity {
     public void handleOrderStatus(OrderCycleStatus orderCycleStatus) {
         this.orderCycleStatus = orderCycleStatus;
     }
+
+    public void attachTrigger(BigDecimal triggerPrice) {
+        this.triggerPrice = triggerPrice;
+    }
+
+    // 체결된 수량도 포함한 전체 주문 수량으로 바꾼다.
+    public void replace(BigDecimal price, BigDecimal quantity) {
+        this.price = price;
+        this.quantity = quantity;
+    }
+
+    // 호가창에 남을 수 있는 지정가 주문과 발동 전 스톱 주문만, 이미 취소되기 전까지 취소하거나 정정할 수 있다.
+    // COMPLETE 는 체결이 한 번이라도 정산되면 붙으므로 일부만 체결되고 남은 주문도 취소할 수 있어야 한다. 호가창에 없으면 체결 애플리케이션이 거른다.
+    public boolean isCancellable() {
+        return (orderType == LIMIT || triggerPrice != null) && orderCycleStatus != CANCELLED;
+    }
 }
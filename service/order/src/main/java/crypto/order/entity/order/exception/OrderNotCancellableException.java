@@ -0,0 +1,16 @@
+package crypto.order.entity.order.exception;
+
+import crypto.common.entity.exception.BusinessException;
+import org.springframework.http.HttpStatus;
+
+public class OrderNotCancellableException extends BusinessException {
+
+    public OrderNotCancellableException() {
+        super("취소할 수 없는 주문입니다.");
+    }
+
+    @Override
+    public HttpStatus getStatus() {
+        return HttpStatus.BAD_REQUEST;
+    }
+}
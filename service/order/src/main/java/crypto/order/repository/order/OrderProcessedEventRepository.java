@@ -1,6 +1,8 @@
 package crypto.order.repository.order;
 
-import lombok.RequiredArgsConstructor;
+import crypto.event.consumer.TieredProcessedEventStore;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Repository;
 
@@ -8,24 +10,13 @@ import java.time.Duration;
 
 
 @Repository
-@RequiredArgsConstructor
-public class OrderProcessedEventRepository {
-    private final StringRedisTemplate redisTemplate;
+public class OrderProcessedEventRepository extends TieredProcessedEventStore {
 
     private static final String KEY_FORMAT = "order::event::%s::event-id";
-    private static final String PROCESSED_VALUE = "1";
     private static final Duration TTL = Duration.ofDays(7);
 
-    public Boolean setIfAbsent(String eventId) {
-        String key = generateKey(eventId);
-        return redisTemplate.opsForValue().setIfAbsent(key, PROCESSED_VALUE, TTL);
-    }
-
-    public void delete(String key) {
-        redisTemplate.delete(key);
-    }
-
-    public String generateKey(String eventId) {
-        return KEY_FORMAT.formatted(eventId);
+    public OrderProcessedEventRepository(StringRedisTemplate redisTemplate,
+                                         @Value("${crypto.idempotency.local-cache-size:100000}") int localCacheSize) {
+        super(redisTemplate, KEY_FORMAT, TTL, localCacheSize);
     }
 }
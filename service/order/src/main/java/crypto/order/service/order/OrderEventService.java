@@ -4,15 +4,16 @@ import crypto.common.time.TimeProvider;
 import crypto.event.Event;
 import crypto.event.TradeEvent;
 import crypto.event.eventsender.TradeEventSender;
-import crypto.event.payload.EventPayload;
+import crypto.event.payload.CancelPayload;
+import crypto.event.payload.OrderPayload;
 import crypto.order.entity.coin.Coin;
 import crypto.order.entity.order.Order;
 import crypto.order.entity.order.OrderProcessedEvent;
 import crypto.order.entity.order.OrderSide;
+import crypto.order.entity.order.exception.OrderNotCancellableException;
 import crypto.order.entity.order.exception.OrderNotFoundException;
 import crypto.order.entity.user.User;
 import crypto.order.repository.order.OrderProcessedEventDbRepository;
-import crypto.order.repository.order.OrderProcessedEventRepository;
 import crypto.order.repository.order.OrderRepository;
 import crypto.order.service.coin.CoinService;
 import crypto.order.service.user.UserService;
@@ -25,6 +26,8 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
 
 import static crypto.event.EventType.*;
 import static crypto.event.EventType.MARKET_SELL_ORDER_CREATE;
@@ -37,34 +40,40 @@ import static crypto.order.entity.order.exception.OrderCycleStatus.*;
 public class OrderEventService {
 
     private final TimeProvider timeProvider;
-    private final OrderProcessedEventRepository orderProcessedEventRepository;
     private final OrderProcessedEventDbRepository orderProcessedEventDbRepository;
     private final OrderRepository orderRepository;
     private final ApplicationEventPublisher eventPublisher;
     private final CoinService coinService;
     private final UserService userService;
 
+    // 배치의 이벤트를 한 트랜잭션으로 처리한다. 중복 이벤트는 컨슈머가 배치 단위로 걸러낸다.
+    @Transactional
+    public void handleEvents(List<Event> events) {
+        events.forEach(this::handleEvent);
+    }
+
     @Transactional
     public void handleEvent(Event event) {
         String eventId = event.getEventId();
-        Boolean isNewEvent = orderProcessedEventRepository.setIfAbsent(eventId);
-
-        if (!isNewEvent) {
-            log.warn("[OrderEventService.handleEvent] Duplicate event detected, skipping processing. eventId={}", eventId);
-            return;
-        }
 
         try {
-            EventPayload payload = event.getPayload();
+            OrderPayload payload = event.getPayload(OrderPayload.class);
+
+            if (event.getType() == LIMIT_ORDER_CANCEL || event.getType() == LIMIT_ORDER_REPLACE) {
+                requestModify(event, payload);
+                orderProcessedEventDbRepository.save(new OrderProcessedEvent(eventId));
+                return;
+            }
+
             LocalDateTime registeredDateTime = timeProvider.now();
-            Coin coin = coinService.getCoinOrThrow(payload.getSymbol());
-            User user = userService.getUserOrThrow(payload.getUserId());
+            Coin coin = coinService.getCoinOrThrow(payload.symbol());
+            User user = userService.getUserOrThrow(payload.userId());
             Order order = createOrderFromEvent(event, coin, user, registeredDateTime);
 
             if (order != null) {
                 orderRepository.save(order);
 
-                EventPayload tradePayload = createTradePayload(order, payload);
+                OrderPayload tradePayload = createTradePayload(order, payload);
                 eventPublisher.publishEvent(TradeEvent.of(
                         event.getType().toMatchingEventType(),
                         order.getId(),
@@ -79,24 +88,22 @@ public class OrderEventService {
             }
 
         } catch (Exception e) {
-            orderProcessedEventRepository.delete(orderProcessedEventRepository.generateKey(eventId));
             throw new RuntimeException("[OrderEventService.handleEvent] Failed to process order creation for eventId: " + eventId, e);
         }
     }
 
+    @Transactional
+    public void handleFailEvents(List<Event> events) {
+        events.forEach(this::handleFailEvent);
+    }
+
     @Transactional
     public void handleFailEvent(Event event) {
         String eventId = event.getEventId();
-        Boolean isNewEvent = orderProcessedEventRepository.setIfAbsent(eventId);
-
-        if (!isNewEvent) {
-            log.warn("[OrderEventService.handleFailEvent] Duplicate event detected, skipping processing. eventId={}", eventId);
-            return;
-        }
 
         try {
-            EventPayload payload = event.getPayload();
-            Order order = orderRepository.findById(payload.getOrderId())
+            CancelPayload payload = event.getPayload(CancelPayload.class);
+            Order order = orderRepository.findById(payload.orderId())
                     .orElseThrow(OrderNotFoundException::new);
 
             order.handleOrderStatus(CANCELLED);
@@ -106,65 +113,127 @@ public class OrderEventService {
             log.info("[OrderEventService.handleFailEvent] Order cancellation successfully: {}", order);
 
         } catch (Exception e) {
-            orderProcessedEventRepository.delete(orderProcessedEventRepository.generateKey(eventId));
             throw new RuntimeException("[OrderEventService.handleEvent] Failed to process order creation for eventId: " + eventId, e);
         }
     }
 
+    @Transactional
+    public void handleCompleteEvents(List<Event> events) {
+        events.forEach(this::handleCompleteEvent);
+    }
+
     @Transactional
     public void handleCompleteEvent(Event event) {
         String eventId = event.getEventId();
-        Boolean isNewEvent = orderProcessedEventRepository.setIfAbsent(eventId);
-
-        if (!isNewEvent) {
-            log.warn("[OrderEventService.handleCompleteEvent] Duplicate event detected, skipping processing. eventId={}", eventId);
-            return;
-        }
 
         try {
-            EventPayload payload = event.getPayload();
-            Order order = orderRepository.findById(payload.getOrderId())
+            if (event.getType() == ORDER_REPLACED_EVENT) {
+                applyReplace(event);
+                return;
+            }
+
+            if (event.getType() == ORDER_REPLACE_REJECTED_EVENT) {
+                rejectReplace(event);
+                return;
+            }
+
+            CancelPayload payload = event.getPayload(CancelPayload.class);
+            Order order = orderRepository.findById(payload.orderId())
                     .orElseThrow(OrderNotFoundException::new);
 
-            order.handleOrderStatus(COMPLETE);
+            // 사용자가 취소한 주문도 같은 토픽으로 종료를 알린다.
+            order.handleOrderStatus(event.getType() == ORDER_CANCELLED_EVENT ? CANCELLED : COMPLETE);
             orderRepository.save(order);
 
             orderProcessedEventDbRepository.save(new OrderProcessedEvent(eventId));
             log.info("[OrderEventService.handleCompleteEvent] Order cancellation successfully: {}", order);
 
         } catch (Exception e) {
-            orderProcessedEventRepository.delete(orderProcessedEventRepository.generateKey(eventId));
             throw new RuntimeException("[OrderEventService.handleEvent] Failed to process order cancellation for eventId: " + eventId, e);
         }
     }
 
+    // 주문의 주인과 상태만 확인하고 호가창에서 빼거나 바꾸는 일은 체결 애플리케이션에 넘긴다.
+    // 취소 결과는 ORDER_CANCELLED_EVENT 로, 정정 결과는 ORDER_REPLACED_EVENT 나 ORDER_REPLACE_REJECTED_EVENT 로 돌아온다. 그 전까지 주문은 바꾸지 않는다.
+    private void requestModify(Event event, OrderPayload payload) {
+        Order order = orderRepository.findById(payload.orderId())
+                .orElseThrow(OrderNotFoundException::new);
+
+        if (!order.isCancellable() || !Objects.equals(order.getUser().getId(), payload.userId())) {
+            throw new OrderNotCancellableException();
+        }
+
+        OrderPayload.OrderPayloadBuilder tradePayload = OrderPayload.builder()
+                .orderId(order.getId())
+                .userId(payload.userId())
+                .symbol(order.getCoin().getSymbol());
+
+        if (event.getType() == LIMIT_ORDER_REPLACE) {
+            tradePayload.price(payload.price())
+                    .quantity(payload.quantity())
+                    .orderSide(order.getOrderSide().name());
+        }
+
+        eventPublisher.publishEvent(TradeEvent.of(
+                event.getType().toMatchingEventType(),
+                order.getId(),
+                tradePayload.build()
+        ));
+        log.info("[OrderEventService.requestModify] Order modification requested. orderId={}, type={}", order.getId(), event.getType());
+    }
+
+    // 체결 애플리케이션이 호가창에 반영한 정정만 주문에 옮긴다.
+    private void applyReplace(Event event) {
+        OrderPayload payload = event.getPayload(OrderPayload.class);
+        Order order = orderRepository.findById(payload.orderId())
+                .orElseThrow(OrderNotFoundException::new);
+
+        order.replace(payload.price().toBigDecimal(), payload.quantity().toBigDecimal());
+        orderRepository.save(order);
+
+        orderProcessedEventDbRepository.save(new OrderProcessedEvent(event.getEventId()));
+        log.info("[OrderEventService.applyReplace] Order replaced successfully: {}", order);
+    }
+
+    // 거절된 정정은 주문을 바꾸지 않고 결과만 남긴다. 주문은 정정 요청 전의 가격과 수량으로 호가창에 남아 있다.
+    private void rejectReplace(Event event) {
+        CancelPayload payload = event.getPayload(CancelPayload.class);
+        Order order = orderRepository.findById(payload.orderId())
+                .orElseThrow(OrderNotFoundException::new);
+
+        orderProcessedEventDbRepository.save(new OrderProcessedEvent(event.getEventId()));
+        log.warn("[OrderEventService.rejectReplace] Order replace rejected. orderId={}, reason={}", order.getId(), payload.failMessage());
+    }
+
     Order createOrderFromEvent(Event event, Coin coin, User user, LocalDateTime registeredDateTime) {
-        EventPayload payload = event.getPayload();
+        OrderPayload payload = event.getPayload(OrderPayload.class);
         Order order;
 
         if (event.getType() == LIMIT_BUY_ORDER_CREATE || event.getType() == LIMIT_SELL_ORDER_CREATE) {
             order = Order.createLimitOrder(
-                    payload.getPrice(),
-                    payload.getQuantity(),
-                    OrderSide.valueOf(payload.getOrderSide()),
+                    payload.price().toBigDecimal(),
+                    payload.quantity().toBigDecimal(),
+                    OrderSide.valueOf(payload.orderSide()),
                     coin,
                     user,
                     registeredDateTime
             );
         } else if (event.getType() == MARKET_BUY_ORDER_CREATE) {
             order = Order.createMarketBuyOrder(
-                    payload.getMarketTotalPrice(),
+                    payload.marketTotalPrice().toBigDecimal(),
                     coin,
                     user,
                     registeredDateTime
             );
         } else if (event.getType() == MARKET_SELL_ORDER_CREATE) {
             order = Order.createMarketSellOrder(
-                    payload.getMarketTotalQuantity(),
+                    payload.marketTotalQuantity().toBigDecimal(),
                     coin,
                     user,
                     registeredDateTime
             );
+        } else if (event.getType() == STOP_ORDER_CREATE) {
+            order = createStopOrder(payload, coin, user, registeredDateTime);
         } else {
             throw new IllegalArgumentException("[OrderEventService.handleEvent] Unknown or unsupported event type for order creation: " + event.getType());
         }
@@ -172,14 +241,35 @@ public class OrderEventService {
         return order;
     }
 
-    private EventPayload createTradePayload(Order order, EventPayload payload) {
-        return EventPayload.builder()
+    // 발동되면 될 주문(가격이 있으면 지정가, 없으면 시장가)으로 만들고 발동 가격을 붙인다.
+    private Order createStopOrder(OrderPayload payload, Coin coin, User user, LocalDateTime registeredDateTime) {
+        OrderSide orderSide = OrderSide.valueOf(payload.orderSide());
+        Order order;
+
+        if (payload.price() != null) {
+            order = Order.createLimitOrder(payload.price().toBigDecimal(), payload.quantity().toBigDecimal(), orderSide, coin, user, registeredDateTime);
+        } else if (orderSide == OrderSide.BUY) {
+            order = Order.createMarketBuyOrder(payload.marketTotalPrice().toBigDecimal(), coin, user, registeredDateTime);
+        } else {
+            order = Order.createMarketSellOrder(payload.marketTotalQuantity().toBigDecimal(), coin, user, registeredDateTime);
+        }
+
+        order.attachTrigger(payload.triggerPrice().toBigDecimal());
+        return order;
+    }
+
+    private OrderPayload createTradePayload(Order order, OrderPayload payload) {
+        return OrderPayload.builder()
                 .orderId(order.getId())
-                .userId(payload.getUserId())
-                .symbol(payload.getSymbol())
-                .price(payload.getPrice())
-                .quantity(payload.getQuantity())
-                .orderSide(payload.getOrderSide())
+                .userId(payload.userId())
+                .symbol(payload.symbol())
+                .price(payload.price())
+                .quantity(payload.quantity())
+                .orderSide(payload.orderSide())
+                .timeInForce(payload.timeInForce())
+                .marketTotalPrice(payload.marketTotalPrice())
+                .marketTotalQuantity(payload.marketTotalQuantity())
+                .triggerPrice(payload.triggerPrice())
                 .build();
     }
 }
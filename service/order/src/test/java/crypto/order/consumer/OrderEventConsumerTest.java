@@ -2,9 +2,11 @@ package crypto.order.consumer;
 
 import crypto.dataserializer.DataSerializer;
 import crypto.event.Event;
-import crypto.event.payload.EventPayload;
+import crypto.event.payload.OrderPayload;
+import crypto.order.repository.order.OrderProcessedEventRepository;
 import crypto.order.service.order.OrderEventService;
 
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -15,6 +17,10 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.Acknowledgment;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 
 import static crypto.event.EventType.*;
@@ -32,7 +38,10 @@ class OrderEventConsumerTest {
     private OrderEventService orderEventService;
 
     @Mock
-    private KafkaTemplate<String, String> kafkaTemplate;
+    private OrderProcessedEventRepository orderProcessedEventRepository;
+
+    @Mock
+    private KafkaTemplate<String, byte[]> kafkaTemplate;
 
     @Mock
     private Acknowledgment ack;
@@ -40,21 +49,21 @@ class OrderEventConsumerTest {
     @InjectMocks
     private OrderEventConsumer orderEventConsumer;
 
-    private String message;
-    private EventPayload payload;
+    private byte[] message;
+    private OrderPayload payload;
     private Event event;
 
 
     @BeforeEach
     void setUp() {
-      message = "{\"eventId\":\"a1b2c3d4-e5f6-7890-1234-567890ab1def\"," +
+      message = ("{\"eventId\":\"a1b2c3d4-e5f6-7890-1234-567890ab1def\"," +
               "\"type\":\"LIMIT_BUY_ORDER_CREATE\"," +
               "\"payload\":{" +
               "\"userId\":42," +
               "\"symbol\":\"BTC\"," +
-              "}}";
+              "}}").getBytes(StandardCharsets.UTF_8);
 
-      payload = EventPayload.builder()
+      payload = OrderPayload.builder()
                 .userId(42L)
                 .symbol("BTC")
                 .build();
@@ -67,15 +76,17 @@ class OrderEventConsumerTest {
     void listenSuccess() {
         // given
         when(dataSerializer.deserialize(message, Event.class)).thenReturn(event);
+        when(orderProcessedEventRepository.claimAll(anyCollection())).thenReturn(Set.of(event.getEventId()));
         doNothing().when(orderEventService).handleEvent(event);
 
         // when
-        orderEventConsumer.listen(message, ack);
+        orderEventConsumer.listen(records(message), ack);
 
         // then
         verify(dataSerializer, times(1)).deserialize(message, Event.class);
         verify(orderEventService, times(1)).handleEvent(event);
-        verify(kafkaTemplate, never()).send(eq(CRYPTO_ORDER_DLQ), anyString(), anyString());
+        verify(kafkaTemplate, never()).send(eq(CRYPTO_ORDER_DLQ), any(byte[].class));
+        verify(ack, times(1)).acknowledge();
     }
 
     @DisplayName("메시지 역직렬화 실패시 DLQ로 보내고 acknowledge 한다")
@@ -87,7 +98,7 @@ class OrderEventConsumerTest {
                 .thenReturn(mock(CompletableFuture.class));
 
         // when
-        orderEventConsumer.listen(message, ack);
+        orderEventConsumer.listen(records(message), ack);
 
         // then
         verify(dataSerializer, times(1)).deserialize(message, Event.class);
@@ -101,18 +112,75 @@ class OrderEventConsumerTest {
     void listenHandleEventFailure() {
         // given
         when(dataSerializer.deserialize(message, Event.class)).thenReturn(event);
+        when(orderProcessedEventRepository.claimAll(anyCollection())).thenReturn(Set.of(event.getEventId()));
         doThrow(new RuntimeException("Test Exception")).when(orderEventService).handleEvent(event);
 
         when(kafkaTemplate.send(eq(CRYPTO_ORDER_DLQ), eq(null)))
                 .thenReturn(mock(CompletableFuture.class));
 
         // when
-        orderEventConsumer.listen(message, ack);
+        orderEventConsumer.listen(records(message), ack);
 
         // then
         verify(dataSerializer, times(1)).deserialize(message, Event.class);
         verify(orderEventService, times(1)).handleEvent(event);
         verify(kafkaTemplate, times(1)).send(eq(CRYPTO_ORDER_DLQ), eq(null));
+        verify(orderProcessedEventRepository, times(1)).releaseAll(List.of(event.getEventId()));
+        verify(ack, times(1)).acknowledge();
+    }
+
+    @DisplayName("배치 안의 중복 이벤트와 이미 처리된 이벤트는 건너뛰고, 나머지를 한 트랜잭션으로 처리한다")
+    @Test
+    void listenSkipsDuplicates() {
+        // given
+        byte[] processedMessage = "processed".getBytes(StandardCharsets.UTF_8);
+        Event processedEvent = Event.of("processed-event", LIMIT_BUY_ORDER_CREATE, payload);
+
+        when(dataSerializer.deserialize(message, Event.class)).thenReturn(event);
+        when(dataSerializer.deserialize(processedMessage, Event.class)).thenReturn(processedEvent);
+        when(orderProcessedEventRepository.claimAll(anyCollection())).thenReturn(Set.of(event.getEventId()));
+
+        // when
+        orderEventConsumer.listen(records(message, message, processedMessage), ack);
+
+        // then
+        verify(orderProcessedEventRepository, times(1)).claimAll(Set.of(event.getEventId(), processedEvent.getEventId()));
+        verify(orderEventService, times(1)).handleEvent(event);
+        verify(orderEventService, never()).handleEvent(processedEvent);
+        verify(ack, times(1)).acknowledge();
+    }
+
+    @DisplayName("배치 트랜잭션이 실패하면 이벤트마다 다시 처리해 실패한 이벤트만 DLQ로 보낸다")
+    @Test
+    void listenFallsBackToEachEvent() {
+        // given
+        byte[] failingMessage = "failing".getBytes(StandardCharsets.UTF_8);
+        Event failingEvent = Event.of("failing-event", LIMIT_BUY_ORDER_CREATE, payload);
+
+        when(dataSerializer.deserialize(message, Event.class)).thenReturn(event);
+        when(dataSerializer.deserialize(failingMessage, Event.class)).thenReturn(failingEvent);
+        when(orderProcessedEventRepository.claimAll(anyCollection())).thenReturn(Set.of(event.getEventId(), failingEvent.getEventId()));
+        doThrow(new RuntimeException("Test Exception")).when(orderEventService).handleEvents(List.of(event, failingEvent));
+        doNothing().when(orderEventService).handleEvent(event);
+        doThrow(new RuntimeException("Test Exception")).when(orderEventService).handleEvent(failingEvent);
+
+        when(kafkaTemplate.send(eq(CRYPTO_ORDER_DLQ), eq(null)))
+                .thenReturn(mock(CompletableFuture.class));
+
+        // when
+        orderEventConsumer.listen(records(message, failingMessage), ack);
+
+        // then
+        verify(orderEventService, times(1)).handleEvent(event);
+        verify(orderEventService, times(1)).handleEvent(failingEvent);
+        verify(kafkaTemplate, times(1)).send(eq(CRYPTO_ORDER_DLQ), eq(null));
+        verify(orderProcessedEventRepository, times(1)).releaseAll(List.of(failingEvent.getEventId()));
         verify(ack, times(1)).acknowledge();
     }
-}
\ No newline at end of file
+
+    private List<ConsumerRecord<String, byte[]>> records(byte[]... messages) {
+        return Arrays.stream(messages)
+                .map(value -> new ConsumerRecord<String, byte[]>(CRYPTO_ORDER, 0, 0L, null, value))
+                .toList();
+    }
+}
@@ -1,6 +1,7 @@
 package crypto.order.entity.order;
 
 import crypto.order.entity.coin.Coin;
+import crypto.order.entity.order.exception.OrderCycleStatus;
 import crypto.order.entity.user.User;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -115,4 +116,30 @@ class OrderTest {
         // then
         assertThat(order.getDeletedDateTime()).isNull();
     }
-}
\ No newline at end of file
+
+    @DisplayName("지정가 주문은 취소할 수 있고, 시장가 주문이나 이미 취소된 주문은 취소할 수 없다.")
+    @Test
+    void isCancellable() {
+        // given
+        Order limitOrder = Order.createLimitOrder(valueOf(100), valueOf(10), BUY, coin, user, registeredDateTime);
+        Order marketOrder = Order.createMarketBuyOrder(valueOf(100), coin, user, registeredDateTime);
+        Order cancelledOrder = Order.createLimitOrder(valueOf(100), valueOf(10), SELL, coin, user, registeredDateTime);
+        cancelledOrder.handleOrderStatus(OrderCycleStatus.CANCELLED);
+
+        // when // then
+        assertThat(limitOrder.isCancellable()).isTrue();
+        assertThat(marketOrder.isCancellable()).isFalse();
+        assertThat(cancelledOrder.isCancellable()).isFalse();
+    }
+
+    @DisplayName("일부 체결이 정산되어 COMPLETE 가 된 지정가 주문도 남은 수량을 취소할 수 있다.")
+    @Test
+    void isCancellableAfterPartialFillSettled() {
+        // given
+        Order partiallyFilledOrder = Order.createLimitOrder(valueOf(100), valueOf(10), BUY, coin, user, registeredDateTime);
+        partiallyFilledOrder.handleOrderStatus(OrderCycleStatus.COMPLETE);
+
+        // when // then
+        assertThat(partiallyFilledOrder.isCancellable()).isTrue();
+    }
+}
@@ -1,16 +1,19 @@
 package crypto.order.service.order;
 
+import crypto.common.fixedpoint.Price;
+import crypto.common.fixedpoint.Quantity;
 import crypto.common.time.TimeProvider;
 import crypto.event.Event;
-import crypto.event.eventsender.TradeEventSender;
-import crypto.event.payload.EventPayload;
+import crypto.event.TradeEvent;
+import crypto.event.payload.CancelPayload;
+import crypto.event.payload.OrderPayload;
 import crypto.order.entity.coin.Coin;
 import crypto.order.entity.order.Order;
 import crypto.order.entity.order.OrderProcessedEvent;
 import crypto.order.entity.order.OrderSide;
+import crypto.order.entity.order.exception.OrderCycleStatus;
 import crypto.order.entity.user.User;
 import crypto.order.repository.order.OrderProcessedEventDbRepository;
-import crypto.order.repository.order.OrderProcessedEventRepository;
 import crypto.order.repository.order.OrderRepository;
 import crypto.order.service.coin.CoinService;
 import crypto.order.service.user.UserService;
@@ -23,8 +26,12 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
 
 import static crypto.event.EventType.*;
 import static crypto.event.EventType.LIMIT_BUY_ORDER_CREATE;
@@ -41,9 +48,6 @@ class OrderEventServiceTest {
     @Mock
     private TimeProvider timeProvider;
 
-    @Mock
-    private OrderProcessedEventRepository orderProcessedEventRepository;
-
     @Mock
     private OrderProcessedEventDbRepository orderProcessedEventDbRepository;
 
@@ -51,7 +55,7 @@ class OrderEventServiceTest {
     private OrderRepository orderRepository;
 
     @Mock
-    private TradeEventSender tradeEventSender;
+    private ApplicationEventPublisher eventPublisher;
 
     @Mock
     private CoinService coinService;
@@ -62,7 +66,7 @@ class OrderEventServiceTest {
     @InjectMocks
     private OrderEventService orderEventService;
 
-    private EventPayload payload;
+    private OrderPayload payload;
     private Event event;
     private Coin coin;
     private User user;
@@ -71,11 +75,11 @@ class OrderEventServiceTest {
 
     @BeforeEach
     void setUp() {
-        payload = EventPayload.builder()
+        payload = OrderPayload.builder()
                 .userId(42L)
                 .symbol("BTC")
-                .price(valueOf(1000))
-                .quantity(valueOf(5))
+                .price(Price.of("1000"))
+                .quantity(Quantity.of("5"))
                 .orderSide(OrderSide.BUY.name())
                 .build();
 
@@ -88,63 +92,187 @@ class OrderEventServiceTest {
     @Test
     void handleEventSuccess() {
         // given
-        when(orderProcessedEventRepository.setIfAbsent(event.getEventId())).thenReturn(true);
         when(timeProvider.now()).thenReturn(NOW);
-        when(coinService.getCoinOrThrow(payload.getSymbol())).thenReturn(coin);
-        when(userService.getUserOrThrow(payload.getUserId())).thenReturn(user);
+        when(coinService.getCoinOrThrow(payload.symbol())).thenReturn(coin);
+        when(userService.getUserOrThrow(payload.userId())).thenReturn(user);
 
         // when
         orderEventService.handleEvent(event);
 
         // then
-        verify(orderProcessedEventRepository, times(1)).setIfAbsent(event.getEventId());
         verify(timeProvider, times(1)).now();
-        verify(coinService, times(1)).getCoinOrThrow(payload.getSymbol());
-        verify(userService, times(1)).getUserOrThrow(payload.getUserId());
+        verify(coinService, times(1)).getCoinOrThrow(payload.symbol());
+        verify(userService, times(1)).getUserOrThrow(payload.userId());
 
         ArgumentCaptor<Order> orderCaptor = ArgumentCaptor.forClass(Order.class);
         verify(orderRepository, times(1)).save(orderCaptor.capture());
         Order savedOrder = orderCaptor.getValue();
 
-        verify(tradeEventSender, times(1)).send(eq(LIMIT_BUY_ORDER_TRADE), eq(savedOrder.getId()), any(EventPayload.class));
+        ArgumentCaptor<TradeEvent> tradeEventCaptor = ArgumentCaptor.forClass(TradeEvent.class);
+        verify(eventPublisher, times(1)).publishEvent(tradeEventCaptor.capture());
+        assertThat(tradeEventCaptor.getValue().getType()).isEqualTo(LIMIT_BUY_ORDER_TRADE);
+        assertThat(tradeEventCaptor.getValue().getPayload()).isInstanceOf(OrderPayload.class);
+
         verify(orderProcessedEventDbRepository, times(1)).save(any(OrderProcessedEvent.class));
 
         assertThat(savedOrder.getOrderType()).isEqualTo(LIMIT);
-        assertThat(savedOrder.getPrice()).isEqualTo(valueOf(1000));
-        assertThat(savedOrder.getQuantity()).isEqualTo(valueOf(5));
+        assertThat(savedOrder.getPrice()).isEqualByComparingTo(valueOf(1000));
+        assertThat(savedOrder.getQuantity()).isEqualByComparingTo(valueOf(5));
         assertThat(savedOrder.getCoin().getSymbol()).isEqualTo("BTC");
     }
 
     @Test
-    @DisplayName("중복 이벤트가 감지되어 이벤트가 처리되지 않는다.")
-    void handleDuplicateEvent() {
+    @DisplayName("중복 여부는 컨슈머가 배치 단위로 거르므로, 서비스는 넘겨받은 이벤트를 항상 처리한다.")
+    void handleEventDoesNotFilterDuplicates() {
         // given
-        when(orderProcessedEventRepository.setIfAbsent(event.getEventId())).thenReturn(false);
+        when(timeProvider.now()).thenReturn(NOW);
+        when(coinService.getCoinOrThrow(payload.symbol())).thenReturn(coin);
+        when(userService.getUserOrThrow(payload.userId())).thenReturn(user);
 
         // when
         orderEventService.handleEvent(event);
+        orderEventService.handleEvent(event);
 
         // then
-        verify(orderProcessedEventRepository, times(1)).setIfAbsent(event.getEventId());
-        verifyNoInteractions(timeProvider, coinService, userService, orderRepository, tradeEventSender, orderProcessedEventDbRepository);
+        verify(orderRepository, times(2)).save(any(Order.class));
+        verify(eventPublisher, times(2)).publishEvent(any(TradeEvent.class));
+        verify(orderProcessedEventDbRepository, times(2)).save(any(OrderProcessedEvent.class));
+    }
+
+    @Test
+    @DisplayName("배치로 넘겨받은 이벤트를 순서대로 모두 처리한다.")
+    void handleEvents() {
+        // given
+        Event secondEvent = Event.of("second-event", LIMIT_BUY_ORDER_CREATE, payload);
+        when(timeProvider.now()).thenReturn(NOW);
+        when(coinService.getCoinOrThrow(payload.symbol())).thenReturn(coin);
+        when(userService.getUserOrThrow(payload.userId())).thenReturn(user);
+
+        // when
+        orderEventService.handleEvents(List.of(event, secondEvent));
+
+        // then
+        verify(orderRepository, times(2)).save(any(Order.class));
+        verify(eventPublisher, times(2)).publishEvent(any(TradeEvent.class));
+
+        ArgumentCaptor<OrderProcessedEvent> processedEventCaptor = ArgumentCaptor.forClass(OrderProcessedEvent.class);
+        verify(orderProcessedEventDbRepository, times(2)).save(processedEventCaptor.capture());
+        assertThat(processedEventCaptor.getAllValues())
+                .extracting(OrderProcessedEvent::getEventId)
+                .containsExactly(event.getEventId(), secondEvent.getEventId());
     }
 
     @Test
     @DisplayName("코인 서비스 호출 중 예외 발생 시 롤백 및 런타임 예외가 발생한다.")
     void handleEvent_CoinServiceFailure_RollbackAndThrowsException() {
         // given
-        when(orderProcessedEventRepository.setIfAbsent(event.getEventId())).thenReturn(true);
-        when(coinService.getCoinOrThrow(payload.getSymbol())).thenThrow(new RuntimeException("Coin not found"));
+        when(coinService.getCoinOrThrow(payload.symbol())).thenThrow(new RuntimeException("Coin not found"));
 
         // when then
         RuntimeException thrown = assertThrows(RuntimeException.class,
                 () -> orderEventService.handleEvent(event));
 
         assertTrue(thrown.getMessage().contains("[OrderEventService.handleEvent] Failed to process order creation for eventId"));
-        verify(orderProcessedEventRepository, times(1)).setIfAbsent(event.getEventId());
-        verify(orderProcessedEventRepository, times(1)).delete(null);
         verify(timeProvider, times(1)).now();
-        verify(coinService, times(1)).getCoinOrThrow(payload.getSymbol());
-        verifyNoInteractions(userService, orderRepository, tradeEventSender, orderProcessedEventDbRepository);
+        verify(coinService, times(1)).getCoinOrThrow(payload.symbol());
+        verifyNoInteractions(userService, orderRepository, eventPublisher, orderProcessedEventDbRepository);
+    }
+
+    @Test
+    @DisplayName("정정 요청은 체결 애플리케이션에 넘기기만 하고, 받아들여졌다는 이벤트가 오기 전까지 주문의 가격과 수량을 바꾸지 않는다.")
+    void requestReplaceKeepsOrderUnchanged() {
+        // given
+        ReflectionTestUtils.setField(user, "id", 42L);
+        Order order = Order.createLimitOrder(valueOf(1000), valueOf(5), OrderSide.BUY, coin, user, NOW);
+        when(orderRepository.findById(7L)).thenReturn(Optional.of(order));
+
+        Event replaceEvent = Event.of("replace-event", LIMIT_ORDER_REPLACE, OrderPayload.builder()
+                .orderId(7L)
+                .userId(42L)
+                .price(Price.of("900"))
+                .quantity(Quantity.of("3"))
+                .build());
+
+        // when
+        orderEventService.handleEvent(replaceEvent);
+
+        // then
+        ArgumentCaptor<TradeEvent> tradeEventCaptor = ArgumentCaptor.forClass(TradeEvent.class);
+        verify(eventPublisher, times(1)).publishEvent(tradeEventCaptor.capture());
+        assertThat(tradeEventCaptor.getValue().getType()).isEqualTo(LIMIT_ORDER_REPLACE_TRADE);
+
+        verify(orderRepository, never()).save(any(Order.class));
+        assertThat(order.getPrice()).isEqualByComparingTo(valueOf(1000));
+        assertThat(order.getQuantity()).isEqualByComparingTo(valueOf(5));
+    }
+
+    @Test
+    @DisplayName("체결 애플리케이션이 정정을 받아들였다는 이벤트가 오면 그때 주문의 가격과 수량을 바꾼다.")
+    void handleReplacedEvent() {
+        // given
+        Order order = Order.createLimitOrder(valueOf(1000), valueOf(5), OrderSide.BUY, coin, user, NOW);
+        when(orderRepository.findById(7L)).thenReturn(Optional.of(order));
+
+        Event replacedEvent = Event.of("replaced-event", ORDER_REPLACED_EVENT, OrderPayload.builder()
+                .orderId(7L)
+                .price(Price.of("900"))
+                .quantity(Quantity.of("3"))
+                .build());
+
+        // when
+        orderEventService.handleCompleteEvent(replacedEvent);
+
+        // then
+        verify(orderRepository, times(1)).save(order);
+        verify(orderProcessedEventDbRepository, times(1)).save(any(OrderProcessedEvent.class));
+        assertThat(order.getPrice()).isEqualByComparingTo(valueOf(900));
+        assertThat(order.getQuantity()).isEqualByComparingTo(valueOf(3));
+    }
+
+    @Test
+    @DisplayName("체결 애플리케이션이 정정을 거절했다는 이벤트가 오면 주문은 그대로 두고 처리 기록만 남긴다.")
+    void handleReplaceRejectedEvent() {
+        // given
+        Order order = Order.createLimitOrder(valueOf(1000), valueOf(5), OrderSide.BUY, coin, user, NOW);
+        when(orderRepository.findById(7L)).thenReturn(Optional.of(order));
+
+        Event rejectedEvent = Event.of("rejected-event", ORDER_REPLACE_REJECTED_EVENT, CancelPayload.builder()
+                .orderId(7L)
+                .failMessage("Order is not resting in the order book")
+                .build());
+
+        // when
+        orderEventService.handleCompleteEvent(rejectedEvent);
+
+        // then
+        verify(orderRepository, never()).save(any(Order.class));
+        verify(orderProcessedEventDbRepository, times(1)).save(any(OrderProcessedEvent.class));
+        assertThat(order.getPrice()).isEqualByComparingTo(valueOf(1000));
+        assertThat(order.getQuantity()).isEqualByComparingTo(valueOf(5));
+        assertThat(order.getOrderCycleStatus()).isNotEqualTo(OrderCycleStatus.CANCELLED);
+    }
+
+    @Test
+    @DisplayName("일부 체결이 정산되어 COMPLETE 가 된 채 호가창에 남은 주문도 취소 요청을 체결 애플리케이션에 넘긴다.")
+    void requestCancelPartiallyFilledOrder() {
+        // given
+        ReflectionTestUtils.setField(user, "id", 42L);
+        Order order = Order.createLimitOrder(valueOf(1000), valueOf(5), OrderSide.BUY, coin, user, NOW);
+        order.handleOrderStatus(OrderCycleStatus.COMPLETE);
+        when(orderRepository.findById(7L)).thenReturn(Optional.of(order));
+
+        Event cancelEvent = Event.of("cancel-event", LIMIT_ORDER_CANCEL, OrderPayload.builder()
+                .orderId(7L)
+                .userId(42L)
+                .build());
+
+        // when
+        orderEventService.handleEvent(cancelEvent);
+
+        // then
+        ArgumentCaptor<TradeEvent> tradeEventCaptor = ArgumentCaptor.forClass(TradeEvent.class);
+        verify(eventPublisher, times(1)).publishEvent(tradeEventCaptor.capture());
+        assertThat(tradeEventCaptor.getValue().getType()).isEqualTo(LIMIT_ORDER_CANCEL_TRADE);
+        verify(orderProcessedEventDbRepository, times(1)).save(any(OrderProcessedEvent.class));
     }
-}
\ No newline at end of file
+}
@@ -2,91 +2,64 @@ package crypto.settlement.consumer;
 
 import crypto.dataserializer.DataSerializer;
 import crypto.event.Event;
+import crypto.event.consumer.BatchEventConsumer;
+import crypto.event.consumer.KeyedEventExecutor;
 import crypto.event.eventsender.TradeEventSender;
-import crypto.event.payload.EventPayload;
+import crypto.event.payload.CancelPayload;
+import crypto.event.payload.SettlementPayload;
+import crypto.settlement.repository.SettlementProcessedEventRepository;
 import crypto.settlement.service.SettlementEventService;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.stereotype.Component;
 
-import java.math.BigDecimal;
-import java.util.UUID;
+import java.util.List;
 
 import static crypto.event.EventType.*;
 
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
-public class SettlementEventConsumer {
+public class SettlementEventConsumer extends BatchEventConsumer {
 
-    private final DataSerializer dataSerializer;
     private final TradeEventSender tradeEventSender;
     private final SettlementEventService settlementEventService;
-    private final KafkaTemplate<String, String> kafkaTemplate;
 
-    @KafkaListener(topics = Topic.CRYPTO_SETTLEMENT, groupId = "crypto-trade", id = "settlementListener")
-    public void listen(String message, Acknowledgment ack) {
-        log.info("[SettlementEventConsumer.listen] received message={}", message);
-        Event event = dataSerializer.deserialize(message, Event.class);
-
-        if (event == null) {
-            log.error("[SettlementEventConsumer.listen] Failed to parse event from message: message={}", message);
-            sendToDeadLetterQueue(message, "EVENT_IS_NULL_AFTER_PARSING");
-            ack.acknowledge();
-            return;
-        }
-
-        try {
-            settlementEventService.handleEvent(event);
-            ack.acknowledge();
-        } catch (Exception e) {
-            log.error("[SettlementEventConsumer.listen] Error processing settlement event: event={}, message={}, error={}", event, message, e.getMessage(), e);
-
-            try {
-                Long orderId = event.getPayload().getOrderId();
-                Long tradeId = event.getPayload().getTradeId();
-                BigDecimal matchedQuantity = event.getPayload().getMatchedQuantity();
-                EventPayload failurePayload = EventPayload.builder()
-                        .orderId(orderId)
-                        .tradeId(tradeId)
-                        .matchedQuantity(matchedQuantity)
-                        .failMessage("Settlement execution failed: " + e.getMessage())
-                        .build();
-                tradeEventSender.sendFailEvent(TRADE_CANCEL_EVENT, orderId, failurePayload);
-                log.info("[SettlementEventConsumer.listen] Sent settlement execution failure event for orderId: {}", orderId);
-
-            } catch (Exception sendEx) {
-                log.error("[SettlementEventConsumer.listen] CRITICAL: Failed to send failure event to order application. error={}", sendEx.getMessage(), sendEx);
-            }
-            sendToDeadLetterQueue(message, "ERROR_PROCESSING_SETTLEMENT_EVENT");
-            ack.acknowledge();
-        }
+    public SettlementEventConsumer(DataSerializer dataSerializer, KafkaTemplate<String, byte[]> kafkaTemplate,
+                                   SettlementProcessedEventRepository settlementProcessedEventRepository,
+                                   TradeEventSender tradeEventSender, SettlementEventService settlementEventService,
+                                   KeyedEventExecutor keyedEventExecutor) {
+        super(dataSerializer, kafkaTemplate, settlementProcessedEventRepository, Topic.CRYPTO_SETTLEMENT_DLQ, FAIL_SETTLEMENT_EVENT,
+                keyedEventExecutor);
+        this.tradeEventSender = tradeEventSender;
+        this.settlementEventService = settlementEventService;
     }
-    public void sendToDeadLetterQueue(String originalMessage, String failMessage) {
-        String dlqTopic = Topic.CRYPTO_SETTLEMENT_DLQ;
-
-        EventPayload payload = EventPayload.builder()
-                .originalMessage(originalMessage)
-                .failMessage(failMessage)
-                .build();
 
-        String json = dataSerializer.serialize(Event.of(
-                UUID.randomUUID().toString(), FAIL_TRADE_EVENT, payload
-        ));
+    @KafkaListener(topics = Topic.CRYPTO_SETTLEMENT, groupId = "crypto-trade", id = "settlementListener", batch = "true",
+            concurrency = "${crypto.event.partitions.crypto-settlement:1}")
+    public void listen(List<ConsumerRecord<String, byte[]>> records, Acknowledgment ack) {
+        consume(records, ack, "ERROR_PROCESSING_SETTLEMENT_EVENT",
+                inBatchTransaction(settlementEventService::handleEvents, settlementEventService::handleEvent));
+    }
 
-        kafkaTemplate.send(dlqTopic, json)
-                .whenComplete((result, ex) -> {
-                    if (ex == null) {
-                        log.info("[SettlementEventConsumer.sendToDeadLetterQueue] Successfully sent message to DLQ. topic={}, message={}", dlqTopic, originalMessage);
-                    } else {
-                        log.error("[SettlementEventConsumer.sendToDeadLetterQueue] Failed to send message to DLQ. topic={}, message={}, error={}", dlqTopic, originalMessage, ex.getMessage(), ex);
-                    }
-                });
+    // 환불 이벤트는 되돌릴 체결이 없으므로 체결 정산 이벤트만 취소를 보낸다.
+    @Override
+    protected void onFailure(Event event, Exception cause) {
+        if (event.getPayload() instanceof SettlementPayload payload) {
+            CancelPayload failurePayload = CancelPayload.builder()
+                    .orderId(payload.orderId())
+                    .tradeId(payload.tradeId())
+                    .makerOrderId(payload.makerOrderId())
+                    .matchedQuantity(payload.matchedQuantity())
+                    .failMessage("Settlement execution failed: " + cause.getMessage())
+                    .build();
+            tradeEventSender.sendFailEvent(TRADE_CANCEL_EVENT, payload.orderId(), failurePayload);
+            log.info("[SettlementEventConsumer.onFailure] Sent settlement execution failure event for orderId: {}", payload.orderId());
+        }
     }
 }
@@ -0,0 +1,50 @@
+package crypto.settlement.entity;
+
+import crypto.baseentity.id.SnowflakeId;
+import crypto.event.outbox.OutboxMessage;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Lob;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SettlementOutboxEvent {
+    @Id
+    @SnowflakeId
+    private Long id;
+
+    @Column(nullable = false)
+    private String topic;
+
+    private String messageKey;
+
+    @Lob
+    @Column(nullable = false)
+    private byte[] message;
+
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    public SettlementOutboxEvent(String topic, String messageKey, byte[] message) {
+        this.topic = topic;
+        this.messageKey = messageKey;
+        this.message = message;
+    }
+
+    public OutboxMessage toMessage() {
+        return new OutboxMessage(id, topic, messageKey, message);
+    }
+}
@@ -7,6 +7,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import org.hibernate.annotations.CreationTimestamp;
+import org.springframework.data.domain.Persistable;
 
 import java.time.LocalDateTime;
 
@@ -14,7 +15,7 @@ import java.time.LocalDateTime;
 @Getter
 @Entity
 @NoArgsConstructor
-public class SettlementProcessedEvent {
+public class SettlementProcessedEvent implements Persistable<String> {
     @Id @Column(unique = true)
     private String eventId;
 
@@ -25,4 +26,15 @@ public class SettlementProcessedEvent {
     public SettlementProcessedEvent(String eventId) {
         this.eventId = eventId;
     }
+
+    @Override
+    public String getId() {
+        return eventId;
+    }
+
+    // 항상 새 행으로 취급해 save 가 SELECT 없이 INSERT 한 번으로 끝나게 한다. 이미 처리된 eventId 면 기본키 제약에 걸려 롤백된다.
+    @Override
+    public boolean isNew() {
+        return true;
+    }
 }
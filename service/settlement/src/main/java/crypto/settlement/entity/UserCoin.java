@@ -1,5 +1,7 @@
 package crypto.settlement.entity;
 
+import crypto.baseentity.id.SnowflakeId;
+
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -16,7 +18,7 @@ import java.math.BigDecimal;
 public class UserCoin {
 
     @Id @Column(name = "user_coin_id")
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     private Long id;
 
     private Long userId;
@@ -3,7 +3,8 @@ package crypto.settlement.eventhandler;
 import crypto.event.Event;
 import crypto.event.EventType;
 import crypto.event.eventsender.OrderEventSender;
-import crypto.event.payload.EventPayload;
+import crypto.event.payload.CancelPayload;
+import crypto.event.payload.SettlementPayload;
 import crypto.settlement.service.UserCoinService;
 
 import lombok.RequiredArgsConstructor;
@@ -23,16 +24,16 @@ public class BuyOrderSettlementEventHandler implements EventHandler {
 
     @Override
     public void handle(Event event) {
-        EventPayload payload = event.getPayload();
+        SettlementPayload payload = event.getPayload(SettlementPayload.class);
 
-        settlementProcessor.settleUser(payload.getTakerTotalUsed(), payload.getMakerTotalUsed(), payload.getMatchedQuantity(),
-                payload.getTakerId(), payload.getMakerId(), payload.getSymbol(), "BUY");
+        settlementProcessor.settleUser(payload.takerTotalUsed(), payload.makerTotalUsed(), payload.matchedQuantity(),
+                payload.takerId(), payload.makerId(), payload.symbol());
 
-        orderEventSender.sendFailCompleteEvent(
+        orderEventSender.sendFailCompleteEventAfterCommit(
                 ORDER_COMPLETE_EVENT,
-                payload.getOrderId(),
-                EventPayload.builder()
-                        .orderId(payload.getOrderId())
+                payload.orderId(),
+                CancelPayload.builder()
+                        .orderId(payload.orderId())
                         .build()
         );
     }
@@ -0,0 +1,41 @@
+package crypto.settlement.eventhandler;
+
+import crypto.event.Event;
+import crypto.event.EventType;
+import crypto.event.payload.RefundPayload;
+import crypto.settlement.service.UserBalanceService;
+import crypto.settlement.service.UserCoinService;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.stereotype.Component;
+
+
+// 취소된 지정가 주문이 잡고 있던 잠금을 사용 가능 잔고/수량으로 되돌린다.
+@Component
+@RequiredArgsConstructor
+public class CancelledOrderUnlockEventHandler implements EventHandler {
+
+    private final UserBalanceService userBalanceService;
+    private final UserCoinService userCoinService;
+
+    @Override
+    public void handle(Event event) {
+        RefundPayload payload = event.getPayload(RefundPayload.class);
+
+        if (payload.totalRemainPrice() != null) {
+            userBalanceService.decreaseLockBalance(payload.userId(), payload.totalRemainPrice().toBigDecimal());
+            userBalanceService.increaseAvailableBalance(payload.userId(), payload.totalRemainPrice().toBigDecimal());
+        }
+
+        if (payload.remainQuantity() != null) {
+            userCoinService.decreaseLockQuantity(payload.userId(), payload.symbol(), payload.remainQuantity().toBigDecimal());
+            userCoinService.increaseAvailableQuantity(payload.userId(), payload.symbol(), payload.remainQuantity().toBigDecimal());
+        }
+    }
+
+    @Override
+    public EventType getSupportedEventType() {
+        return EventType.UNLOCK_CANCELLED_ORDER;
+    }
+}
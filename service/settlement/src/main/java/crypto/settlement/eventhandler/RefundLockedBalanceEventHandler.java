@@ -2,7 +2,7 @@ package crypto.settlement.eventhandler;
 
 import crypto.event.Event;
 import crypto.event.EventType;
-import crypto.event.payload.EventPayload;
+import crypto.event.payload.RefundPayload;
 import crypto.settlement.service.UserBalanceService;
 
 import lombok.RequiredArgsConstructor;
@@ -18,9 +18,9 @@ public class RefundLockedBalanceEventHandler implements EventHandler {
 
     @Override
     public void handle(Event event) {
-        EventPayload payload = event.getPayload();
+        RefundPayload payload = event.getPayload(RefundPayload.class);
 
-        userBalanceService.getUserBalanceOrThrow(payload.getUserId()).decreaseLockedBalance(payload.getTotalRemainPrice());
+        userBalanceService.getUserBalanceOrThrow(payload.userId()).decreaseLockedBalance(payload.totalRemainPrice().toBigDecimal());
     }
 
     @Override
@@ -0,0 +1,53 @@
+package crypto.settlement.eventhandler;
+
+import crypto.event.Event;
+import crypto.event.EventType;
+import crypto.event.payload.RefundPayload;
+import crypto.settlement.service.UserBalanceService;
+import crypto.settlement.service.UserCoinService;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+
+
+// 정정된 주문의 잠금을 정정 전후 차이만큼 사용 가능 잔고/수량으로 푼다.
+// 잠금이 늘어나는 정정은 체결 애플리케이션이 받지 않으므로 차이는 항상 양수이다.
+@Component
+@RequiredArgsConstructor
+public class ReplacedOrderLockAdjustEventHandler implements EventHandler {
+
+    private final UserBalanceService userBalanceService;
+    private final UserCoinService userCoinService;
+
+    @Override
+    public void handle(Event event) {
+        RefundPayload payload = event.getPayload(RefundPayload.class);
+
+        if (payload.totalRemainPrice() != null) {
+            BigDecimal delta = requirePositive(payload.totalRemainPrice().toBigDecimal());
+            userBalanceService.decreaseLockBalance(payload.userId(), delta);
+            userBalanceService.increaseAvailableBalance(payload.userId(), delta);
+        }
+
+        if (payload.remainQuantity() != null) {
+            BigDecimal delta = requirePositive(payload.remainQuantity().toBigDecimal());
+            userCoinService.decreaseLockQuantity(payload.userId(), payload.symbol(), delta);
+            userCoinService.increaseAvailableQuantity(payload.userId(), payload.symbol(), delta);
+        }
+    }
+
+    private static BigDecimal requirePositive(BigDecimal delta) {
+        if (delta.signum() <= 0) {
+            throw new IllegalArgumentException("[ReplacedOrderLockAdjustEventHandler.handle] Lock adjustment must release a positive amount. delta=" + delta);
+        }
+        return delta;
+    }
+
+    @Override
+    public EventType getSupportedEventType() {
+        return EventType.ADJUST_REPLACED_ORDER_LOCK;
+    }
+}
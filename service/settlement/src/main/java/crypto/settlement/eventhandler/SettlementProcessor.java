@@ -1,5 +1,7 @@
 package crypto.settlement.eventhandler;
 
+import crypto.common.fixedpoint.Amount;
+import crypto.common.fixedpoint.Quantity;
 import crypto.settlement.service.UserBalanceService;
 import crypto.settlement.service.UserCoinService;
 
@@ -17,20 +19,30 @@ public class SettlementProcessor {
     private final UserBalanceService userBalanceService;
     private final UserCoinService userCoinService;
 
-    public void settleUser(BigDecimal takerTotalPrice, BigDecimal makerTotalPrice, BigDecimal matchedQuantity,
-                           Long takerId, Long makerId, String symbol, String orderSide) {
-        if (orderSide.equals("BUY")) {
-            userBalanceService.decreaseLockBalance(takerId, takerTotalPrice);
-            userBalanceService.increaseAvailableBalance(makerId, makerTotalPrice);
-
-            userCoinService.increaseAvailableQuantity(takerId, symbol, matchedQuantity);
-            userCoinService.decreaseLockQuantity(makerId, symbol, matchedQuantity);
+    // 파티션이 테이커 기준으로 나뉘어 메이커 행은 다른 파티션과 겹칠 수 있다.
+    // 이벤트 하나를 따로 처리할 때도 두 사용자의 행을 사용자 ID 오름차순으로 잠근다. 배치 전체의 잠금 순서는 SettlementEventService 가 맞춘다.
+    public void settleUser(Amount takerTotalUsed, Amount makerTotalUsed, Quantity matchedQty,
+                           Long takerId, Long makerId, String symbol) {
+        BigDecimal takerTotalPrice = takerTotalUsed.toBigDecimal();
+        BigDecimal makerTotalPrice = makerTotalUsed.toBigDecimal();
+        BigDecimal matchedQuantity = matchedQty.toBigDecimal();
+
+        if (takerId <= makerId) {
+            settleTaker(takerId, takerTotalPrice, symbol, matchedQuantity);
+            settleMaker(makerId, makerTotalPrice, symbol, matchedQuantity);
         } else {
-            userBalanceService.increaseAvailableBalance(makerId, makerTotalPrice);
-            userBalanceService.decreaseLockBalance(takerId, takerTotalPrice);
-
-            userCoinService.decreaseLockQuantity(makerId, symbol, matchedQuantity);
-            userCoinService.increaseAvailableQuantity(takerId, symbol, matchedQuantity);
+            settleMaker(makerId, makerTotalPrice, symbol, matchedQuantity);
+            settleTaker(takerId, takerTotalPrice, symbol, matchedQuantity);
         }
     }
+
+    private void settleTaker(Long takerId, BigDecimal takerTotalPrice, String symbol, BigDecimal matchedQuantity) {
+        userBalanceService.decreaseLockBalance(takerId, takerTotalPrice);
+        userCoinService.increaseAvailableQuantity(takerId, symbol, matchedQuantity);
+    }
+
+    private void settleMaker(Long makerId, BigDecimal makerTotalPrice, String symbol, BigDecimal matchedQuantity) {
+        userBalanceService.increaseAvailableBalance(makerId, makerTotalPrice);
+        userCoinService.decreaseLockQuantity(makerId, symbol, matchedQuantity);
+    }
 }
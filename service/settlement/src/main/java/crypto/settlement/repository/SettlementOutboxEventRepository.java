@@ -0,0 +1,41 @@
+package crypto.settlement.repository;
+
+import crypto.settlement.entity.SettlementOutboxEvent;
+import crypto.event.outbox.OutboxMessage;
+import crypto.event.outbox.OutboxStore;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.util.List;
+
+
+public interface SettlementOutboxEventRepository extends JpaRepository<SettlementOutboxEvent, Long>, OutboxStore {
+
+    // 릴레이 인스턴스끼리 같은 행을 보내지 않도록 읽은 행을 잠그고, 이미 잠긴 행은 건너뛴다. -2 는 Hibernate 의 SKIP LOCKED 이다.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    List<SettlementOutboxEvent> findAllByOrderByIdAsc(Limit limit);
+
+    @Override
+    default void append(String topic, String key, byte[] message) {
+        save(new SettlementOutboxEvent(topic, key, message));
+    }
+
+    @Override
+    default List<OutboxMessage> findBatch(int limit) {
+        return findAllByOrderByIdAsc(Limit.of(limit)).stream()
+                .map(SettlementOutboxEvent::toMessage)
+                .toList();
+    }
+
+    @Override
+    default void deleteSent(List<Long> ids) {
+        deleteAllByIdInBatch(ids);
+    }
+}
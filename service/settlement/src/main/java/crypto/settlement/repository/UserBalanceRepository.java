@@ -11,6 +11,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 
@@ -19,6 +21,10 @@ public interface UserBalanceRepository extends JpaRepository<UserBalance, Long>
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     Optional<UserBalance> findByUserId(Long userId);
 
+    // user_id 유니크 인덱스를 오름차순으로 읽으며 잠그므로 행이 사용자 ID 순서대로 잠긴다.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<UserBalance> findAllByUserIdInOrderByUserIdAsc(Collection<Long> userIds);
+
     @Modifying(clearAutomatically = true)
     @Query("UPDATE UserBalance ub SET ub.lockedBalance = ub.lockedBalance - :price " +
             "WHERE ub.userId = :userId AND ub.lockedBalance >= :amount")
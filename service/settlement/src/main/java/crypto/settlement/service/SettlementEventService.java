@@ -1,10 +1,11 @@
 package crypto.settlement.service;
 
 import crypto.event.Event;
+import crypto.event.payload.RefundPayload;
+import crypto.event.payload.SettlementPayload;
 import crypto.settlement.entity.SettlementProcessedEvent;
 import crypto.settlement.eventhandler.EventHandler;
 import crypto.settlement.repository.SettlementProcessedEventDbRepository;
-import crypto.settlement.repository.SettlementProcessedEventRepository;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -12,7 +13,9 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
 
 @Slf4j
@@ -21,25 +24,26 @@ import java.util.List;
 public class SettlementEventService {
 
     private final List<EventHandler> eventHandlers;
-    private final SettlementProcessedEventRepository settlementProcessedEventRepository;
     private final SettlementProcessedEventDbRepository settlementProcessedEventDbRepository;
+    private final UserBalanceService userBalanceService;
+
+    // 배치의 이벤트를 한 트랜잭션으로 처리한다. 중복 이벤트는 컨슈머가 배치 단위로 걸러낸다.
+    // 배치 트랜잭션끼리 사용자 행을 서로 다른 순서로 잠가 교착되지 않도록, 반영 전에 배치에 나오는 사용자의 잔고 행을 ID 오름차순으로 모두 잠근다.
+    // 코인 행은 같은 사용자의 잔고 행을 잠근 뒤에만 건드린다.
+    @Transactional
+    public void handleEvents(List<Event> events) {
+        userBalanceService.lockAll(userIdsOf(events));
+        events.forEach(this::handleEvent);
+    }
 
     @Transactional
     public void handleEvent(Event event) {
         String eventId = event.getEventId();
-        String key = settlementProcessedEventRepository.generateKey(eventId);
-        Boolean isNewEvent = settlementProcessedEventRepository.setIfAbsent(eventId);
-
-        if (Boolean.FALSE.equals(isNewEvent)) {
-            log.info("[SettlementService.handleEvent] Already processed or is being processed. eventId={}", eventId);
-            return;
-        }
 
         try {
             EventHandler eventHandler = findEventHandler(event);
             if (eventHandler == null) {
                 log.warn("[SettlementService.handleEvent] No handler found for event. eventId={}", eventId);
-                settlementProcessedEventRepository.delete(key);
                 return;
             }
 
@@ -50,12 +54,28 @@ public class SettlementEventService {
 
         } catch (Exception e) {
             log.error("[SettlementService.handleEvent] Failed to handle event due to an exception. eventId={}", eventId, e);
-            settlementProcessedEventRepository.delete(key);
-
             throw new RuntimeException("Event handling failed", e);
         }
     }
 
+    private static List<Long> userIdsOf(List<Event> events) {
+        List<Long> userIds = new ArrayList<>();
+
+        for (Event event : events) {
+            if (event.getPayload() instanceof SettlementPayload payload) {
+                userIds.add(payload.takerId());
+                userIds.add(payload.makerId());
+            } else if (event.getPayload() instanceof RefundPayload payload) {
+                userIds.add(payload.userId());
+            }
+        }
+        return userIds.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .sorted()
+                .toList();
+    }
+
     private EventHandler findEventHandler(Event event) {
         return eventHandlers.stream()
                 .filter(eventHandler -> eventHandler.supports(event))
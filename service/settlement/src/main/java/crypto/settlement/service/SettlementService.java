@@ -1,6 +1,9 @@
 package crypto.settlement.service;
 
 import crypto.common.fee.FeePolicy;
+import crypto.common.fixedpoint.Amount;
+import crypto.common.fixedpoint.Price;
+import crypto.common.fixedpoint.Quantity;
 import crypto.common.security.context.UserContext;
 import crypto.settlement.controller.response.CheckBalanceResponse;
 import crypto.settlement.controller.response.CheckQuantityResponse;
@@ -17,7 +20,6 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 
 
 @Service
@@ -33,21 +35,21 @@ public class SettlementService {
         Long userId = UserContext.getUserId();
         UserBalance userBalance = userBalanceService.getUserBalanceOrThrow(userId);
 
-        BigDecimal totalOrderPrice;
+        Amount totalOrderPrice;
 
         if (request.getQuantity() != null) {
-            totalOrderPrice = request.getPrice().multiply(request.getQuantity());
+            totalOrderPrice = Price.of(request.getPrice()).multiply(Quantity.of(request.getQuantity()));
         } else {
-            totalOrderPrice = request.getPrice();
+            totalOrderPrice = Amount.of(request.getPrice());
         }
 
-        BigDecimal orderFee = calculateOrderFee(totalOrderPrice);
+        BigDecimal requiredBalance = totalOrderPrice.add(calculateOrderFee(totalOrderPrice)).toBigDecimal();
 
-        if (userBalance.getAvailableBalance().compareTo(totalOrderPrice.add(orderFee)) < 0) {
+        if (userBalance.getAvailableBalance().compareTo(requiredBalance) < 0) {
             throw new NotEnoughBalanceException();
         }
 
-        userBalance.increaseLockedBalance(totalOrderPrice.add(orderFee));
+        userBalance.increaseLockedBalance(requiredBalance);
 
         return CheckBalanceResponse.of(userId);
     }
@@ -67,9 +69,7 @@ public class SettlementService {
         return CheckQuantityResponse.of(userId);
     }
 
-    private BigDecimal calculateOrderFee(BigDecimal totalPrice) {
-        BigDecimal feeRate = feePolicy.getTakerFeeRate();
-
-        return totalPrice.multiply(feeRate).setScale(8, RoundingMode.DOWN);
+    private Amount calculateOrderFee(Amount totalPrice) {
+        return totalPrice.multiply(feePolicy.getTakerFeeRate());
     }
 }
@@ -10,6 +10,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.util.Collection;
 
 
 @Transactional
@@ -24,6 +25,13 @@ public class UserBalanceService {
                 .orElseThrow(UserBalanceNotFoundException::new);
     }
 
+    public void lockAll(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        userBalanceRepository.findAllByUserIdInOrderByUserIdAsc(userIds);
+    }
+
     public void decreaseLockBalance(Long userId, BigDecimal totalPrice) {
         int updatedRows = userBalanceRepository.decreaseLockBalance(userId, totalPrice);
 
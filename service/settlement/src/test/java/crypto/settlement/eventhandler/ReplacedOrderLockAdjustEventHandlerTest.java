@@ -0,0 +1,81 @@
+package crypto.settlement.eventhandler;
+
+import crypto.common.fixedpoint.Amount;
+import crypto.common.fixedpoint.Quantity;
+import crypto.event.Event;
+import crypto.event.payload.RefundPayload;
+import crypto.settlement.service.UserBalanceService;
+import crypto.settlement.service.UserCoinService;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+
+import static crypto.event.EventType.ADJUST_REPLACED_ORDER_LOCK;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+
+@ExtendWith(MockitoExtension.class)
+class ReplacedOrderLockAdjustEventHandlerTest {
+
+    @Mock
+    private UserBalanceService userBalanceService;
+
+    @Mock
+    private UserCoinService userCoinService;
+
+    @InjectMocks
+    private ReplacedOrderLockAdjustEventHandler replacedOrderLockAdjustEventHandler;
+
+    @DisplayName("매수 주문 정정으로 줄어든 잠금 금액을 사용 가능 잔고로 푼다.")
+    @Test
+    void releaseBalance() {
+        // given
+        Event event = adjustEvent(RefundPayload.builder().userId(7L).symbol("BTC").totalRemainPrice(Amount.of("150.5")).build());
+
+        // when
+        replacedOrderLockAdjustEventHandler.handle(event);
+
+        // then
+        verify(userBalanceService).decreaseLockBalance(eq(7L), argThat(amount -> amount.compareTo(new BigDecimal("150.5")) == 0));
+        verify(userBalanceService).increaseAvailableBalance(eq(7L), argThat(amount -> amount.compareTo(new BigDecimal("150.5")) == 0));
+        verifyNoInteractions(userCoinService);
+    }
+
+    @DisplayName("매도 주문 정정으로 줄어든 잠금 수량을 사용 가능 수량으로 푼다.")
+    @Test
+    void releaseQuantity() {
+        // given
+        Event event = adjustEvent(RefundPayload.builder().userId(7L).symbol("BTC").remainQuantity(Quantity.of("0.5")).build());
+
+        // when
+        replacedOrderLockAdjustEventHandler.handle(event);
+
+        // then
+        verify(userCoinService).decreaseLockQuantity(eq(7L), eq("BTC"), argThat(quantity -> quantity.compareTo(new BigDecimal("0.5")) == 0));
+        verify(userCoinService).increaseAvailableQuantity(eq(7L), eq("BTC"), argThat(quantity -> quantity.compareTo(new BigDecimal("0.5")) == 0));
+        verifyNoInteractions(userBalanceService);
+    }
+
+    @DisplayName("잠금을 더 잡으라는 조정은 잔고 확인을 거치지 않았으므로 반영하지 않고 실패시킨다.")
+    @Test
+    void rejectNegativeAdjustment() {
+        // given
+        Event event = adjustEvent(RefundPayload.builder().userId(7L).symbol("BTC").totalRemainPrice(Amount.of("-10")).build());
+
+        // when // then
+        assertThatThrownBy(() -> replacedOrderLockAdjustEventHandler.handle(event))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(userBalanceService, userCoinService);
+    }
+
+    private static Event adjustEvent(RefundPayload payload) {
+        return Event.of("event-1", ADJUST_REPLACED_ORDER_LOCK, payload);
+    }
+}
@@ -0,0 +1,85 @@
+package crypto.settlement.service;
+
+import crypto.event.Event;
+import crypto.event.payload.RefundPayload;
+import crypto.event.payload.SettlementPayload;
+import crypto.settlement.entity.SettlementProcessedEvent;
+import crypto.settlement.eventhandler.EventHandler;
+import crypto.settlement.repository.SettlementProcessedEventDbRepository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static crypto.event.EventType.*;
+import static org.mockito.Mockito.*;
+
+
+@ExtendWith(MockitoExtension.class)
+class SettlementEventServiceTest {
+
+    @Mock
+    private EventHandler eventHandler;
+
+    @Mock
+    private SettlementProcessedEventDbRepository settlementProcessedEventDbRepository;
+
+    @Mock
+    private UserBalanceService userBalanceService;
+
+    private SettlementEventService settlementEventService;
+
+    @BeforeEach
+    void setUp() {
+        settlementEventService = new SettlementEventService(List.of(eventHandler), settlementProcessedEventDbRepository, userBalanceService);
+    }
+
+    @DisplayName("배치를 반영하기 전에 배치에 나오는 모든 사용자의 잔고 행을 ID 오름차순으로 한 번에 잠근다.")
+    @Test
+    void lockAllUsersBeforeHandlingBatch() {
+        // given
+        Event first = settlementEvent("event-1", 7L, 3L);
+        Event second = settlementEvent("event-2", 5L, 9L);
+        Event refund = Event.of("event-3", REFUND_LOCKED_BALANCE, RefundPayload.builder().userId(3L).build());
+        when(eventHandler.supports(any(Event.class))).thenReturn(true);
+
+        // when
+        settlementEventService.handleEvents(List.of(first, second, refund));
+
+        // then
+        InOrder inOrder = inOrder(userBalanceService, eventHandler);
+        inOrder.verify(userBalanceService).lockAll(List.of(3L, 5L, 7L, 9L));
+        inOrder.verify(eventHandler).handle(first);
+        inOrder.verify(eventHandler).handle(second);
+        inOrder.verify(eventHandler).handle(refund);
+        verify(settlementProcessedEventDbRepository, times(3)).save(any(SettlementProcessedEvent.class));
+    }
+
+    @DisplayName("이벤트 하나를 따로 처리할 때는 배치 잠금을 걸지 않는다.")
+    @Test
+    void handleSingleEventWithoutBatchLock() {
+        // given
+        Event event = settlementEvent("event-1", 7L, 3L);
+        when(eventHandler.supports(event)).thenReturn(true);
+
+        // when
+        settlementEventService.handleEvent(event);
+
+        // then
+        verify(eventHandler).handle(event);
+        verifyNoInteractions(userBalanceService);
+    }
+
+    private static Event settlementEvent(String eventId, Long takerId, Long makerId) {
+        return Event.of(eventId, BUY_ORDER_SETTLEMENT, SettlementPayload.builder()
+                .takerId(takerId)
+                .makerId(makerId)
+                .build());
+    }
+}
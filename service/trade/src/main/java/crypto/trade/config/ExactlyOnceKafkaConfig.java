@@ -0,0 +1,34 @@
+package crypto.trade.config;
+
+import crypto.trade.consumer.ExactlyOnceProcessedEventStore;
+import crypto.trade.consumer.ExactlyOncePublisher;
+import crypto.trade.persistence.TradeWriteBehind;
+import crypto.trade.repository.TradeProcessedEventDbRepository;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+
+
+// 트랜잭션 프로듀서는 빈으로 등록하지 않는다. ProducerFactory 나 KafkaTemplate 빈이 생기면 기본 빈이 만들어지지 않는다.
+@Configuration
+@ConditionalOnProperty(name = "trade.kafka.exactly-once.enabled", havingValue = "true")
+public class ExactlyOnceKafkaConfig {
+
+    @Bean(destroyMethod = "close")
+    public ExactlyOncePublisher exactlyOncePublisher(KafkaProperties kafkaProperties, TradeWriteBehind tradeWriteBehind,
+                                                     @Value("${trade.kafka.exactly-once.transaction-id-prefix:trade-tx-}") String transactionIdPrefix) {
+        DefaultKafkaProducerFactory<String, byte[]> producerFactory = new DefaultKafkaProducerFactory<>(kafkaProperties.buildProducerProperties(null));
+        producerFactory.setTransactionIdPrefix(transactionIdPrefix);
+        return new ExactlyOncePublisher(producerFactory, tradeWriteBehind);
+    }
+
+    @Bean
+    public ExactlyOnceProcessedEventStore exactlyOnceProcessedEventStore(TradeProcessedEventDbRepository tradeProcessedEventDbRepository,
+                                                                         @Value("${crypto.idempotency.local-cache-size:100000}") int localCacheSize) {
+        return new ExactlyOnceProcessedEventStore(tradeProcessedEventDbRepository, localCacheSize);
+    }
+}
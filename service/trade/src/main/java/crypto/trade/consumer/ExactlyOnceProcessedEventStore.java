@@ -0,0 +1,46 @@
+package crypto.trade.consumer;
+
+import crypto.event.consumer.ProcessedEventStore;
+import crypto.event.consumer.RecentEventIdCache;
+import crypto.trade.entity.TradeProcessedEvent;
+import crypto.trade.repository.TradeProcessedEventDbRepository;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+
+// 카프카 트랜잭션 모드에서 Redis 대신 쓰는 중복 확인. 오프셋이 결과와 함께 커밋되므로 다시 전달되는 것은 중단된 트랜잭션의 배치뿐이다.
+// 이 프로세스에서 처리한 것은 최근 eventId 캐시가 걸러내고, 재시작 전에 처리한 것은 쓰기 지연 재반영이 끝난 DB 가 걸러낸다.
+public class ExactlyOnceProcessedEventStore implements ProcessedEventStore {
+
+    private final TradeProcessedEventDbRepository tradeProcessedEventDbRepository;
+    private final RecentEventIdCache recentEventIds;
+
+    public ExactlyOnceProcessedEventStore(TradeProcessedEventDbRepository tradeProcessedEventDbRepository, int localCacheSize) {
+        this.tradeProcessedEventDbRepository = tradeProcessedEventDbRepository;
+        this.recentEventIds = new RecentEventIdCache(localCacheSize);
+    }
+
+    @Override
+    public Set<String> claimAll(Collection<String> eventIds) {
+        List<String> candidates = recentEventIds.filterUnseen(eventIds);
+        if (candidates.isEmpty()) {
+            return Set.of();
+        }
+
+        Set<String> claimed = new LinkedHashSet<>(candidates);
+        tradeProcessedEventDbRepository.findAllById(candidates).stream()
+                .map(TradeProcessedEvent::getEventId)
+                .forEach(claimed::remove);
+
+        recentEventIds.addAll(candidates);
+        return claimed;
+    }
+
+    @Override
+    public void releaseAll(Collection<String> eventIds) {
+        recentEventIds.removeAll(eventIds);
+    }
+}
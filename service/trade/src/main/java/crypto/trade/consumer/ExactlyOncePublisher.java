@@ -0,0 +1,98 @@
+package crypto.trade.consumer;
+
+import crypto.trade.entity.TradeOutboxEvent;
+import crypto.trade.persistence.TradeWriteBehind;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.apache.kafka.clients.consumer.ConsumerGroupMetadata;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+import java.util.function.Supplier;
+
+
+// 매칭이 만든 이벤트를 모아 두었다가, 소비한 오프셋과 함께 카프카 트랜잭션 하나로 커밋한다.
+// 아웃박스 행은 그대로 남겨 두고 커밋된 뒤에 지우므로, 트랜잭션이 중단되면 릴레이가 유예 시간 뒤에 대신 보낸다.
+@Slf4j
+public class ExactlyOncePublisher {
+
+    private final DefaultKafkaProducerFactory<String, byte[]> producerFactory;
+    private final KafkaTemplate<String, byte[]> transactionalTemplate;
+    private final TradeWriteBehind tradeWriteBehind;
+    private final ThreadLocal<List<TradeOutboxEvent>> collected = new ThreadLocal<>();
+
+    public ExactlyOncePublisher(DefaultKafkaProducerFactory<String, byte[]> producerFactory, TradeWriteBehind tradeWriteBehind) {
+        this.producerFactory = producerFactory;
+        this.transactionalTemplate = new KafkaTemplate<>(producerFactory);
+        this.tradeWriteBehind = tradeWriteBehind;
+    }
+
+    // task 가 실행되는 동안 커밋된 매칭 트랜잭션의 이벤트를 sink 에 모은다. 매칭 샤드 스레드에서 호출된다.
+    public <T> T collecting(List<TradeOutboxEvent> sink, Supplier<T> task) {
+        collected.set(sink);
+        try {
+            return task.get();
+        } finally {
+            collected.remove();
+        }
+    }
+
+    public void collect(TradeOutboxEvent outboxEvent) {
+        List<TradeOutboxEvent> sink = collected.get();
+        if (sink == null) {
+            return;
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            sink.add(outboxEvent);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                sink.add(outboxEvent);
+            }
+        });
+    }
+
+    // 리스너 스레드에서 호출한다. 실패하면 예외를 던져 컨테이너가 배치를 다시 전달하게 한다.
+    // 실패한 이벤트의 보상 이벤트와 DLQ 메시지도 같은 트랜잭션으로 보내, 배치가 다시 전달되어도 두 번 나가지 않는다.
+    public void publish(List<TradeOutboxEvent> outboxEvents, List<ProducerRecord<String, byte[]>> failureRecords,
+                        List<ConsumerRecord<String, byte[]>> records, ConsumerGroupMetadata groupMetadata) {
+        Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>();
+        for (ConsumerRecord<String, byte[]> record : records) {
+            offsets.merge(new TopicPartition(record.topic(), record.partition()), new OffsetAndMetadata(record.offset() + 1),
+                    (current, next) -> (next.offset() > current.offset()) ? next : current);
+        }
+
+        transactionalTemplate.executeInTransaction(operations -> {
+            for (TradeOutboxEvent outboxEvent : outboxEvents) {
+                operations.send(outboxEvent.getTopic(), outboxEvent.getMessageKey(), outboxEvent.getMessage());
+            }
+            for (ProducerRecord<String, byte[]> failureRecord : failureRecords) {
+                operations.send(failureRecord);
+            }
+            operations.sendOffsetsToTransaction(offsets, groupMetadata);
+            return null;
+        });
+
+        if (!outboxEvents.isEmpty()) {
+            tradeWriteBehind.discardOutboxEvents(outboxEvents.stream().map(TradeOutboxEvent::getId).toList());
+        }
+        log.debug("[ExactlyOncePublisher.publish] Kafka transaction committed. events={}, failures={}, partitions={}",
+                outboxEvents.size(), failureRecords.size(), offsets.size());
+    }
+
+    public void close() {
+        producerFactory.destroy();
+    }
+}
@@ -2,109 +2,156 @@ package crypto.trade.consumer;
 
 import crypto.dataserializer.DataSerializer;
 import crypto.event.Event;
+import crypto.event.consumer.BatchEventConsumer;
+import crypto.event.consumer.EventFailure;
+import crypto.event.consumer.ProcessedEventStore;
 import crypto.event.eventsender.OrderEventSender;
-import crypto.event.payload.EventPayload;
+import crypto.event.payload.CancelPayload;
+import crypto.event.payload.OrderPayload;
+import crypto.trade.entity.TradeOutboxEvent;
+import crypto.trade.repository.TradeProcessedEventRepository;
+import crypto.trade.sequencer.MatchingSequencer;
 import crypto.trade.service.TradeEventService;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 import static crypto.event.EventType.*;
 
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
-public class TradeEventConsumer {
+public class TradeEventConsumer extends BatchEventConsumer {
 
     private final DataSerializer dataSerializer;
     private final OrderEventSender orderEventSender;
     private final TradeEventService tradeEventService;
-    private final KafkaTemplate<String, String> kafkaTemplate;
-
-    @KafkaListener(topics = Topic.CRYPTO_TRADE, groupId = "crypto-trade", id = "tradeListener")
-    public void listen(String message, Acknowledgment ack) {
-        log.info("[TradeEventConsumer.listen] received message={}", message);
-        Event event = dataSerializer.deserialize(message, Event.class);
+    private final MatchingSequencer matchingSequencer;
+    private final ExactlyOncePublisher exactlyOncePublisher;
+    private final ThreadLocal<List<ProducerRecord<String, byte[]>>> failureRecords = new ThreadLocal<>();
+
+    public TradeEventConsumer(DataSerializer dataSerializer, KafkaTemplate<String, byte[]> kafkaTemplate,
+                              TradeProcessedEventRepository tradeProcessedEventRepository,
+                              ObjectProvider<ExactlyOnceProcessedEventStore> exactlyOnceProcessedEventStoreProvider,
+                              OrderEventSender orderEventSender, TradeEventService tradeEventService, MatchingSequencer matchingSequencer,
+                              ObjectProvider<ExactlyOncePublisher> exactlyOncePublisherProvider) {
+        super(dataSerializer, kafkaTemplate, processedEventStore(exactlyOnceProcessedEventStoreProvider, tradeProcessedEventRepository),
+                Topic.CRYPTO_TRADE_DLQ, FAIL_TRADE_EVENT);
+        this.dataSerializer = dataSerializer;
+        this.orderEventSender = orderEventSender;
+        this.tradeEventService = tradeEventService;
+        this.matchingSequencer = matchingSequencer;
+        this.exactlyOncePublisher = exactlyOncePublisherProvider.getIfAvailable();
+    }
 
-        if (event == null) {
-            log.error("[TradeEventConsumer.listen] Failed to parse event from message: message={}", message);
-            sendToDeadLetterQueue(message, "EVENT_IS_NULL_AFTER_PARSING");
-            ack.acknowledge();
+    @KafkaListener(topics = Topic.CRYPTO_TRADE, groupId = "crypto-trade", id = "tradeListener", batch = "true",
+            concurrency = "${crypto.event.partitions.crypto-trade:1}")
+    public void listen(List<ConsumerRecord<String, byte[]>> records, Acknowledgment ack, Consumer<?, ?> consumer) {
+        if (exactlyOncePublisher == null) {
+            consume(records, ack, "ERROR_PROCESSING_TRADE_EVENT", events -> handleBySymbol(events, null));
             return;
         }
 
+        // 카프카 트랜잭션 모드에서는 매칭이 만든 이벤트와 실패 처리 메시지를 모아 두었다가 오프셋과 함께 한 트랜잭션으로 커밋한다.
+        // 오프셋은 트랜잭션으로 커밋되므로 ack 로 다시 커밋하지 않는다.
+        List<TradeOutboxEvent> produced = Collections.synchronizedList(new ArrayList<>());
+        List<ProducerRecord<String, byte[]>> failed = new ArrayList<>();
+        Acknowledgment commitInTransaction = () -> exactlyOncePublisher.publish(produced, failed, records, consumer.groupMetadata());
+
+        failureRecords.set(failed);
         try {
-            tradeEventService.handleEvent(event);
-            ack.acknowledge();
-        } catch (Exception e) {
-            log.error("[TradeEventConsumer.listen] Error processing trade event: event={}, message={}, error={}", event, message, e.getMessage(), e);
-
-            try {
-                Long orderId = event.getPayload().getOrderId();
-                EventPayload failurePayload = EventPayload.builder()
-                        .orderId(orderId)
-                        .failMessage("Trade execution failed: " + e.getMessage())
-                        .build();
-                orderEventSender.sendFailCompleteEvent(ORDER_CANCEL_EVENT, orderId, failurePayload);
-                log.info("[TradeEventConsumer.listen] Sent trade execution failure event for orderId: {}", orderId);
-
-            } catch (Exception sendEx) {
-                log.error("[TradeEventConsumer.listen] CRITICAL: Failed to send failure event to order application. error={}", sendEx.getMessage(), sendEx);
-            }
-            sendToDeadLetterQueue(message, "ERROR_PROCESSING_TRADE_EVENT");
-            ack.acknowledge();
+            consume(records, commitInTransaction, "ERROR_PROCESSING_TRADE_EVENT", events -> handleBySymbol(events, produced));
+        } finally {
+            failureRecords.remove();
         }
     }
 
-    @KafkaListener(topics = Topic.CRYPTO_ORDER_CANCEL, groupId = "crypto-order-cancel", id = "orderFailListener")
-    public void listenFailEvent(String message, Acknowledgment ack) {
-        log.info("[TradeEventConsumer.listenFailEvent] received message={}", message);
-        Event event = dataSerializer.deserialize(message, Event.class);
+    @KafkaListener(topics = Topic.CRYPTO_ORDER_CANCEL, groupId = "crypto-order-cancel", id = "orderFailListener", batch = "true")
+    public void listenFailEvent(List<ConsumerRecord<String, byte[]>> records, Acknowledgment ack) {
+        consume(records, ack, "ERROR_PROCESSING_ORDER_EVENT", perEvent(tradeEventService::handleFailEvent));
+    }
+
+    // 매칭 결과 체결이 이벤트마다 쓰기 지연 큐로 넘어가므로 트랜잭션은 이벤트마다 두고, 심볼별로 샤드에 나눠 보내 샤드끼리 병렬로 처리한다.
+    private List<EventFailure> handleBySymbol(List<Event> events, List<TradeOutboxEvent> produced) {
+        Map<String, List<Event>> eventsBySymbol = new LinkedHashMap<>();
+        List<EventFailure> failures = new ArrayList<>();
 
-        if (event == null) {
-            log.error("[TradeEventConsumer.listenFailEvent] Failed to parse event from message: message={}", message);
-            sendToDeadLetterQueue(message, "EVENT_IS_NULL_AFTER_PARSING");
-            ack.acknowledge();
-            return;
+        for (Event event : events) {
+            if (!(event.getPayload() instanceof OrderPayload payload) || payload.symbol() == null) {
+                failures.add(new EventFailure(event, new IllegalArgumentException("Symbol is missing. eventId=" + event.getEventId())));
+                continue;
+            }
+            eventsBySymbol.computeIfAbsent(payload.symbol(), symbol -> new ArrayList<>()).add(event);
         }
 
-        try {
-            tradeEventService.handleFailEvent(event);
-            ack.acknowledge();
-        } catch (Exception e) {
-            log.error("[TradeEventConsumer.listenFailEvent] Error processing order event: event={}, message={}, error={}", event, message, e.getMessage(), e);
-            sendToDeadLetterQueue(message, "ERROR_PROCESSING_ORDER_EVENT");
-            ack.acknowledge();
+        List<CompletableFuture<List<EventFailure>>> futures = new ArrayList<>(eventsBySymbol.size());
+        eventsBySymbol.forEach((symbol, symbolEvents) -> {
+            if (produced == null) {
+                futures.add(matchingSequencer.dispatch(symbol, () -> perEvent(tradeEventService::handleEvent).handle(symbolEvents)));
+            } else {
+                futures.add(matchingSequencer.dispatch(symbol, () -> exactlyOncePublisher.collecting(produced,
+                        () -> perEvent(tradeEventService::handleEvent).handle(symbolEvents))));
+            }
+        });
+
+        for (CompletableFuture<List<EventFailure>> future : futures) {
+            failures.addAll(future.join());
+        }
+        return failures;
+    }
+
+    private static ProcessedEventStore processedEventStore(ObjectProvider<ExactlyOnceProcessedEventStore> exactlyOnceProcessedEventStoreProvider,
+                                                           TradeProcessedEventRepository tradeProcessedEventRepository) {
+        ExactlyOnceProcessedEventStore exactlyOnceProcessedEventStore = exactlyOnceProcessedEventStoreProvider.getIfAvailable();
+        return (exactlyOnceProcessedEventStore != null) ? exactlyOnceProcessedEventStore : tradeProcessedEventRepository;
+    }
+
+    // 매칭 실패는 주문 애플리케이션에 알려 주문을 취소한다. 취소 이벤트 처리 실패는 DLQ 로만 보낸다.
+    @Override
+    protected void onFailure(Event event, Exception cause) {
+        if (event.getPayload() instanceof OrderPayload payload) {
+            CancelPayload failurePayload = CancelPayload.builder()
+                    .orderId(payload.orderId())
+                    .failMessage("Trade execution failed: " + cause.getMessage())
+                    .build();
+
+            List<ProducerRecord<String, byte[]>> pending = failureRecords.get();
+            if (pending != null) {
+                String topic = ORDER_CANCEL_EVENT.getTopic();
+                byte[] message = dataSerializer.serialize(topic, Event.of(UUID.randomUUID().toString(), ORDER_CANCEL_EVENT, failurePayload));
+                pending.add(new ProducerRecord<>(topic, String.valueOf(payload.orderId()), message));
+                log.info("[TradeEventConsumer.onFailure] Queued trade execution failure event in Kafka transaction for orderId: {}", payload.orderId());
+                return;
+            }
+
+            orderEventSender.sendFailCompleteEvent(ORDER_CANCEL_EVENT, payload.orderId(), failurePayload);
+            log.info("[TradeEventConsumer.onFailure] Sent trade execution failure event for orderId: {}", payload.orderId());
         }
     }
 
+    @Override
     public void sendToDeadLetterQueue(String originalMessage, String failMessage) {
-        String dlqTopic = Topic.CRYPTO_TRADE_DLQ;
-
-        EventPayload payload = EventPayload.builder()
-                .originalMessage(originalMessage)
-                .failMessage(failMessage)
-                .build();
-
-        String json = dataSerializer.serialize(Event.of(
-                UUID.randomUUID().toString(), FAIL_TRADE_EVENT, payload
-        ));
-
-        kafkaTemplate.send(dlqTopic, json)
-                .whenComplete((result, ex) -> {
-                    if (ex == null) {
-                        log.info("[TradeEventConsumer.sendToDeadLetterQueue] Successfully sent message to DLQ. topic={}, message={}", dlqTopic, originalMessage);
-                    } else {
-                        log.error("[TradeEventConsumer.sendToDeadLetterQueue] Failed to send message to DLQ. topic={}, message={}, error={}", dlqTopic, originalMessage, ex.getMessage(), ex);
-                    }
-                });
+        List<ProducerRecord<String, byte[]>> pending = failureRecords.get();
+        if (pending == null) {
+            super.sendToDeadLetterQueue(originalMessage, failMessage);
+            return;
+        }
+        pending.add(new ProducerRecord<>(Topic.CRYPTO_TRADE_DLQ, deadLetterMessage(originalMessage, failMessage)));
     }
 }
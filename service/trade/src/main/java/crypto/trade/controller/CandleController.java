@@ -0,0 +1,31 @@
+package crypto.trade.controller;
+
+import crypto.common.api.response.ApiResponse;
+import crypto.trade.controller.response.CandleResponse;
+import crypto.trade.entity.CandleInterval;
+import crypto.trade.service.CandleService;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+
+@RequiredArgsConstructor
+@RestController
+public class CandleController {
+
+    private final CandleService candleService;
+
+    @GetMapping("/api/v1/candles")
+    public ApiResponse<List<CandleResponse>> getCandles(@RequestParam String symbol,
+                                                        @RequestParam CandleInterval interval,
+                                                        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+                                                        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+
+        return ApiResponse.success(candleService.getCandles(symbol, interval, from, to));
+    }
+}
@@ -0,0 +1,30 @@
+package crypto.trade.controller;
+
+import crypto.common.api.response.ApiResponse;
+import crypto.trade.controller.response.TickerResponse;
+import crypto.trade.marketdata.Ticker;
+import crypto.trade.marketdata.TickerAggregator;
+import crypto.trade.marketdata.exception.TickerNotFoundException;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.web.bind.annotation.*;
+
+
+@RequiredArgsConstructor
+@RestController
+public class TickerController {
+
+    private final TickerAggregator tickerAggregator;
+
+    @GetMapping("/api/v1/tickers/{symbol}")
+    public ApiResponse<TickerResponse> getTicker(@PathVariable String symbol) {
+        Ticker ticker = tickerAggregator.findTicker(symbol);
+
+        if (ticker == null) {
+            throw new TickerNotFoundException();
+        }
+
+        return ApiResponse.success(TickerResponse.of(ticker));
+    }
+}
@@ -0,0 +1,60 @@
+package crypto.trade.controller.response;
+
+import crypto.common.fixedpoint.Amount;
+import crypto.common.fixedpoint.Price;
+import crypto.common.fixedpoint.Quantity;
+import crypto.trade.entity.Candle;
+import crypto.trade.entity.CandleInterval;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+
+@Getter
+@NoArgsConstructor
+public class CandleResponse {
+
+    private String symbol;
+    private CandleInterval interval;
+    private LocalDateTime openTime;
+    private Price openPrice;
+    private Price highPrice;
+    private Price lowPrice;
+    private Price closePrice;
+    private Quantity volume;
+    private Amount quoteVolume;
+    private long tradeCount;
+
+    @Builder
+    public CandleResponse(String symbol, CandleInterval interval, LocalDateTime openTime, Price openPrice, Price highPrice,
+                          Price lowPrice, Price closePrice, Quantity volume, Amount quoteVolume, long tradeCount) {
+        this.symbol = symbol;
+        this.interval = interval;
+        this.openTime = openTime;
+        this.openPrice = openPrice;
+        this.highPrice = highPrice;
+        this.lowPrice = lowPrice;
+        this.closePrice = closePrice;
+        this.volume = volume;
+        this.quoteVolume = quoteVolume;
+        this.tradeCount = tradeCount;
+    }
+
+    public static CandleResponse of(Candle candle) {
+        return CandleResponse.builder()
+                .symbol(candle.getSymbol())
+                .interval(candle.getInterval())
+                .openTime(candle.getOpenTime())
+                .openPrice(candle.getOpenPrice())
+                .highPrice(candle.getHighPrice())
+                .lowPrice(candle.getLowPrice())
+                .closePrice(candle.getClosePrice())
+                .volume(candle.getVolume())
+                .quoteVolume(candle.getQuoteVolume())
+                .tradeCount(candle.getTradeCount())
+                .build();
+    }
+}
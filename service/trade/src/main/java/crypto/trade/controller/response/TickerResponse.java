@@ -0,0 +1,56 @@
+package crypto.trade.controller.response;
+
+import crypto.common.fixedpoint.Amount;
+import crypto.common.fixedpoint.Price;
+import crypto.common.fixedpoint.Quantity;
+import crypto.trade.marketdata.Ticker;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+
+@Getter
+@NoArgsConstructor
+public class TickerResponse {
+
+    private String symbol;
+    private Price lastPrice;
+    private Price openPrice;
+    private Price highPrice;
+    private Price lowPrice;
+    private Quantity volume;
+    private Amount quoteVolume;
+    private long tradeCount;
+    private BigDecimal changeRate;
+
+    @Builder
+    public TickerResponse(String symbol, Price lastPrice, Price openPrice, Price highPrice, Price lowPrice,
+                          Quantity volume, Amount quoteVolume, long tradeCount, BigDecimal changeRate) {
+        this.symbol = symbol;
+        this.lastPrice = lastPrice;
+        this.openPrice = openPrice;
+        this.highPrice = highPrice;
+        this.lowPrice = lowPrice;
+        this.volume = volume;
+        this.quoteVolume = quoteVolume;
+        this.tradeCount = tradeCount;
+        this.changeRate = changeRate;
+    }
+
+    public static TickerResponse of(Ticker ticker) {
+        return TickerResponse.builder()
+                .symbol(ticker.symbol())
+                .lastPrice(ticker.lastPrice())
+                .openPrice(ticker.openPrice())
+                .highPrice(ticker.highPrice())
+                .lowPrice(ticker.lowPrice())
+                .volume(ticker.volume())
+                .quoteVolume(ticker.quoteVolume())
+                .tradeCount(ticker.tradeCount())
+                .changeRate(ticker.changeRate())
+                .build();
+    }
+}
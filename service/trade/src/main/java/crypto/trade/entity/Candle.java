@@ -0,0 +1,88 @@
+package crypto.trade.entity;
+
+import crypto.baseentity.id.SnowflakeId;
+import crypto.common.fixedpoint.Amount;
+import crypto.common.fixedpoint.Price;
+import crypto.common.fixedpoint.Quantity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "candles", uniqueConstraints = @UniqueConstraint(columnNames = {"symbol", "candle_interval", "open_time"}))
+public class Candle {
+
+    @Id @Column(name = "candle_id")
+    @SnowflakeId
+    private Long id;
+
+    private String symbol;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "candle_interval")
+    private CandleInterval interval;
+
+    @Column(name = "open_time")
+    private LocalDateTime openTime;
+
+    private Price openPrice;
+    private Price highPrice;
+    private Price lowPrice;
+    private Price closePrice;
+
+    private Quantity volume;
+    private Amount quoteVolume;
+    private long tradeCount;
+
+    private Candle(String symbol, CandleInterval interval, LocalDateTime openTime, Price price) {
+        this.symbol = symbol;
+        this.interval = interval;
+        this.openTime = openTime;
+        this.openPrice = price;
+        this.highPrice = price;
+        this.lowPrice = price;
+        this.closePrice = price;
+        this.volume = Quantity.ZERO;
+        this.quoteVolume = Amount.ZERO;
+    }
+
+    public static Candle open(String symbol, CandleInterval interval, LocalDateTime openTime, Price price) {
+        return new Candle(symbol, interval, openTime, price);
+    }
+
+    public void add(Price price, Quantity quantity) {
+        if (price.compareTo(highPrice) > 0) highPrice = price;
+        if (price.compareTo(lowPrice) < 0) lowPrice = price;
+        closePrice = price;
+        volume = volume.add(quantity);
+        quoteVolume = quoteVolume.add(price.multiply(quantity));
+        tradeCount++;
+    }
+
+    // 재시작 등으로 같은 구간의 캔들이 나뉘어 저장될 때, 뒤에 만들어진 캔들을 이 캔들에 합친다.
+    public void merge(Candle later) {
+        if (later.highPrice.compareTo(highPrice) > 0) highPrice = later.highPrice;
+        if (later.lowPrice.compareTo(lowPrice) < 0) lowPrice = later.lowPrice;
+        closePrice = later.closePrice;
+        volume = volume.add(later.volume);
+        quoteVolume = quoteVolume.add(later.quoteVolume);
+        tradeCount += later.tradeCount;
+    }
+
+    public LocalDateTime getCloseTime() {
+        return openTime.plus(interval.getDuration());
+    }
+
+    public Candle copy() {
+        Candle candle = new Candle(symbol, interval, openTime, openPrice);
+        candle.merge(this);
+        return candle;
+    }
+}
@@ -0,0 +1,28 @@
+package crypto.trade.entity;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+
+@Getter
+@RequiredArgsConstructor
+public enum CandleInterval {
+    ONE_SECOND(Duration.ofSeconds(1)),
+    ONE_MINUTE(Duration.ofMinutes(1)),
+    FIVE_MINUTES(Duration.ofMinutes(5)),
+    ONE_HOUR(Duration.ofHours(1)),
+    ONE_DAY(Duration.ofDays(1));
+
+    private final Duration duration;
+
+    // dateTime 이 속한 구간의 시작 시각. 시각을 UTC 기준 초로 보고 구간 길이로 내림한다.
+    public LocalDateTime openTimeOf(LocalDateTime dateTime) {
+        long seconds = duration.getSeconds();
+        long epochSecond = dateTime.toEpochSecond(ZoneOffset.UTC);
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(epochSecond, seconds) * seconds, 0, ZoneOffset.UTC);
+    }
+}
@@ -1,12 +1,16 @@
 package crypto.trade.entity;
 
+import crypto.baseentity.id.SnowflakeId;
+import crypto.common.fixedpoint.Amount;
+import crypto.common.fixedpoint.Price;
+import crypto.common.fixedpoint.Quantity;
+
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 
@@ -17,12 +21,12 @@ import java.time.LocalDateTime;
 public class Trade {
 
     @Id @Column(name = "trade_id")
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     private Long id;
 
     private String symbol;
-    private BigDecimal price;
-    private BigDecimal quantity;
+    private Price price;
+    private Quantity quantity;
 
     private String orderSide;
 
@@ -32,15 +36,15 @@ public class Trade {
     private Long takerUserId;
     private Long makerUserId;
 
-    private BigDecimal takerFee;
-    private BigDecimal makerFee;
+    private Amount takerFee;
+    private Amount makerFee;
 
     private LocalDateTime tradedAt;
     private LocalDateTime deletedAt;
 
     @Builder
-    public Trade(String symbol, BigDecimal price, BigDecimal quantity, String orderSide, Long takerOrderId, Long makerOrderId,
-                 Long takerUserId, Long makerUserId, BigDecimal takerFee, BigDecimal makerFee, LocalDateTime tradedAt) {
+    public Trade(String symbol, Price price, Quantity quantity, String orderSide, Long takerOrderId, Long makerOrderId,
+                 Long takerUserId, Long makerUserId, Amount takerFee, Amount makerFee, LocalDateTime tradedAt) {
         this.symbol = symbol;
         this.price = price;
         this.quantity = quantity;
@@ -54,8 +58,8 @@ public class Trade {
         this.tradedAt = tradedAt;
     }
 
-    public static Trade create(String symbol, BigDecimal price, BigDecimal quantity, String orderSide, Long takerOrderId,
-                               Long makerOrderId, Long takerUserId, Long makerUserId, BigDecimal takerFee, BigDecimal makerFee, LocalDateTime tradedAt) {
+    public static Trade create(String symbol, Price price, Quantity quantity, String orderSide, Long takerOrderId,
+                               Long makerOrderId, Long takerUserId, Long makerUserId, Amount takerFee, Amount makerFee, LocalDateTime tradedAt) {
         return Trade.builder()
                 .symbol(symbol)
                 .price(price)
@@ -71,6 +75,10 @@ public class Trade {
                 .build();
     }
 
+    public void assignId(Long id) {
+        this.id = id;
+    }
+
     public void markDeleted(LocalDateTime deletedDateTime) {
         this.deletedAt = deletedDateTime;
     }
@@ -1,5 +1,9 @@
 package crypto.trade.entity;
 
+import crypto.baseentity.id.SnowflakeId;
+import crypto.common.fixedpoint.Price;
+import crypto.common.fixedpoint.Quantity;
+import crypto.event.TimeInForce;
 import crypto.trade.entity.exception.FilledQuantityExceedException;
 
 import jakarta.persistence.*;
@@ -8,7 +12,6 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 import static crypto.trade.entity.TradeOrderStatus.*;
@@ -22,15 +25,15 @@ public class TradeOrder {
 
     @Id
     @Column(name = "trade_order_id")
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     private Long id;
     private Long orderId;
     private Long userId;
 
     private String symbol;
-    private BigDecimal price;
-    private BigDecimal quantity;
-    private BigDecimal filledQuantity = BigDecimal.ZERO;
+    private Price price;
+    private Quantity quantity;
+    private Quantity filledQuantity = Quantity.ZERO;
 
     @Enumerated(EnumType.STRING)
     private TradeOrderSide orderSide;
@@ -40,8 +43,12 @@ public class TradeOrder {
 
     private LocalDateTime registeredDateTime;
 
+    // 호가창에 남지 않는 IOC/FOK 주문은 행으로 저장하지 않으므로 유효 조건도 행에 저장하지 않는다. 호가창에 남은 주문의 유효 조건은 호가창의 칸에 둔다.
+    @Transient
+    private TimeInForce timeInForce = TimeInForce.GTC;
+
     @Builder
-    public TradeOrder(Long orderId, Long userId, String symbol, BigDecimal price, BigDecimal quantity,
+    public TradeOrder(Long orderId, Long userId, String symbol, Price price, Quantity quantity,
                       TradeOrderSide orderSide, LocalDateTime registeredDateTime) {
         this.orderId = orderId;
         this.userId = userId;
@@ -52,7 +59,7 @@ public class TradeOrder {
         this.registeredDateTime = registeredDateTime;
     }
 
-    public static TradeOrder create(Long orderId, Long userId, String symbol, BigDecimal price, BigDecimal quantity,
+    public static TradeOrder create(Long orderId, Long userId, String symbol, Price price, Quantity quantity,
                                     TradeOrderSide orderSide, LocalDateTime registeredDateTime) {
         return TradeOrder.builder()
                 .orderId(orderId)
@@ -65,16 +72,44 @@ public class TradeOrder {
                 .build();
     }
 
+    public static TradeOrder restore(Long id, Long orderId, Long userId, String symbol, Price price, Quantity quantity,
+                                     Quantity filledQuantity, TradeOrderSide orderSide, TradeOrderStatus orderStatus,
+                                     LocalDateTime registeredDateTime) {
+        TradeOrder tradeOrder = create(orderId, userId, symbol, price, quantity, orderSide, registeredDateTime);
+        tradeOrder.id = id;
+        tradeOrder.filledQuantity = filledQuantity;
+        tradeOrder.orderStatus = orderStatus;
+        return tradeOrder;
+    }
+
+    public TradeOrder snapshot() {
+        TradeOrder snapshot = restore(id, orderId, userId, symbol, price, quantity, filledQuantity, orderSide, orderStatus, registeredDateTime);
+        snapshot.timeInForce = timeInForce;
+        return snapshot;
+    }
+
+    public void assignId(Long id) {
+        this.id = id;
+    }
+
+    public void applyTimeInForce(TimeInForce timeInForce) {
+        this.timeInForce = timeInForce;
+    }
+
+    public boolean isResting() {
+        return timeInForce.isResting();
+    }
+
     public boolean isFullyFilled() {
-        return this.quantity.compareTo(this.filledQuantity) == 0;
+        return this.quantity.equals(this.filledQuantity);
     }
 
-    public void fill(BigDecimal filledQuantity) {
+    public void fill(Quantity filledQuantity) {
         this.filledQuantity = this.filledQuantity.add(filledQuantity);
     }
 
-    public void cancelQuantity(BigDecimal matchedQuantity) {
-        this.filledQuantity = this.filledQuantity.subtract(filledQuantity);
+    public void cancelQuantity(Quantity matchedQuantity) {
+        this.filledQuantity = this.filledQuantity.subtract(matchedQuantity);
     }
 
     public void markCompleted() {
@@ -85,7 +120,7 @@ public class TradeOrder {
         this.orderStatus = tradeOrderStatus;
     }
 
-    public BigDecimal calculateRemainQuantity() {
+    public Quantity calculateRemainQuantity() {
         if (getFilledQuantity().compareTo(getQuantity()) > 0) {
             throw new FilledQuantityExceedException();
         }
@@ -0,0 +1,68 @@
+package crypto.trade.entity;
+
+import crypto.baseentity.id.SnowflakeId;
+import crypto.common.fixedpoint.Amount;
+import crypto.common.fixedpoint.Price;
+import crypto.common.fixedpoint.Quantity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+
+// 발동 전 스톱 주문. 가격이 있으면 발동 시 지정가 주문, 없으면 시장가 주문(매수는 총액, 매도는 총수량)이 된다.
+// 발동되거나 취소되면 행을 지운다.
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "trade_stop_orders")
+public class TradeStopOrder {
+
+    @Id @Column(name = "trade_stop_order_id")
+    @SnowflakeId
+    private Long id;
+    private Long orderId;
+    private Long userId;
+
+    private String symbol;
+
+    @Enumerated(EnumType.STRING)
+    private TradeOrderSide orderSide;
+
+    private Price triggerPrice;
+    private Price price;
+    private Quantity quantity;
+    private Amount marketTotalPrice;
+    private Quantity marketTotalQuantity;
+
+    private LocalDateTime registeredDateTime;
+
+    @Builder
+    public TradeStopOrder(Long orderId, Long userId, String symbol, TradeOrderSide orderSide, Price triggerPrice, Price price,
+                          Quantity quantity, Amount marketTotalPrice, Quantity marketTotalQuantity, LocalDateTime registeredDateTime) {
+        this.orderId = orderId;
+        this.userId = userId;
+        this.symbol = symbol;
+        this.orderSide = orderSide;
+        this.triggerPrice = triggerPrice;
+        this.price = price;
+        this.quantity = quantity;
+        this.marketTotalPrice = marketTotalPrice;
+        this.marketTotalQuantity = marketTotalQuantity;
+        this.registeredDateTime = registeredDateTime;
+    }
+
+    public boolean isLimit() {
+        return price != null;
+    }
+
+    // 매수 스톱은 체결가가 발동 가격 이상이 되면, 매도 스톱은 이하가 되면 발동한다.
+    public boolean isTriggeredBy(Price lastTradePrice) {
+        int compared = lastTradePrice.compareTo(triggerPrice);
+        return (orderSide == TradeOrderSide.BUY) ? compared >= 0 : compared <= 0;
+    }
+}
@@ -2,17 +2,22 @@ package crypto.trade.eventhandler;
 
 import crypto.common.time.TimeProvider;
 import crypto.event.Event;
+import crypto.event.payload.OrderPayload;
 import crypto.event.EventType;
 import crypto.trade.entity.TradeOrder;
-import crypto.trade.repository.TradeOrderRepository;
+import crypto.trade.orderbook.OrderBook;
+import crypto.trade.orderbook.OrderBookManager;
 
 import lombok.RequiredArgsConstructor;
 
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 
+import static crypto.event.TimeInForce.*;
 import static crypto.trade.entity.TradeOrderSide.*;
 
 
@@ -20,25 +25,35 @@ import static crypto.trade.entity.TradeOrderSide.*;
 @RequiredArgsConstructor
 public class LimitBuyOrderCreateEventHandler implements EventHandler {
     private final TradeProcessor tradeProcessor;
-    private final TradeOrderRepository tradeOrderRepository;
+    private final OrderBookManager orderBookManager;
     private final TimeProvider timeProvider;
 
     @Override
     public void handle(Event event, TradeOrder buyOrder) {
         LocalDateTime registeredDateTime = timeProvider.now();
-        Long orderId = event.getPayload().getOrderId();
+        Long orderId = event.getPayload(OrderPayload.class).orderId();
 
-        List<TradeOrder> sellOrders = tradeOrderRepository.findMatchedLimitBuyOrders(buyOrder.getSymbol(), SELL, buyOrder.getPrice());
+        OrderBook orderBook = orderBookManager.getOrderBook(buyOrder.getSymbol());
 
-        if (sellOrders.isEmpty()) {
+        // 메이커 전용 주문은 바로 체결될 가격이면, FOK 주문은 지금 전량 체결할 수 없으면 하나도 체결하지 않고 닫는다.
+        if ((buyOrder.getTimeInForce() == POST_ONLY && orderBook.crosses(BUY, buyOrder.getPrice()))
+                || (buyOrder.getTimeInForce() == FOK && !orderBook.canFill(BUY, buyOrder.getPrice(), buyOrder.getQuantity()))) {
+            tradeProcessor.expireUnmatchedOrder(orderId, buyOrder);
             return;
         }
 
-        for (TradeOrder sellOrder : sellOrders) {
+        Iterator<TradeOrder> sellOrders = orderBook.matchableOrders(BUY, buyOrder.getPrice());
+
+        List<TradeOrder> filledOrders = new ArrayList<>();
+
+        while (sellOrders.hasNext()) {
+            TradeOrder sellOrder = sellOrders.next();
             tradeProcessor.processMatchLimitOrder(orderId, buyOrder, sellOrder, BUY, registeredDateTime);
+            filledOrders.add(sellOrder);
 
             if (sellOrder.isFullyFilled()) {
                 sellOrder.markCompleted();
+                sellOrders.remove();
             }
 
             if (buyOrder.isFullyFilled()) {
@@ -46,6 +61,16 @@ public class LimitBuyOrderCreateEventHandler implements EventHandler {
                 break;
             }
         }
+
+        tradeProcessor.saveFilledOrders(filledOrders);
+
+        if (!buyOrder.isFullyFilled()) {
+            if (buyOrder.isResting()) {
+                orderBook.add(buyOrder);
+            } else {
+                tradeProcessor.expireUnmatchedOrder(orderId, buyOrder);
+            }
+        }
     }
 
     @Override
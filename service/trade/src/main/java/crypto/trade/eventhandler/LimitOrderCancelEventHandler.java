@@ -0,0 +1,70 @@
+package crypto.trade.eventhandler;
+
+import crypto.event.Event;
+import crypto.event.EventType;
+import crypto.event.eventsender.OrderEventSender;
+import crypto.event.payload.CancelPayload;
+import crypto.event.payload.OrderPayload;
+import crypto.trade.entity.TradeOrder;
+import crypto.trade.entity.TradeStopOrder;
+import crypto.trade.journal.TradeJournal;
+import crypto.trade.orderbook.OrderBookManager;
+import crypto.trade.persistence.TradeWriteBehind;
+import crypto.trade.trigger.StopOrderTrigger;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.stereotype.Component;
+
+import static crypto.event.EventType.ORDER_CANCELLED_EVENT;
+import static crypto.trade.entity.TradeOrderStatus.CANCELLED;
+
+
+// 사용자가 취소한 지정가 주문을 호가창에서 빼고, 남은 잠금을 풀고, 주문 애플리케이션에 취소 완료를 알린다.
+// 호가창에 없으면 발동 전 스톱 주문에서 찾고, 거기에도 없으면(이미 체결이 끝났으면) 아무것도 하지 않는다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LimitOrderCancelEventHandler implements EventHandler {
+    private final TradeProcessor tradeProcessor;
+    private final OrderBookManager orderBookManager;
+    private final TradeWriteBehind tradeWriteBehind;
+    private final TradeJournal tradeJournal;
+    private final OrderEventSender orderEventSender;
+    private final StopOrderTrigger stopOrderTrigger;
+
+    @Override
+    public void handle(Event event, TradeOrder tradeOrder) {
+        OrderPayload payload = event.getPayload(OrderPayload.class);
+        TradeOrder cancelledOrder = orderBookManager.getOrderBook(payload.symbol()).cancel(payload.orderId());
+
+        if (cancelledOrder != null) {
+            cancelledOrder.handleOrderStatus(CANCELLED);
+            tradeWriteBehind.updateFilledOrder(cancelledOrder);
+            tradeJournal.appendOrder(cancelledOrder);
+            tradeProcessor.unlockCancelledOrder(cancelledOrder);
+        } else {
+            TradeStopOrder cancelledStopOrder = stopOrderTrigger.cancel(payload.symbol(), payload.orderId());
+
+            if (cancelledStopOrder == null) {
+                log.warn("[LimitOrderCancelEventHandler.handle] Order is not resting in the order book. orderId={}", payload.orderId());
+                return;
+            }
+            tradeProcessor.unlockCancelledStopOrder(cancelledStopOrder);
+        }
+
+        orderEventSender.sendFailCompleteEventAfterCommit(
+                ORDER_CANCELLED_EVENT,
+                payload.orderId(),
+                CancelPayload.builder()
+                        .orderId(payload.orderId())
+                        .build()
+        );
+    }
+
+    @Override
+    public EventType getSupportedEventType() {
+        return EventType.LIMIT_ORDER_CANCEL_TRADE;
+    }
+}
@@ -0,0 +1,139 @@
+package crypto.trade.eventhandler;
+
+import crypto.common.fixedpoint.Price;
+import crypto.common.fixedpoint.Quantity;
+import crypto.common.time.TimeProvider;
+import crypto.event.Event;
+import crypto.event.EventType;
+import crypto.event.eventsender.OrderEventSender;
+import crypto.event.payload.CancelPayload;
+import crypto.event.payload.OrderPayload;
+import crypto.trade.entity.TradeOrder;
+import crypto.trade.journal.TradeJournal;
+import crypto.trade.orderbook.OrderBook;
+import crypto.trade.orderbook.OrderBookManager;
+import crypto.trade.persistence.TradeWriteBehind;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.stereotype.Component;
+
+import static crypto.event.EventType.ORDER_REPLACED_EVENT;
+import static crypto.event.EventType.ORDER_REPLACE_REJECTED_EVENT;
+import static crypto.trade.entity.TradeOrderSide.*;
+import static crypto.trade.entity.TradeOrderStatus.CANCELLED;
+
+
+// 미체결 지정가 주문을 한 번에 정정한다. 기존 주문 행은 취소로 닫고 같은 주문 ID 의 새 주문 행으로 남은 수량을 이어받는다.
+// 가격이 같고 수량만 줄면 호가창의 칸을 바꿔 써서 시간 우선순위를 유지하고, 그 밖에는 신규 주문처럼 다시 매칭한 뒤 호가창 끝에 붙인다.
+// 잠금을 더 잡아야 하는 정정(매수 잔량 금액 증가, 매도 잔량 증가)은 잔고 확인을 거치지 않았으므로 받지 않는다. 이런 정정은 취소 후 새 주문으로 넣는다.
+// 받아들인 정정은 ORDER_REPLACED_EVENT 로 주문 애플리케이션에 알려 주문에 반영하게 하고, 받지 않은 정정은 ORDER_REPLACE_REJECTED_EVENT 로 거절 사유를 알린다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LimitOrderReplaceEventHandler implements EventHandler {
+    private final TradeProcessor tradeProcessor;
+    private final OrderBookManager orderBookManager;
+    private final TradeWriteBehind tradeWriteBehind;
+    private final TradeJournal tradeJournal;
+    private final TimeProvider timeProvider;
+    private final OrderEventSender orderEventSender;
+    private final LimitOrderCancelEventHandler limitOrderCancelEventHandler;
+    private final LimitBuyOrderCreateEventHandler limitBuyOrderCreateEventHandler;
+    private final LimitSellOrderCreateEventHandler limitSellOrderCreateEventHandler;
+
+    @Override
+    public void handle(Event event, TradeOrder tradeOrder) {
+        OrderPayload payload = event.getPayload(OrderPayload.class);
+        OrderBook orderBook = orderBookManager.getOrderBook(payload.symbol());
+        TradeOrder replacedOrder = orderBook.find(payload.orderId());
+
+        // 이미 체결되어 빠졌거나 아직 발동하지 않은 스톱 주문은 호가창에 없다.
+        if (replacedOrder == null) {
+            reject(payload, "Order is not resting in the order book");
+            return;
+        }
+
+        // 이미 체결된 수량 이하로 줄이면 남는 수량이 없으므로 취소로 처리한다.
+        if (payload.quantity().compareTo(replacedOrder.getFilledQuantity()) <= 0) {
+            limitOrderCancelEventHandler.handle(event, null);
+            return;
+        }
+
+        Quantity remainQuantity = payload.quantity().subtract(replacedOrder.getFilledQuantity());
+        if (addsExposure(replacedOrder, payload.price(), remainQuantity)) {
+            reject(payload, "Replace needs more locked balance or quantity");
+            return;
+        }
+
+        boolean keepPriority = payload.price().equals(replacedOrder.getPrice())
+                && remainQuantity.compareTo(replacedOrder.calculateRemainQuantity()) <= 0;
+
+        TradeOrder newOrder = TradeOrder.create(
+                replacedOrder.getOrderId(), replacedOrder.getUserId(), replacedOrder.getSymbol(), payload.price(),
+                remainQuantity, replacedOrder.getOrderSide(),
+                keepPriority ? replacedOrder.getRegisteredDateTime() : timeProvider.now());
+        // 메이커 전용 주문은 정정한 가격이 바로 체결될 가격이면 다시 매칭할 때 테이커로 체결되지 않고 거절되어야 한다.
+        newOrder.applyTimeInForce(replacedOrder.getTimeInForce());
+        TradeOrder replacement = tradeWriteBehind.insertOrder(newOrder);
+        tradeJournal.appendOrder(replacement);
+
+        replacedOrder.handleOrderStatus(CANCELLED);
+        tradeWriteBehind.updateFilledOrder(replacedOrder);
+        tradeJournal.appendOrder(replacedOrder);
+
+        // 정정한 주문의 체결 정산보다 먼저 잠금을 조정해야 같은 사용자 파티션에서 순서대로 처리된다.
+        tradeProcessor.adjustReplacedOrderLock(replacedOrder, replacement);
+
+        // 다시 매칭해 바로 체결될 수 있으므로 체결 결과보다 먼저 정정 확정을 보낸다.
+        orderEventSender.sendFailCompleteEventAfterCommit(
+                ORDER_REPLACED_EVENT,
+                payload.orderId(),
+                OrderPayload.builder()
+                        .orderId(payload.orderId())
+                        .price(payload.price())
+                        .quantity(payload.quantity())
+                        .build()
+        );
+
+        if (keepPriority) {
+            orderBook.replaceInPlace(replacement);
+            return;
+        }
+
+        orderBook.cancel(replacedOrder.getOrderId());
+        if (replacement.getOrderSide() == BUY) {
+            limitBuyOrderCreateEventHandler.handle(event, replacement);
+        } else {
+            limitSellOrderCreateEventHandler.handle(event, replacement);
+        }
+    }
+
+    private void reject(OrderPayload payload, String reason) {
+        log.warn("[LimitOrderReplaceEventHandler.reject] Replace rejected. orderId={}, price={}, quantity={}, reason={}",
+                payload.orderId(), payload.price(), payload.quantity(), reason);
+
+        orderEventSender.sendFailCompleteEventAfterCommit(
+                ORDER_REPLACE_REJECTED_EVENT,
+                payload.orderId(),
+                CancelPayload.builder()
+                        .orderId(payload.orderId())
+                        .failMessage(reason)
+                        .build()
+        );
+    }
+
+    // 매수 주문의 잠금은 잔량 금액에 같은 수수료율을 더한 것이므로 잔량 금액만 비교해도 된다.
+    private static boolean addsExposure(TradeOrder replacedOrder, Price price, Quantity remainQuantity) {
+        if (replacedOrder.getOrderSide() == BUY) {
+            return price.multiply(remainQuantity).compareTo(replacedOrder.getPrice().multiply(replacedOrder.calculateRemainQuantity())) > 0;
+        }
+        return remainQuantity.compareTo(replacedOrder.calculateRemainQuantity()) > 0;
+    }
+
+    @Override
+    public EventType getSupportedEventType() {
+        return EventType.LIMIT_ORDER_REPLACE_TRADE;
+    }
+}
@@ -2,17 +2,22 @@ package crypto.trade.eventhandler;
 
 import crypto.common.time.TimeProvider;
 import crypto.event.Event;
+import crypto.event.payload.OrderPayload;
 import crypto.event.EventType;
 import crypto.trade.entity.TradeOrder;
-import crypto.trade.repository.TradeOrderRepository;
+import crypto.trade.orderbook.OrderBook;
+import crypto.trade.orderbook.OrderBookManager;
 
 import lombok.RequiredArgsConstructor;
 
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 
+import static crypto.event.TimeInForce.*;
 import static crypto.trade.entity.TradeOrderSide.*;
 
 
@@ -20,32 +25,52 @@ import static crypto.trade.entity.TradeOrderSide.*;
 @RequiredArgsConstructor
 public class LimitSellOrderCreateEventHandler implements EventHandler {
     private final TradeProcessor tradeProcessor;
-    private final TradeOrderRepository tradeOrderRepository;
+    private final OrderBookManager orderBookManager;
     private final TimeProvider timeProvider;
 
     @Override
     public void handle(Event event, TradeOrder sellOrder) {
         LocalDateTime registeredDateTime = timeProvider.now();
-        Long orderId = event.getPayload().getOrderId();
+        Long orderId = event.getPayload(OrderPayload.class).orderId();
 
-        List<TradeOrder> buyOrders = tradeOrderRepository.findMatchedLimitSellOrders(sellOrder.getSymbol(), BUY, sellOrder.getPrice());
+        OrderBook orderBook = orderBookManager.getOrderBook(sellOrder.getSymbol());
 
-        if (buyOrders.isEmpty()) {
+        // 메이커 전용 주문은 바로 체결될 가격이면, FOK 주문은 지금 전량 체결할 수 없으면 하나도 체결하지 않고 닫는다.
+        if ((sellOrder.getTimeInForce() == POST_ONLY && orderBook.crosses(SELL, sellOrder.getPrice()))
+                || (sellOrder.getTimeInForce() == FOK && !orderBook.canFill(SELL, sellOrder.getPrice(), sellOrder.getQuantity()))) {
+            tradeProcessor.expireUnmatchedOrder(orderId, sellOrder);
             return;
         }
 
-        for (TradeOrder buyOrder : buyOrders) {
+        Iterator<TradeOrder> buyOrders = orderBook.matchableOrders(SELL, sellOrder.getPrice());
+
+        List<TradeOrder> filledOrders = new ArrayList<>();
+
+        while (buyOrders.hasNext()) {
+            TradeOrder buyOrder = buyOrders.next();
             tradeProcessor.processMatchLimitOrder(orderId, sellOrder, buyOrder, SELL, registeredDateTime);
+            filledOrders.add(buyOrder);
 
             if (buyOrder.isFullyFilled()) {
-                sellOrder.markCompleted();
+                buyOrder.markCompleted();
+                buyOrders.remove();
             }
 
             if (sellOrder.isFullyFilled()) {
-                buyOrder.markCompleted();
+                sellOrder.markCompleted();
                 break;
             }
         }
+
+        tradeProcessor.saveFilledOrders(filledOrders);
+
+        if (!sellOrder.isFullyFilled()) {
+            if (sellOrder.isResting()) {
+                orderBook.add(sellOrder);
+            } else {
+                tradeProcessor.expireUnmatchedOrder(orderId, sellOrder);
+            }
+        }
     }
 
     @Override
@@ -1,20 +1,24 @@
 package crypto.trade.eventhandler;
 
+import crypto.common.fixedpoint.Amount;
+import crypto.common.fixedpoint.Price;
+import crypto.common.fixedpoint.Quantity;
 import crypto.common.time.TimeProvider;
 import crypto.event.Event;
 import crypto.event.EventType;
-import crypto.event.payload.EventPayload;
+import crypto.event.payload.OrderPayload;
 import crypto.trade.entity.Trade;
 import crypto.trade.entity.TradeOrder;
-import crypto.trade.repository.TradeOrderRepository;
+import crypto.trade.orderbook.OrderBook;
+import crypto.trade.orderbook.OrderBookManager;
 
 import lombok.RequiredArgsConstructor;
 
 import org.springframework.stereotype.Component;
 
-import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 
 import static crypto.trade.entity.TradeOrderRole.*;
@@ -25,42 +29,54 @@ import static crypto.trade.entity.TradeOrderSide.*;
 @RequiredArgsConstructor
 public class MarketBuyOrderCreateEventHandler implements EventHandler {
     private final TradeProcessor tradeProcessor;
-    private final TradeOrderRepository tradeOrderRepository;
+    private final OrderBookManager orderBookManager;
     private final TimeProvider timeProvider;
 
     @Override
     public void handle(Event event, TradeOrder order) {
         LocalDateTime registeredDateTime = timeProvider.now();
-        EventPayload payload = event.getPayload();
+        OrderPayload payload = event.getPayload(OrderPayload.class);
 
-        List<TradeOrder> sellOrders = tradeOrderRepository.findMatchedMarketBuyOrders(payload.getSymbol(), SELL);
+        OrderBook orderBook = orderBookManager.getOrderBook(payload.symbol());
+        Iterator<TradeOrder> sellOrders = orderBook.matchableOrders(BUY, null);
 
-        BigDecimal remainPrice = payload.getMarketTotalPrice();
+        Amount remainPrice = payload.marketTotalPrice();
 
-        for (TradeOrder sellOrder : sellOrders) {
-            BigDecimal sellPrice = sellOrder.getPrice();
-            BigDecimal sellRemainQty = sellOrder.calculateRemainQuantity();
-            BigDecimal maxBuyQty = remainPrice.divide(sellPrice, 8, RoundingMode.DOWN);
-            BigDecimal matchedQty = maxBuyQty.min(sellRemainQty);
+        List<TradeOrder> filledOrders = new ArrayList<>();
 
-            if (matchedQty.compareTo(BigDecimal.ZERO) <= 0) break;
+        while (sellOrders.hasNext()) {
+            TradeOrder sellOrder = sellOrders.next();
+            Price sellPrice = sellOrder.getPrice();
+            Quantity sellRemainQty = sellOrder.calculateRemainQuantity();
+            Quantity maxBuyQty = remainPrice.divide(sellPrice);
+            Quantity matchedQty = maxBuyQty.min(sellRemainQty);
 
-            BigDecimal matchedAmount = sellPrice.multiply(matchedQty);
-            BigDecimal takerFee = tradeProcessor.calculateTradeFee(matchedAmount, TAKER);
-            BigDecimal makerFee = tradeProcessor.calculateTradeFee(matchedAmount, MAKER);
-            BigDecimal takerTotalUsed = matchedAmount.add(takerFee);
-            BigDecimal makerTotalUsed = matchedAmount.add(makerFee);
+            if (!matchedQty.isPositive()) break;
+
+            Amount matchedAmount = sellPrice.multiply(matchedQty);
+            Amount takerFee = tradeProcessor.calculateTradeFee(matchedAmount, TAKER);
+            Amount makerFee = tradeProcessor.calculateTradeFee(matchedAmount, MAKER);
+            Amount takerTotalUsed = matchedAmount.add(takerFee);
+            Amount makerTotalUsed = matchedAmount.add(makerFee);
 
             if (takerTotalUsed.compareTo(remainPrice) > 0) break;
 
             Trade trade = tradeProcessor.createAndSaveTradeMarketOrder(sellOrder, sellPrice, matchedQty, BUY, takerFee, makerFee, registeredDateTime);
-            tradeProcessor.settleAndMarkOrders(payload.getOrderId(), trade.getId(), payload.getUserId(), sellOrder.getUserId(), sellOrder, matchedQty, takerTotalUsed, makerTotalUsed, BUY);
+            tradeProcessor.settleAndMarkOrders(payload.orderId(), trade.getId(), payload.userId(), sellOrder.getUserId(), sellOrder, matchedQty, takerTotalUsed, makerTotalUsed, BUY);
             remainPrice = remainPrice.subtract(takerTotalUsed);
+
+            filledOrders.add(sellOrder);
+
+            if (sellOrder.isFullyFilled()) {
+                sellOrders.remove();
+            }
         }
 
-        if (remainPrice.compareTo(BigDecimal.ZERO) > 0) {
-            BigDecimal totalPrice = remainPrice.add(tradeProcessor.calculateTradeFee(payload.getMarketTotalPrice(), TAKER));
-            tradeProcessor.refundUnmatchedLockedBalance(payload.getUserId(), totalPrice);
+        tradeProcessor.saveFilledOrders(filledOrders);
+
+        if (remainPrice.isPositive()) {
+            Amount totalPrice = remainPrice.add(tradeProcessor.calculateTradeFee(payload.marketTotalPrice(), TAKER));
+            tradeProcessor.refundUnmatchedLockedBalance(payload.userId(), totalPrice);
         }
 
     }
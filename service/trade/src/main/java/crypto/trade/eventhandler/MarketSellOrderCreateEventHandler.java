@@ -1,20 +1,25 @@
 package crypto.trade.eventhandler;
 
+import crypto.common.fixedpoint.Amount;
+import crypto.common.fixedpoint.Price;
+import crypto.common.fixedpoint.Quantity;
 import crypto.common.time.TimeProvider;
 import crypto.event.Event;
 import crypto.event.EventType;
-import crypto.event.payload.EventPayload;
+import crypto.event.payload.OrderPayload;
 import crypto.trade.entity.Trade;
 import crypto.trade.entity.TradeOrder;
-import crypto.trade.repository.TradeOrderRepository;
+import crypto.trade.orderbook.OrderBook;
+import crypto.trade.orderbook.OrderBookManager;
 
 import lombok.RequiredArgsConstructor;
 
 
 import org.springframework.stereotype.Component;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 
 import static crypto.trade.entity.TradeOrderRole.*;
@@ -25,35 +30,47 @@ import static crypto.trade.entity.TradeOrderSide.*;
 @RequiredArgsConstructor
 public class MarketSellOrderCreateEventHandler implements EventHandler {
     private final TradeProcessor tradeProcessor;
-    private final TradeOrderRepository tradeOrderRepository;
+    private final OrderBookManager orderBookManager;
     private final TimeProvider timeProvider;
 
     @Override
     public void handle(Event event, TradeOrder order) {
         LocalDateTime registeredDateTime = timeProvider.now();
-        EventPayload payload = event.getPayload();
+        OrderPayload payload = event.getPayload(OrderPayload.class);
 
-        List<TradeOrder> buyOrders = tradeOrderRepository.findMatchedMarketSellOrders(payload.getSymbol(), BUY);
+        OrderBook orderBook = orderBookManager.getOrderBook(payload.symbol());
+        Iterator<TradeOrder> buyOrders = orderBook.matchableOrders(SELL, null);
 
-        BigDecimal remainQty = payload.getMarketTotalQuantity();
+        Quantity remainQty = payload.marketTotalQuantity();
 
-        for (TradeOrder buyOrder : buyOrders) {
-            BigDecimal buyPrice = buyOrder.getPrice();
-            BigDecimal buyRemainQty = buyOrder.calculateRemainQuantity();
-            BigDecimal matchedQty = remainQty.min(buyRemainQty);
+        List<TradeOrder> filledOrders = new ArrayList<>();
 
-            if (matchedQty.compareTo(BigDecimal.ZERO) <= 0) break;
+        while (buyOrders.hasNext()) {
+            TradeOrder buyOrder = buyOrders.next();
+            Price buyPrice = buyOrder.getPrice();
+            Quantity buyRemainQty = buyOrder.calculateRemainQuantity();
+            Quantity matchedQty = remainQty.min(buyRemainQty);
 
-            BigDecimal matchedAmount = buyPrice.multiply(matchedQty);
-            BigDecimal takerFee = tradeProcessor.calculateTradeFee(matchedAmount, TAKER);
-            BigDecimal makerFee = tradeProcessor.calculateTradeFee(matchedAmount, MAKER);
-            BigDecimal takerTotalUsed = matchedAmount.add(takerFee);
-            BigDecimal makerTotalUsed = matchedAmount.add(makerFee);
+            if (!matchedQty.isPositive()) break;
+
+            Amount matchedAmount = buyPrice.multiply(matchedQty);
+            Amount takerFee = tradeProcessor.calculateTradeFee(matchedAmount, TAKER);
+            Amount makerFee = tradeProcessor.calculateTradeFee(matchedAmount, MAKER);
+            Amount takerTotalUsed = matchedAmount.add(takerFee);
+            Amount makerTotalUsed = matchedAmount.add(makerFee);
 
             Trade trade = tradeProcessor.createAndSaveTradeMarketOrder(buyOrder, buyPrice, matchedQty, SELL, takerFee, makerFee, registeredDateTime);
-            tradeProcessor.settleAndMarkOrders(payload.getOrderId(), trade.getId(), payload.getUserId(), buyOrder.getUserId(), buyOrder, matchedQty, takerTotalUsed, makerTotalUsed, SELL);
+            tradeProcessor.settleAndMarkOrders(payload.orderId(), trade.getId(), payload.userId(), buyOrder.getUserId(), buyOrder, matchedQty, takerTotalUsed, makerTotalUsed, SELL);
             remainQty = remainQty.subtract(matchedQty);
+
+            filledOrders.add(buyOrder);
+
+            if (buyOrder.isFullyFilled()) {
+                buyOrders.remove();
+            }
         }
+
+        tradeProcessor.saveFilledOrders(filledOrders);
     }
 
     @Override
@@ -0,0 +1,45 @@
+package crypto.trade.eventhandler;
+
+import crypto.common.time.TimeProvider;
+import crypto.event.Event;
+import crypto.event.EventType;
+import crypto.event.payload.OrderPayload;
+import crypto.trade.entity.TradeOrder;
+import crypto.trade.entity.TradeOrderSide;
+import crypto.trade.entity.TradeStopOrder;
+import crypto.trade.trigger.StopOrderTrigger;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.stereotype.Component;
+
+
+@Component
+@RequiredArgsConstructor
+public class StopOrderCreateEventHandler implements EventHandler {
+    private final StopOrderTrigger stopOrderTrigger;
+    private final TimeProvider timeProvider;
+
+    @Override
+    public void handle(Event event, TradeOrder tradeOrder) {
+        OrderPayload payload = event.getPayload(OrderPayload.class);
+
+        stopOrderTrigger.place(TradeStopOrder.builder()
+                .orderId(payload.orderId())
+                .userId(payload.userId())
+                .symbol(payload.symbol())
+                .orderSide(TradeOrderSide.valueOf(payload.orderSide()))
+                .triggerPrice(payload.triggerPrice())
+                .price(payload.price())
+                .quantity(payload.quantity())
+                .marketTotalPrice(payload.marketTotalPrice())
+                .marketTotalQuantity(payload.marketTotalQuantity())
+                .registeredDateTime(timeProvider.now())
+                .build());
+    }
+
+    @Override
+    public EventType getSupportedEventType() {
+        return EventType.STOP_ORDER_TRADE;
+    }
+}
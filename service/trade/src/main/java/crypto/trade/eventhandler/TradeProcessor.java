@@ -1,29 +1,38 @@
 package crypto.trade.eventhandler;
 
 import crypto.common.fee.FeePolicy;
+import crypto.common.fixedpoint.Amount;
+import crypto.common.fixedpoint.FeeRate;
+import crypto.common.fixedpoint.Price;
+import crypto.common.fixedpoint.Quantity;
+import crypto.event.eventsender.OrderEventSender;
 import crypto.event.eventsender.SettlementEventSender;
-import crypto.event.payload.EventPayload;
+import crypto.event.payload.CancelPayload;
+import crypto.event.payload.RefundPayload;
+import crypto.event.payload.SettlementPayload;
 import crypto.trade.entity.Trade;
 import crypto.trade.entity.TradeOrder;
 import crypto.trade.entity.TradeOrderRole;
 import crypto.trade.entity.TradeOrderSide;
-import crypto.trade.entity.exception.FilledQuantityExceedException;
-import crypto.trade.eventhandler.exception.OrderFillException;
-import crypto.trade.repository.TradeOrderRepository;
-import crypto.trade.repository.TradeRepository;
+import crypto.trade.entity.TradeStopOrder;
+import crypto.trade.journal.TradeJournal;
+import crypto.trade.marketdata.CandleAggregator;
+import crypto.trade.marketdata.TickerAggregator;
+import crypto.trade.persistence.TradeWriteBehind;
+import crypto.trade.trigger.StopOrderTrigger;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import org.springframework.stereotype.Component;
 
-import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.time.LocalDateTime;
+import java.util.List;
 
 import static crypto.event.EventType.*;
 import static crypto.trade.entity.TradeOrderRole.*;
 import static crypto.trade.entity.TradeOrderSide.*;
+import static crypto.trade.entity.TradeOrderStatus.CANCELLED;
 
 
 @Slf4j
@@ -31,92 +40,84 @@ import static crypto.trade.entity.TradeOrderSide.*;
 @RequiredArgsConstructor
 public class TradeProcessor {
     private final SettlementEventSender settlementEventSender;
-    private final TradeRepository tradeRepository;
-    private final TradeOrderRepository tradeOrderRepository;
+    private final OrderEventSender orderEventSender;
     private final FeePolicy feePolicy;
+    private final TradeJournal tradeJournal;
+    private final TradeWriteBehind tradeWriteBehind;
+    private final CandleAggregator candleAggregator;
+    private final TickerAggregator tickerAggregator;
+    private final StopOrderTrigger stopOrderTrigger;
 
+    // 체결은 메모리의 주문을 먼저 바꾸므로 이후 단계가 실패하면 예외를 그대로 올려 트랜잭션을 롤백하고 호가창을 다시 적재하게 한다.
     public void processMatchLimitOrder(Long orderId, TradeOrder matchOrder, TradeOrder placeOrder, TradeOrderSide orderSide, LocalDateTime registeredDateTime) {
-        try {
-            BigDecimal matchOrderQuantity = matchOrder.calculateRemainQuantity();
-            BigDecimal placeOrderQuantity = placeOrder.calculateRemainQuantity();
+        Quantity matchOrderQuantity = matchOrder.calculateRemainQuantity();
+        Quantity placeOrderQuantity = placeOrder.calculateRemainQuantity();
 
-            BigDecimal matchedQty = matchOrderQuantity.min(placeOrderQuantity);
-            BigDecimal matchedPrice = placeOrder.getPrice();
-            BigDecimal totalPrice = matchedPrice.multiply(matchedQty);
+        Quantity matchedQty = matchOrderQuantity.min(placeOrderQuantity);
+        Price matchedPrice = placeOrder.getPrice();
+        Amount totalPrice = matchedPrice.multiply(matchedQty);
 
-            BigDecimal takerFee = calculateTradeFee(totalPrice, TAKER);
-            BigDecimal makerFee = calculateTradeFee(totalPrice, MAKER);
+        Amount takerFee = calculateTradeFee(totalPrice, TAKER);
+        Amount makerFee = calculateTradeFee(totalPrice, MAKER);
 
-            BigDecimal takerTotalUsed = totalPrice.add(takerFee);
-            BigDecimal makerTotalUsed = totalPrice.add(makerFee);
+        Amount takerTotalUsed = totalPrice.add(takerFee);
+        Amount makerTotalUsed = totalPrice.add(makerFee);
 
-            int makerUpdatedRows = tradeOrderRepository.fillAtomically(matchOrder.getId(), matchedQty);
-
-            if (makerUpdatedRows == 0) {
-                throw new OrderFillException();
-            }
+        matchOrder.fill(matchedQty);
+        placeOrder.fill(matchedQty);
+        if (matchOrder.isResting()) {
+            tradeJournal.appendOrder(matchOrder);
+        }
+        tradeJournal.appendOrder(placeOrder);
 
-            int takerUpdatedRows = tradeOrderRepository.fillAtomically(placeOrder.getId(), matchedQty);
+        Trade trade = createAndSaveTradeLimitOrder(matchOrder, placeOrder, matchedPrice, matchedQty, orderSide, takerFee, makerFee, registeredDateTime);
 
-            if (takerUpdatedRows == 0) {
-                throw new OrderFillException();
-            }
-          
-            Trade trade = createAndSaveTradeLimitOrder(matchOrder, placeOrder, matchedPrice, matchedQty, orderSide, takerFee, makerFee, registeredDateTime);
-
-            if (orderSide.equals(BUY)) {
-                settlementEventSender.send(
-                        BUY_ORDER_SETTLEMENT,
-                        matchOrder.getId(),
-                        EventPayload.builder()
-                                .orderId(orderId)
-                                .tradeId(trade.getId())
-                                .takerOrderId(matchOrder.getId())
-                                .makerOrderId(placeOrder.getId())
-                                .takerId(matchOrder.getUserId())
-                                .makerId(placeOrder.getUserId())
-                                .takerTotalUsed(takerTotalUsed)
-                                .makerTotalUsed(makerTotalUsed)
-                                .matchedQuantity(matchedQty)
-                                .symbol(matchOrder.getSymbol())
-                                .build()
-                );
-            } else {
-                settlementEventSender.send(
-                        SELL_ORDER_SETTLEMENT,
-                        matchOrder.getId(),
-                        EventPayload.builder()
-                                .orderId(orderId)
-                                .tradeId(trade.getId())
-                                .takerOrderId(matchOrder.getId())
-                                .makerOrderId(placeOrder.getId())
-                                .takerId(matchOrder.getUserId())
-                                .makerId(placeOrder.getUserId())
-                                .takerTotalUsed(takerTotalUsed)
-                                .makerTotalUsed(makerTotalUsed)
-                                .matchedQuantity(matchedQty)
-                                .symbol(matchOrder.getSymbol())
-                                .build()
-                );
-            }
-        } catch (FilledQuantityExceedException e) {
-            log.error("[TradeProcessor.processMatchLimitOrder] Filled quantity exceeded. matchOrderId={}, placeOrderId={}",
-                    matchOrder.getId(), placeOrder.getId(), e);
-        } catch (Exception e) {
-            log.error("[TradeProcessor.processMatchLimitOrder] Unexpected error during order match. matchOrderId={}, placeOrderId={}",
-                    matchOrder.getId(), placeOrder.getId(), e);
+        if (orderSide.equals(BUY)) {
+            settlementEventSender.send(
+                    BUY_ORDER_SETTLEMENT,
+                    matchOrder.getId(),
+                    SettlementPayload.builder()
+                            .orderId(orderId)
+                            .tradeId(trade.getId())
+                            .takerOrderId(matchOrder.getId())
+                            .makerOrderId(placeOrder.getId())
+                            .takerId(matchOrder.getUserId())
+                            .makerId(placeOrder.getUserId())
+                            .takerTotalUsed(takerTotalUsed)
+                            .makerTotalUsed(makerTotalUsed)
+                            .matchedQuantity(matchedQty)
+                            .symbol(matchOrder.getSymbol())
+                            .build()
+            );
+        } else {
+            settlementEventSender.send(
+                    SELL_ORDER_SETTLEMENT,
+                    matchOrder.getId(),
+                    SettlementPayload.builder()
+                            .orderId(orderId)
+                            .tradeId(trade.getId())
+                            .takerOrderId(matchOrder.getId())
+                            .makerOrderId(placeOrder.getId())
+                            .takerId(matchOrder.getUserId())
+                            .makerId(placeOrder.getUserId())
+                            .takerTotalUsed(takerTotalUsed)
+                            .makerTotalUsed(makerTotalUsed)
+                            .matchedQuantity(matchedQty)
+                            .symbol(matchOrder.getSymbol())
+                            .build()
+            );
         }
     }
 
-    public void settleAndMarkOrders(Long orderId, Long tradeId, Long takerId, Long makerId, TradeOrder placeOrder, BigDecimal matchedQty, BigDecimal takerTotalUsed,
-                                    BigDecimal makerTotalUsed, TradeOrderSide orderSide) {
+    public void settleAndMarkOrders(Long orderId, Long tradeId, Long takerId, Long makerId, TradeOrder placeOrder, Quantity matchedQty, Amount takerTotalUsed,
+                                    Amount makerTotalUsed, TradeOrderSide orderSide) {
         placeOrder.fill(matchedQty);
 
         if (orderSide.equals(BUY)) {
             settlementEventSender.send(
                     BUY_ORDER_SETTLEMENT,
                     placeOrder.getId(),
-                    EventPayload.builder()
+                    SettlementPayload.builder()
                             .orderId(orderId)
                             .tradeId(tradeId)
                             .takerId(takerId)
@@ -131,7 +132,7 @@ public class TradeProcessor {
             settlementEventSender.send(
                     SELL_ORDER_SETTLEMENT,
                     placeOrder.getId(),
-                    EventPayload.builder()
+                    SettlementPayload.builder()
                             .orderId(orderId)
                             .tradeId(tradeId)
                             .takerId(takerId)
@@ -145,14 +146,21 @@ public class TradeProcessor {
         }
 
         if (placeOrder.isFullyFilled()) placeOrder.markCompleted();
+        tradeJournal.appendOrder(placeOrder);
+    }
+
+    public void saveFilledOrders(List<TradeOrder> filledOrders) {
+        for (TradeOrder filledOrder : filledOrders) {
+            tradeWriteBehind.updateFilledOrder(filledOrder);
+        }
     }
 
-    public void refundUnmatchedLockedBalance(Long userId, BigDecimal remainPrice) {
-        if (remainPrice.compareTo(BigDecimal.ZERO) > 0) {
+    public void refundUnmatchedLockedBalance(Long userId, Amount remainPrice) {
+        if (remainPrice.isPositive()) {
             settlementEventSender.send(
                     REFUND_LOCKED_BALANCE,
                     userId,
-                    EventPayload.builder()
+                    RefundPayload.builder()
                             .userId(userId)
                             .totalRemainPrice(remainPrice)
                             .build()
@@ -160,33 +168,132 @@ public class TradeProcessor {
         }
     }
 
-    public BigDecimal calculateTradeFee(BigDecimal amount, TradeOrderRole role) {
-        BigDecimal feeRate = (role == MAKER)
+    // 취소된 주문의 남은 잠금을 푼다.
+    public void unlockCancelledOrder(TradeOrder cancelledOrder) {
+        Quantity remainQuantity = cancelledOrder.calculateRemainQuantity();
+        if (!remainQuantity.isPositive()) {
+            return;
+        }
+
+        RefundPayload.RefundPayloadBuilder payload = RefundPayload.builder()
+                .userId(cancelledOrder.getUserId())
+                .symbol(cancelledOrder.getSymbol());
+
+        if (cancelledOrder.getOrderSide() == BUY) {
+            payload.totalRemainPrice(calculateLockedPrice(cancelledOrder));
+        } else {
+            payload.remainQuantity(remainQuantity);
+        }
+
+        settlementEventSender.send(UNLOCK_CANCELLED_ORDER, cancelledOrder.getUserId(), payload.build());
+    }
+
+    // 발동 전에 취소된 스톱 주문의 잠금을 푼다. 시장가 매수는 주문 총액에 수수료를 더한 만큼이 잠겨 있다.
+    public void unlockCancelledStopOrder(TradeStopOrder stopOrder) {
+        RefundPayload.RefundPayloadBuilder payload = RefundPayload.builder()
+                .userId(stopOrder.getUserId())
+                .symbol(stopOrder.getSymbol());
+
+        if (stopOrder.getOrderSide() == BUY) {
+            Amount remainPrice = stopOrder.isLimit()
+                    ? stopOrder.getPrice().multiply(stopOrder.getQuantity())
+                    : stopOrder.getMarketTotalPrice();
+            payload.totalRemainPrice(remainPrice.add(calculateTradeFee(remainPrice, TAKER)));
+        } else {
+            payload.remainQuantity(stopOrder.isLimit() ? stopOrder.getQuantity() : stopOrder.getMarketTotalQuantity());
+        }
+
+        settlementEventSender.send(UNLOCK_CANCELLED_ORDER, stopOrder.getUserId(), payload.build());
+    }
+
+    // 유효 조건 때문에 남은 수량을 호가창에 올리지 못한 주문을 닫고 잠금을 푼다.
+    // 일부라도 체결됐으면 정산이 주문 완료를 알리므로, 하나도 체결되지 않았을 때만 취소를 알린다.
+    public void expireUnmatchedOrder(Long orderId, TradeOrder order) {
+        order.handleOrderStatus(CANCELLED);
+        if (order.isResting()) {
+            tradeWriteBehind.updateFilledOrder(order);
+            tradeJournal.appendOrder(order);
+        }
+
+        unlockCancelledOrder(order);
+
+        if (!order.getFilledQuantity().isPositive()) {
+            orderEventSender.sendFailCompleteEventAfterCommit(
+                    ORDER_CANCELLED_EVENT,
+                    orderId,
+                    CancelPayload.builder()
+                            .orderId(orderId)
+                            .build()
+            );
+        }
+    }
+
+    // 정정 전후 잔량이 잡아야 하는 잠금의 차이만큼만 푼다. 잠금이 늘어나는 정정은 LimitOrderReplaceEventHandler 가 받지 않는다.
+    public void adjustReplacedOrderLock(TradeOrder replacedOrder, TradeOrder replacement) {
+        RefundPayload.RefundPayloadBuilder payload = RefundPayload.builder()
+                .userId(replacedOrder.getUserId())
+                .symbol(replacedOrder.getSymbol());
+
+        if (replacedOrder.getOrderSide() == BUY) {
+            Amount delta = calculateLockedPrice(replacedOrder).subtract(calculateLockedPrice(replacement));
+            if (delta.compareTo(Amount.ZERO) == 0) {
+                return;
+            }
+            payload.totalRemainPrice(delta);
+        } else {
+            Quantity delta = replacedOrder.calculateRemainQuantity().subtract(replacement.calculateRemainQuantity());
+            if (delta.isZero()) {
+                return;
+            }
+            payload.remainQuantity(delta);
+        }
+
+        settlementEventSender.send(ADJUST_REPLACED_ORDER_LOCK, replacedOrder.getUserId(), payload.build());
+    }
+
+    public Amount calculateTradeFee(Amount amount, TradeOrderRole role) {
+        FeeRate feeRate = (role == MAKER)
                 ? feePolicy.getMakerFeeRate()
                 : feePolicy.getTakerFeeRate();
 
-        return amount.multiply(feeRate).setScale(8, RoundingMode.DOWN);
+        return amount.multiply(feeRate);
+    }
+
+    // 매수 주문은 주문 시 테이커 수수료까지 잠그므로 남은 금액에 수수료를 더한 만큼이 잠겨 있다.
+    private Amount calculateLockedPrice(TradeOrder buyOrder) {
+        Amount remainPrice = buyOrder.getPrice().multiply(buyOrder.calculateRemainQuantity());
+        return remainPrice.add(calculateTradeFee(remainPrice, TAKER));
     }
 
-    public Trade createAndSaveTradeLimitOrder(TradeOrder matchOrder, TradeOrder placeOrder, BigDecimal price, BigDecimal qty,
-                                    TradeOrderSide takerSide, BigDecimal takerFee, BigDecimal makerFee, LocalDateTime registeredDateTime) {
+    public Trade createAndSaveTradeLimitOrder(TradeOrder matchOrder, TradeOrder placeOrder, Price price, Quantity qty,
+                                    TradeOrderSide takerSide, Amount takerFee, Amount makerFee, LocalDateTime registeredDateTime) {
 
-        return tradeRepository.save(Trade.create(
+        Trade trade = tradeWriteBehind.insertTrade(Trade.create(
                 matchOrder.getSymbol(), price, qty, takerSide.name(),
                 matchOrder.getId(), placeOrder.getId(),
                 matchOrder.getUserId(), placeOrder.getUserId(),
                 takerFee, makerFee, registeredDateTime
         ));
+        tradeJournal.appendTrade(trade);
+        candleAggregator.addAfterCommit(trade);
+        tickerAggregator.addAfterCommit(trade);
+        stopOrderTrigger.onTrade(trade.getSymbol(), price);
+        return trade;
     }
 
-    public Trade createAndSaveTradeMarketOrder(TradeOrder placeOrder, BigDecimal price, BigDecimal qty,
-                                    TradeOrderSide takerSide, BigDecimal takerFee, BigDecimal makerFee, LocalDateTime registeredDateTime) {
+    public Trade createAndSaveTradeMarketOrder(TradeOrder placeOrder, Price price, Quantity qty,
+                                    TradeOrderSide takerSide, Amount takerFee, Amount makerFee, LocalDateTime registeredDateTime) {
 
-        return tradeRepository.save(Trade.create(
+        Trade trade = tradeWriteBehind.insertTrade(Trade.create(
                 placeOrder.getSymbol(), price, qty, takerSide.name(),
                 placeOrder.getId(), placeOrder.getId(),
                 placeOrder.getUserId(), placeOrder.getUserId(),
                 takerFee, makerFee, registeredDateTime
         ));
+        tradeJournal.appendTrade(trade);
+        candleAggregator.addAfterCommit(trade);
+        tickerAggregator.addAfterCommit(trade);
+        stopOrderTrigger.onTrade(trade.getSymbol(), price);
+        return trade;
     }
 }
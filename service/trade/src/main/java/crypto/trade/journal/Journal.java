@@ -0,0 +1,186 @@
+package crypto.trade.journal;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+
+// 세그먼트 파일로 나뉜 append-only 저널. 세그먼트는 mmap 으로 쓰고, 파일 이름은 첫 시퀀스 번호이다.
+@Slf4j
+public class Journal implements AutoCloseable {
+
+    private static final String SEGMENT_SUFFIX = ".journal";
+
+    private final Path directory;
+    private final int segmentSize;
+    private JournalSegment current;
+    private long nextSequence;
+
+    private Journal(Path directory, int segmentSize) {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+    }
+
+    public static Journal open(Path directory, int segmentSize) {
+        Journal journal = new Journal(directory, segmentSize);
+
+        try {
+            Files.createDirectories(directory);
+            List<Path> segments = journal.segmentPaths();
+
+            if (segments.isEmpty()) {
+                journal.current = JournalSegment.open(journal.segmentPath(1L), 1L, segmentSize);
+            } else {
+                Path last = segments.get(segments.size() - 1);
+                journal.current = JournalSegment.open(last, firstSequenceOf(last), segmentSize);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open journal. directory=" + directory, e);
+        }
+
+        journal.nextSequence = journal.current.lastSequence() + 1;
+        log.info("[Journal.open] Journal opened. directory={}, nextSequence={}", directory, journal.nextSequence);
+        return journal;
+    }
+
+    public synchronized long append(JournalRecordType type, long batch, Consumer<ByteBuffer> payloadWriter) {
+        for (int attempt = 0; attempt < 2; attempt++) {
+            MappedByteBuffer buffer = current.buffer();
+            int position = current.writePosition();
+
+            try {
+                if (position + JournalSegment.HEADER_SIZE > buffer.capacity()) {
+                    throw new BufferOverflowException();
+                }
+                buffer.position(position + JournalSegment.HEADER_SIZE);
+                buffer.putLong(nextSequence);
+                buffer.put(type.code());
+                buffer.putLong(batch);
+                payloadWriter.accept(buffer);
+            } catch (BufferOverflowException e) {
+                if (position == 0) {
+                    throw new IllegalStateException("Journal record is larger than segment size. type=" + type);
+                }
+                roll();
+                continue;
+            }
+
+            current.commit(position, buffer.position(), nextSequence);
+            return nextSequence++;
+        }
+
+        throw new IllegalStateException("Failed to append journal record. type=" + type);
+    }
+
+    public void replay(Consumer<JournalEntry> consumer) {
+        replay(1L, consumer);
+    }
+
+    // fromSequence 이후의 기록만 재생한다. 그보다 앞선 기록만 담은 세그먼트는 열지 않는다.
+    public void replay(long fromSequence, Consumer<JournalEntry> consumer) {
+        List<Path> segments = segmentPaths();
+
+        for (int i = 0; i < segments.size(); i++) {
+            if (i + 1 < segments.size() && firstSequenceOf(segments.get(i + 1)) <= fromSequence) {
+                continue;
+            }
+
+            Path path = segments.get(i);
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                int position = 0;
+                int next;
+
+                while ((next = JournalSegment.nextRecord(buffer, position)) > 0) {
+                    int length = buffer.getInt(position);
+                    int body = position + JournalSegment.HEADER_SIZE;
+                    long sequence = buffer.getLong(body);
+                    JournalRecordType type = JournalRecordType.of(buffer.get(body + Long.BYTES));
+                    long batch = buffer.getLong(body + Long.BYTES + Byte.BYTES);
+                    ByteBuffer payload = buffer.slice(body + JournalSegment.BODY_HEADER_SIZE, length - JournalSegment.BODY_HEADER_SIZE);
+
+                    if (sequence >= fromSequence) {
+                        consumer.accept(new JournalEntry(sequence, type, batch, payload));
+                    }
+                    position = next;
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to replay journal segment. path=" + path, e);
+            }
+        }
+    }
+
+    // 기록이 모두 sequence 보다 앞선 세그먼트를 지우고 지운 개수를 반환한다. 쓰고 있는 마지막 세그먼트는 지우지 않는다.
+    public synchronized int deleteSegmentsBefore(long sequence) {
+        List<Path> segments = segmentPaths();
+        int deleted = 0;
+
+        for (int i = 0; i + 1 < segments.size() && firstSequenceOf(segments.get(i + 1)) <= sequence; i++) {
+            try {
+                Files.delete(segments.get(i));
+                deleted++;
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to delete journal segment. path=" + segments.get(i), e);
+            }
+        }
+        return deleted;
+    }
+
+    public synchronized void force() {
+        current.force();
+    }
+
+    public synchronized long nextSequence() {
+        return nextSequence;
+    }
+
+    @Override
+    public synchronized void close() {
+        try {
+            current.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to close journal. directory=" + directory, e);
+        }
+    }
+
+    private void roll() {
+        try {
+            current.close();
+            current = JournalSegment.open(segmentPath(nextSequence), nextSequence, segmentSize);
+            log.info("[Journal.roll] Journal segment rolled. path={}", current.path());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to roll journal segment. directory=" + directory, e);
+        }
+    }
+
+    private List<Path> segmentPaths() {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                    .filter(path -> path.getFileName().toString().endsWith(SEGMENT_SUFFIX))
+                    .sorted()
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to list journal segments. directory=" + directory, e);
+        }
+    }
+
+    private Path segmentPath(long firstSequence) {
+        return directory.resolve(String.format("%020d%s", firstSequence, SEGMENT_SUFFIX));
+    }
+
+    private static long firstSequenceOf(Path path) {
+        String fileName = path.getFileName().toString();
+        return Long.parseLong(fileName.substring(0, fileName.length() - SEGMENT_SUFFIX.length()));
+    }
+}
@@ -0,0 +1,8 @@
+package crypto.trade.journal;
+
+import java.nio.ByteBuffer;
+
+
+// payload 는 replay 콜백 안에서만 유효한 매핑 버퍼의 slice 이다.
+public record JournalEntry(long sequence, JournalRecordType type, long batch, ByteBuffer payload) {
+}
@@ -0,0 +1,39 @@
+package crypto.trade.journal;
+
+import java.util.Arrays;
+
+
+public enum JournalRecordType {
+    EVENT((byte) 1),
+    ORDER((byte) 2),
+    TRADE((byte) 3),
+    BOOK_LOADED((byte) 4),
+    ROLLBACK((byte) 5),
+    QUEUED((byte) 6),
+    FLUSHED((byte) 7),
+    OUTBOX((byte) 8),
+    DEAD_LETTERED((byte) 9);
+
+    private static final JournalRecordType[] BY_CODE = new JournalRecordType[10];
+
+    static {
+        Arrays.stream(values()).forEach(type -> BY_CODE[type.code] = type);
+    }
+
+    private final byte code;
+
+    JournalRecordType(byte code) {
+        this.code = code;
+    }
+
+    public byte code() {
+        return code;
+    }
+
+    public static JournalRecordType of(byte code) {
+        if (code <= 0 || code >= BY_CODE.length || BY_CODE[code] == null) {
+            throw new IllegalArgumentException("Unknown journal record type: " + code);
+        }
+        return BY_CODE[code];
+    }
+}
@@ -0,0 +1,119 @@
+package crypto.trade.journal;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+
+
+// 레코드 = [length:int][crc:int][sequence:long][type:byte][batch:long][payload]. length 를 마지막에 기록해 쓰다 만 레코드는 읽히지 않는다.
+class JournalSegment implements AutoCloseable {
+
+    static final int HEADER_SIZE = Integer.BYTES * 2;
+    static final int BODY_HEADER_SIZE = Long.BYTES + Byte.BYTES + Long.BYTES;
+
+    private final Path path;
+    private final long firstSequence;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private int writePosition;
+    private long lastSequence;
+
+    private JournalSegment(Path path, long firstSequence, FileChannel channel, MappedByteBuffer buffer) {
+        this.path = path;
+        this.firstSequence = firstSequence;
+        this.channel = channel;
+        this.buffer = buffer;
+        this.lastSequence = firstSequence - 1;
+    }
+
+    static JournalSegment open(Path path, long firstSequence, int size) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, Math.max(size, channel.size()));
+        JournalSegment segment = new JournalSegment(path, firstSequence, channel, buffer);
+        segment.recover();
+        return segment;
+    }
+
+    // 유효한 마지막 레코드 뒤를 쓰기 위치로 잡고, 깨진 꼬리 데이터는 0 으로 지운다.
+    private void recover() {
+        int position = 0;
+        int next;
+        while ((next = nextRecord(buffer, position)) > 0) {
+            lastSequence = buffer.getLong(position + HEADER_SIZE);
+            position = next;
+        }
+        writePosition = position;
+
+        if (position + HEADER_SIZE <= buffer.capacity() && buffer.getInt(position) != 0) {
+            for (int i = position; i < buffer.capacity(); i++) {
+                buffer.put(i, (byte) 0);
+            }
+        }
+    }
+
+    // position 의 레코드가 유효하면 다음 레코드 위치를, 아니면 -1 을 반환한다.
+    static int nextRecord(ByteBuffer buffer, int position) {
+        if (position + HEADER_SIZE + BODY_HEADER_SIZE > buffer.capacity()) {
+            return -1;
+        }
+
+        int length = buffer.getInt(position);
+        if (length < BODY_HEADER_SIZE || position + HEADER_SIZE + length > buffer.capacity()) {
+            return -1;
+        }
+
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.slice(position + HEADER_SIZE, length));
+        if ((int) crc.getValue() != buffer.getInt(position + Integer.BYTES)) {
+            return -1;
+        }
+
+        return position + HEADER_SIZE + length;
+    }
+
+    MappedByteBuffer buffer() {
+        return buffer;
+    }
+
+    int writePosition() {
+        return writePosition;
+    }
+
+    void commit(int position, int endPosition, long sequence) {
+        int length = endPosition - position - HEADER_SIZE;
+
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.slice(position + HEADER_SIZE, length));
+        buffer.putInt(position + Integer.BYTES, (int) crc.getValue());
+        buffer.putInt(position, length);
+
+        writePosition = endPosition;
+        lastSequence = sequence;
+    }
+
+    long firstSequence() {
+        return firstSequence;
+    }
+
+    long lastSequence() {
+        return lastSequence;
+    }
+
+    Path path() {
+        return path;
+    }
+
+    void force() {
+        buffer.force();
+    }
+
+    @Override
+    public void close() throws IOException {
+        force();
+        channel.close();
+    }
+}
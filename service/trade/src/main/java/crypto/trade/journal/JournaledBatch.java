@@ -0,0 +1,12 @@
+package crypto.trade.journal;
+
+import crypto.trade.entity.Trade;
+import crypto.trade.entity.TradeOrder;
+import crypto.trade.entity.TradeOutboxEvent;
+
+import java.util.List;
+
+
+// 쓰기 지연 큐에 들어갔지만 DB 반영이 확인되지 않은 배치. orders 는 배치가 변경한 주문의 마지막 상태이다.
+public record JournaledBatch(long batch, String eventId, List<TradeOrder> orders, List<Trade> trades, List<TradeOutboxEvent> outboxEvents) {
+}
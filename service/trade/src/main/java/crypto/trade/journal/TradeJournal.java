@@ -0,0 +1,282 @@
+package crypto.trade.journal;
+
+import crypto.trade.entity.Trade;
+import crypto.trade.entity.TradeOrder;
+import crypto.trade.entity.TradeOutboxEvent;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static crypto.trade.entity.TradeOrderStatus.*;
+import static crypto.trade.journal.JournalRecordType.*;
+
+
+// 매칭 입력(이벤트)과 결과(주문 상태, 체결)를 MySQL 보다 먼저 저널에 남기고, 재시작 시 저널을 재생해 호가창을 복구한다.
+// 복구한 뒤에는 호가창을 저널 끝에 BOOK_LOADED 로 다시 남기고, 그보다 앞서면서 DB 에 반영되지 않은 배치도 없는 세그먼트를 지운다.
+@Slf4j
+@Component
+public class TradeJournal {
+
+    private static final long NO_BATCH = 0L;
+
+    private final boolean enabled;
+    private final Path directory;
+    private final int segmentSize;
+    private final boolean fsync;
+
+    private final Map<String, List<TradeOrder>> recoveredOrders = new ConcurrentHashMap<>();
+    private List<JournaledBatch> unflushedBatches = new ArrayList<>();
+    private Journal journal;
+
+    public TradeJournal(@Value("${trade.journal.enabled:true}") boolean enabled,
+                        @Value("${trade.journal.directory:./journal/trade}") String directory,
+                        @Value("${trade.journal.segment-size:67108864}") int segmentSize,
+                        @Value("${trade.journal.fsync:false}") boolean fsync) {
+        this.enabled = enabled;
+        this.directory = Path.of(directory);
+        this.segmentSize = segmentSize;
+        this.fsync = fsync;
+    }
+
+    @PostConstruct
+    public void open() {
+        if (!enabled) {
+            return;
+        }
+
+        journal = Journal.open(directory, segmentSize);
+        recover();
+        checkpoint();
+    }
+
+    @PreDestroy
+    public void close() {
+        if (journal != null) {
+            journal.close();
+        }
+    }
+
+    public void begin(String eventId, String eventType) {
+        if (!enabled || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        long batch = journal.append(EVENT, NO_BATCH, buffer -> TradeJournalCodec.writeEvent(buffer, eventId, eventType));
+        TransactionSynchronizationManager.bindResource(this, batch);
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                if (fsync) {
+                    journal.force();
+                }
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(TradeJournal.this);
+
+                if (status != STATUS_COMMITTED) {
+                    journal.append(ROLLBACK, batch, buffer -> {});
+                    log.warn("[TradeJournal.afterCompletion] Journal batch rolled back. batch={}, eventId={}", batch, eventId);
+                }
+            }
+        });
+    }
+
+    public void appendOrder(TradeOrder order) {
+        if (enabled) {
+            journal.append(ORDER, currentBatch(), buffer -> TradeJournalCodec.writeOrder(buffer, order));
+        }
+    }
+
+    public void appendTrade(Trade trade) {
+        if (enabled) {
+            journal.append(TRADE, currentBatch(), buffer -> TradeJournalCodec.writeTrade(buffer, trade));
+        }
+    }
+
+    public void appendOutboxEvent(TradeOutboxEvent outboxEvent) {
+        if (enabled) {
+            journal.append(OUTBOX, currentBatch(), buffer -> TradeJournalCodec.writeOutboxEvent(buffer, outboxEvent));
+        }
+    }
+
+    public void appendBookLoaded(String symbol, List<TradeOrder> openOrders) {
+        if (!enabled) {
+            return;
+        }
+
+        long batch = currentBatch();
+        journal.append(BOOK_LOADED, batch, buffer -> TradeJournalCodec.writeString(buffer, symbol));
+
+        for (TradeOrder openOrder : openOrders) {
+            journal.append(ORDER, batch, buffer -> TradeJournalCodec.writeOrder(buffer, openOrder));
+        }
+    }
+
+    // 커밋된 배치가 쓰기 지연 큐에 들어갔음을 남긴다. FLUSHED 가 뒤따르지 않으면 재시작 시 DB 에 다시 반영한다.
+    public void appendQueued(long batch) {
+        if (enabled && batch != NO_BATCH) {
+            journal.append(QUEUED, batch, buffer -> {});
+        }
+    }
+
+    public void appendFlushed(List<Long> batches) {
+        if (enabled && !batches.isEmpty()) {
+            journal.append(FLUSHED, NO_BATCH, buffer -> TradeJournalCodec.writeLongs(buffer, batches));
+        }
+    }
+
+    // 다시 시도해도 반영되지 않는 배치를 남긴다. 내용은 저널에 그대로 있지만 재시작 시 다시 반영하지 않는다.
+    public void appendDeadLettered(long batch) {
+        if (enabled && batch != NO_BATCH) {
+            journal.append(DEAD_LETTERED, batch, buffer -> {});
+        }
+    }
+
+    public long currentBatch() {
+        Object batch = TransactionSynchronizationManager.getResource(this);
+        return (batch != null) ? (long) batch : NO_BATCH;
+    }
+
+    // 저널로 복구된 심볼이면 미체결 주문 목록을, 저널에 없는 심볼이면 null 을 반환한다. 심볼마다 한 번만 꺼낼 수 있다.
+    public List<TradeOrder> takeRecoveredOrders(String symbol) {
+        return recoveredOrders.remove(symbol);
+    }
+
+    // 재시작 시 DB 에 다시 반영해야 하는 배치를 꺼낸다. 한 번만 꺼낼 수 있다.
+    public List<JournaledBatch> takeUnflushedBatches() {
+        List<JournaledBatch> batches = unflushedBatches;
+        unflushedBatches = new ArrayList<>();
+        return batches;
+    }
+
+    // 첫 재생은 배치 상태와 심볼별 마지막 BOOK_LOADED 만 모은다. 두 번째 재생은 그중 가장 앞선 위치부터만 읽는다.
+    private void recover() {
+        Set<Long> rolledBackBatches = new HashSet<>();
+        Set<Long> queuedBatches = new HashSet<>();
+        List<BookLoaded> bookLoads = new ArrayList<>();
+        journal.replay(entry -> {
+            switch (entry.type()) {
+                case ROLLBACK -> rolledBackBatches.add(entry.batch());
+                case QUEUED -> queuedBatches.add(entry.batch());
+                case FLUSHED -> queuedBatches.removeAll(TradeJournalCodec.readLongs(entry.payload()));
+                case DEAD_LETTERED -> queuedBatches.remove(entry.batch());
+                case BOOK_LOADED -> bookLoads.add(new BookLoaded(entry.sequence(), entry.batch(), TradeJournalCodec.readString(entry.payload())));
+                default -> {
+                }
+            }
+        });
+        queuedBatches.removeAll(rolledBackBatches);
+
+        Map<String, Long> lastBookLoaded = new HashMap<>();
+        for (BookLoaded bookLoad : bookLoads) {
+            if (!rolledBackBatches.contains(bookLoad.batch())) {
+                lastBookLoaded.put(bookLoad.symbol(), bookLoad.sequence());
+            }
+        }
+
+        // 심볼의 마지막 BOOK_LOADED 앞의 주문 기록은 그 적재로 덮이고, 반영된 배치는 다시 읽을 필요가 없다.
+        long replayFrom = Math.min(
+                lastBookLoaded.values().stream().mapToLong(Long::longValue).min().orElse(journal.nextSequence()),
+                queuedBatches.stream().mapToLong(Long::longValue).min().orElse(journal.nextSequence()));
+
+        Set<String> loadedSymbols = new HashSet<>(lastBookLoaded.keySet());
+        Map<Long, TradeOrder> orders = new HashMap<>();
+        Map<Long, TradeOrder> latestOrders = new HashMap<>();
+        Map<Long, String> eventIds = new HashMap<>();
+        Map<Long, Set<Long>> batchOrderIds = new HashMap<>();
+        Map<Long, List<Trade>> batchTrades = new HashMap<>();
+        Map<Long, List<TradeOutboxEvent>> batchOutboxEvents = new HashMap<>();
+        long[] counts = new long[JournalRecordType.values().length];
+
+        journal.replay(replayFrom, entry -> {
+            if (entry.type() == ROLLBACK || rolledBackBatches.contains(entry.batch()) || rolledBackBatches.contains(entry.sequence())) {
+                return;
+            }
+
+            counts[entry.type().ordinal()]++;
+
+            switch (entry.type()) {
+                case BOOK_LOADED -> {
+                    String symbol = TradeJournalCodec.readString(entry.payload());
+                    orders.values().removeIf(order -> order.getSymbol().equals(symbol));
+                }
+                case EVENT -> {
+                    if (queuedBatches.contains(entry.sequence())) {
+                        eventIds.put(entry.sequence(), TradeJournalCodec.readString(entry.payload()));
+                    }
+                }
+                case ORDER -> {
+                    TradeOrder order = TradeJournalCodec.readOrder(entry.payload());
+                    orders.put(order.getId(), order);
+                    latestOrders.put(order.getId(), order);
+
+                    if (queuedBatches.contains(entry.batch())) {
+                        batchOrderIds.computeIfAbsent(entry.batch(), batch -> new LinkedHashSet<>()).add(order.getId());
+                    }
+                }
+                case TRADE -> {
+                    if (queuedBatches.contains(entry.batch())) {
+                        batchTrades.computeIfAbsent(entry.batch(), batch -> new ArrayList<>()).add(TradeJournalCodec.readTrade(entry.payload()));
+                    }
+                }
+                case OUTBOX -> {
+                    if (queuedBatches.contains(entry.batch())) {
+                        batchOutboxEvents.computeIfAbsent(entry.batch(), batch -> new ArrayList<>()).add(TradeJournalCodec.readOutboxEvent(entry.payload()));
+                    }
+                }
+                default -> {
+                }
+            }
+        });
+
+        for (String symbol : loadedSymbols) {
+            recoveredOrders.put(symbol, new ArrayList<>());
+        }
+
+        orders.values().stream()
+                .filter(order -> order.getOrderStatus() == OPEN && !order.isFullyFilled())
+                .filter(order -> loadedSymbols.contains(order.getSymbol()))
+                .sorted(Comparator.comparing(TradeOrder::getRegisteredDateTime).thenComparing(TradeOrder::getId))
+                .forEach(order -> recoveredOrders.get(order.getSymbol()).add(order));
+
+        queuedBatches.stream()
+                .sorted()
+                .forEach(batch -> unflushedBatches.add(new JournaledBatch(
+                        batch,
+                        eventIds.get(batch),
+                        batchOrderIds.getOrDefault(batch, Set.of()).stream().map(latestOrders::get).toList(),
+                        batchTrades.getOrDefault(batch, List.of()),
+                        batchOutboxEvents.getOrDefault(batch, List.of()))));
+
+        log.info("[TradeJournal.recover] Journal replayed. symbols={}, events={}, trades={}, rolledBackBatches={}, unflushedBatches={}, replayFrom={}, nextSequence={}",
+                loadedSymbols.size(), counts[EVENT.ordinal()], counts[TRADE.ordinal()], rolledBackBatches.size(), unflushedBatches.size(), replayFrom, journal.nextSequence());
+    }
+
+    // 복구한 호가창을 저널 끝에 다시 적재로 남기면, 다음 재시작은 이 위치와 가장 앞선 미반영 배치 중 앞선 쪽부터만 읽으면 된다.
+    private void checkpoint() {
+        long checkpoint = journal.nextSequence();
+        recoveredOrders.forEach(this::appendBookLoaded);
+
+        long cut = Math.min(checkpoint, unflushedBatches.stream().mapToLong(JournaledBatch::batch).min().orElse(checkpoint));
+        int deletedSegments = journal.deleteSegmentsBefore(cut);
+
+        log.info("[TradeJournal.checkpoint] Journal checkpointed. checkpoint={}, cut={}, deletedSegments={}", checkpoint, cut, deletedSegments);
+    }
+
+    private record BookLoaded(long sequence, long batch, String symbol) {
+    }
+}
@@ -0,0 +1,173 @@
+package crypto.trade.journal;
+
+import crypto.common.fixedpoint.Amount;
+import crypto.common.fixedpoint.Price;
+import crypto.common.fixedpoint.Quantity;
+import crypto.trade.entity.Trade;
+import crypto.trade.entity.TradeOrder;
+import crypto.trade.entity.TradeOrderSide;
+import crypto.trade.entity.TradeOrderStatus;
+import crypto.trade.entity.TradeOutboxEvent;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+
+final class TradeJournalCodec {
+
+    private static final long NULL_LONG = Long.MIN_VALUE;
+
+    private TradeJournalCodec() {
+    }
+
+    static void writeEvent(ByteBuffer buffer, String eventId, String eventType) {
+        writeString(buffer, eventId);
+        writeString(buffer, eventType);
+    }
+
+    static void writeOrder(ByteBuffer buffer, TradeOrder order) {
+        buffer.putLong(order.getId());
+        writeLong(buffer, order.getOrderId());
+        writeLong(buffer, order.getUserId());
+        writeString(buffer, order.getSymbol());
+        buffer.put((byte) order.getOrderSide().ordinal());
+        buffer.put((byte) order.getOrderStatus().ordinal());
+        buffer.putLong(order.getPrice().value());
+        buffer.putLong(order.getQuantity().value());
+        buffer.putLong(order.getFilledQuantity().value());
+        writeDateTime(buffer, order.getRegisteredDateTime());
+    }
+
+    static TradeOrder readOrder(ByteBuffer buffer) {
+        long id = buffer.getLong();
+        Long orderId = readLong(buffer);
+        Long userId = readLong(buffer);
+        String symbol = readString(buffer);
+        TradeOrderSide orderSide = TradeOrderSide.values()[buffer.get()];
+        TradeOrderStatus orderStatus = TradeOrderStatus.values()[buffer.get()];
+        Price price = new Price(buffer.getLong());
+        Quantity quantity = new Quantity(buffer.getLong());
+        Quantity filledQuantity = new Quantity(buffer.getLong());
+        LocalDateTime registeredDateTime = readDateTime(buffer);
+
+        return TradeOrder.restore(id, orderId, userId, symbol, price, quantity, filledQuantity, orderSide, orderStatus, registeredDateTime);
+    }
+
+    static void writeTrade(ByteBuffer buffer, Trade trade) {
+        buffer.putLong(trade.getId());
+        writeString(buffer, trade.getSymbol());
+        buffer.putLong(trade.getPrice().value());
+        buffer.putLong(trade.getQuantity().value());
+        writeString(buffer, trade.getOrderSide());
+        writeLong(buffer, trade.getTakerOrderId());
+        writeLong(buffer, trade.getMakerOrderId());
+        writeLong(buffer, trade.getTakerUserId());
+        writeLong(buffer, trade.getMakerUserId());
+        buffer.putLong(trade.getTakerFee().value());
+        buffer.putLong(trade.getMakerFee().value());
+        writeDateTime(buffer, trade.getTradedAt());
+    }
+
+    static Trade readTrade(ByteBuffer buffer) {
+        long id = buffer.getLong();
+        String symbol = readString(buffer);
+        Price price = new Price(buffer.getLong());
+        Quantity quantity = new Quantity(buffer.getLong());
+        String orderSide = readString(buffer);
+        Long takerOrderId = readLong(buffer);
+        Long makerOrderId = readLong(buffer);
+        Long takerUserId = readLong(buffer);
+        Long makerUserId = readLong(buffer);
+        Amount takerFee = new Amount(buffer.getLong());
+        Amount makerFee = new Amount(buffer.getLong());
+        LocalDateTime tradedAt = readDateTime(buffer);
+
+        Trade trade = Trade.create(symbol, price, quantity, orderSide, takerOrderId, makerOrderId, takerUserId, makerUserId, takerFee, makerFee, tradedAt);
+        trade.assignId(id);
+        return trade;
+    }
+
+    static void writeOutboxEvent(ByteBuffer buffer, TradeOutboxEvent outboxEvent) {
+        buffer.putLong(outboxEvent.getId());
+        writeString(buffer, outboxEvent.getTopic());
+        writeString(buffer, outboxEvent.getMessageKey());
+        buffer.putInt(outboxEvent.getMessage().length);
+        buffer.put(outboxEvent.getMessage());
+    }
+
+    static TradeOutboxEvent readOutboxEvent(ByteBuffer buffer) {
+        long id = buffer.getLong();
+        String topic = readString(buffer);
+        String messageKey = readString(buffer);
+        byte[] message = new byte[buffer.getInt()];
+        buffer.get(message);
+
+        return TradeOutboxEvent.restore(id, topic, messageKey, message);
+    }
+
+    static void writeLongs(ByteBuffer buffer, List<Long> values) {
+        buffer.putInt(values.size());
+        values.forEach(buffer::putLong);
+    }
+
+    static List<Long> readLongs(ByteBuffer buffer) {
+        int size = buffer.getInt();
+        List<Long> values = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            values.add(buffer.getLong());
+        }
+        return values;
+    }
+
+    static void writeString(ByteBuffer buffer, String value) {
+        if (value == null) {
+            buffer.putShort((short) -1);
+            return;
+        }
+
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        buffer.putShort((short) bytes.length);
+        buffer.put(bytes);
+    }
+
+    static String readString(ByteBuffer buffer) {
+        short length = buffer.getShort();
+        if (length < 0) {
+            return null;
+        }
+
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeLong(ByteBuffer buffer, Long value) {
+        buffer.putLong((value == null) ? NULL_LONG : value);
+    }
+
+    private static Long readLong(ByteBuffer buffer) {
+        long value = buffer.getLong();
+        return (value == NULL_LONG) ? null : value;
+    }
+
+    private static void writeDateTime(ByteBuffer buffer, LocalDateTime dateTime) {
+        if (dateTime == null) {
+            buffer.putLong(NULL_LONG);
+            buffer.putInt(0);
+            return;
+        }
+
+        buffer.putLong(dateTime.toEpochSecond(ZoneOffset.UTC));
+        buffer.putInt(dateTime.getNano());
+    }
+
+    private static LocalDateTime readDateTime(ByteBuffer buffer) {
+        long epochSecond = buffer.getLong();
+        int nano = buffer.getInt();
+        return (epochSecond == NULL_LONG) ? null : LocalDateTime.ofEpochSecond(epochSecond, nano, ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,107 @@
+package crypto.trade.marketdata;
+
+import crypto.common.time.TimeProvider;
+import crypto.trade.entity.Candle;
+import crypto.trade.entity.CandleInterval;
+import crypto.trade.entity.Trade;
+import crypto.trade.repository.CandleRepository;
+import crypto.trade.sequencer.MatchingSequencer;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+
+// 커밋된 체결을 심볼/구간별 캔들에 누적하고, 닫힌 캔들만 주기적으로 저장한다. 진행 중 캔들은 메모리에만 있다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CandleAggregator {
+
+    private final CandleRepository candleRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final MatchingSequencer matchingSequencer;
+    private final TimeProvider timeProvider;
+
+    private final Map<String, CandleWindow> windows = new ConcurrentHashMap<>();
+    private final Queue<Candle> closedCandles = new ConcurrentLinkedQueue<>();
+
+    public void addAfterCommit(Trade trade) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            add(trade);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                add(trade);
+            }
+        });
+    }
+
+    // 진행 중인 캔들의 복사본. 해당 심볼의 매칭 스레드에서 읽는다.
+    public Candle findOpenCandle(String symbol, CandleInterval interval) {
+        return matchingSequencer.dispatch(symbol, () -> {
+            CandleWindow window = windows.get(symbol);
+            return (window == null) ? null : window.find(interval);
+        }).join();
+    }
+
+    @Scheduled(fixedDelayString = "${trade.market-data.candle-flush-interval-ms:1000}")
+    public void closeExpiredCandles() {
+        for (String symbol : windows.keySet()) {
+            try {
+                matchingSequencer.dispatch(symbol, () -> {
+                    windows.get(symbol).closeExpired(timeProvider.now(), closedCandles::add);
+                    return null;
+                });
+            } catch (Exception e) {
+                log.warn("[CandleAggregator.closeExpiredCandles] Failed to schedule candle close. symbol={}", symbol, e);
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${trade.market-data.candle-flush-interval-ms:1000}")
+    public void flushClosedCandles() {
+        List<Candle> candles = new ArrayList<>();
+        Candle candle;
+        while ((candle = closedCandles.poll()) != null) {
+            candles.add(candle);
+        }
+
+        if (candles.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                for (Candle closed : candles) {
+                    candleRepository.findBySymbolAndIntervalAndOpenTime(closed.getSymbol(), closed.getInterval(), closed.getOpenTime())
+                            .ifPresentOrElse(stored -> stored.merge(closed), () -> candleRepository.save(closed));
+                }
+            });
+        } catch (Exception e) {
+            // 저장에 실패한 캔들은 다음 주기에 다시 저장한다. 롤백된 INSERT 의 ID 를 버리기 위해 복사본을 넣는다.
+            candles.forEach(failed -> closedCandles.add(failed.copy()));
+            log.error("[CandleAggregator.flushClosedCandles] Failed to flush closed candles. count={}", candles.size(), e);
+        }
+    }
+
+    private void add(Trade trade) {
+        windows.computeIfAbsent(trade.getSymbol(), CandleWindow::new)
+                .add(trade.getPrice(), trade.getQuantity(), trade.getTradedAt(), closedCandles::add);
+    }
+}
@@ -0,0 +1,61 @@
+package crypto.trade.marketdata;
+
+import crypto.common.fixedpoint.Price;
+import crypto.common.fixedpoint.Quantity;
+import crypto.trade.entity.Candle;
+import crypto.trade.entity.CandleInterval;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.function.Consumer;
+
+
+// 심볼 하나의 구간별 진행 중 캔들. 해당 심볼의 매칭 스레드만 접근한다.
+class CandleWindow {
+
+    private final String symbol;
+    private final Map<CandleInterval, Candle> openCandles = new EnumMap<>(CandleInterval.class);
+
+    CandleWindow(String symbol) {
+        this.symbol = symbol;
+    }
+
+    // 체결을 모든 구간의 캔들에 반영하고, 새 구간이 시작되어 닫힌 캔들은 closed 로 넘긴다.
+    void add(Price price, Quantity quantity, LocalDateTime tradedAt, Consumer<Candle> closed) {
+        for (CandleInterval interval : CandleInterval.values()) {
+            LocalDateTime openTime = interval.openTimeOf(tradedAt);
+            Candle candle = openCandles.get(interval);
+
+            if (candle == null || openTime.isAfter(candle.getOpenTime())) {
+                if (candle != null) {
+                    closed.accept(candle);
+                }
+                candle = Candle.open(symbol, interval, openTime, price);
+                openCandles.put(interval, candle);
+            }
+
+            // 이미 지난 구간으로 늦게 들어온 체결은 진행 중 캔들에 합친다.
+            candle.add(price, quantity);
+        }
+    }
+
+    // 체결 없이 구간이 끝난 캔들을 닫는다.
+    void closeExpired(LocalDateTime now, Consumer<Candle> closed) {
+        Iterator<Candle> candles = openCandles.values().iterator();
+
+        while (candles.hasNext()) {
+            Candle candle = candles.next();
+            if (!candle.getCloseTime().isAfter(now)) {
+                closed.accept(candle);
+                candles.remove();
+            }
+        }
+    }
+
+    Candle find(CandleInterval interval) {
+        Candle candle = openCandles.get(interval);
+        return (candle == null) ? null : candle.copy();
+    }
+}
@@ -0,0 +1,115 @@
+package crypto.trade.marketdata;
+
+import crypto.dataserializer.DataSerializer;
+import crypto.event.marketdata.DepthLevel;
+import crypto.event.marketdata.DepthMessage;
+import crypto.event.marketdata.DepthMessageType;
+import crypto.trade.orderbook.OrderBook;
+import crypto.trade.orderbook.OrderBookManager;
+import crypto.trade.sequencer.MatchingSequencer;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static crypto.event.EventType.Topic.CRYPTO_MARKET_DEPTH;
+import static crypto.trade.entity.TradeOrderSide.*;
+
+
+// 호가창의 가격대별 잔량을 심볼 키로 발행한다. 커밋된 매칭마다 바뀐 가격대만 diff 로, 주기적으로 전체를 스냅샷으로 보낸다.
+// 모든 발행은 해당 심볼의 매칭 스레드에서 일어나므로 심볼별 시퀀스와 메시지 순서가 일치한다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DepthPublisher {
+
+    private final KafkaTemplate<String, byte[]> kafkaTemplate;
+    private final DataSerializer dataSerializer;
+    private final OrderBookManager orderBookManager;
+    private final MatchingSequencer matchingSequencer;
+
+    private final Map<String, OrderBook> publishedBooks = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> sequences = new ConcurrentHashMap<>();
+
+    public void publishAfterCommit(OrderBook orderBook) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publish(orderBook);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                publish(orderBook);
+            }
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${trade.market-data.snapshot-interval-ms:5000}")
+    public void publishSnapshots() {
+        for (String symbol : orderBookManager.loadedSymbols()) {
+            try {
+                matchingSequencer.dispatch(symbol, () -> {
+                    OrderBook orderBook = orderBookManager.findLoaded(symbol);
+                    if (orderBook != null) {
+                        publishSnapshot(orderBook);
+                    }
+                    return null;
+                });
+            } catch (Exception e) {
+                log.warn("[DepthPublisher.publishSnapshots] Failed to schedule depth snapshot. symbol={}", symbol, e);
+            }
+        }
+    }
+
+    private void publish(OrderBook orderBook) {
+        // 호가창이 새로 적재되었으면 이전 diff 와 이어지지 않으므로 스냅샷부터 보낸다.
+        if (publishedBooks.get(orderBook.getSymbol()) != orderBook) {
+            publishSnapshot(orderBook);
+            return;
+        }
+
+        List<DepthLevel> bids = orderBook.drainChangedLevels(BUY);
+        List<DepthLevel> asks = orderBook.drainChangedLevels(SELL);
+
+        if (bids.isEmpty() && asks.isEmpty()) {
+            return;
+        }
+
+        send(new DepthMessage(orderBook.getSymbol(), DepthMessageType.DIFF, nextSequence(orderBook.getSymbol()),
+                bids, asks, System.currentTimeMillis()));
+    }
+
+    private void publishSnapshot(OrderBook orderBook) {
+        publishedBooks.put(orderBook.getSymbol(), orderBook);
+        orderBook.drainChangedLevels(BUY);
+        orderBook.drainChangedLevels(SELL);
+
+        send(new DepthMessage(orderBook.getSymbol(), DepthMessageType.SNAPSHOT, nextSequence(orderBook.getSymbol()),
+                orderBook.depth(BUY), orderBook.depth(SELL), System.currentTimeMillis()));
+    }
+
+    private long nextSequence(String symbol) {
+        return sequences.computeIfAbsent(symbol, key -> new AtomicLong()).incrementAndGet();
+    }
+
+    private void send(DepthMessage message) {
+        kafkaTemplate.send(CRYPTO_MARKET_DEPTH, message.symbol(), dataSerializer.serialize(CRYPTO_MARKET_DEPTH, message))
+                .whenComplete((result, ex) -> {
+                    if (ex != null) {
+                        log.error("[DepthPublisher.send] Failed to send depth message. symbol={}, type={}, sequence={}",
+                                message.symbol(), message.type(), message.sequence(), ex);
+                    }
+                });
+    }
+}
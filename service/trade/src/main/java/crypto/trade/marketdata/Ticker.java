@@ -0,0 +1,25 @@
+package crypto.trade.marketdata;
+
+import crypto.common.fixedpoint.Amount;
+import crypto.common.fixedpoint.Price;
+import crypto.common.fixedpoint.Quantity;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+
+public record Ticker(String symbol, Price lastPrice, Price openPrice, Price highPrice, Price lowPrice,
+                     Quantity volume, Amount quoteVolume, long tradeCount, BigDecimal changeRate) {
+
+    // 변동률은 24시간 구간 첫 체결가 대비 마지막 체결가의 백분율이다.
+    public static Ticker of(String symbol, Price lastPrice, Price openPrice, Price highPrice, Price lowPrice,
+                            Quantity volume, Amount quoteVolume, long tradeCount) {
+        BigDecimal changeRate = openPrice.isPositive()
+                ? lastPrice.toBigDecimal().subtract(openPrice.toBigDecimal())
+                        .multiply(BigDecimal.valueOf(100))
+                        .divide(openPrice.toBigDecimal(), 2, RoundingMode.HALF_UP)
+                : BigDecimal.ZERO;
+
+        return new Ticker(symbol, lastPrice, openPrice, highPrice, lowPrice, volume, quoteVolume, tradeCount, changeRate);
+    }
+}
@@ -0,0 +1,53 @@
+package crypto.trade.marketdata;
+
+import crypto.common.time.TimeProvider;
+import crypto.trade.entity.Trade;
+import crypto.trade.sequencer.MatchingSequencer;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+
+// 커밋된 체결로 심볼별 24시간 티커를 메모리에서 갱신한다. 조회 때 trades 테이블을 다시 집계하지 않는다.
+@Component
+@RequiredArgsConstructor
+public class TickerAggregator {
+
+    private final MatchingSequencer matchingSequencer;
+    private final TimeProvider timeProvider;
+
+    private final Map<String, TickerWindow> windows = new ConcurrentHashMap<>();
+
+    public void addAfterCommit(Trade trade) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            add(trade);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                add(trade);
+            }
+        });
+    }
+
+    // 해당 심볼의 매칭 스레드에서 현재 시각 기준으로 만료된 버킷을 정리한 뒤 통계를 읽는다.
+    public Ticker findTicker(String symbol) {
+        return matchingSequencer.dispatch(symbol, () -> {
+            TickerWindow window = windows.get(symbol);
+            return (window == null) ? null : window.snapshot(timeProvider.now());
+        }).join();
+    }
+
+    private void add(Trade trade) {
+        windows.computeIfAbsent(trade.getSymbol(), TickerWindow::new)
+                .add(trade.getPrice(), trade.getQuantity(), trade.getTradedAt());
+    }
+}
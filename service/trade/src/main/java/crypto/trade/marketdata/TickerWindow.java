@@ -0,0 +1,157 @@
+package crypto.trade.marketdata;
+
+import crypto.common.fixedpoint.Amount;
+import crypto.common.fixedpoint.Price;
+import crypto.common.fixedpoint.Quantity;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+
+
+// 심볼 하나의 24시간 체결 통계. 1분 버킷 1440개의 링으로 관리하고, 해당 심볼의 매칭 스레드만 접근한다.
+class TickerWindow {
+
+    static final int BUCKET_COUNT = 24 * 60;
+    private static final long EMPTY = Long.MIN_VALUE;
+
+    private final String symbol;
+    private final long[] minutes = new long[BUCKET_COUNT];
+    private final long[] opens = new long[BUCKET_COUNT];
+    private final long[] highs = new long[BUCKET_COUNT];
+    private final long[] lows = new long[BUCKET_COUNT];
+    private final long[] volumes = new long[BUCKET_COUNT];
+    private final long[] quoteVolumes = new long[BUCKET_COUNT];
+    private final long[] tradeCounts = new long[BUCKET_COUNT];
+
+    // 링에 남아 있는 가장 오래된 분과 지금까지 본 가장 최근 분. 24시간 구간은 최근 분을 기준으로 잡는다.
+    private long oldestMinute = EMPTY;
+    private long latestMinute = EMPTY;
+    private long lastPrice;
+    private long volume;
+    private long quoteVolume;
+    private long tradeCount;
+    private long high;
+    private long low;
+    // 고가나 저가를 가진 버킷이 만료되면 다음 조회 때 남은 버킷으로 다시 계산한다.
+    private boolean extremesStale;
+
+    TickerWindow(String symbol) {
+        this.symbol = symbol;
+        Arrays.fill(minutes, EMPTY);
+    }
+
+    void add(Price price, Quantity quantity, LocalDateTime tradedAt) {
+        long minute = minuteOf(tradedAt);
+        expire(minute);
+
+        // 24시간 구간보다 늦게 도착한 체결은 통계에 넣지 않는다.
+        if (minute <= latestMinute - BUCKET_COUNT) {
+            return;
+        }
+
+        int slot = slotOf(minute);
+        long amount = price.multiply(quantity).value();
+
+        if (minutes[slot] != minute) {
+            minutes[slot] = minute;
+            opens[slot] = price.value();
+            highs[slot] = price.value();
+            lows[slot] = price.value();
+            volumes[slot] = 0L;
+            quoteVolumes[slot] = 0L;
+            tradeCounts[slot] = 0L;
+        }
+
+        highs[slot] = Math.max(highs[slot], price.value());
+        lows[slot] = Math.min(lows[slot], price.value());
+        volumes[slot] = Math.addExact(volumes[slot], quantity.value());
+        quoteVolumes[slot] = Math.addExact(quoteVolumes[slot], amount);
+        tradeCounts[slot]++;
+
+        if (tradeCount == 0) {
+            high = price.value();
+            low = price.value();
+        } else {
+            high = Math.max(high, price.value());
+            low = Math.min(low, price.value());
+        }
+        if (oldestMinute == EMPTY || minute < oldestMinute) {
+            oldestMinute = minute;
+        }
+
+        lastPrice = price.value();
+        volume = Math.addExact(volume, quantity.value());
+        quoteVolume = Math.addExact(quoteVolume, amount);
+        tradeCount++;
+    }
+
+    // now 기준 24시간 통계. 구간 안에 체결이 없으면 null 을 반환한다.
+    Ticker snapshot(LocalDateTime now) {
+        expire(minuteOf(now));
+
+        if (tradeCount == 0) {
+            return null;
+        }
+        if (extremesStale) {
+            recomputeExtremes();
+        }
+
+        return Ticker.of(symbol, new Price(lastPrice), new Price(opens[slotOf(oldestMinute)]), new Price(high), new Price(low),
+                new Quantity(volume), new Amount(quoteVolume), tradeCount);
+    }
+
+    // currentMinute 기준으로 24시간이 지난 버킷을 오래된 순서대로 빼낸다.
+    private void expire(long currentMinute) {
+        latestMinute = Math.max(latestMinute, currentMinute);
+        long windowStart = latestMinute - BUCKET_COUNT + 1;
+
+        while (oldestMinute != EMPTY && oldestMinute < windowStart) {
+            int slot = slotOf(oldestMinute);
+
+            if (minutes[slot] == oldestMinute) {
+                volume -= volumes[slot];
+                quoteVolume -= quoteVolumes[slot];
+                tradeCount -= tradeCounts[slot];
+                if (highs[slot] == high || lows[slot] == low) {
+                    extremesStale = true;
+                }
+                minutes[slot] = EMPTY;
+            }
+
+            oldestMinute = (tradeCount == 0) ? EMPTY : nextLiveMinute(oldestMinute + 1);
+        }
+    }
+
+    // from 이후 처음으로 체결이 있는 분. 남은 버킷은 모두 한 바퀴 안에 있으므로 링을 한 번만 훑는다.
+    private long nextLiveMinute(long from) {
+        long minute = from;
+        for (int i = 0; i < BUCKET_COUNT; i++, minute++) {
+            if (minutes[slotOf(minute)] == minute) {
+                return minute;
+            }
+        }
+        return EMPTY;
+    }
+
+    private void recomputeExtremes() {
+        high = Long.MIN_VALUE;
+        low = Long.MAX_VALUE;
+
+        for (int slot = 0; slot < BUCKET_COUNT; slot++) {
+            if (minutes[slot] != EMPTY) {
+                high = Math.max(high, highs[slot]);
+                low = Math.min(low, lows[slot]);
+            }
+        }
+        extremesStale = false;
+    }
+
+    private static long minuteOf(LocalDateTime dateTime) {
+        return Math.floorDiv(dateTime.toEpochSecond(ZoneOffset.UTC), 60L);
+    }
+
+    private static int slotOf(long minute) {
+        return (int) Math.floorMod(minute, (long) BUCKET_COUNT);
+    }
+}
@@ -0,0 +1,17 @@
+package crypto.trade.marketdata.exception;
+
+import crypto.common.entity.exception.BusinessException;
+import org.springframework.http.HttpStatus;
+
+
+public class TickerNotFoundException extends BusinessException {
+
+    public TickerNotFoundException() {
+        super("최근 24시간 체결 내역이 없는 심볼입니다.");
+    }
+
+    @Override
+    public HttpStatus getStatus() {
+        return HttpStatus.NOT_FOUND;
+    }
+}
@@ -0,0 +1,65 @@
+package crypto.trade.orderbook;
+
+import crypto.trade.entity.TradeOrder;
+import crypto.trade.repository.TradeOrderRepository;
+
+import jakarta.persistence.EntityManager;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static crypto.trade.entity.TradeOrderStatus.*;
+
+
+// 미체결 주문을 (등록 시각, ID) 키셋 청크로 읽는다. 별도 읽기 전용 트랜잭션에서 청크마다 영속성 컨텍스트를 비우므로
+// 주문이 많은 심볼도 관리 엔티티가 청크 크기 이상 쌓이지 않고, 매칭 트랜잭션의 변경 감지 대상에도 들어가지 않는다.
+@Component
+public class OpenOrderLoader {
+
+    private final TradeOrderRepository tradeOrderRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public OpenOrderLoader(TradeOrderRepository tradeOrderRepository,
+                           EntityManager entityManager,
+                           PlatformTransactionManager transactionManager,
+                           @Value("${trade.orderbook.load-chunk-size:1000}") int chunkSize) {
+        this.tradeOrderRepository = tradeOrderRepository;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.transactionTemplate.setReadOnly(true);
+        this.chunkSize = chunkSize;
+    }
+
+    public List<TradeOrder> load(String symbol) {
+        return transactionTemplate.execute(status -> {
+            List<TradeOrder> openOrders = new ArrayList<>();
+            ScrollPosition position = ScrollPosition.keyset();
+            Window<TradeOrder> window;
+
+            do {
+                window = tradeOrderRepository.findBySymbolAndOrderStatusOrderByRegisteredDateTimeAscIdAsc(symbol, OPEN, position, Limit.of(chunkSize));
+                openOrders.addAll(window.getContent());
+                entityManager.clear();
+
+                if (window.isEmpty()) {
+                    break;
+                }
+                position = window.positionAt(window.size() - 1);
+            } while (window.hasNext());
+
+            return openOrders;
+        });
+    }
+}
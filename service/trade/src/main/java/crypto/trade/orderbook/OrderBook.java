@@ -0,0 +1,286 @@
+package crypto.trade.orderbook;
+
+import crypto.common.fixedpoint.Price;
+import crypto.common.fixedpoint.Quantity;
+import crypto.event.marketdata.DepthLevel;
+import crypto.trade.entity.TradeOrder;
+import crypto.trade.entity.TradeOrderSide;
+
+import lombok.Getter;
+
+import java.util.*;
+
+import static crypto.trade.entity.TradeOrderSide.*;
+
+
+// 심볼 하나의 미체결 지정가 주문을 가격-시간 우선순위로 보관한다. 매칭 스레드 하나만 접근한다는 전제로 동기화하지 않는다.
+// 주문은 OrderStore 의 힙 밖 열에 두고, 체결 대상으로 꺼낼 때만 TradeOrder 로 만든다.
+// 꺼낸 주문에 반영한 체결은 다음에 호가창에 접근할 때 저장소로 되돌려 쓴다. 주문 ID 로 칸을 바로 찾아 취소한다.
+public class OrderBook {
+
+    @Getter
+    private final String symbol;
+
+    private final OrderStore store = new OrderStore();
+    private final OrderIndex index = new OrderIndex();
+    private final NavigableMap<Price, PriceLevel> bids = new TreeMap<>(Comparator.reverseOrder());
+    private final NavigableMap<Price, PriceLevel> asks = new TreeMap<>();
+
+    // 마지막 drainChangedLevels 이후 잔량이 바뀌었을 수 있는 가격대
+    private final NavigableSet<Price> changedBids = new TreeSet<>(Comparator.reverseOrder());
+    private final NavigableSet<Price> changedAsks = new TreeSet<>();
+
+    private MatchableOrderIterator matching;
+
+    public OrderBook(String symbol) {
+        this.symbol = symbol;
+    }
+
+    public void add(TradeOrder order) {
+        writeBackMatched();
+        int slot = store.allocate(order);
+        if (order.getOrderId() != null) {
+            index.put(order.getOrderId(), slot);
+        }
+
+        changedOf(order.getOrderSide()).add(order.getPrice());
+        sideOf(order.getOrderSide())
+                .computeIfAbsent(order.getPrice(), PriceLevel::new)
+                .append(store, slot);
+    }
+
+    public boolean remove(TradeOrder order) {
+        return order.getOrderId() != null && cancel(order.getOrderId()) != null;
+    }
+
+    // 주문 ID 의 미체결 주문을 호가창에 둔 채로 반환한다. 호가창에 없으면 null 을 반환한다.
+    public TradeOrder find(Long orderId) {
+        writeBackMatched();
+        int slot = index.get(orderId);
+        return (slot == OrderStore.NIL) ? null : store.toOrder(slot, symbol);
+    }
+
+    // 같은 주문 ID 의 새 주문으로 칸을 바꿔 써서 가격대 안의 순서를 유지한다. 가격이 같고 잔량이 늘지 않는 정정에만 쓴다.
+    public void replaceInPlace(TradeOrder replacement) {
+        writeBackMatched();
+        int slot = index.get(replacement.getOrderId());
+        PriceLevel level = sideOf(replacement.getOrderSide()).get(replacement.getPrice());
+
+        if (slot == OrderStore.NIL || level == null || store.remainingQuantity(slot) < replacement.calculateRemainQuantity().value()) {
+            throw new IllegalArgumentException("[OrderBook.replaceInPlace] Replacement must keep the price and not increase the remaining quantity. orderId="
+                    + replacement.getOrderId());
+        }
+
+        if (matching != null) {
+            matching.detach(slot);
+        }
+        level.fill(store.overwrite(slot, replacement));
+        changedOf(replacement.getOrderSide()).add(replacement.getPrice());
+    }
+
+    // 주문 ID 의 미체결 주문을 호가창에서 빼고, 뺀 시점의 주문을 반환한다. 호가창에 없으면 null 을 반환한다.
+    public TradeOrder cancel(Long orderId) {
+        writeBackMatched();
+        int slot = index.remove(orderId);
+
+        if (slot == OrderStore.NIL) {
+            return null;
+        }
+
+        if (matching != null) {
+            matching.forget(slot);
+        }
+
+        TradeOrder order = store.toOrder(slot, symbol);
+        NavigableMap<Price, PriceLevel> levels = sideOf(order.getOrderSide());
+        PriceLevel level = levels.get(order.getPrice());
+
+        level.unlink(store, slot);
+        store.release(slot);
+        changedOf(order.getOrderSide()).add(order.getPrice());
+
+        if (level.isEmpty()) {
+            levels.remove(order.getPrice());
+        }
+        return order;
+    }
+
+    // limitPrice 가 null 이면 시장가 주문으로 보고 가격 제한 없이 순회한다. 체결 완료된 주문은 next() 직후 remove() 로 제거한다.
+    public Iterator<TradeOrder> matchableOrders(TradeOrderSide takerSide, Price limitPrice) {
+        writeBackMatched();
+        TradeOrderSide counterSide = counterOf(takerSide);
+        NavigableMap<Price, PriceLevel> counterLevels = sideOf(counterSide);
+
+        if (limitPrice != null) {
+            counterLevels = counterLevels.headMap(limitPrice, true);
+        }
+
+        matching = new MatchableOrderIterator(counterLevels.values().iterator(), changedOf(counterSide));
+        return matching;
+    }
+
+    // 지정가에 바로 체결될 상대 주문이 있는지 확인한다. 메이커 전용 주문을 거절할 때 쓴다.
+    public boolean crosses(TradeOrderSide takerSide, Price limitPrice) {
+        writeBackMatched();
+        return !sideOf(counterOf(takerSide)).headMap(limitPrice, true).isEmpty();
+    }
+
+    // 지정가 이내 상대 가격대의 잔량 합이 수량 이상인지 확인한다. 주문을 꺼내지 않고 가격대 잔량만 더한다.
+    public boolean canFill(TradeOrderSide takerSide, Price limitPrice, Quantity quantity) {
+        writeBackMatched();
+        long remaining = quantity.value();
+
+        for (PriceLevel level : sideOf(counterOf(takerSide)).headMap(limitPrice, true).values()) {
+            remaining -= level.remainingQuantity().value();
+            if (remaining <= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public PriceLevel bestBid() {
+        writeBackMatched();
+        return bids.isEmpty() ? null : bids.firstEntry().getValue();
+    }
+
+    public PriceLevel bestAsk() {
+        writeBackMatched();
+        return asks.isEmpty() ? null : asks.firstEntry().getValue();
+    }
+
+    public boolean isEmpty() {
+        return bids.isEmpty() && asks.isEmpty();
+    }
+
+    // 가격대별 총 잔량을 최우선 호가부터 반환한다.
+    public List<DepthLevel> depth(TradeOrderSide side) {
+        writeBackMatched();
+        List<DepthLevel> levels = new ArrayList<>();
+        for (PriceLevel level : sideOf(side).values()) {
+            levels.add(new DepthLevel(level.getPrice(), level.remainingQuantity()));
+        }
+        return levels;
+    }
+
+    // 잔량이 바뀌었을 수 있는 가격대의 현재 총 잔량을 반환하고 변경 기록을 비운다. 사라진 가격대는 잔량 0 으로 반환한다.
+    public List<DepthLevel> drainChangedLevels(TradeOrderSide side) {
+        writeBackMatched();
+        NavigableMap<Price, PriceLevel> levels = sideOf(side);
+        NavigableSet<Price> changed = changedOf(side);
+        List<DepthLevel> changedLevels = new ArrayList<>(changed.size());
+
+        for (Price price : changed) {
+            PriceLevel level = levels.get(price);
+            changedLevels.add(new DepthLevel(price, (level == null) ? Quantity.ZERO : level.remainingQuantity()));
+        }
+
+        changed.clear();
+        return changedLevels;
+    }
+
+    private void writeBackMatched() {
+        if (matching != null) {
+            matching.writeBack();
+        }
+    }
+
+    private static TradeOrderSide counterOf(TradeOrderSide takerSide) {
+        return (takerSide == BUY) ? SELL : BUY;
+    }
+
+    private NavigableMap<Price, PriceLevel> sideOf(TradeOrderSide orderSide) {
+        return (orderSide == BUY) ? bids : asks;
+    }
+
+    private NavigableSet<Price> changedOf(TradeOrderSide orderSide) {
+        return (orderSide == BUY) ? changedBids : changedAsks;
+    }
+
+    private class MatchableOrderIterator implements Iterator<TradeOrder> {
+        private final Iterator<PriceLevel> levels;
+        private final Set<Price> changedPrices;
+        private PriceLevel currentLevel;
+        private int nextSlot = OrderStore.NIL;
+
+        // 마지막으로 꺼낸 주문과 그 칸. 체결 수량을 저장소로 되돌려 쓸 때 쓴다.
+        private TradeOrder current;
+        private PriceLevel currentOrderLevel;
+        private int currentSlot = OrderStore.NIL;
+
+        MatchableOrderIterator(Iterator<PriceLevel> levels, Set<Price> changedPrices) {
+            this.levels = levels;
+            this.changedPrices = changedPrices;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (nextSlot == OrderStore.NIL) {
+                if (!levels.hasNext()) {
+                    return false;
+                }
+                currentLevel = levels.next();
+                nextSlot = currentLevel.head();
+            }
+            return true;
+        }
+
+        @Override
+        public TradeOrder next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            writeBack();
+
+            // 꺼낸 주문은 곧 체결될 수 있으므로 가격대를 변경 대상으로 기록한다.
+            changedPrices.add(currentLevel.getPrice());
+            currentSlot = nextSlot;
+            currentOrderLevel = currentLevel;
+            nextSlot = store.next(currentSlot);
+            current = store.toOrder(currentSlot, symbol);
+            return current;
+        }
+
+        @Override
+        public void remove() {
+            if (current == null) {
+                throw new IllegalStateException();
+            }
+            writeBack();
+            Long orderId = store.orderId(currentSlot);
+            if (orderId != null) {
+                index.remove(orderId);
+            }
+            currentOrderLevel.unlink(store, currentSlot);
+            store.release(currentSlot);
+            current = null;
+            currentSlot = OrderStore.NIL;
+
+            if (currentOrderLevel.isEmpty()) {
+                levels.remove();
+            }
+        }
+
+        void writeBack() {
+            if (current != null) {
+                currentOrderLevel.fill(store.writeBack(currentSlot, current));
+            }
+        }
+
+        // 순회 밖에서 바꿔 쓴 칸에 꺼내 간 주문을 되돌려 쓰지 않게 한다.
+        void detach(int slot) {
+            if (slot == currentSlot) {
+                current = null;
+                currentSlot = OrderStore.NIL;
+            }
+        }
+
+        // 순회 밖에서 지워진 칸을 더 이상 가리키지 않게 한다.
+        void forget(int slot) {
+            detach(slot);
+            if (slot == nextSlot) {
+                nextSlot = store.next(slot);
+            }
+        }
+    }
+}
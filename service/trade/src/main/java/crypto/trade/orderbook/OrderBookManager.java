@@ -0,0 +1,95 @@
+package crypto.trade.orderbook;
+
+import crypto.trade.entity.TradeOrder;
+import crypto.trade.journal.TradeJournal;
+import crypto.trade.persistence.TradeWriteBehind;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderBookManager {
+
+    private final OpenOrderLoader openOrderLoader;
+    private final TradeJournal tradeJournal;
+    private final TradeWriteBehind tradeWriteBehind;
+    private final Map<String, OrderBook> orderBooks = new ConcurrentHashMap<>();
+
+    public OrderBook getOrderBook(String symbol) {
+        return orderBooks.computeIfAbsent(symbol, this::load);
+    }
+
+    // 이미 적재된 호가창만 반환하며, 없으면 적재하지 않고 null 을 반환한다.
+    public OrderBook findLoaded(String symbol) {
+        return orderBooks.get(symbol);
+    }
+
+    public Set<String> loadedSymbols() {
+        return Set.copyOf(orderBooks.keySet());
+    }
+
+    public void invalidate(String symbol) {
+        orderBooks.remove(symbol);
+        log.warn("[OrderBookManager.invalidate] Order book invalidated, it will be reloaded on next access. symbol={}", symbol);
+    }
+
+    public void invalidateOnRollback(String symbol) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    invalidate(symbol);
+                }
+            }
+        });
+    }
+
+    public void invalidateAfterCommit(String symbol) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidate(symbol);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                invalidate(symbol);
+            }
+        });
+    }
+
+    private OrderBook load(String symbol) {
+        OrderBook orderBook = new OrderBook(symbol);
+        List<TradeOrder> openOrders = tradeJournal.takeRecoveredOrders(symbol);
+        boolean recovered = (openOrders != null);
+
+        if (!recovered) {
+            tradeWriteBehind.awaitFlushed();
+            openOrders = openOrderLoader.load(symbol);
+            tradeJournal.appendBookLoaded(symbol, openOrders);
+        }
+
+        for (TradeOrder openOrder : openOrders) {
+            orderBook.add(openOrder);
+        }
+
+        log.info("[OrderBookManager.load] Order book loaded. symbol={}, openOrders={}, fromJournal={}", symbol, openOrders.size(), recovered);
+        return orderBook;
+    }
+}
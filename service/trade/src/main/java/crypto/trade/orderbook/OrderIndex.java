@@ -0,0 +1,104 @@
+package crypto.trade.orderbook;
+
+import java.util.Arrays;
+
+
+// 주문 ID 로 OrderStore 칸을 찾는 long -> int 해시 맵. 박싱 없이 선형 탐사로 찾고, 지울 때는 뒤 항목을 당겨 빈 칸을 메운다.
+// 호가창과 같은 매칭 스레드 하나만 접근한다는 전제로 동기화하지 않는다.
+final class OrderIndex {
+
+    private static final long EMPTY = Long.MIN_VALUE;
+    private static final int INITIAL_CAPACITY = 1 << 10;
+
+    private long[] keys;
+    private int[] slots;
+    private int mask;
+    private int size;
+
+    OrderIndex() {
+        allocate(INITIAL_CAPACITY);
+    }
+
+    void put(long orderId, int slot) {
+        if ((size + 1) * 2 > keys.length) {
+            resize(keys.length << 1);
+        }
+
+        int i = indexOf(orderId);
+        while (keys[i] != EMPTY) {
+            if (keys[i] == orderId) {
+                slots[i] = slot;
+                return;
+            }
+            i = (i + 1) & mask;
+        }
+
+        keys[i] = orderId;
+        slots[i] = slot;
+        size++;
+    }
+
+    int get(long orderId) {
+        for (int i = indexOf(orderId); keys[i] != EMPTY; i = (i + 1) & mask) {
+            if (keys[i] == orderId) {
+                return slots[i];
+            }
+        }
+        return OrderStore.NIL;
+    }
+
+    int remove(long orderId) {
+        int i = indexOf(orderId);
+        while (keys[i] != orderId) {
+            if (keys[i] == EMPTY) {
+                return OrderStore.NIL;
+            }
+            i = (i + 1) & mask;
+        }
+
+        int slot = slots[i];
+        size--;
+
+        // 지운 자리 뒤의 항목 중 원래 자리가 지운 자리 이전인 것을 당겨 탐사 사슬이 끊기지 않게 한다.
+        int hole = i;
+        for (int j = (i + 1) & mask; keys[j] != EMPTY; j = (j + 1) & mask) {
+            int home = indexOf(keys[j]);
+            if (((j - home) & mask) >= ((j - hole) & mask)) {
+                keys[hole] = keys[j];
+                slots[hole] = slots[j];
+                hole = j;
+            }
+        }
+        keys[hole] = EMPTY;
+        return slot;
+    }
+
+    int size() {
+        return size;
+    }
+
+    private int indexOf(long orderId) {
+        long hash = orderId * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    private void resize(int capacity) {
+        long[] oldKeys = keys;
+        int[] oldSlots = slots;
+        allocate(capacity);
+        size = 0;
+
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                put(oldKeys[i], oldSlots[i]);
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        Arrays.fill(keys, EMPTY);
+        slots = new int[capacity];
+        mask = capacity - 1;
+    }
+}
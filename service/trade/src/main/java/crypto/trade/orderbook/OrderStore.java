@@ -0,0 +1,223 @@
+package crypto.trade.orderbook;
+
+import crypto.common.fixedpoint.Price;
+import crypto.common.fixedpoint.Quantity;
+import crypto.event.TimeInForce;
+import crypto.trade.entity.TradeOrder;
+import crypto.trade.entity.TradeOrderSide;
+import crypto.trade.entity.TradeOrderStatus;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+
+
+// 미체결 주문을 주문마다 객체로 두지 않고 열(column)별 힙 밖 메모리에 칸(slot) 단위로 보관한다.
+// 주문은 칸 번호로 가리키고, 가격대의 주문 순서는 prev/next 열로 잇는다. 비운 칸은 next 열로 이은 빈 칸 목록에서 다시 쓴다.
+// 호가창과 같은 매칭 스레드 하나만 접근한다는 전제로 동기화하지 않는다.
+final class OrderStore {
+
+    static final int NIL = -1;
+
+    private static final int PAGE_SHIFT = 12;
+    private static final int PAGE_SIZE = 1 << PAGE_SHIFT;
+    private static final int PAGE_MASK = PAGE_SIZE - 1;
+
+    private static final long NULL_VALUE = Long.MIN_VALUE;
+    private static final TradeOrderSide[] SIDES = TradeOrderSide.values();
+    private static final TradeOrderStatus[] STATUSES = TradeOrderStatus.values();
+    private static final TimeInForce[] TIME_IN_FORCES = TimeInForce.values();
+
+    private Page[] pages = new Page[0];
+    private int unusedSlot;
+    private int freeSlot = NIL;
+    private int size;
+
+    int allocate(TradeOrder order) {
+        int slot = nextSlot();
+        Page page = page(slot);
+        int offset = slot & PAGE_MASK;
+
+        page.putLong(page.ids, offset, toLong(order.getId()));
+        page.putLong(page.orderIds, offset, toLong(order.getOrderId()));
+        page.putLong(page.userIds, offset, toLong(order.getUserId()));
+        page.putLong(page.prices, offset, order.getPrice().value());
+        page.putLong(page.quantities, offset, order.getQuantity().value());
+        page.putLong(page.filledQuantities, offset, order.getFilledQuantity().value());
+        page.putLong(page.registeredAts, offset, toEpochNanos(order.getRegisteredDateTime()));
+        page.putInt(page.prevs, offset, NIL);
+        page.putInt(page.nexts, offset, NIL);
+        page.flags.put(offset, flags(order));
+
+        size++;
+        return slot;
+    }
+
+    void release(int slot) {
+        setNext(slot, freeSlot);
+        freeSlot = slot;
+        size--;
+    }
+
+    TradeOrder toOrder(int slot, String symbol) {
+        Page page = page(slot);
+        int offset = slot & PAGE_MASK;
+        byte flags = page.flags.get(offset);
+
+        TradeOrder order = TradeOrder.restore(
+                toId(page.getLong(page.ids, offset)),
+                toId(page.getLong(page.orderIds, offset)),
+                toId(page.getLong(page.userIds, offset)),
+                symbol,
+                new Price(page.getLong(page.prices, offset)),
+                new Quantity(page.getLong(page.quantities, offset)),
+                new Quantity(page.getLong(page.filledQuantities, offset)),
+                SIDES[flags & 1],
+                STATUSES[flags >>> 3],
+                toDateTime(page.getLong(page.registeredAts, offset)));
+        order.applyTimeInForce(TIME_IN_FORCES[(flags >>> 1) & 3]);
+        return order;
+    }
+
+    // 꺼내 간 주문 객체의 체결 수량과 상태를 칸에 되돌려 쓰고, 늘어난 체결 수량을 반환한다.
+    long writeBack(int slot, TradeOrder order) {
+        Page page = page(slot);
+        int offset = slot & PAGE_MASK;
+        long filledQuantity = order.getFilledQuantity().value();
+        long delta = filledQuantity - page.getLong(page.filledQuantities, offset);
+
+        page.putLong(page.filledQuantities, offset, filledQuantity);
+        page.flags.put(offset, flags(order));
+        return delta;
+    }
+
+    // 같은 가격의 새 주문으로 칸을 바꿔 쓰고, 줄어든 잔량을 반환한다. 가격대 안의 순서(prev/next)는 그대로 둔다.
+    long overwrite(int slot, TradeOrder order) {
+        Page page = page(slot);
+        int offset = slot & PAGE_MASK;
+        long remainingQuantity = remainingQuantity(slot);
+
+        page.putLong(page.ids, offset, toLong(order.getId()));
+        page.putLong(page.quantities, offset, order.getQuantity().value());
+        page.putLong(page.filledQuantities, offset, order.getFilledQuantity().value());
+        page.putLong(page.registeredAts, offset, toEpochNanos(order.getRegisteredDateTime()));
+        page.flags.put(offset, flags(order));
+        return remainingQuantity - remainingQuantity(slot);
+    }
+
+    Long id(int slot) {
+        return toId(page(slot).getLong(page(slot).ids, slot & PAGE_MASK));
+    }
+
+    Long orderId(int slot) {
+        return toId(page(slot).getLong(page(slot).orderIds, slot & PAGE_MASK));
+    }
+
+    long remainingQuantity(int slot) {
+        Page page = page(slot);
+        int offset = slot & PAGE_MASK;
+        return page.getLong(page.quantities, offset) - page.getLong(page.filledQuantities, offset);
+    }
+
+    int prev(int slot) {
+        return page(slot).getInt(page(slot).prevs, slot & PAGE_MASK);
+    }
+
+    int next(int slot) {
+        return page(slot).getInt(page(slot).nexts, slot & PAGE_MASK);
+    }
+
+    void setPrev(int slot, int prev) {
+        page(slot).putInt(page(slot).prevs, slot & PAGE_MASK, prev);
+    }
+
+    void setNext(int slot, int next) {
+        page(slot).putInt(page(slot).nexts, slot & PAGE_MASK, next);
+    }
+
+    int size() {
+        return size;
+    }
+
+    private int nextSlot() {
+        if (freeSlot != NIL) {
+            int slot = freeSlot;
+            freeSlot = next(slot);
+            return slot;
+        }
+
+        if ((unusedSlot >>> PAGE_SHIFT) == pages.length) {
+            pages = Arrays.copyOf(pages, pages.length + 1);
+            pages[pages.length - 1] = new Page();
+        }
+        return unusedSlot++;
+    }
+
+    private Page page(int slot) {
+        return pages[slot >>> PAGE_SHIFT];
+    }
+
+    // 0번 비트는 매수/매도, 1~2번 비트는 유효 조건, 그 위는 상태다. 정정한 주문도 메이커 전용 같은 유효 조건을 이어받아야 하므로 함께 둔다.
+    private static byte flags(TradeOrder order) {
+        return (byte) ((order.getOrderStatus().ordinal() << 3) | (order.getTimeInForce().ordinal() << 1) | order.getOrderSide().ordinal());
+    }
+
+    private static long toLong(Long value) {
+        return (value == null) ? NULL_VALUE : value;
+    }
+
+    private static Long toId(long value) {
+        return (value == NULL_VALUE) ? null : value;
+    }
+
+    private static long toEpochNanos(LocalDateTime dateTime) {
+        if (dateTime == null) {
+            return NULL_VALUE;
+        }
+        return dateTime.toEpochSecond(ZoneOffset.UTC) * 1_000_000_000L + dateTime.getNano();
+    }
+
+    private static LocalDateTime toDateTime(long epochNanos) {
+        if (epochNanos == NULL_VALUE) {
+            return null;
+        }
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(epochNanos, 1_000_000_000L),
+                (int) Math.floorMod(epochNanos, 1_000_000_000L), ZoneOffset.UTC);
+    }
+
+    // 칸 PAGE_SIZE 개 분량의 열 묶음. 열마다 따로 할당해 같은 열의 값이 메모리에 연속으로 놓인다.
+    private static final class Page {
+        final ByteBuffer ids = column(Long.BYTES);
+        final ByteBuffer orderIds = column(Long.BYTES);
+        final ByteBuffer userIds = column(Long.BYTES);
+        final ByteBuffer prices = column(Long.BYTES);
+        final ByteBuffer quantities = column(Long.BYTES);
+        final ByteBuffer filledQuantities = column(Long.BYTES);
+        final ByteBuffer registeredAts = column(Long.BYTES);
+        final ByteBuffer prevs = column(Integer.BYTES);
+        final ByteBuffer nexts = column(Integer.BYTES);
+        final ByteBuffer flags = column(Byte.BYTES);
+
+        long getLong(ByteBuffer column, int offset) {
+            return column.getLong(offset * Long.BYTES);
+        }
+
+        void putLong(ByteBuffer column, int offset, long value) {
+            column.putLong(offset * Long.BYTES, value);
+        }
+
+        int getInt(ByteBuffer column, int offset) {
+            return column.getInt(offset * Integer.BYTES);
+        }
+
+        void putInt(ByteBuffer column, int offset, int value) {
+            column.putInt(offset * Integer.BYTES, value);
+        }
+
+        private static ByteBuffer column(int width) {
+            return ByteBuffer.allocateDirect(PAGE_SIZE * width).order(ByteOrder.nativeOrder());
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package crypto.trade.orderbook;
+
+import crypto.common.fixedpoint.Price;
+import crypto.common.fixedpoint.Quantity;
+
+import lombok.Getter;
+
+
+// 같은 가격 주문의 시간 순서 목록. 주문 자체는 OrderStore 의 칸에 있고, 가격대는 처음과 끝 칸과 잔량 합만 가진다.
+public class PriceLevel {
+
+    @Getter
+    private final Price price;
+
+    private int head = OrderStore.NIL;
+    private int tail = OrderStore.NIL;
+    private int size;
+    private long remainingQuantity;
+
+    public PriceLevel(Price price) {
+        this.price = price;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public Quantity remainingQuantity() {
+        return new Quantity(remainingQuantity);
+    }
+
+    int head() {
+        return head;
+    }
+
+    void append(OrderStore store, int slot) {
+        store.setPrev(slot, tail);
+        store.setNext(slot, OrderStore.NIL);
+
+        if (tail == OrderStore.NIL) {
+            head = slot;
+        } else {
+            store.setNext(tail, slot);
+        }
+
+        tail = slot;
+        size++;
+        remainingQuantity += store.remainingQuantity(slot);
+    }
+
+    void unlink(OrderStore store, int slot) {
+        int prev = store.prev(slot);
+        int next = store.next(slot);
+
+        if (prev == OrderStore.NIL) {
+            head = next;
+        } else {
+            store.setNext(prev, next);
+        }
+
+        if (next == OrderStore.NIL) {
+            tail = prev;
+        } else {
+            store.setPrev(next, prev);
+        }
+
+        size--;
+        remainingQuantity -= store.remainingQuantity(slot);
+    }
+
+    void fill(long filledQuantity) {
+        remainingQuantity -= filledQuantity;
+    }
+}
@@ -0,0 +1,71 @@
+package crypto.trade.persistence;
+
+import crypto.common.time.TimeProvider;
+import crypto.event.outbox.OutboxMessage;
+import crypto.event.outbox.OutboxStore;
+import crypto.trade.consumer.ExactlyOncePublisher;
+import crypto.trade.entity.TradeOutboxEvent;
+import crypto.trade.journal.TradeJournal;
+import crypto.trade.repository.TradeOutboxEventRepository;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+
+// 매칭 트랜잭션은 DB 에 쓰지 않으므로, 아웃박스 행도 체결과 같은 쓰기 지연 배치에 실어 한 트랜잭션으로 반영한다.
+// 카프카 트랜잭션 모드에서는 리스너가 먼저 발행하고 행을 지우므로, 릴레이는 유예 시간이 지나도 남은 행만 보낸다.
+@Component
+public class TradeOutboxStore implements OutboxStore {
+
+    private final TradeWriteBehind tradeWriteBehind;
+    private final TradeJournal tradeJournal;
+    private final TradeOutboxEventRepository tradeOutboxEventRepository;
+    private final TimeProvider timeProvider;
+    private final ExactlyOncePublisher exactlyOncePublisher;
+    private final Duration relayGrace;
+
+    public TradeOutboxStore(TradeWriteBehind tradeWriteBehind,
+                            TradeJournal tradeJournal,
+                            TradeOutboxEventRepository tradeOutboxEventRepository,
+                            TimeProvider timeProvider,
+                            ObjectProvider<ExactlyOncePublisher> exactlyOncePublisherProvider,
+                            @Value("${trade.kafka.exactly-once.relay-grace-ms:30000}") long relayGraceMillis) {
+        this.tradeWriteBehind = tradeWriteBehind;
+        this.tradeJournal = tradeJournal;
+        this.tradeOutboxEventRepository = tradeOutboxEventRepository;
+        this.timeProvider = timeProvider;
+        this.exactlyOncePublisher = exactlyOncePublisherProvider.getIfAvailable();
+        this.relayGrace = Duration.ofMillis(relayGraceMillis);
+    }
+
+    @Override
+    public void append(String topic, String key, byte[] message) {
+        TradeOutboxEvent outboxEvent = tradeWriteBehind.insertOutboxEvent(new TradeOutboxEvent(topic, key, message));
+        tradeJournal.appendOutboxEvent(outboxEvent);
+
+        if (exactlyOncePublisher != null) {
+            exactlyOncePublisher.collect(outboxEvent);
+        }
+    }
+
+    @Override
+    public List<OutboxMessage> findBatch(int limit) {
+        List<TradeOutboxEvent> outboxEvents = (exactlyOncePublisher == null)
+                ? tradeOutboxEventRepository.findAllByOrderByIdAsc(Limit.of(limit))
+                : tradeOutboxEventRepository.findAllByCreatedAtBeforeOrderByIdAsc(timeProvider.now().minus(relayGrace), Limit.of(limit));
+
+        return outboxEvents.stream()
+                .map(TradeOutboxEvent::toMessage)
+                .toList();
+    }
+
+    @Override
+    public void deleteSent(List<Long> ids) {
+        tradeOutboxEventRepository.deleteAllByIdInBatch(ids);
+    }
+}
@@ -0,0 +1,13 @@
+package crypto.trade.persistence;
+
+import crypto.trade.entity.Trade;
+import crypto.trade.entity.TradeOrder;
+import crypto.trade.entity.TradeOutboxEvent;
+
+import java.util.List;
+
+
+// 커밋된 이벤트 하나가 DB 에 남겨야 하는 변경. 주문은 커밋 시점의 스냅샷이라 매칭 스레드가 이후에 바꿔도 영향이 없다.
+record TradeWrite(long batch, String eventId, List<TradeOrder> newOrders, List<TradeOrder> filledOrders, List<Trade> trades,
+                  List<TradeOutboxEvent> outboxEvents, List<Long> discardedOutboxEventIds) {
+}
@@ -0,0 +1,481 @@
+package crypto.trade.persistence;
+
+import crypto.baseentity.id.Snowflake;
+import crypto.trade.entity.Trade;
+import crypto.trade.entity.TradeOrder;
+import crypto.trade.entity.TradeOrderStatus;
+import crypto.trade.entity.TradeOutboxEvent;
+import crypto.trade.entity.TradeProcessedEvent;
+import crypto.trade.journal.JournaledBatch;
+import crypto.trade.journal.TradeJournal;
+import crypto.trade.repository.TradeOrderRepository;
+import crypto.trade.repository.TradeOutboxEventRepository;
+import crypto.trade.repository.TradeProcessedEventDbRepository;
+import crypto.trade.repository.TradeRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import jakarta.persistence.EntityManager;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+
+// 매칭 트랜잭션이 커밋되면 주문/체결 변경을 큐에 넘기고, 별도 스레드가 모아서 한 트랜잭션으로 MySQL 에 반영한다.
+// 큐에 있는 동안의 변경은 저널이 보존하며, 재시작 시 FLUSHED 가 기록되지 않은 배치를 다시 반영한다.
+// 정해진 횟수만큼 다시 시도해도 실패하는 배치는 반으로 나눠 실패하는 변경만 골라 DEAD_LETTERED 로 남기고 나머지는 계속 반영한다.
+@Slf4j
+@Component
+public class TradeWriteBehind implements SmartLifecycle {
+
+    private static final long IDLE_POLL_MILLIS = 100L;
+
+    private final BlockingQueue<TradeWrite> queue;
+    private final int batchSize;
+    private final long retryBackoffMillis;
+    private final int maxAttempts;
+    private final Snowflake snowflake;
+
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+    private final TradeOrderRepository tradeOrderRepository;
+    private final TradeRepository tradeRepository;
+    private final TradeProcessedEventDbRepository tradeProcessedEventDbRepository;
+    private final TradeOutboxEventRepository tradeOutboxEventRepository;
+    private final TradeJournal tradeJournal;
+
+    private final Timer flushTimer;
+    private final Timer backpressureTimer;
+    private final DistributionSummary flushBatchSize;
+    private final Counter flushFailures;
+    private final Counter deadLetters;
+    private final Counter fillMismatches;
+
+    private final AtomicLong enqueuedCount = new AtomicLong();
+    // 커밋됐지만 아직 TradeProcessedEvent 행이 반영되지 않은 이벤트. 반영에 실패해 DEAD_LETTERED 로 남은 것도 호가창에는 반영됐으므로 계속 둔다.
+    private final Set<String> pendingEventIds = ConcurrentHashMap.newKeySet();
+    private final Object flushMonitor = new Object();
+    private long flushedCount;
+
+    private final Thread flusher;
+    private volatile boolean running;
+
+    public TradeWriteBehind(@Value("${trade.write-behind.queue-capacity:8192}") int queueCapacity,
+                            @Value("${trade.write-behind.batch-size:256}") int batchSize,
+                            @Value("${trade.write-behind.retry-backoff-ms:1000}") long retryBackoffMillis,
+                            @Value("${trade.write-behind.max-attempts:5}") int maxAttempts,
+                            @Value("${spring.jpa.properties.crypto.id.worker-id}") long workerId,
+                            PlatformTransactionManager transactionManager,
+                            EntityManager entityManager,
+                            TradeOrderRepository tradeOrderRepository,
+                            TradeRepository tradeRepository,
+                            TradeProcessedEventDbRepository tradeProcessedEventDbRepository,
+                            TradeOutboxEventRepository tradeOutboxEventRepository,
+                            TradeJournal tradeJournal,
+                            MeterRegistry meterRegistry) {
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.retryBackoffMillis = retryBackoffMillis;
+        this.maxAttempts = Math.max(maxAttempts, 1);
+        this.snowflake = Snowflake.forWorker(workerId);
+
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.entityManager = entityManager;
+        this.tradeOrderRepository = tradeOrderRepository;
+        this.tradeRepository = tradeRepository;
+        this.tradeProcessedEventDbRepository = tradeProcessedEventDbRepository;
+        this.tradeOutboxEventRepository = tradeOutboxEventRepository;
+        this.tradeJournal = tradeJournal;
+
+        meterRegistry.gauge("trade.write-behind.queue.size", queue, Collection::size);
+        this.flushTimer = meterRegistry.timer("trade.write-behind.flush");
+        this.backpressureTimer = meterRegistry.timer("trade.write-behind.backpressure");
+        this.flushBatchSize = meterRegistry.summary("trade.write-behind.flush.batch-size");
+        this.flushFailures = meterRegistry.counter("trade.write-behind.flush.failures");
+        this.deadLetters = meterRegistry.counter("trade.write-behind.dead-letters");
+        this.fillMismatches = meterRegistry.counter("trade.write-behind.fill.mismatches");
+
+        this.flusher = new Thread(this::run, "trade-write-behind");
+    }
+
+    public TradeOrder insertOrder(TradeOrder order) {
+        if (order.getId() == null) {
+            order.assignId(snowflake.nextId());
+        }
+        currentWrites().newOrders.put(order.getId(), order);
+        return order;
+    }
+
+    // 행으로 저장하지 않는 주문에도 체결 기록이 가리킬 ID 를 붙인다.
+    public TradeOrder assignOrderId(TradeOrder order) {
+        if (order.getId() == null) {
+            order.assignId(snowflake.nextId());
+        }
+        return order;
+    }
+
+    public Trade insertTrade(Trade trade) {
+        if (trade.getId() == null) {
+            trade.assignId(snowflake.nextId());
+        }
+        currentWrites().trades.add(trade);
+        return trade;
+    }
+
+    public TradeOutboxEvent insertOutboxEvent(TradeOutboxEvent outboxEvent) {
+        if (outboxEvent.getId() == null) {
+            outboxEvent.assignId(snowflake.nextId());
+        }
+        currentWrites().outboxEvents.add(outboxEvent);
+        return outboxEvent;
+    }
+
+    public void updateFilledOrder(TradeOrder order) {
+        PendingWrites writes = currentWrites();
+
+        if (!writes.newOrders.containsKey(order.getId())) {
+            writes.filledOrders.put(order.getId(), order);
+        }
+    }
+
+    public void markProcessed(String eventId) {
+        currentWrites().eventId = eventId;
+    }
+
+    // TradeProcessedEvent 행은 쓰기 지연으로 늦게 반영되므로, 반영 전인 이벤트까지 함께 확인해야 매칭 전에 중복을 거를 수 있다.
+    public boolean isProcessed(String eventId) {
+        return pendingEventIds.contains(eventId) || tradeProcessedEventDbRepository.existsById(eventId);
+    }
+
+    // 다른 경로로 이미 발행된 아웃박스 행을 지운다. 큐는 순서대로 반영되므로 INSERT 가 먼저 반영된 뒤에 지워진다.
+    public void discardOutboxEvents(List<Long> outboxEventIds) {
+        enqueue(new TradeWrite(0L, null, List.of(), List.of(), List.of(), List.of(), List.copyOf(outboxEventIds)));
+    }
+
+    // 지금까지 큐에 들어간 변경이 모두 DB 에 반영될 때까지 기다린다. DB 를 직접 읽기 전에 호출한다.
+    public void awaitFlushed() {
+        long target = enqueuedCount.get();
+
+        synchronized (flushMonitor) {
+            while (running && flushedCount < target) {
+                try {
+                    flushMonitor.wait(IDLE_POLL_MILLIS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private PendingWrites currentWrites() {
+        PendingWrites writes = (PendingWrites) TransactionSynchronizationManager.getResource(this);
+        if (writes != null) {
+            return writes;
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("[TradeWriteBehind.currentWrites] Write-behind requires an active transaction.");
+        }
+
+        PendingWrites newWrites = new PendingWrites(tradeJournal.currentBatch());
+        TransactionSynchronizationManager.bindResource(this, newWrites);
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(TradeWriteBehind.this);
+
+                if (status == STATUS_COMMITTED) {
+                    if (newWrites.eventId != null) {
+                        pendingEventIds.add(newWrites.eventId);
+                    }
+                    enqueue(newWrites.toTradeWrite());
+                }
+            }
+        });
+        return newWrites;
+    }
+
+    // 이미 커밋된 변경이므로 인터럽트되어도 버리지 않고 자리가 날 때까지 기다린 뒤 인터럽트 상태를 되돌린다.
+    private void enqueue(TradeWrite write) {
+        tradeJournal.appendQueued(write.batch());
+
+        if (!queue.offer(write)) {
+            long startNanos = System.nanoTime();
+            boolean interrupted = false;
+
+            while (true) {
+                try {
+                    queue.put(write);
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+
+            backpressureTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        enqueuedCount.incrementAndGet();
+    }
+
+    private void run() {
+        List<TradeWrite> writes = new ArrayList<>(batchSize);
+
+        while (running || !queue.isEmpty()) {
+            try {
+                TradeWrite first = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+
+                writes.add(first);
+                queue.drainTo(writes, batchSize - 1);
+                flushWithRetry(writes);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                writes.clear();
+            }
+        }
+    }
+
+    private void flushWithRetry(List<TradeWrite> writes) throws InterruptedException {
+        flushIsolating(writes);
+
+        synchronized (flushMonitor) {
+            flushedCount += writes.size();
+            flushMonitor.notifyAll();
+        }
+    }
+
+    // 실패한 묶음은 반으로 나눠 다시 반영하고, 혼자서도 실패하는 변경만 건너뛴다. 순서는 나눈 뒤에도 유지된다.
+    private void flushIsolating(List<TradeWrite> writes) throws InterruptedException {
+        Exception failure = tryFlush(writes);
+        if (failure == null) {
+            return;
+        }
+
+        if (!running) {
+            log.error("[TradeWriteBehind.flushIsolating] Failed to flush on shutdown, journal will replay it on restart. size={}", writes.size(), failure);
+            return;
+        }
+
+        if (writes.size() == 1) {
+            deadLetter(writes.get(0), failure);
+            return;
+        }
+
+        int middle = writes.size() / 2;
+        log.warn("[TradeWriteBehind.flushIsolating] Splitting failed batch to isolate the failing write. size={}", writes.size());
+        flushIsolating(writes.subList(0, middle));
+        flushIsolating(writes.subList(middle, writes.size()));
+    }
+
+    // 반영에 성공하면 null 을, maxAttempts 번 모두 실패하면 마지막 예외를 반환한다.
+    private Exception tryFlush(List<TradeWrite> writes) throws InterruptedException {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                flushTimer.record(() -> flush(writes));
+                flushBatchSize.record(writes.size());
+                return null;
+            } catch (Exception e) {
+                flushFailures.increment();
+
+                if (!running || attempt >= maxAttempts) {
+                    return e;
+                }
+
+                log.error("[TradeWriteBehind.tryFlush] Failed to flush, retrying. size={}, attempt={}", writes.size(), attempt, e);
+                Thread.sleep(retryBackoffMillis);
+            }
+        }
+    }
+
+    private void deadLetter(TradeWrite write, Exception cause) {
+        deadLetters.increment();
+        tradeJournal.appendDeadLettered(write.batch());
+
+        log.error("[TradeWriteBehind.deadLetter] CRITICAL: Write could not be flushed and was dead-lettered. batch={}, eventId={}, newOrderIds={}, filledOrderIds={}, tradeIds={}, outboxEventIds={}",
+                write.batch(), write.eventId(),
+                write.newOrders().stream().map(TradeOrder::getId).toList(),
+                write.filledOrders().stream().map(TradeOrder::getId).toList(),
+                write.trades().stream().map(Trade::getId).toList(),
+                write.outboxEvents().stream().map(TradeOutboxEvent::getId).toList(),
+                cause);
+    }
+
+    private void flush(List<TradeWrite> writes) {
+        Map<Long, TradeOrder> newOrders = new LinkedHashMap<>();
+        Map<Long, TradeOrder> filledOrders = new LinkedHashMap<>();
+        List<Trade> trades = new ArrayList<>();
+        List<TradeOutboxEvent> outboxEvents = new ArrayList<>();
+        List<Long> discardedOutboxEventIds = new ArrayList<>();
+        List<String> eventIds = new ArrayList<>();
+
+        // 같은 주문의 변경은 마지막 스냅샷 하나로 합치고, 아직 INSERT 전인 주문이면 INSERT 값에 합친다.
+        for (TradeWrite write : writes) {
+            write.newOrders().forEach(order -> newOrders.put(order.getId(), order));
+            for (TradeOrder order : write.filledOrders()) {
+                if (newOrders.containsKey(order.getId())) {
+                    newOrders.put(order.getId(), order);
+                } else {
+                    filledOrders.put(order.getId(), order);
+                }
+            }
+            trades.addAll(write.trades());
+            outboxEvents.addAll(write.outboxEvents());
+            discardedOutboxEventIds.addAll(write.discardedOutboxEventIds());
+            if (write.eventId() != null) {
+                eventIds.add(write.eventId());
+            }
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            newOrders.values().forEach(entityManager::persist);
+            trades.forEach(entityManager::persist);
+            outboxEvents.forEach(entityManager::persist);
+            eventIds.forEach(eventId -> entityManager.persist(new TradeProcessedEvent(eventId)));
+            entityManager.flush();
+
+            for (TradeOrder order : filledOrders.values()) {
+                int updatedRows = (order.getOrderStatus() == TradeOrderStatus.CANCELLED)
+                        ? tradeOrderRepository.updateCancelled(order.getId(), order.getFilledQuantity())
+                        : tradeOrderRepository.updateFilledQuantity(order.getId(), order.getFilledQuantity());
+
+                if (updatedRows == 0) {
+                    fillMismatches.increment();
+                    log.error("[TradeWriteBehind.flush] Filled quantity exceeds order quantity or order is missing. tradeOrderId={}, filledQuantity={}",
+                            order.getId(), order.getFilledQuantity());
+                }
+            }
+
+            if (!discardedOutboxEventIds.isEmpty()) {
+                tradeOutboxEventRepository.deleteAllByIdInBatch(discardedOutboxEventIds);
+            }
+        });
+
+        eventIds.forEach(pendingEventIds::remove);
+        tradeJournal.appendFlushed(writes.stream().map(TradeWrite::batch).filter(batch -> batch != 0L).toList());
+    }
+
+    // 저널에는 큐에 들어갔지만 DB 반영이 확인되지 않은 배치를 다시 반영한다. 이미 반영된 행은 건너뛴다.
+    private void replayUnflushed() throws InterruptedException {
+        List<JournaledBatch> batches = tradeJournal.takeUnflushedBatches();
+        if (batches.isEmpty()) {
+            return;
+        }
+
+        List<TradeWrite> writes = new ArrayList<>();
+        for (JournaledBatch batch : batches) {
+            List<TradeOrder> newOrders = new ArrayList<>();
+            List<TradeOrder> filledOrders = new ArrayList<>();
+
+            for (TradeOrder order : batch.orders()) {
+                if (tradeOrderRepository.existsById(order.getId())) {
+                    filledOrders.add(order);
+                } else {
+                    newOrders.add(order);
+                }
+            }
+
+            List<Trade> trades = batch.trades().stream()
+                    .filter(trade -> !tradeRepository.existsById(trade.getId()))
+                    .toList();
+            List<TradeOutboxEvent> outboxEvents = batch.outboxEvents().stream()
+                    .filter(outboxEvent -> !tradeOutboxEventRepository.existsById(outboxEvent.getId()))
+                    .toList();
+            String eventId = (batch.eventId() != null && !tradeProcessedEventDbRepository.existsById(batch.eventId()))
+                    ? batch.eventId()
+                    : null;
+
+            writes.add(new TradeWrite(batch.batch(), eventId, newOrders, filledOrders, trades, outboxEvents, List.of()));
+        }
+
+        flushWithRetry(writes);
+        log.info("[TradeWriteBehind.replayUnflushed] Unflushed journal batches replayed. batches={}", writes.size());
+    }
+
+    @Override
+    public void start() {
+        running = true;
+
+        try {
+            replayUnflushed();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        flusher.start();
+        log.info("[TradeWriteBehind.start] Write-behind flusher started. queueCapacity={}, batchSize={}", queue.remainingCapacity(), batchSize);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+
+        try {
+            flusher.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        log.info("[TradeWriteBehind.stop] Write-behind flusher stopped. remaining={}", queue.size());
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // 매칭 샤드보다 먼저 시작하고 늦게 멈춰, 샤드가 남긴 변경을 모두 반영한 뒤 종료한다.
+    @Override
+    public int getPhase() {
+        return -1;
+    }
+
+    private static class PendingWrites {
+        private final long batch;
+        private final Map<Long, TradeOrder> newOrders = new LinkedHashMap<>();
+        private final Map<Long, TradeOrder> filledOrders = new LinkedHashMap<>();
+        private final List<Trade> trades = new ArrayList<>();
+        private final List<TradeOutboxEvent> outboxEvents = new ArrayList<>();
+        private String eventId;
+
+        private PendingWrites(long batch) {
+            this.batch = batch;
+        }
+
+        private TradeWrite toTradeWrite() {
+            return new TradeWrite(
+                    batch,
+                    eventId,
+                    newOrders.values().stream().map(TradeOrder::snapshot).toList(),
+                    filledOrders.values().stream().map(TradeOrder::snapshot).toList(),
+                    List.copyOf(trades),
+                    List.copyOf(outboxEvents),
+                    List.of());
+        }
+    }
+}
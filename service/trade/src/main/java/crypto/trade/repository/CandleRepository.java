@@ -0,0 +1,19 @@
+package crypto.trade.repository;
+
+import crypto.trade.entity.Candle;
+import crypto.trade.entity.CandleInterval;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+
+public interface CandleRepository extends JpaRepository<Candle, Long> {
+
+    Optional<Candle> findBySymbolAndIntervalAndOpenTime(String symbol, CandleInterval interval, LocalDateTime openTime);
+
+    List<Candle> findBySymbolAndIntervalAndOpenTimeBetweenOrderByOpenTimeAsc(String symbol, CandleInterval interval,
+                                                                             LocalDateTime from, LocalDateTime to);
+}
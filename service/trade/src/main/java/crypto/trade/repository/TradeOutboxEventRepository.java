@@ -0,0 +1,27 @@
+package crypto.trade.repository;
+
+import crypto.trade.entity.TradeOutboxEvent;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+
+public interface TradeOutboxEventRepository extends JpaRepository<TradeOutboxEvent, Long> {
+
+    // 릴레이 인스턴스끼리 같은 행을 보내지 않도록 읽은 행을 잠그고, 이미 잠긴 행은 건너뛴다. -2 는 Hibernate 의 SKIP LOCKED 이다.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    List<TradeOutboxEvent> findAllByOrderByIdAsc(Limit limit);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    List<TradeOutboxEvent> findAllByCreatedAtBeforeOrderByIdAsc(LocalDateTime createdAt, Limit limit);
+}
@@ -0,0 +1,13 @@
+package crypto.trade.repository;
+
+import crypto.trade.entity.TradeStopOrder;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+
+public interface TradeStopOrderRepository extends JpaRepository<TradeStopOrder, Long> {
+
+    List<TradeStopOrder> findBySymbolOrderByRegisteredDateTimeAscIdAsc(String symbol);
+}
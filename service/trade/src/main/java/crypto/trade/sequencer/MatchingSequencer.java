@@ -0,0 +1,110 @@
+package crypto.trade.sequencer;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+
+// 심볼별로 하나의 매칭 스레드(shard)에만 작업을 넘겨, 같은 심볼의 호가창과 주문 행은 항상 단일 스레드가 변경하도록 한다.
+@Slf4j
+@Component
+public class MatchingSequencer implements SmartLifecycle {
+
+    private final MatchingShard[] shards;
+    private volatile boolean running;
+
+    public MatchingSequencer(@Value("${trade.matching.shard-count:0}") int shardCount,
+                             @Value("${trade.matching.ring-buffer-size:1024}") int ringBufferSize) {
+        int count = (shardCount > 0) ? shardCount : Runtime.getRuntime().availableProcessors();
+        this.shards = new MatchingShard[count];
+
+        for (int i = 0; i < count; i++) {
+            shards[i] = new MatchingShard(i, ringBufferSize);
+        }
+    }
+
+    public <T> CompletableFuture<T> dispatch(String symbol, Supplier<T> task) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        MatchingShard shard = shardOf(symbol);
+
+        MatchingShard.Task command = new MatchingShard.Task() {
+            @Override
+            public void run() {
+                try {
+                    future.complete(task.get());
+                } catch (Throwable t) {
+                    future.completeExceptionally(t);
+                }
+            }
+
+            @Override
+            public void fail(RuntimeException cause) {
+                future.completeExceptionally(cause);
+            }
+        };
+
+        if (shard.isCurrentThread()) {
+            command.run();
+        } else {
+            shard.publish(command);
+        }
+        return future;
+    }
+
+    public void execute(String symbol, Runnable task) {
+        try {
+            dispatch(symbol, () -> {
+                task.run();
+                return null;
+            }).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    public int getShardCount() {
+        return shards.length;
+    }
+
+    private MatchingShard shardOf(String symbol) {
+        return shards[Math.floorMod(Objects.hashCode(symbol), shards.length)];
+    }
+
+    @Override
+    public void start() {
+        for (MatchingShard shard : shards) {
+            shard.start();
+        }
+        running = true;
+        log.info("[MatchingSequencer.start] Matching shards started. shardCount={}", shards.length);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        for (MatchingShard shard : shards) {
+            shard.stop();
+        }
+        log.info("[MatchingSequencer.stop] Matching shards stopped.");
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return 0;
+    }
+}
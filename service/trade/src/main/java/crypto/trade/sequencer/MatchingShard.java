@@ -0,0 +1,124 @@
+package crypto.trade.sequencer;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.locks.LockSupport;
+
+
+// 작업을 링 버퍼로 받아 전용 스레드 하나에서 순서대로 실행한다.
+// 멈춘 뒤에는 작업을 받지 않고, 멈추는 사이에 들어와 실행되지 못한 작업은 fail 로 넘긴 쪽에 알린다.
+@Slf4j
+public class MatchingShard implements Runnable {
+
+    private static final long IDLE_PARK_NANOS = 50_000L;
+    private static final int SPIN_TRIES = 100;
+
+    private final RingBuffer<Task> ringBuffer;
+    private final Thread thread;
+    private volatile boolean running = true;
+
+    public MatchingShard(int shardId, int ringBufferSize) {
+        this.ringBuffer = new RingBuffer<>(ringBufferSize);
+        this.thread = new Thread(this, "matching-shard-" + shardId);
+    }
+
+    public void start() {
+        thread.start();
+    }
+
+    public void stop() {
+        running = false;
+        LockSupport.unpark(thread);
+        awaitTermination();
+        failRemaining();
+    }
+
+    public void publish(Task task) {
+        if (!running) {
+            throw stopped();
+        }
+
+        while (!ringBuffer.offer(task)) {
+            if (!running) {
+                throw stopped();
+            }
+            LockSupport.parkNanos(IDLE_PARK_NANOS);
+        }
+
+        // stop 과 엇갈려 매칭 스레드가 마지막으로 비운 뒤에 들어갔을 수 있으므로, 스레드가 끝나기를 기다렸다가 남은 작업을 실패시킨다.
+        if (!running) {
+            awaitTermination();
+            failRemaining();
+            return;
+        }
+        LockSupport.unpark(thread);
+    }
+
+    public boolean isCurrentThread() {
+        return Thread.currentThread() == thread;
+    }
+
+    @Override
+    public void run() {
+        int idleCount = 0;
+
+        while (running) {
+            Task task = ringBuffer.poll();
+
+            if (task == null) {
+                if (++idleCount > SPIN_TRIES) {
+                    LockSupport.parkNanos(IDLE_PARK_NANOS);
+                } else {
+                    Thread.onSpinWait();
+                }
+                continue;
+            }
+
+            idleCount = 0;
+            execute(task);
+        }
+
+        Task remaining;
+        while ((remaining = ringBuffer.poll()) != null) {
+            execute(remaining);
+        }
+    }
+
+    // 링 버퍼는 소비자가 하나여야 하므로 매칭 스레드가 끝난 뒤에만 꺼낸다.
+    private synchronized void failRemaining() {
+        if (thread.isAlive()) {
+            return;
+        }
+
+        Task remaining;
+        while ((remaining = ringBuffer.poll()) != null) {
+            remaining.fail(stopped());
+        }
+    }
+
+    private void awaitTermination() {
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private IllegalStateException stopped() {
+        return new IllegalStateException("[MatchingShard.publish] Shard is stopped. thread=" + thread.getName());
+    }
+
+    private void execute(Task task) {
+        try {
+            task.run();
+        } catch (Exception e) {
+            log.error("[MatchingShard.execute] Unexpected error on matching thread. thread={}", thread.getName(), e);
+        }
+    }
+
+    // 매칭 스레드에서 실행할 작업. 실행되지 못하고 버려질 때는 fail 이 불린다.
+    public interface Task extends Runnable {
+
+        void fail(RuntimeException cause);
+    }
+}
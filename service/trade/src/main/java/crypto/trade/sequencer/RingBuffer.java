@@ -0,0 +1,71 @@
+package crypto.trade.sequencer;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+
+// 여러 생산자, 단일 소비자용 고정 크기 링 버퍼. 슬롯마다 시퀀스를 두어 락 없이 주고받는다.
+public class RingBuffer<E> {
+
+    private final int mask;
+    private final Object[] entries;
+    private final AtomicLongArray sequences;
+    private final AtomicLong producerCursor = new AtomicLong();
+    private long consumerCursor;
+
+    public RingBuffer(int capacity) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("RingBuffer capacity must be a power of two: " + capacity);
+        }
+
+        this.mask = capacity - 1;
+        this.entries = new Object[capacity];
+        this.sequences = new AtomicLongArray(capacity);
+
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    public boolean offer(E entry) {
+        long position;
+        int index;
+
+        while (true) {
+            position = producerCursor.get();
+            index = (int) (position & mask);
+            long available = sequences.get(index) - position;
+
+            if (available < 0) {
+                return false;
+            }
+
+            if (available == 0 && producerCursor.compareAndSet(position, position + 1)) {
+                break;
+            }
+        }
+
+        entries[index] = entry;
+        sequences.set(index, position + 1);
+        return true;
+    }
+
+    @SuppressWarnings("unchecked")
+    public E poll() {
+        int index = (int) (consumerCursor & mask);
+
+        if (sequences.get(index) != consumerCursor + 1) {
+            return null;
+        }
+
+        E entry = (E) entries[index];
+        entries[index] = null;
+        sequences.set(index, consumerCursor + entries.length);
+        consumerCursor++;
+        return entry;
+    }
+
+    public int capacity() {
+        return entries.length;
+    }
+}
@@ -0,0 +1,47 @@
+package crypto.trade.service;
+
+import crypto.trade.controller.response.CandleResponse;
+import crypto.trade.entity.Candle;
+import crypto.trade.entity.CandleInterval;
+import crypto.trade.marketdata.CandleAggregator;
+import crypto.trade.repository.CandleRepository;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+
+@RequiredArgsConstructor
+@Service
+public class CandleService {
+
+    private final CandleRepository candleRepository;
+    private final CandleAggregator candleAggregator;
+
+    // 저장된 닫힌 캔들 뒤에, 조회 구간에 걸친 진행 중 캔들을 덧붙인다.
+    @Transactional(readOnly = true)
+    public List<CandleResponse> getCandles(String symbol, CandleInterval interval, LocalDateTime from, LocalDateTime to) {
+        List<Candle> candles = new ArrayList<>(candleRepository.findBySymbolAndIntervalAndOpenTimeBetweenOrderByOpenTimeAsc(symbol, interval, from, to));
+        Candle openCandle = candleAggregator.findOpenCandle(symbol, interval);
+
+        if (openCandle != null && !openCandle.getOpenTime().isBefore(from) && !openCandle.getOpenTime().isAfter(to)) {
+            if (!candles.isEmpty() && candles.get(candles.size() - 1).getOpenTime().equals(openCandle.getOpenTime())) {
+                Candle stored = candles.remove(candles.size() - 1);
+                Candle merged = stored.copy();
+                merged.merge(openCandle);
+                candles.add(merged);
+            } else {
+                candles.add(openCandle);
+            }
+        }
+
+        return candles.stream()
+                .map(CandleResponse::of)
+                .toList();
+    }
+}
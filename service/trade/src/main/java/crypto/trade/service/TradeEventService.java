@@ -2,14 +2,20 @@ package crypto.trade.service;
 
 import crypto.common.time.TimeProvider;
 import crypto.event.Event;
-import crypto.event.payload.EventPayload;
+import crypto.event.TimeInForce;
+import crypto.event.payload.CancelPayload;
+import crypto.event.payload.OrderPayload;
 import crypto.trade.entity.*;
 import crypto.trade.eventhandler.EventHandler;
 import crypto.trade.eventhandler.exception.TradeNotFoundException;
 import crypto.trade.eventhandler.exception.TradeOrderNotFoundException;
+import crypto.trade.journal.TradeJournal;
+import crypto.trade.marketdata.DepthPublisher;
+import crypto.trade.orderbook.OrderBook;
+import crypto.trade.orderbook.OrderBookManager;
+import crypto.trade.persistence.TradeWriteBehind;
 import crypto.trade.repository.TradeOrderRepository;
 import crypto.trade.repository.TradeProcessedEventDbRepository;
-import crypto.trade.repository.TradeProcessedEventRepository;
 import crypto.trade.repository.TradeRepository;
 
 import lombok.RequiredArgsConstructor;
@@ -32,38 +38,55 @@ public class TradeEventService {
 
     private final List<EventHandler> eventHandlers;
     private final TradeRepository tradeRepository;
-    private final TradeProcessedEventRepository tradeProcessedEventRepository;
     private final TradeProcessedEventDbRepository tradeProcessedEventDbRepository;
     private final TradeOrderRepository tradeOrderRepository;
+    private final OrderBookManager orderBookManager;
+    private final TradeJournal tradeJournal;
+    private final TradeWriteBehind tradeWriteBehind;
+    private final DepthPublisher depthPublisher;
     private final TimeProvider timeProvider;
 
     @Transactional
     public void handleEvent(Event event) {
         String eventId = event.getEventId();
-        Boolean isNewEvent = tradeProcessedEventRepository.setIfAbsent(eventId);
-
-        if (!isNewEvent) {
-            log.warn("[TradeEventService.handleEvent] Duplicate event detected, skipping processing. eventId={}", eventId);
-            return;
-        }
 
         try {
-            EventPayload payload = event.getPayload();
+            OrderPayload payload = event.getPayload(OrderPayload.class);
             EventHandler eventHandler = findEventHandler(event);
 
             if (eventHandler != null) {
+                // Redis 를 지나온 중복이 다시 매칭되지 않도록 호가창을 건드리기 전에 처리 기록을 확인한다.
+                if (tradeWriteBehind.isProcessed(eventId)) {
+                    log.warn("[TradeEventService.handleEvent] Event already processed, skipping matching. eventId={}", eventId);
+                    return;
+                }
+
+                orderBookManager.invalidateOnRollback(payload.symbol());
+                tradeJournal.begin(eventId, event.getType().name());
+
+                // 신규 주문을 저장하기 전에 호가창을 적재해야 DB 에서 읽은 미체결 주문에 신규 주문이 섞이지 않는다.
+                OrderBook orderBook = orderBookManager.getOrderBook(payload.symbol());
 
                 if (event.getType() == LIMIT_BUY_ORDER_TRADE || event.getType() == LIMIT_SELL_ORDER_TRADE) {
-                    TradeOrder newOrder = tradeOrderRepository.save(
-                            TradeOrder.create(payload.getOrderId(), payload.getUserId(), payload.getSymbol(), payload.getPrice(),
-                                    payload.getQuantity(), TradeOrderSide.valueOf(payload.getOrderSide()), timeProvider.now()));
+                    TradeOrder newOrder = TradeOrder.create(payload.orderId(), payload.userId(), payload.symbol(), payload.price(),
+                            payload.quantity(), TradeOrderSide.valueOf(payload.orderSide()), timeProvider.now());
+                    newOrder.applyTimeInForce(TimeInForce.orDefault(payload.timeInForce()));
+
+                    // IOC/FOK 주문은 호가창에 남지 않으므로 행을 만들지 않고 ID 만 붙인다.
+                    if (newOrder.isResting()) {
+                        tradeWriteBehind.insertOrder(newOrder);
+                        tradeJournal.appendOrder(newOrder);
+                    } else {
+                        tradeWriteBehind.assignOrderId(newOrder);
+                    }
 
                     eventHandler.handle(event, newOrder);
                 } else {
                     eventHandler.handle(event, null);
                 }
 
-                tradeProcessedEventDbRepository.save(new TradeProcessedEvent(eventId));
+                tradeWriteBehind.markProcessed(eventId);
+                depthPublisher.publishAfterCommit(orderBook);
                 log.info("[TradeEventService.handleEvent] Event processed successfully. eventId={}", eventId);
 
             } else {
@@ -71,7 +94,6 @@ public class TradeEventService {
             }
 
         } catch (Exception e) {
-            tradeProcessedEventRepository.delete(tradeProcessedEventRepository.generateKey(eventId));
             throw new RuntimeException("[TradeEventService.handleEvent] Failed to process trade creation for eventId: " + eventId, e);
         }
     }
@@ -79,39 +101,40 @@ public class TradeEventService {
     @Transactional
     public void handleFailEvent(Event event) {
         String eventId = event.getEventId();
-        Boolean isNewEvent = tradeProcessedEventRepository.setIfAbsent(eventId);
-
-        if (!isNewEvent) {
-            log.warn("[TradeEventService.handleFailEvent] Duplicate event detected, skipping processing. eventId={}", eventId);
-            return;
-        }
 
         try {
-            EventPayload payload = event.getPayload();
-            TradeOrder makerTradeOrder = tradeOrderRepository.findById(payload.getMakerOrderId())
+            CancelPayload payload = event.getPayload(CancelPayload.class);
+            tradeJournal.begin(eventId, event.getType().name());
+
+            // 주문과 체결 행을 직접 읽고 고치므로 쓰기 지연 큐에 남은 변경이 먼저 반영되어야 한다.
+            tradeWriteBehind.awaitFlushed();
+
+            TradeOrder makerTradeOrder = tradeOrderRepository.findById(payload.makerOrderId())
                     .orElseThrow(TradeOrderNotFoundException::new);
-            TradeOrder takerTradeOrder = tradeOrderRepository.findById(payload.getMakerOrderId())
+            TradeOrder takerTradeOrder = tradeOrderRepository.findById(payload.makerOrderId())
                     .orElseThrow(TradeOrderNotFoundException::new);
 
             makerTradeOrder.handleOrderStatus(CANCELLED);
             tradeOrderRepository.save(makerTradeOrder);
 
-            takerTradeOrder.cancelQuantity(payload.getMatchedQuantity());
+            takerTradeOrder.cancelQuantity(payload.matchedQuantity());
 
             if (takerTradeOrder.getOrderStatus() == FILLED) {
                 takerTradeOrder.handleOrderStatus(OPEN);
             }
 
-            Trade trade = tradeRepository.findById(payload.getTradeId())
+            Trade trade = tradeRepository.findById(payload.tradeId())
                     .orElseThrow(TradeNotFoundException::new);
 
             trade.markDeleted(timeProvider.now());
+            tradeJournal.appendOrder(makerTradeOrder);
+            tradeJournal.appendOrder(takerTradeOrder);
+            orderBookManager.invalidateAfterCommit(makerTradeOrder.getSymbol());
 
             tradeProcessedEventDbRepository.save(new TradeProcessedEvent(eventId));
             log.info("[TradeEventService.handleFailEvent] TradeOrder cancellation successfully: {}", makerTradeOrder);
 
         } catch (Exception e) {
-            tradeProcessedEventRepository.delete(tradeProcessedEventRepository.generateKey(eventId));
             throw new RuntimeException("[TradeEventService.handleFailEvent] Failed to process tradeOrder cancellation for eventId: " + eventId, e);
         }
     }
@@ -0,0 +1,82 @@
+package crypto.trade.trigger;
+
+import crypto.common.fixedpoint.Price;
+import crypto.trade.entity.TradeStopOrder;
+
+import lombok.Getter;
+
+import java.util.*;
+
+import static crypto.trade.entity.TradeOrderSide.*;
+
+
+// 심볼 하나의 발동 전 스톱 주문을 발동 가격순으로 보관한다. 매칭 스레드 하나만 접근한다는 전제로 동기화하지 않는다.
+// 매수 스톱은 낮은 발동 가격부터, 매도 스톱은 높은 발동 가격부터 정렬해 두고, 체결가가 넘어선 앞쪽 구간만 꺼낸다.
+public class StopOrderBook {
+
+    @Getter
+    private final String symbol;
+
+    private final NavigableMap<Price, Deque<TradeStopOrder>> buyStops = new TreeMap<>(Comparator.naturalOrder());
+    private final NavigableMap<Price, Deque<TradeStopOrder>> sellStops = new TreeMap<>(Comparator.reverseOrder());
+    private final Map<Long, TradeStopOrder> stopOrders = new HashMap<>();
+
+    // 이 스톱 호가창이 적재된 뒤 마지막 체결가. 아직 체결이 없으면 null 이다.
+    @Getter
+    private Price lastTradePrice;
+
+    public StopOrderBook(String symbol) {
+        this.symbol = symbol;
+    }
+
+    public void add(TradeStopOrder stopOrder) {
+        stopOrders.put(stopOrder.getOrderId(), stopOrder);
+        sideOf(stopOrder)
+                .computeIfAbsent(stopOrder.getTriggerPrice(), price -> new ArrayDeque<>())
+                .addLast(stopOrder);
+    }
+
+    public TradeStopOrder remove(Long orderId) {
+        TradeStopOrder stopOrder = stopOrders.remove(orderId);
+        if (stopOrder == null) {
+            return null;
+        }
+
+        NavigableMap<Price, Deque<TradeStopOrder>> levels = sideOf(stopOrder);
+        Deque<TradeStopOrder> level = levels.get(stopOrder.getTriggerPrice());
+        level.remove(stopOrder);
+
+        if (level.isEmpty()) {
+            levels.remove(stopOrder.getTriggerPrice());
+        }
+        return stopOrder;
+    }
+
+    // 체결가에 발동된 스톱 주문을 발동 가격순, 같은 가격이면 등록순으로 꺼낸다. 넘어선 가격대만 보므로 O(log n + k) 이다.
+    public List<TradeStopOrder> trigger(Price tradePrice) {
+        lastTradePrice = tradePrice;
+
+        List<TradeStopOrder> triggered = new ArrayList<>();
+        drain(buyStops, tradePrice, triggered);
+        drain(sellStops, tradePrice, triggered);
+        return triggered;
+    }
+
+    public int size() {
+        return stopOrders.size();
+    }
+
+    private void drain(NavigableMap<Price, Deque<TradeStopOrder>> levels, Price tradePrice, List<TradeStopOrder> triggered) {
+        // 정렬 기준상 체결가보다 앞에 있거나 같은 가격대가 발동 대상이다.
+        while (!levels.isEmpty() && levels.comparator().compare(levels.firstKey(), tradePrice) <= 0) {
+            for (TradeStopOrder stopOrder : levels.pollFirstEntry().getValue()) {
+                stopOrders.remove(stopOrder.getOrderId());
+                triggered.add(stopOrder);
+            }
+        }
+    }
+
+    private NavigableMap<Price, Deque<TradeStopOrder>> sideOf(TradeStopOrder stopOrder) {
+        return (stopOrder.getOrderSide() == BUY) ? buyStops : sellStops;
+    }
+}
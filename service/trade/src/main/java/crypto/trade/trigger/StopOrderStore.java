@@ -0,0 +1,31 @@
+package crypto.trade.trigger;
+
+import crypto.trade.entity.TradeStopOrder;
+import crypto.trade.repository.TradeStopOrderRepository;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+
+// 발동 전 스톱 주문의 저장소. 스톱 주문은 드물게 들어오므로 쓰기 지연 큐를 거치지 않고 매칭 트랜잭션에서 바로 쓴다.
+@Component
+@RequiredArgsConstructor
+public class StopOrderStore {
+
+    private final TradeStopOrderRepository tradeStopOrderRepository;
+
+    public List<TradeStopOrder> load(String symbol) {
+        return tradeStopOrderRepository.findBySymbolOrderByRegisteredDateTimeAscIdAsc(symbol);
+    }
+
+    public void save(TradeStopOrder stopOrder) {
+        tradeStopOrderRepository.save(stopOrder);
+    }
+
+    public void delete(List<Long> stopOrderIds) {
+        tradeStopOrderRepository.deleteAllByIdInBatch(stopOrderIds);
+    }
+}
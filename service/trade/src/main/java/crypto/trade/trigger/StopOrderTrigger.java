@@ -0,0 +1,123 @@
+package crypto.trade.trigger;
+
+import crypto.common.fixedpoint.Price;
+import crypto.event.EventType;
+import crypto.event.eventsender.OrderEventSender;
+import crypto.event.payload.OrderPayload;
+import crypto.trade.entity.TradeStopOrder;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static crypto.event.EventType.*;
+import static crypto.trade.entity.TradeOrderSide.*;
+
+
+// 체결가가 바뀔 때마다 발동 가격을 넘어선 스톱 주문을 꺼내 원래 주문의 체결 요청 이벤트로 바꿔 보낸다.
+// 바뀐 이벤트는 심볼 키로 같은 매칭 샤드에 다시 들어가 신규 주문처럼 처리된다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StopOrderTrigger {
+
+    private final StopOrderStore stopOrderStore;
+    private final OrderEventSender orderEventSender;
+    private final Map<String, StopOrderBook> stopOrderBooks = new ConcurrentHashMap<>();
+
+    // 이미 마지막 체결가가 발동 가격을 넘어섰으면 보관하지 않고 바로 발동한다.
+    public void place(TradeStopOrder stopOrder) {
+        StopOrderBook stopOrderBook = getStopOrderBook(stopOrder.getSymbol());
+        Price lastTradePrice = stopOrderBook.getLastTradePrice();
+
+        if (lastTradePrice != null && stopOrder.isTriggeredBy(lastTradePrice)) {
+            release(stopOrder);
+            return;
+        }
+
+        invalidateOnRollback(stopOrder.getSymbol());
+        stopOrderStore.save(stopOrder);
+        stopOrderBook.add(stopOrder);
+    }
+
+    // 발동 전 스톱 주문을 지우고 반환한다. 없으면 null 을 반환한다.
+    public TradeStopOrder cancel(String symbol, Long orderId) {
+        TradeStopOrder stopOrder = getStopOrderBook(symbol).remove(orderId);
+
+        if (stopOrder != null) {
+            invalidateOnRollback(symbol);
+            stopOrderStore.delete(List.of(stopOrder.getId()));
+        }
+        return stopOrder;
+    }
+
+    public void onTrade(String symbol, Price tradePrice) {
+        List<TradeStopOrder> triggered = getStopOrderBook(symbol).trigger(tradePrice);
+        if (triggered.isEmpty()) {
+            return;
+        }
+
+        invalidateOnRollback(symbol);
+        stopOrderStore.delete(triggered.stream().map(TradeStopOrder::getId).toList());
+        triggered.forEach(this::release);
+    }
+
+    private void release(TradeStopOrder stopOrder) {
+        orderEventSender.sendAfterCommit(
+                triggeredEventType(stopOrder),
+                OrderPayload.builder()
+                        .orderId(stopOrder.getOrderId())
+                        .userId(stopOrder.getUserId())
+                        .symbol(stopOrder.getSymbol())
+                        .price(stopOrder.getPrice())
+                        .quantity(stopOrder.getQuantity())
+                        .marketTotalPrice(stopOrder.getMarketTotalPrice())
+                        .marketTotalQuantity(stopOrder.getMarketTotalQuantity())
+                        .orderSide(stopOrder.getOrderSide().name())
+                        .build()
+        );
+        log.info("[StopOrderTrigger.release] Stop order triggered. orderId={}, triggerPrice={}", stopOrder.getOrderId(), stopOrder.getTriggerPrice());
+    }
+
+    private static EventType triggeredEventType(TradeStopOrder stopOrder) {
+        if (stopOrder.getOrderSide() == BUY) {
+            return stopOrder.isLimit() ? LIMIT_BUY_ORDER_TRADE : MARKET_BUY_ORDER_TRADE;
+        }
+        return stopOrder.isLimit() ? LIMIT_SELL_ORDER_TRADE : MARKET_SELL_ORDER_TRADE;
+    }
+
+    private StopOrderBook getStopOrderBook(String symbol) {
+        return stopOrderBooks.computeIfAbsent(symbol, this::load);
+    }
+
+    private StopOrderBook load(String symbol) {
+        StopOrderBook stopOrderBook = new StopOrderBook(symbol);
+        stopOrderStore.load(symbol).forEach(stopOrderBook::add);
+
+        log.info("[StopOrderTrigger.load] Stop order book loaded. symbol={}, stopOrders={}", symbol, stopOrderBook.size());
+        return stopOrderBook;
+    }
+
+    // 롤백되면 메모리의 스톱 호가창을 버리고 다음 접근 때 DB 에서 다시 적재한다.
+    private void invalidateOnRollback(String symbol) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    stopOrderBooks.remove(symbol);
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,76 @@
+package crypto.trade.consumer;
+
+import crypto.trade.entity.TradeProcessedEvent;
+import crypto.trade.repository.TradeProcessedEventDbRepository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+
+@ExtendWith(MockitoExtension.class)
+class ExactlyOnceProcessedEventStoreTest {
+
+    @Mock
+    private TradeProcessedEventDbRepository tradeProcessedEventDbRepository;
+
+    private ExactlyOnceProcessedEventStore processedEventStore;
+
+    @BeforeEach
+    void setUp() {
+        processedEventStore = new ExactlyOnceProcessedEventStore(tradeProcessedEventDbRepository, 100);
+    }
+
+    @DisplayName("DB 에 처리 기록이 있는 eventId 는 선점하지 않는다.")
+    @Test
+    void claimAllExcludesProcessedEvents() {
+        // given
+        when(tradeProcessedEventDbRepository.findAllById(List.of("event-1", "event-2")))
+                .thenReturn(List.of(new TradeProcessedEvent("event-2")));
+
+        // when
+        Set<String> claimed = processedEventStore.claimAll(List.of("event-1", "event-2"));
+
+        // then
+        assertThat(claimed).containsExactly("event-1");
+    }
+
+    @DisplayName("이 프로세스에서 이미 선점한 eventId 는 DB 를 조회하지 않고 중복으로 본다.")
+    @Test
+    void claimAllFromLocalCache() {
+        // given
+        when(tradeProcessedEventDbRepository.findAllById(List.of("event-1"))).thenReturn(List.of());
+        processedEventStore.claimAll(List.of("event-1"));
+
+        // when
+        Set<String> claimed = processedEventStore.claimAll(List.of("event-1"));
+
+        // then
+        assertThat(claimed).isEmpty();
+        verify(tradeProcessedEventDbRepository, times(1)).findAllById(anyIterable());
+    }
+
+    @DisplayName("처리에 실패해 선점을 풀면 다시 선점할 수 있다.")
+    @Test
+    void releaseAll() {
+        // given
+        when(tradeProcessedEventDbRepository.findAllById(List.of("event-1"))).thenReturn(List.of());
+        processedEventStore.claimAll(List.of("event-1"));
+
+        // when
+        processedEventStore.releaseAll(List.of("event-1"));
+        Set<String> claimed = processedEventStore.claimAll(List.of("event-1"));
+
+        // then
+        assertThat(claimed).containsExactly("event-1");
+    }
+}
@@ -0,0 +1,152 @@
+package crypto.trade.consumer;
+
+import crypto.common.fixedpoint.Price;
+import crypto.common.fixedpoint.Quantity;
+import crypto.dataserializer.DataSerializer;
+import crypto.event.Event;
+import crypto.event.consumer.ProcessedEventStore;
+import crypto.event.eventsender.OrderEventSender;
+import crypto.event.payload.CancelPayload;
+import crypto.event.payload.OrderPayload;
+import crypto.trade.repository.TradeProcessedEventRepository;
+import crypto.trade.sequencer.MatchingSequencer;
+import crypto.trade.service.TradeEventService;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerGroupMetadata;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.Acknowledgment;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import static crypto.event.EventType.*;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+
+@ExtendWith(MockitoExtension.class)
+class TradeEventConsumerTest {
+
+    @Mock
+    private DataSerializer dataSerializer;
+
+    @Mock
+    private KafkaTemplate<String, byte[]> kafkaTemplate;
+
+    @Mock
+    private TradeProcessedEventRepository tradeProcessedEventRepository;
+
+    @Mock
+    private ObjectProvider<ExactlyOnceProcessedEventStore> exactlyOnceProcessedEventStoreProvider;
+
+    @Mock
+    private ExactlyOnceProcessedEventStore exactlyOnceProcessedEventStore;
+
+    @Mock
+    private OrderEventSender orderEventSender;
+
+    @Mock
+    private TradeEventService tradeEventService;
+
+    @Mock
+    private MatchingSequencer matchingSequencer;
+
+    @Mock
+    private ObjectProvider<ExactlyOncePublisher> exactlyOncePublisherProvider;
+
+    @Mock
+    private ExactlyOncePublisher exactlyOncePublisher;
+
+    @Mock
+    private Consumer<String, byte[]> kafkaConsumer;
+
+    @Mock
+    private Acknowledgment ack;
+
+    @DisplayName("카프카 트랜잭션 모드에서는 실패한 이벤트의 취소 이벤트와 DLQ 메시지를 오프셋과 같은 트랜잭션으로 보내고, ack 로 오프셋을 다시 커밋하지 않는다.")
+    @Test
+    void sendFailuresInKafkaTransaction() {
+        // given
+        when(exactlyOnceProcessedEventStoreProvider.getIfAvailable()).thenReturn(exactlyOnceProcessedEventStore);
+        when(exactlyOncePublisherProvider.getIfAvailable()).thenReturn(exactlyOncePublisher);
+        when(exactlyOncePublisher.collecting(anyList(), any())).thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
+        when(kafkaConsumer.groupMetadata()).thenReturn(new ConsumerGroupMetadata("crypto-trade"));
+        givenFailingEvent(exactlyOnceProcessedEventStore);
+        TradeEventConsumer tradeEventConsumer = createConsumer();
+
+        // when
+        tradeEventConsumer.listen(records(), ack, kafkaConsumer);
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<ProducerRecord<String, byte[]>>> failureRecords = ArgumentCaptor.forClass(List.class);
+        verify(exactlyOncePublisher, times(1)).publish(anyList(), failureRecords.capture(), anyList(), any());
+        assertThat(failureRecords.getValue())
+                .extracting(ProducerRecord::topic, ProducerRecord::key)
+                .containsExactly(tuple(Topic.CRYPTO_ORDER_CANCEL, "2"), tuple(Topic.CRYPTO_TRADE_DLQ, null));
+
+        verifyNoInteractions(orderEventSender, kafkaTemplate);
+        verify(ack, never()).acknowledge();
+        verify(exactlyOnceProcessedEventStore, times(1)).releaseAll(List.of("event-1"));
+    }
+
+    @DisplayName("카프카 트랜잭션 모드가 아니면 취소 이벤트와 DLQ 메시지를 바로 보내고 ack 로 오프셋을 커밋한다.")
+    @Test
+    void sendFailuresDirectly() {
+        // given
+        when(exactlyOnceProcessedEventStoreProvider.getIfAvailable()).thenReturn(null);
+        when(exactlyOncePublisherProvider.getIfAvailable()).thenReturn(null);
+        when(kafkaTemplate.send(eq(Topic.CRYPTO_TRADE_DLQ), any(byte[].class))).thenReturn(new CompletableFuture<>());
+        givenFailingEvent(tradeProcessedEventRepository);
+        TradeEventConsumer tradeEventConsumer = createConsumer();
+
+        // when
+        tradeEventConsumer.listen(records(), ack, kafkaConsumer);
+
+        // then
+        verify(orderEventSender, times(1)).sendFailCompleteEvent(eq(ORDER_CANCEL_EVENT), eq(2L), any(CancelPayload.class));
+        verify(kafkaTemplate, times(1)).send(eq(Topic.CRYPTO_TRADE_DLQ), any(byte[].class));
+        verify(ack, times(1)).acknowledge();
+        verifyNoInteractions(kafkaConsumer);
+    }
+
+    private void givenFailingEvent(ProcessedEventStore processedEventStore) {
+        Event event = Event.of("event-1", LIMIT_BUY_ORDER_TRADE, OrderPayload.builder()
+                .orderId(2L)
+                .userId(3L)
+                .symbol("BTC")
+                .price(Price.of("1000"))
+                .quantity(Quantity.of("1"))
+                .orderSide("BUY")
+                .build());
+
+        when(dataSerializer.deserialize(any(byte[].class), eq(Event.class))).thenReturn(event);
+        when(dataSerializer.serialize(anyString(), any(Event.class))).thenReturn(new byte[0]);
+        when(processedEventStore.claimAll(Set.of("event-1"))).thenReturn(Set.of("event-1"));
+        when(matchingSequencer.dispatch(eq("BTC"), any())).thenAnswer(invocation ->
+                CompletableFuture.completedFuture(invocation.<Supplier<?>>getArgument(1).get()));
+        doThrow(new IllegalStateException("matching failed")).when(tradeEventService).handleEvent(event);
+    }
+
+    private TradeEventConsumer createConsumer() {
+        return new TradeEventConsumer(dataSerializer, kafkaTemplate, tradeProcessedEventRepository, exactlyOnceProcessedEventStoreProvider,
+                orderEventSender, tradeEventService, matchingSequencer, exactlyOncePublisherProvider);
+    }
+
+    private static List<ConsumerRecord<String, byte[]>> records() {
+        return List.of(new ConsumerRecord<>(Topic.CRYPTO_TRADE, 0, 0L, "BTC", new byte[]{1}));
+    }
+}
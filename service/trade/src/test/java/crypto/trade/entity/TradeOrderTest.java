@@ -1,16 +1,16 @@
 package crypto.trade.entity;
 
+import crypto.common.fixedpoint.Price;
+import crypto.common.fixedpoint.Quantity;
 import crypto.trade.entity.exception.FilledQuantityExceedException;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 import static crypto.trade.entity.TradeOrderSide.*;
-import static java.math.BigDecimal.*;
 import static org.assertj.core.api.Assertions.*;
 
 class TradeOrderTest {
@@ -23,8 +23,8 @@ class TradeOrderTest {
             .orderId(1L)
             .userId(1L)
             .symbol("BTC")
-            .price(valueOf(1000))
-            .quantity(valueOf(10))
+            .price(Price.of("1000"))
+            .quantity(Quantity.of("10"))
             .orderSide(BUY)
             .registeredDateTime(LocalDateTime.now())
             .build();
@@ -35,10 +35,10 @@ class TradeOrderTest {
     void checkFilledQuantity() {
 
         // when
-        order.fill(valueOf(5));
+        order.fill(Quantity.of("5"));
 
         // then
-        assertThat(order.getFilledQuantity()).isEqualByComparingTo(valueOf(5));
+        assertThat(order.getFilledQuantity()).isEqualTo(Quantity.of("5"));
     }
 
     @DisplayName("해당 주문의 요청 수량과 체결된 수량을 비교하여 체결 완료된 주문을 확인한다.")
@@ -47,7 +47,7 @@ class TradeOrderTest {
         // given
 
         // when
-        order.fill(valueOf(10));
+        order.fill(Quantity.of("10"));
 
         // then
         assertThat(order.isFullyFilled()).isTrue();
@@ -58,7 +58,7 @@ class TradeOrderTest {
     void checkFullyFilledFalse() {
 
         // when
-        order.fill(valueOf(9));
+        order.fill(Quantity.of("9"));
 
         // then
         assertThat(order.isFullyFilled()).isFalse();
@@ -69,11 +69,11 @@ class TradeOrderTest {
     void checkRemainQuantity() {
 
         // when
-        order.fill(valueOf(9));
-        BigDecimal remainQuantity = order.calculateRemainQuantity();
+        order.fill(Quantity.of("9"));
+        Quantity remainQuantity = order.calculateRemainQuantity();
 
         // then
-        assertThat(remainQuantity).isEqualByComparingTo(valueOf(1));
+        assertThat(remainQuantity).isEqualTo(Quantity.of("1"));
     }
 
     @DisplayName("미체결 주문 조회시 남은 주문 수량이 음수가 되는 경우 예외가 발생한다.")
@@ -81,7 +81,7 @@ class TradeOrderTest {
     void checkRemainQuantityNegative() {
 
         // when
-        order.fill(valueOf(11));
+        order.fill(Quantity.of("11"));
 
         // then
         assertThatThrownBy(order::calculateRemainQuantity)
@@ -0,0 +1,175 @@
+package crypto.trade.eventhandler;
+
+import crypto.common.fixedpoint.Price;
+import crypto.common.fixedpoint.Quantity;
+import crypto.common.time.TimeProvider;
+import crypto.event.Event;
+import crypto.event.TimeInForce;
+import crypto.event.payload.OrderPayload;
+import crypto.trade.entity.TradeOrder;
+import crypto.trade.entity.TradeOrderSide;
+import crypto.trade.orderbook.OrderBook;
+import crypto.trade.orderbook.OrderBookManager;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+
+import static crypto.event.EventType.LIMIT_BUY_ORDER_TRADE;
+import static crypto.event.TimeInForce.*;
+import static crypto.trade.entity.TradeOrderSide.*;
+import static crypto.trade.entity.TradeOrderStatus.OPEN;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+
+@ExtendWith(MockitoExtension.class)
+class LimitBuyOrderCreateEventHandlerTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 7, 23, 10, 0, 0);
+
+    @Mock
+    private TradeProcessor tradeProcessor;
+
+    @Mock
+    private OrderBookManager orderBookManager;
+
+    @Mock
+    private TimeProvider timeProvider;
+
+    @InjectMocks
+    private LimitBuyOrderCreateEventHandler limitBuyOrderCreateEventHandler;
+
+    private OrderBook orderBook;
+
+    @BeforeEach
+    void setUp() {
+        orderBook = new OrderBook("BTC");
+        when(orderBookManager.getOrderBook("BTC")).thenReturn(orderBook);
+        when(timeProvider.now()).thenReturn(NOW);
+    }
+
+    @DisplayName("FOK 주문은 지정가 이내 잔량이 모자라면 하나도 체결하지 않고 닫으며 호가창에 올리지 않는다.")
+    @Test
+    void expireFokWithoutEnoughDepth() {
+        // given
+        orderBook.add(restingOrder(20L, SELL, "1000", "1"));
+        orderBook.add(restingOrder(21L, SELL, "1100", "1"));
+        TradeOrder buyOrder = takerOrder(FOK, "1000", "2");
+
+        // when
+        limitBuyOrderCreateEventHandler.handle(event(), buyOrder);
+
+        // then
+        verify(tradeProcessor).expireUnmatchedOrder(1L, buyOrder);
+        verify(tradeProcessor, never()).processMatchLimitOrder(any(), any(), any(), any(), any());
+        assertThat(orderBook.find(1L)).isNull();
+        assertThat(orderBook.find(20L).calculateRemainQuantity()).isEqualTo(Quantity.of("1"));
+    }
+
+    @DisplayName("FOK 주문은 잔량이 충분하면 전량 체결하고 닫지 않는다.")
+    @Test
+    void fillFokWithEnoughDepth() {
+        // given
+        orderBook.add(restingOrder(20L, SELL, "1000", "1"));
+        orderBook.add(restingOrder(21L, SELL, "1000", "1"));
+        TradeOrder buyOrder = takerOrder(FOK, "1000", "2");
+        givenMatchFills();
+
+        // when
+        limitBuyOrderCreateEventHandler.handle(event(), buyOrder);
+
+        // then
+        verify(tradeProcessor, times(2)).processMatchLimitOrder(eq(1L), eq(buyOrder), any(TradeOrder.class), eq(BUY), eq(NOW));
+        verify(tradeProcessor, never()).expireUnmatchedOrder(any(), any());
+        assertThat(buyOrder.isFullyFilled()).isTrue();
+        assertThat(orderBook.isEmpty()).isTrue();
+    }
+
+    @DisplayName("IOC 주문은 체결할 수 있는 만큼만 체결하고 남은 수량은 호가창에 올리지 않고 닫는다.")
+    @Test
+    void expireIocRemainder() {
+        // given
+        orderBook.add(restingOrder(20L, SELL, "1000", "1"));
+        TradeOrder buyOrder = takerOrder(IOC, "1000", "3");
+        givenMatchFills();
+
+        // when
+        limitBuyOrderCreateEventHandler.handle(event(), buyOrder);
+
+        // then
+        verify(tradeProcessor, times(1)).processMatchLimitOrder(eq(1L), eq(buyOrder), any(TradeOrder.class), eq(BUY), eq(NOW));
+        verify(tradeProcessor).expireUnmatchedOrder(1L, buyOrder);
+        assertThat(buyOrder.getFilledQuantity()).isEqualTo(Quantity.of("1"));
+        assertThat(orderBook.find(1L)).isNull();
+    }
+
+    @DisplayName("메이커 전용 주문이 바로 체결될 가격이면 체결하지 않고 취소로 닫는다.")
+    @Test
+    void rejectCrossingPostOnly() {
+        // given
+        orderBook.add(restingOrder(20L, SELL, "1000", "1"));
+        TradeOrder buyOrder = takerOrder(POST_ONLY, "1000", "1");
+
+        // when
+        limitBuyOrderCreateEventHandler.handle(event(), buyOrder);
+
+        // then
+        verify(tradeProcessor).expireUnmatchedOrder(1L, buyOrder);
+        verify(tradeProcessor, never()).processMatchLimitOrder(any(), any(), any(), any(), any());
+        assertThat(orderBook.find(1L)).isNull();
+    }
+
+    @DisplayName("메이커 전용 주문이 체결될 가격이 아니면 호가창에 올린다.")
+    @Test
+    void restNonCrossingPostOnly() {
+        // given
+        orderBook.add(restingOrder(20L, SELL, "1000", "1"));
+        TradeOrder buyOrder = takerOrder(POST_ONLY, "900", "1");
+
+        // when
+        limitBuyOrderCreateEventHandler.handle(event(), buyOrder);
+
+        // then
+        verify(tradeProcessor, never()).expireUnmatchedOrder(any(), any());
+        assertThat(orderBook.find(1L)).isNotNull();
+    }
+
+    // 체결 처리가 실제 TradeProcessor 처럼 양쪽 주문에 체결 수량을 채우게 한다.
+    private void givenMatchFills() {
+        doAnswer(invocation -> {
+            TradeOrder matchOrder = invocation.getArgument(1);
+            TradeOrder placeOrder = invocation.getArgument(2);
+            Quantity matched = matchOrder.calculateRemainQuantity().min(placeOrder.calculateRemainQuantity());
+            matchOrder.fill(matched);
+            placeOrder.fill(matched);
+            return null;
+        }).when(tradeProcessor).processMatchLimitOrder(any(), any(), any(), any(), any());
+    }
+
+    private static TradeOrder takerOrder(TimeInForce timeInForce, String price, String quantity) {
+        TradeOrder order = TradeOrder.create(1L, 7L, "BTC", Price.of(price), Quantity.of(quantity), BUY, NOW);
+        order.assignId(10L);
+        order.applyTimeInForce(timeInForce);
+        return order;
+    }
+
+    private static TradeOrder restingOrder(Long orderId, TradeOrderSide orderSide, String price, String quantity) {
+        return TradeOrder.restore(orderId + 100, orderId, 8L, "BTC", Price.of(price), Quantity.of(quantity), Quantity.of("0"),
+                orderSide, OPEN, NOW);
+    }
+
+    private static Event event() {
+        return Event.of("event-1", LIMIT_BUY_ORDER_TRADE, OrderPayload.builder()
+                .orderId(1L)
+                .userId(7L)
+                .symbol("BTC")
+                .build());
+    }
+}
@@ -0,0 +1,167 @@
+package crypto.trade.eventhandler;
+
+import crypto.common.fixedpoint.Price;
+import crypto.common.fixedpoint.Quantity;
+import crypto.event.Event;
+import crypto.event.eventsender.OrderEventSender;
+import crypto.event.payload.CancelPayload;
+import crypto.event.payload.OrderPayload;
+import crypto.trade.entity.TradeOrder;
+import crypto.trade.entity.TradeOrderSide;
+import crypto.trade.entity.TradeStopOrder;
+import crypto.trade.journal.TradeJournal;
+import crypto.trade.orderbook.OrderBook;
+import crypto.trade.orderbook.OrderBookManager;
+import crypto.trade.persistence.TradeWriteBehind;
+import crypto.trade.trigger.StopOrderTrigger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+
+import static crypto.event.EventType.LIMIT_ORDER_CANCEL_TRADE;
+import static crypto.event.EventType.ORDER_CANCELLED_EVENT;
+import static crypto.trade.entity.TradeOrderSide.*;
+import static crypto.trade.entity.TradeOrderStatus.*;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+
+@ExtendWith(MockitoExtension.class)
+class LimitOrderCancelEventHandlerTest {
+
+    private static final LocalDateTime REGISTERED_DATE_TIME = LocalDateTime.of(2025, 7, 23, 10, 0, 0);
+
+    @Mock
+    private TradeProcessor tradeProcessor;
+
+    @Mock
+    private OrderBookManager orderBookManager;
+
+    @Mock
+    private TradeWriteBehind tradeWriteBehind;
+
+    @Mock
+    private TradeJournal tradeJournal;
+
+    @Mock
+    private OrderEventSender orderEventSender;
+
+    @Mock
+    private StopOrderTrigger stopOrderTrigger;
+
+    @InjectMocks
+    private LimitOrderCancelEventHandler limitOrderCancelEventHandler;
+
+    private OrderBook orderBook;
+
+    @BeforeEach
+    void setUp() {
+        orderBook = new OrderBook("BTC");
+        when(orderBookManager.getOrderBook("BTC")).thenReturn(orderBook);
+    }
+
+    @DisplayName("호가창의 주문을 취소하면 호가창에서 빼고, 취소로 기록하고, 잠금을 풀고, 취소 완료를 알린다.")
+    @Test
+    void cancelRestingOrder() {
+        // given
+        orderBook.add(restingOrder(BUY, "2", "0"));
+
+        // when
+        limitOrderCancelEventHandler.handle(cancelEvent(), null);
+
+        // then
+        ArgumentCaptor<TradeOrder> cancelledOrder = ArgumentCaptor.forClass(TradeOrder.class);
+        verify(tradeProcessor).unlockCancelledOrder(cancelledOrder.capture());
+        assertThat(cancelledOrder.getValue().getOrderStatus()).isEqualTo(CANCELLED);
+        verify(tradeWriteBehind).updateFilledOrder(cancelledOrder.getValue());
+        verify(tradeJournal).appendOrder(cancelledOrder.getValue());
+        verifyCancelledEvent();
+
+        assertThat(orderBook.find(1L)).isNull();
+        verifyNoInteractions(stopOrderTrigger);
+    }
+
+    @DisplayName("일부 체결된 주문을 취소하면 체결되지 않고 남은 수량만큼만 잠금을 푼다.")
+    @Test
+    void cancelPartiallyFilledOrder() {
+        // given
+        orderBook.add(restingOrder(SELL, "2", "0.5"));
+
+        // when
+        limitOrderCancelEventHandler.handle(cancelEvent(), null);
+
+        // then
+        ArgumentCaptor<TradeOrder> cancelledOrder = ArgumentCaptor.forClass(TradeOrder.class);
+        verify(tradeProcessor).unlockCancelledOrder(cancelledOrder.capture());
+        assertThat(cancelledOrder.getValue().getFilledQuantity()).isEqualTo(Quantity.of("0.5"));
+        assertThat(cancelledOrder.getValue().calculateRemainQuantity()).isEqualTo(Quantity.of("1.5"));
+        verifyCancelledEvent();
+        assertThat(orderBook.isEmpty()).isTrue();
+    }
+
+    @DisplayName("호가창에 없으면 발동 전 스톱 주문에서 지우고, 스톱 주문으로 잡아 둔 잠금을 풀고 취소 완료를 알린다.")
+    @Test
+    void cancelUntriggeredStopOrder() {
+        // given
+        TradeStopOrder stopOrder = TradeStopOrder.builder()
+                .orderId(1L)
+                .userId(7L)
+                .symbol("BTC")
+                .orderSide(BUY)
+                .triggerPrice(Price.of("1100"))
+                .price(Price.of("1100"))
+                .quantity(Quantity.of("1"))
+                .registeredDateTime(REGISTERED_DATE_TIME)
+                .build();
+        when(stopOrderTrigger.cancel("BTC", 1L)).thenReturn(stopOrder);
+
+        // when
+        limitOrderCancelEventHandler.handle(cancelEvent(), null);
+
+        // then
+        verify(tradeProcessor).unlockCancelledStopOrder(stopOrder);
+        verify(tradeProcessor, never()).unlockCancelledOrder(any());
+        verifyNoInteractions(tradeWriteBehind, tradeJournal);
+        verifyCancelledEvent();
+    }
+
+    @DisplayName("호가창에도 발동 전 스톱 주문에도 없으면 잠금을 풀지 않고 취소 완료도 보내지 않는다.")
+    @Test
+    void ignoreOrderNotFound() {
+        // given
+        when(stopOrderTrigger.cancel("BTC", 1L)).thenReturn(null);
+
+        // when
+        limitOrderCancelEventHandler.handle(cancelEvent(), null);
+
+        // then
+        verifyNoInteractions(tradeProcessor, tradeWriteBehind, tradeJournal, orderEventSender);
+    }
+
+    private void verifyCancelledEvent() {
+        ArgumentCaptor<CancelPayload> cancelled = ArgumentCaptor.forClass(CancelPayload.class);
+        verify(orderEventSender).sendFailCompleteEventAfterCommit(eq(ORDER_CANCELLED_EVENT), eq(1L), cancelled.capture());
+        assertThat(cancelled.getValue().orderId()).isEqualTo(1L);
+    }
+
+    private static TradeOrder restingOrder(TradeOrderSide orderSide, String quantity, String filledQuantity) {
+        return TradeOrder.restore(10L, 1L, 7L, "BTC", Price.of("1000"), Quantity.of(quantity), Quantity.of(filledQuantity),
+                orderSide, OPEN, REGISTERED_DATE_TIME);
+    }
+
+    private static Event cancelEvent() {
+        return Event.of("event-1", LIMIT_ORDER_CANCEL_TRADE, OrderPayload.builder()
+                .orderId(1L)
+                .userId(7L)
+                .symbol("BTC")
+                .build());
+    }
+}
@@ -0,0 +1,244 @@
+package crypto.trade.eventhandler;
+
+import crypto.common.fixedpoint.Price;
+import crypto.common.fixedpoint.Quantity;
+import crypto.common.time.TimeProvider;
+import crypto.event.Event;
+import crypto.event.TimeInForce;
+import crypto.event.eventsender.OrderEventSender;
+import crypto.event.payload.CancelPayload;
+import crypto.event.payload.OrderPayload;
+import crypto.trade.entity.TradeOrder;
+import crypto.trade.entity.TradeOrderSide;
+import crypto.trade.journal.TradeJournal;
+import crypto.trade.orderbook.OrderBook;
+import crypto.trade.orderbook.OrderBookManager;
+import crypto.trade.persistence.TradeWriteBehind;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+
+import static crypto.event.EventType.LIMIT_ORDER_REPLACE_TRADE;
+import static crypto.event.EventType.ORDER_REPLACED_EVENT;
+import static crypto.event.EventType.ORDER_REPLACE_REJECTED_EVENT;
+import static crypto.trade.entity.TradeOrderSide.*;
+import static crypto.trade.entity.TradeOrderStatus.*;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+
+@ExtendWith(MockitoExtension.class)
+class LimitOrderReplaceEventHandlerTest {
+
+    private static final LocalDateTime REGISTERED_DATE_TIME = LocalDateTime.of(2025, 7, 23, 10, 0, 0);
+
+    @Mock
+    private TradeProcessor tradeProcessor;
+
+    @Mock
+    private OrderBookManager orderBookManager;
+
+    @Mock
+    private TradeWriteBehind tradeWriteBehind;
+
+    @Mock
+    private TradeJournal tradeJournal;
+
+    @Mock
+    private TimeProvider timeProvider;
+
+    @Mock
+    private OrderEventSender orderEventSender;
+
+    @Mock
+    private LimitOrderCancelEventHandler limitOrderCancelEventHandler;
+
+    @Mock
+    private LimitBuyOrderCreateEventHandler limitBuyOrderCreateEventHandler;
+
+    @Mock
+    private LimitSellOrderCreateEventHandler limitSellOrderCreateEventHandler;
+
+    @InjectMocks
+    private LimitOrderReplaceEventHandler limitOrderReplaceEventHandler;
+
+    private OrderBook orderBook;
+
+    @BeforeEach
+    void setUp() {
+        orderBook = new OrderBook("BTC");
+        when(orderBookManager.getOrderBook("BTC")).thenReturn(orderBook);
+    }
+
+    @DisplayName("매수 주문의 가격을 올려 잠가야 할 금액이 늘면 정정을 받지 않고 호가창과 잠금을 그대로 두며 정정 거절을 알린다.")
+    @Test
+    void rejectBuyReplaceNeedingMoreBalance() {
+        // given
+        orderBook.add(restingOrder(BUY, "1000", "2", "0.5"));
+
+        // when
+        limitOrderReplaceEventHandler.handle(replaceEvent("1100", "2"), null);
+
+        // then
+        assertThat(orderBook.find(1L).getPrice()).isEqualTo(Price.of("1000"));
+        verifyRejectedEvent();
+        verifyNoInteractions(tradeWriteBehind, tradeJournal, tradeProcessor, limitBuyOrderCreateEventHandler, limitOrderCancelEventHandler);
+    }
+
+    @DisplayName("매도 주문의 수량을 늘려 잠가야 할 수량이 늘면 정정을 받지 않고 정정 거절을 알린다.")
+    @Test
+    void rejectSellReplaceNeedingMoreQuantity() {
+        // given
+        orderBook.add(restingOrder(SELL, "1000", "2", "0.5"));
+
+        // when
+        limitOrderReplaceEventHandler.handle(replaceEvent("1000", "3"), null);
+
+        // then
+        assertThat(orderBook.find(1L).calculateRemainQuantity()).isEqualTo(Quantity.of("1.5"));
+        verifyRejectedEvent();
+        verifyNoInteractions(tradeWriteBehind, tradeJournal, tradeProcessor, limitSellOrderCreateEventHandler);
+    }
+
+    @DisplayName("가격이 같고 수량만 줄면 잠금을 먼저 조정한 뒤 같은 자리에서 바꿔 쓰고, 주문 애플리케이션에 정정 확정을 보낸다.")
+    @Test
+    void replaceInPlace() {
+        // given
+        TradeOrder restingOrder = restingOrder(BUY, "1000", "2", "0.5");
+        orderBook.add(restingOrder);
+        givenInsertOrder();
+
+        // when
+        limitOrderReplaceEventHandler.handle(replaceEvent("1000", "1.5"), null);
+
+        // then
+        ArgumentCaptor<TradeOrder> replacement = ArgumentCaptor.forClass(TradeOrder.class);
+        verify(tradeProcessor).adjustReplacedOrderLock(any(TradeOrder.class), replacement.capture());
+        assertThat(replacement.getValue().getQuantity()).isEqualTo(Quantity.of("1"));
+        assertThat(replacement.getValue().getRegisteredDateTime()).isEqualTo(REGISTERED_DATE_TIME);
+
+        assertThat(orderBook.find(1L).getId()).isEqualTo(100L);
+        assertThat(orderBook.find(1L).calculateRemainQuantity()).isEqualTo(Quantity.of("1"));
+        verifyReplacedEvent("1000", "1.5");
+        verifyNoInteractions(limitBuyOrderCreateEventHandler);
+    }
+
+    @DisplayName("가격을 올려도 잔량 금액이 줄면 잠금을 먼저 푼 뒤 호가창에서 빼고 다시 매칭한다.")
+    @Test
+    void rematchBuyReplaceNotNeedingMoreBalance() {
+        // given
+        orderBook.add(restingOrder(BUY, "1000", "2", "0.5"));
+        givenInsertOrder();
+        when(timeProvider.now()).thenReturn(REGISTERED_DATE_TIME.plusMinutes(1));
+        Event event = replaceEvent("2000", "1");
+
+        // when
+        limitOrderReplaceEventHandler.handle(event, null);
+
+        // then
+        ArgumentCaptor<TradeOrder> replacedOrder = ArgumentCaptor.forClass(TradeOrder.class);
+        ArgumentCaptor<TradeOrder> replacement = ArgumentCaptor.forClass(TradeOrder.class);
+        InOrder inOrder = inOrder(tradeProcessor, orderEventSender, limitBuyOrderCreateEventHandler);
+        inOrder.verify(tradeProcessor).adjustReplacedOrderLock(replacedOrder.capture(), replacement.capture());
+        inOrder.verify(orderEventSender).sendFailCompleteEventAfterCommit(eq(ORDER_REPLACED_EVENT), eq(1L), any(OrderPayload.class));
+        inOrder.verify(limitBuyOrderCreateEventHandler).handle(event, replacement.getValue());
+
+        assertThat(replacedOrder.getValue().getOrderStatus()).isEqualTo(CANCELLED);
+        assertThat(replacement.getValue().getPrice()).isEqualTo(Price.of("2000"));
+        assertThat(replacement.getValue().getQuantity()).isEqualTo(Quantity.of("0.5"));
+        assertThat(orderBook.find(1L)).isNull();
+    }
+
+    @DisplayName("메이커 전용 주문을 정정하면 새 주문도 메이커 전용으로 다시 매칭해 바로 체결될 가격이면 거절되게 한다.")
+    @Test
+    void keepPostOnlyOnRematch() {
+        // given
+        TradeOrder postOnlyOrder = restingOrder(SELL, "1000", "2", "0");
+        postOnlyOrder.applyTimeInForce(TimeInForce.POST_ONLY);
+        orderBook.add(postOnlyOrder);
+        givenInsertOrder();
+        when(timeProvider.now()).thenReturn(REGISTERED_DATE_TIME.plusMinutes(1));
+        Event event = replaceEvent("900", "2");
+
+        // when
+        limitOrderReplaceEventHandler.handle(event, null);
+
+        // then
+        ArgumentCaptor<TradeOrder> replacement = ArgumentCaptor.forClass(TradeOrder.class);
+        verify(limitSellOrderCreateEventHandler).handle(eq(event), replacement.capture());
+        assertThat(replacement.getValue().getTimeInForce()).isEqualTo(TimeInForce.POST_ONLY);
+    }
+
+    @DisplayName("이미 체결된 수량 이하로 줄이면 취소로 처리한다.")
+    @Test
+    void cancelWhenQuantityNotAboveFilled() {
+        // given
+        orderBook.add(restingOrder(SELL, "1000", "2", "0.5"));
+        Event event = replaceEvent("1000", "0.5");
+
+        // when
+        limitOrderReplaceEventHandler.handle(event, null);
+
+        // then
+        verify(limitOrderCancelEventHandler).handle(event, null);
+        verifyNoInteractions(tradeWriteBehind, tradeProcessor, orderEventSender);
+    }
+
+    @DisplayName("호가창에 없는 주문(발동 전 스톱 주문 등)의 정정은 아무것도 바꾸지 않고 정정 거절을 알린다.")
+    @Test
+    void rejectOrderNotResting() {
+        // when
+        limitOrderReplaceEventHandler.handle(replaceEvent("900", "1"), null);
+
+        // then
+        verifyRejectedEvent();
+        verifyNoInteractions(tradeWriteBehind, tradeJournal, tradeProcessor, limitBuyOrderCreateEventHandler, limitSellOrderCreateEventHandler);
+    }
+
+    private void verifyRejectedEvent() {
+        ArgumentCaptor<CancelPayload> rejected = ArgumentCaptor.forClass(CancelPayload.class);
+        verify(orderEventSender).sendFailCompleteEventAfterCommit(eq(ORDER_REPLACE_REJECTED_EVENT), eq(1L), rejected.capture());
+        assertThat(rejected.getValue().orderId()).isEqualTo(1L);
+        assertThat(rejected.getValue().failMessage()).isNotBlank();
+        verify(orderEventSender, never()).sendFailCompleteEventAfterCommit(eq(ORDER_REPLACED_EVENT), any(), any());
+    }
+
+    private void verifyReplacedEvent(String price, String quantity) {
+        ArgumentCaptor<OrderPayload> replaced = ArgumentCaptor.forClass(OrderPayload.class);
+        verify(orderEventSender).sendFailCompleteEventAfterCommit(eq(ORDER_REPLACED_EVENT), eq(1L), replaced.capture());
+        assertThat(replaced.getValue().price()).isEqualTo(Price.of(price));
+        assertThat(replaced.getValue().quantity()).isEqualTo(Quantity.of(quantity));
+    }
+
+    private void givenInsertOrder() {
+        when(tradeWriteBehind.insertOrder(any(TradeOrder.class))).thenAnswer(invocation -> {
+            TradeOrder order = invocation.getArgument(0);
+            order.assignId(100L);
+            return order;
+        });
+    }
+
+    private static TradeOrder restingOrder(TradeOrderSide orderSide, String price, String quantity, String filledQuantity) {
+        return TradeOrder.restore(10L, 1L, 7L, "BTC", Price.of(price), Quantity.of(quantity), Quantity.of(filledQuantity),
+                orderSide, OPEN, REGISTERED_DATE_TIME);
+    }
+
+    private static Event replaceEvent(String price, String quantity) {
+        return Event.of("event-1", LIMIT_ORDER_REPLACE_TRADE, OrderPayload.builder()
+                .orderId(1L)
+                .userId(7L)
+                .symbol("BTC")
+                .price(Price.of(price))
+                .quantity(Quantity.of(quantity))
+                .build());
+    }
+}
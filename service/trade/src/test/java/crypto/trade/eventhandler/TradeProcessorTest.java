@@ -0,0 +1,143 @@
+package crypto.trade.eventhandler;
+
+import crypto.common.fee.FeePolicy;
+import crypto.common.fixedpoint.Amount;
+import crypto.common.fixedpoint.Price;
+import crypto.common.fixedpoint.Quantity;
+import crypto.event.TimeInForce;
+import crypto.event.eventsender.OrderEventSender;
+import crypto.event.eventsender.SettlementEventSender;
+import crypto.event.payload.CancelPayload;
+import crypto.event.payload.RefundPayload;
+import crypto.event.payload.SettlementPayload;
+import crypto.trade.entity.Trade;
+import crypto.trade.entity.TradeOrder;
+import crypto.trade.entity.TradeOrderSide;
+import crypto.trade.journal.TradeJournal;
+import crypto.trade.marketdata.CandleAggregator;
+import crypto.trade.marketdata.TickerAggregator;
+import crypto.trade.persistence.TradeWriteBehind;
+import crypto.trade.trigger.StopOrderTrigger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+
+import static crypto.event.EventType.*;
+import static crypto.trade.entity.TradeOrderRole.TAKER;
+import static crypto.trade.entity.TradeOrderSide.*;
+import static crypto.trade.entity.TradeOrderStatus.*;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+
+@ExtendWith(MockitoExtension.class)
+class TradeProcessorTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 7, 23, 10, 0, 0);
+
+    @Mock
+    private SettlementEventSender settlementEventSender;
+
+    @Mock
+    private OrderEventSender orderEventSender;
+
+    @Spy
+    private FeePolicy feePolicy = new FeePolicy();
+
+    @Mock
+    private TradeJournal tradeJournal;
+
+    @Mock
+    private TradeWriteBehind tradeWriteBehind;
+
+    @Mock
+    private CandleAggregator candleAggregator;
+
+    @Mock
+    private TickerAggregator tickerAggregator;
+
+    @Mock
+    private StopOrderTrigger stopOrderTrigger;
+
+    @InjectMocks
+    private TradeProcessor tradeProcessor;
+
+    @DisplayName("체결을 반영한 뒤 정산 이벤트를 보내다 실패하면 예외를 삼키지 않고 올려 트랜잭션을 롤백하게 한다.")
+    @Test
+    void propagateFailureAfterFill() {
+        // given
+        TradeOrder matchOrder = order(10L, BUY, "1000", "1");
+        TradeOrder placeOrder = order(20L, SELL, "1000", "2");
+        when(tradeWriteBehind.insertTrade(any(Trade.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        doThrow(new IllegalStateException("outbox unavailable"))
+                .when(settlementEventSender).send(eq(BUY_ORDER_SETTLEMENT), eq(10L), any(SettlementPayload.class));
+
+        // when // then
+        assertThatThrownBy(() -> tradeProcessor.processMatchLimitOrder(1L, matchOrder, placeOrder, BUY, NOW))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @DisplayName("체결 행 기록이 실패하면 정산 이벤트와 스톱 주문 발동으로 넘어가지 않고 예외를 올린다.")
+    @Test
+    void propagateFailureBeforeSettlement() {
+        // given
+        TradeOrder matchOrder = order(10L, BUY, "1000", "1");
+        TradeOrder placeOrder = order(20L, SELL, "1000", "2");
+        when(tradeWriteBehind.insertTrade(any(Trade.class))).thenThrow(new IllegalStateException("write-behind queue closed"));
+
+        // when // then
+        assertThatThrownBy(() -> tradeProcessor.processMatchLimitOrder(1L, matchOrder, placeOrder, BUY, NOW))
+                .isInstanceOf(IllegalStateException.class);
+        verifyNoInteractions(settlementEventSender, stopOrderTrigger);
+    }
+
+    @DisplayName("하나도 체결되지 않은 FOK 매수 주문을 닫으면 행과 저널을 남기지 않고, 수수료를 포함한 잠금을 풀고 취소를 알린다.")
+    @Test
+    void expireUnmatchedFokOrder() {
+        // given
+        TradeOrder fokOrder = order(10L, BUY, "1000", "2");
+        fokOrder.applyTimeInForce(TimeInForce.FOK);
+        Amount remainPrice = Price.of("1000").multiply(Quantity.of("2"));
+        Amount lockedPrice = remainPrice.add(tradeProcessor.calculateTradeFee(remainPrice, TAKER));
+
+        // when
+        tradeProcessor.expireUnmatchedOrder(1L, fokOrder);
+
+        // then
+        assertThat(fokOrder.getOrderStatus()).isEqualTo(CANCELLED);
+        verify(settlementEventSender).send(eq(UNLOCK_CANCELLED_ORDER), eq(10L),
+                eq(RefundPayload.builder().userId(10L).symbol("BTC").totalRemainPrice(lockedPrice).build()));
+        verify(orderEventSender).sendFailCompleteEventAfterCommit(eq(ORDER_CANCELLED_EVENT), eq(1L), any(CancelPayload.class));
+        verifyNoInteractions(tradeWriteBehind, tradeJournal);
+    }
+
+    @DisplayName("거절된 메이커 전용 주문은 미리 만든 행을 취소로 바꾸고 잠금을 푼다.")
+    @Test
+    void expireRejectedPostOnlyOrder() {
+        // given
+        TradeOrder postOnlyOrder = order(10L, SELL, "1000", "2");
+        postOnlyOrder.applyTimeInForce(TimeInForce.POST_ONLY);
+
+        // when
+        tradeProcessor.expireUnmatchedOrder(1L, postOnlyOrder);
+
+        // then
+        verify(tradeWriteBehind).updateFilledOrder(postOnlyOrder);
+        verify(tradeJournal).appendOrder(postOnlyOrder);
+        verify(settlementEventSender).send(eq(UNLOCK_CANCELLED_ORDER), eq(10L),
+                eq(RefundPayload.builder().userId(10L).symbol("BTC").remainQuantity(Quantity.of("2")).build()));
+        verify(orderEventSender).sendFailCompleteEventAfterCommit(eq(ORDER_CANCELLED_EVENT), eq(1L), any(CancelPayload.class));
+    }
+
+    private static TradeOrder order(Long id, TradeOrderSide orderSide, String price, String quantity) {
+        return TradeOrder.restore(id, id, id, "BTC", Price.of(price), Quantity.of(quantity), Quantity.of("0"),
+                orderSide, OPEN, NOW);
+    }
+}
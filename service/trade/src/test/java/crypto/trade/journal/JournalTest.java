@@ -0,0 +1,135 @@
+package crypto.trade.journal;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+
+class JournalTest {
+
+    private static final int RECORD_SIZE = JournalSegment.HEADER_SIZE + JournalSegment.BODY_HEADER_SIZE + Long.BYTES;
+
+    @TempDir
+    Path directory;
+
+    @DisplayName("저널을 다시 열면 기록한 레코드를 순서대로 재생하고 다음 시퀀스부터 이어서 기록한다.")
+    @Test
+    void replayAfterReopen() {
+        // given
+        try (Journal journal = Journal.open(directory, 4096)) {
+            journal.append(JournalRecordType.EVENT, 0L, buffer -> buffer.putLong(10L));
+            journal.append(JournalRecordType.ORDER, 1L, buffer -> buffer.putLong(20L));
+        }
+
+        // when
+        List<Long> values = new ArrayList<>();
+        long sequence;
+        try (Journal journal = Journal.open(directory, 4096)) {
+            sequence = journal.append(JournalRecordType.TRADE, 1L, buffer -> buffer.putLong(30L));
+            journal.replay(entry -> values.add(entry.payload().getLong(0)));
+        }
+
+        // then
+        assertThat(sequence).isEqualTo(3L);
+        assertThat(values).containsExactly(10L, 20L, 30L);
+    }
+
+    @DisplayName("세그먼트가 가득 차면 새 세그먼트로 넘어가고 재생은 세그먼트를 이어서 읽는다.")
+    @Test
+    void rollSegment() throws IOException {
+        // given
+        List<Long> sequences = new ArrayList<>();
+
+        // when
+        try (Journal journal = Journal.open(directory, RECORD_SIZE * 2)) {
+            for (int i = 0; i < 5; i++) {
+                journal.append(JournalRecordType.ORDER, 0L, buffer -> buffer.putLong(1L));
+            }
+            journal.replay(entry -> sequences.add(entry.sequence()));
+        }
+
+        // then
+        try (Stream<Path> files = Files.list(directory)) {
+            assertThat(files.count()).isEqualTo(3L);
+        }
+        assertThat(sequences).containsExactly(1L, 2L, 3L, 4L, 5L);
+    }
+
+    @DisplayName("체크섬이 맞지 않는 꼬리 레코드는 버리고 그 시퀀스부터 다시 기록한다.")
+    @Test
+    void discardCorruptedTail() throws IOException {
+        // given
+        try (Journal journal = Journal.open(directory, 4096)) {
+            journal.append(JournalRecordType.ORDER, 0L, buffer -> buffer.putLong(10L));
+            journal.append(JournalRecordType.ORDER, 0L, buffer -> buffer.putLong(20L));
+        }
+        try (RandomAccessFile file = new RandomAccessFile(directory.resolve(String.format("%020d.journal", 1L)).toFile(), "rw")) {
+            file.seek(RECORD_SIZE * 2L - 1);
+            file.write(0x7F);
+        }
+
+        // when
+        List<Long> values = new ArrayList<>();
+        long sequence;
+        try (Journal journal = Journal.open(directory, 4096)) {
+            sequence = journal.append(JournalRecordType.ORDER, 0L, buffer -> buffer.putLong(30L));
+            journal.replay(entry -> values.add(entry.payload().getLong(0)));
+        }
+
+        // then
+        assertThat(sequence).isEqualTo(2L);
+        assertThat(values).containsExactly(10L, 30L);
+    }
+
+    @DisplayName("시작 시퀀스를 주면 그보다 앞선 기록은 재생하지 않는다.")
+    @Test
+    void replayFromSequence() {
+        // given
+        List<Long> sequences = new ArrayList<>();
+
+        // when
+        try (Journal journal = Journal.open(directory, RECORD_SIZE * 2)) {
+            for (int i = 0; i < 5; i++) {
+                journal.append(JournalRecordType.ORDER, 0L, buffer -> buffer.putLong(1L));
+            }
+            journal.replay(4L, entry -> sequences.add(entry.sequence()));
+        }
+
+        // then
+        assertThat(sequences).containsExactly(4L, 5L);
+    }
+
+    @DisplayName("기록이 모두 주어진 시퀀스보다 앞선 세그먼트만 지우고, 남은 세그먼트는 그대로 재생된다.")
+    @Test
+    void deleteSegmentsBefore() throws IOException {
+        // given
+        List<Long> sequences = new ArrayList<>();
+        int deleted;
+
+        // when
+        try (Journal journal = Journal.open(directory, RECORD_SIZE * 2)) {
+            for (int i = 0; i < 5; i++) {
+                journal.append(JournalRecordType.ORDER, 0L, buffer -> buffer.putLong(1L));
+            }
+            deleted = journal.deleteSegmentsBefore(4L);
+            journal.replay(entry -> sequences.add(entry.sequence()));
+        }
+
+        // then
+        assertThat(deleted).isEqualTo(1);
+        try (Stream<Path> files = Files.list(directory)) {
+            assertThat(files.count()).isEqualTo(2L);
+        }
+        assertThat(sequences).containsExactly(3L, 4L, 5L);
+    }
+}
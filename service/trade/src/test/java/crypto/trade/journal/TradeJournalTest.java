@@ -0,0 +1,218 @@
+package crypto.trade.journal;
+
+import crypto.common.fixedpoint.Amount;
+import crypto.common.fixedpoint.Price;
+import crypto.common.fixedpoint.Quantity;
+import crypto.trade.entity.Trade;
+import crypto.trade.entity.TradeOrder;
+import crypto.trade.entity.TradeOutboxEvent;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static crypto.trade.entity.TradeOrderSide.*;
+import static crypto.trade.entity.TradeOrderStatus.*;
+import static org.assertj.core.api.Assertions.*;
+
+
+class TradeJournalTest {
+
+    private static final LocalDateTime REGISTERED_DATE_TIME = LocalDateTime.of(2025, 7, 23, 10, 0, 0);
+    private static final int SMALL_SEGMENT_SIZE = 1024;
+
+    @TempDir
+    Path directory;
+
+    private TradeJournal tradeJournal;
+
+    @AfterEach
+    void tearDown() {
+        tradeJournal.close();
+    }
+
+    @DisplayName("큐에 들어갔지만 반영이 기록되지 않은 배치는 재시작 시 주문의 마지막 상태와 체결, 아웃박스 메시지로 복구된다.")
+    @Test
+    void recoverUnflushedBatch() {
+        // given
+        tradeJournal = openJournal();
+        TradeOrder buyOrder = createOrder(1L);
+        long batch = commit("event-1", () -> {
+            tradeJournal.appendOrder(buyOrder);
+            buyOrder.fill(Quantity.of("0.5"));
+            tradeJournal.appendOrder(buyOrder);
+            tradeJournal.appendTrade(createTrade(10L));
+            tradeJournal.appendOutboxEvent(TradeOutboxEvent.restore(20L, "crypto-settlement", "1", new byte[]{1, 2, 3}));
+        });
+        tradeJournal.appendQueued(batch);
+        tradeJournal.close();
+
+        // when
+        tradeJournal = openJournal();
+        List<JournaledBatch> batches = tradeJournal.takeUnflushedBatches();
+
+        // then
+        assertThat(batches).hasSize(1);
+        JournaledBatch recovered = batches.get(0);
+        assertThat(recovered.eventId()).isEqualTo("event-1");
+        assertThat(recovered.orders()).extracting(TradeOrder::getId, TradeOrder::getFilledQuantity)
+                .containsExactly(tuple(1L, Quantity.of("0.5")));
+        assertThat(recovered.trades()).extracting(Trade::getId).containsExactly(10L);
+        assertThat(recovered.outboxEvents()).extracting(TradeOutboxEvent::getId, TradeOutboxEvent::getTopic, TradeOutboxEvent::getMessageKey, TradeOutboxEvent::getMessage)
+                .containsExactly(tuple(20L, "crypto-settlement", "1", new byte[]{1, 2, 3}));
+    }
+
+    @DisplayName("반영이 기록된 배치와 롤백된 배치는 다시 반영하지 않는다.")
+    @Test
+    void skipFlushedAndRolledBackBatches() {
+        // given
+        tradeJournal = openJournal();
+        long flushedBatch = commit("event-1", () -> tradeJournal.appendOrder(createOrder(1L)));
+        tradeJournal.appendQueued(flushedBatch);
+        tradeJournal.appendFlushed(List.of(flushedBatch));
+        rollback("event-2", () -> tradeJournal.appendOrder(createOrder(2L)));
+        tradeJournal.close();
+
+        // when
+        tradeJournal = openJournal();
+
+        // then
+        assertThat(tradeJournal.takeUnflushedBatches()).isEmpty();
+    }
+
+    @DisplayName("DEAD_LETTERED 로 남긴 배치는 재시작 시 다시 반영하지 않는다.")
+    @Test
+    void skipDeadLetteredBatch() {
+        // given
+        tradeJournal = openJournal();
+        long deadLetteredBatch = commit("event-1", () -> tradeJournal.appendOrder(createOrder(1L)));
+        long queuedBatch = commit("event-2", () -> tradeJournal.appendOrder(createOrder(2L)));
+        tradeJournal.appendQueued(deadLetteredBatch);
+        tradeJournal.appendQueued(queuedBatch);
+        tradeJournal.appendDeadLettered(deadLetteredBatch);
+        tradeJournal.close();
+
+        // when
+        tradeJournal = openJournal();
+
+        // then
+        assertThat(tradeJournal.takeUnflushedBatches())
+                .extracting(JournaledBatch::eventId)
+                .containsExactly("event-2");
+    }
+
+    @DisplayName("재시작하면 복구한 호가창을 다시 적재로 남기고 그 앞의 세그먼트를 지우며, 다음 재시작도 같은 호가창을 복구한다.")
+    @Test
+    void deleteSegmentsBeforeCheckpoint() throws IOException {
+        // given
+        tradeJournal = openJournal(SMALL_SEGMENT_SIZE);
+        tradeJournal.appendBookLoaded("BTC", List.of(createOrder(1L)));
+        for (long id = 2L; id <= 20L; id++) {
+            TradeOrder order = createOrder(id);
+            long batch = commit("event-" + id, () -> tradeJournal.appendOrder(order));
+            tradeJournal.appendQueued(batch);
+            tradeJournal.appendFlushed(List.of(batch));
+        }
+        tradeJournal.close();
+        long segmentsBefore = countSegments();
+
+        // when
+        tradeJournal = openJournal(SMALL_SEGMENT_SIZE);
+        List<TradeOrder> firstRecovered = tradeJournal.takeRecoveredOrders("BTC");
+        tradeJournal.close();
+        tradeJournal = openJournal(SMALL_SEGMENT_SIZE);
+
+        // then
+        assertThat(segmentsBefore).isGreaterThan(2L);
+        assertThat(countSegments()).isLessThan(segmentsBefore);
+        assertThat(firstRecovered).hasSize(20);
+        assertThat(tradeJournal.takeRecoveredOrders("BTC")).extracting(TradeOrder::getId)
+                .containsExactlyElementsOf(firstRecovered.stream().map(TradeOrder::getId).toList());
+    }
+
+    @DisplayName("DB 에 반영되지 않은 배치가 있으면 그 배치가 든 세그먼트는 지우지 않고 다음 재시작에도 다시 반영한다.")
+    @Test
+    void keepSegmentsOfUnflushedBatch() {
+        // given
+        tradeJournal = openJournal(SMALL_SEGMENT_SIZE);
+        tradeJournal.appendBookLoaded("BTC", List.of());
+        long unflushedBatch = commit("event-1", () -> tradeJournal.appendOrder(createOrder(1L)));
+        tradeJournal.appendQueued(unflushedBatch);
+        for (long id = 2L; id <= 20L; id++) {
+            TradeOrder order = createOrder(id);
+            long batch = commit("event-" + id, () -> tradeJournal.appendOrder(order));
+            tradeJournal.appendQueued(batch);
+            tradeJournal.appendFlushed(List.of(batch));
+        }
+        tradeJournal.close();
+
+        // when
+        tradeJournal = openJournal(SMALL_SEGMENT_SIZE);
+        tradeJournal.close();
+        tradeJournal = openJournal(SMALL_SEGMENT_SIZE);
+
+        // then
+        assertThat(tradeJournal.takeUnflushedBatches())
+                .extracting(JournaledBatch::eventId)
+                .containsExactly("event-1");
+        assertThat(tradeJournal.takeRecoveredOrders("BTC")).hasSize(20);
+    }
+
+    private TradeJournal openJournal() {
+        return openJournal(1 << 16);
+    }
+
+    private TradeJournal openJournal(int segmentSize) {
+        TradeJournal journal = new TradeJournal(true, directory.toString(), segmentSize, false);
+        journal.open();
+        return journal;
+    }
+
+    private long countSegments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.count();
+        }
+    }
+
+    private long commit(String eventId, Runnable work) {
+        return complete(eventId, work, TransactionSynchronization.STATUS_COMMITTED);
+    }
+
+    private void rollback(String eventId, Runnable work) {
+        complete(eventId, work, TransactionSynchronization.STATUS_ROLLED_BACK);
+    }
+
+    private long complete(String eventId, Runnable work, int status) {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            tradeJournal.begin(eventId, "LIMIT_BUY_ORDER_TRADE");
+            long batch = tradeJournal.currentBatch();
+            work.run();
+            TransactionSynchronizationManager.getSynchronizations().forEach(sync -> sync.afterCompletion(status));
+            return batch;
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private TradeOrder createOrder(Long id) {
+        return TradeOrder.restore(id, id, id, "BTC", Price.of("1000"), Quantity.of("1"), Quantity.ZERO, BUY, OPEN, REGISTERED_DATE_TIME);
+    }
+
+    private Trade createTrade(Long id) {
+        Trade trade = Trade.create("BTC", Price.of("1000"), Quantity.of("0.5"), BUY.name(), 1L, 2L, 1L, 2L,
+                Amount.of("0.2"), Amount.of("0.2"), REGISTERED_DATE_TIME);
+        trade.assignId(id);
+        return trade;
+    }
+}
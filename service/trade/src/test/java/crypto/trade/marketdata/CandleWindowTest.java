@@ -0,0 +1,107 @@
+package crypto.trade.marketdata;
+
+import crypto.common.fixedpoint.Amount;
+import crypto.common.fixedpoint.Price;
+import crypto.common.fixedpoint.Quantity;
+import crypto.trade.entity.Candle;
+import crypto.trade.entity.CandleInterval;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static crypto.trade.entity.CandleInterval.*;
+import static org.assertj.core.api.Assertions.*;
+
+
+class CandleWindowTest {
+
+    private CandleWindow candleWindow;
+    private List<Candle> closedCandles;
+
+    @BeforeEach
+    void setUp() {
+        candleWindow = new CandleWindow("BTC");
+        closedCandles = new ArrayList<>();
+    }
+
+    @DisplayName("같은 구간의 체결은 시가, 고가, 저가, 종가와 거래량으로 합쳐진다.")
+    @Test
+    void foldTradesIntoCandle() {
+        // given
+        LocalDateTime openTime = LocalDateTime.of(2025, 7, 23, 10, 0, 0);
+
+        // when
+        candleWindow.add(Price.of("100"), Quantity.of("1"), openTime.plusSeconds(5), closedCandles::add);
+        candleWindow.add(Price.of("120"), Quantity.of("2"), openTime.plusSeconds(10), closedCandles::add);
+        candleWindow.add(Price.of("90"), Quantity.of("1"), openTime.plusSeconds(20), closedCandles::add);
+        candleWindow.add(Price.of("110"), Quantity.of("1"), openTime.plusSeconds(30), closedCandles::add);
+
+        // then
+        Candle candle = candleWindow.find(ONE_MINUTE);
+        assertThat(candle.getOpenTime()).isEqualTo(openTime);
+        assertThat(candle.getOpenPrice()).isEqualTo(Price.of("100"));
+        assertThat(candle.getHighPrice()).isEqualTo(Price.of("120"));
+        assertThat(candle.getLowPrice()).isEqualTo(Price.of("90"));
+        assertThat(candle.getClosePrice()).isEqualTo(Price.of("110"));
+        assertThat(candle.getVolume()).isEqualTo(Quantity.of("5"));
+        assertThat(candle.getQuoteVolume()).isEqualTo(Amount.of("540"));
+        assertThat(candle.getTradeCount()).isEqualTo(4);
+    }
+
+    @DisplayName("새 구간의 체결이 들어오면 이전 구간의 캔들이 닫힌다.")
+    @Test
+    void closeCandleOnNextInterval() {
+        // given
+        LocalDateTime openTime = LocalDateTime.of(2025, 7, 23, 10, 0, 0);
+        candleWindow.add(Price.of("100"), Quantity.of("1"), openTime.plusSeconds(30), closedCandles::add);
+
+        // when
+        candleWindow.add(Price.of("105"), Quantity.of("1"), openTime.plusMinutes(1), closedCandles::add);
+
+        // then
+        assertThat(closedCandles)
+                .extracting(Candle::getInterval, Candle::getOpenTime)
+                .containsExactlyInAnyOrder(
+                        tuple(ONE_SECOND, openTime.plusSeconds(30)),
+                        tuple(ONE_MINUTE, openTime)
+                );
+        assertThat(candleWindow.find(ONE_MINUTE).getOpenPrice()).isEqualTo(Price.of("105"));
+        assertThat(candleWindow.find(ONE_HOUR).getTradeCount()).isEqualTo(2);
+    }
+
+    @DisplayName("체결 없이 구간이 끝난 캔들은 closeExpired 로 닫힌다.")
+    @Test
+    void closeExpiredCandles() {
+        // given
+        LocalDateTime openTime = LocalDateTime.of(2025, 7, 23, 10, 0, 0);
+        candleWindow.add(Price.of("100"), Quantity.of("1"), openTime, closedCandles::add);
+
+        // when
+        candleWindow.closeExpired(openTime.plusMinutes(1), closedCandles::add);
+
+        // then
+        assertThat(closedCandles)
+                .extracting(Candle::getInterval)
+                .containsExactlyInAnyOrder(ONE_SECOND, ONE_MINUTE);
+        assertThat(candleWindow.find(ONE_MINUTE)).isNull();
+        assertThat(candleWindow.find(FIVE_MINUTES)).isNotNull();
+    }
+
+    @DisplayName("캔들 구간의 시작 시각은 구간 길이로 내림한 시각이다.")
+    @Test
+    void alignOpenTime() {
+        // given
+        LocalDateTime tradedAt = LocalDateTime.of(2025, 7, 23, 10, 17, 42);
+
+        // when // then
+        assertThat(ONE_MINUTE.openTimeOf(tradedAt)).isEqualTo(LocalDateTime.of(2025, 7, 23, 10, 17, 0));
+        assertThat(FIVE_MINUTES.openTimeOf(tradedAt)).isEqualTo(LocalDateTime.of(2025, 7, 23, 10, 15, 0));
+        assertThat(ONE_HOUR.openTimeOf(tradedAt)).isEqualTo(LocalDateTime.of(2025, 7, 23, 10, 0, 0));
+        assertThat(CandleInterval.ONE_DAY.openTimeOf(tradedAt)).isEqualTo(LocalDateTime.of(2025, 7, 23, 0, 0, 0));
+    }
+}
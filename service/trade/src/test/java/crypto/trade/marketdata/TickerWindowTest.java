@@ -0,0 +1,85 @@
+package crypto.trade.marketdata;
+
+import crypto.common.fixedpoint.Amount;
+import crypto.common.fixedpoint.Price;
+import crypto.common.fixedpoint.Quantity;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.*;
+
+
+class TickerWindowTest {
+
+    private TickerWindow tickerWindow;
+    private LocalDateTime baseTime;
+
+    @BeforeEach
+    void setUp() {
+        tickerWindow = new TickerWindow("BTC");
+        baseTime = LocalDateTime.of(2025, 7, 23, 10, 0, 0);
+    }
+
+    @DisplayName("24시간 안의 체결로 마지막 가격, 고가, 저가, 거래량과 변동률을 계산한다.")
+    @Test
+    void snapshotWithinWindow() {
+        // given
+        tickerWindow.add(Price.of("100"), Quantity.of("1"), baseTime);
+        tickerWindow.add(Price.of("130"), Quantity.of("2"), baseTime.plusHours(1));
+        tickerWindow.add(Price.of("80"), Quantity.of("1"), baseTime.plusHours(2));
+        tickerWindow.add(Price.of("110"), Quantity.of("1"), baseTime.plusHours(3));
+
+        // when
+        Ticker ticker = tickerWindow.snapshot(baseTime.plusHours(4));
+
+        // then
+        assertThat(ticker.lastPrice()).isEqualTo(Price.of("110"));
+        assertThat(ticker.openPrice()).isEqualTo(Price.of("100"));
+        assertThat(ticker.highPrice()).isEqualTo(Price.of("130"));
+        assertThat(ticker.lowPrice()).isEqualTo(Price.of("80"));
+        assertThat(ticker.volume()).isEqualTo(Quantity.of("5"));
+        assertThat(ticker.quoteVolume()).isEqualTo(Amount.of("550"));
+        assertThat(ticker.tradeCount()).isEqualTo(4);
+        assertThat(ticker.changeRate()).isEqualByComparingTo(new BigDecimal("10.00"));
+    }
+
+    @DisplayName("24시간이 지난 체결은 통계에서 빠지고, 고가와 저가는 남은 체결로 다시 계산된다.")
+    @Test
+    void expireOldBuckets() {
+        // given
+        tickerWindow.add(Price.of("200"), Quantity.of("1"), baseTime);
+        tickerWindow.add(Price.of("50"), Quantity.of("1"), baseTime.plusHours(1));
+        tickerWindow.add(Price.of("100"), Quantity.of("2"), baseTime.plusHours(2));
+        tickerWindow.add(Price.of("120"), Quantity.of("1"), baseTime.plusHours(3));
+
+        // when
+        Ticker ticker = tickerWindow.snapshot(baseTime.plusHours(25).plusMinutes(30));
+
+        // then
+        assertThat(ticker.openPrice()).isEqualTo(Price.of("100"));
+        assertThat(ticker.highPrice()).isEqualTo(Price.of("120"));
+        assertThat(ticker.lowPrice()).isEqualTo(Price.of("100"));
+        assertThat(ticker.volume()).isEqualTo(Quantity.of("3"));
+        assertThat(ticker.tradeCount()).isEqualTo(2);
+        assertThat(ticker.changeRate()).isEqualByComparingTo(new BigDecimal("20.00"));
+    }
+
+    @DisplayName("24시간 동안 체결이 없으면 티커가 없고, 구간보다 늦게 도착한 체결은 무시한다.")
+    @Test
+    void emptyAfterWindowAndIgnoreLateTrade() {
+        // given
+        tickerWindow.add(Price.of("100"), Quantity.of("1"), baseTime);
+        assertThat(tickerWindow.snapshot(baseTime.plusDays(2))).isNull();
+
+        // when
+        tickerWindow.add(Price.of("90"), Quantity.of("1"), baseTime.plusMinutes(5));
+
+        // then
+        assertThat(tickerWindow.snapshot(baseTime.plusDays(2))).isNull();
+    }
+}
@@ -0,0 +1,248 @@
+package crypto.trade.orderbook;
+
+import crypto.common.fixedpoint.Price;
+import crypto.common.fixedpoint.Quantity;
+import crypto.event.marketdata.DepthLevel;
+import crypto.trade.entity.TradeOrder;
+import crypto.trade.entity.TradeOrderSide;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static crypto.trade.entity.TradeOrderSide.*;
+import static org.assertj.core.api.Assertions.*;
+
+
+class OrderBookTest {
+
+    private OrderBook orderBook;
+    private LocalDateTime registeredDateTime;
+
+    @BeforeEach
+    void setUp() {
+        orderBook = new OrderBook("BTC");
+        registeredDateTime = LocalDateTime.of(2025, 7, 23, 10, 0, 0);
+    }
+
+    @DisplayName("매수 주문은 낮은 가격의 매도 주문부터, 같은 가격이면 먼저 등록된 주문부터 체결 대상이 된다.")
+    @Test
+    void matchableSellOrdersByPriceTimePriority() {
+        // given
+        TradeOrder sell1050 = createOrder(1L, SELL, 1050);
+        TradeOrder sell1040First = createOrder(2L, SELL, 1040);
+        TradeOrder sell1040Second = createOrder(3L, SELL, 1040);
+        TradeOrder sell1100 = createOrder(4L, SELL, 1100);
+        orderBook.add(sell1050);
+        orderBook.add(sell1040First);
+        orderBook.add(sell1040Second);
+        orderBook.add(sell1100);
+
+        // when
+        List<TradeOrder> matchableOrders = collect(orderBook.matchableOrders(BUY, Price.of("1050")));
+
+        // then
+        assertThat(matchableOrders).extracting(TradeOrder::getId).containsExactly(2L, 3L, 1L);
+    }
+
+    @DisplayName("매도 주문은 높은 가격의 매수 주문부터 체결 대상이 된다.")
+    @Test
+    void matchableBuyOrdersByPriceTimePriority() {
+        // given
+        TradeOrder buy1000 = createOrder(1L, BUY, 1000);
+        TradeOrder buy1010 = createOrder(2L, BUY, 1010);
+        TradeOrder buy990 = createOrder(3L, BUY, 990);
+        orderBook.add(buy1000);
+        orderBook.add(buy1010);
+        orderBook.add(buy990);
+
+        // when
+        List<TradeOrder> matchableOrders = collect(orderBook.matchableOrders(SELL, Price.of("1000")));
+
+        // then
+        assertThat(matchableOrders).extracting(TradeOrder::getId).containsExactly(2L, 1L);
+    }
+
+    @DisplayName("시장가 주문은 가격 제한 없이 반대편 주문 전체가 체결 대상이 된다.")
+    @Test
+    void matchableOrdersForMarketOrder() {
+        // given
+        TradeOrder buy1000 = createOrder(1L, BUY, 1000);
+        TradeOrder buy900 = createOrder(2L, BUY, 900);
+        orderBook.add(buy900);
+        orderBook.add(buy1000);
+        orderBook.add(createOrder(3L, SELL, 1100));
+
+        // when
+        List<TradeOrder> matchableOrders = collect(orderBook.matchableOrders(SELL, null));
+
+        // then
+        assertThat(matchableOrders).extracting(TradeOrder::getId).containsExactly(1L, 2L);
+    }
+
+    @DisplayName("순회 중 제거한 주문이 가격대의 마지막 주문이면 가격대도 함께 제거된다.")
+    @Test
+    void removeDuringIteration() {
+        // given
+        TradeOrder sell1040 = createOrder(1L, SELL, 1040);
+        TradeOrder sell1050 = createOrder(2L, SELL, 1050);
+        orderBook.add(sell1040);
+        orderBook.add(sell1050);
+
+        // when
+        Iterator<TradeOrder> sellOrders = orderBook.matchableOrders(BUY, Price.of("1100"));
+        sellOrders.next();
+        sellOrders.remove();
+
+        // then
+        assertThat(orderBook.bestAsk().getPrice()).isEqualTo(Price.of("1050"));
+        assertThat(collect(orderBook.matchableOrders(BUY, Price.of("1100")))).extracting(TradeOrder::getId).containsExactly(2L);
+    }
+
+    @DisplayName("주문을 제거하면 해당 주문만 호가창에서 빠진다.")
+    @Test
+    void removeOrder() {
+        // given
+        TradeOrder buy1000 = createOrder(1L, BUY, 1000);
+        orderBook.add(buy1000);
+
+        // when
+        boolean removed = orderBook.remove(buy1000);
+
+        // then
+        assertThat(removed).isTrue();
+        assertThat(orderBook.isEmpty()).isTrue();
+        assertThat(orderBook.remove(buy1000)).isFalse();
+    }
+
+    @DisplayName("주문 ID 로 취소하면 부분 체결이 반영된 주문을 반환하고, 같은 가격대의 나머지 주문 순서는 유지된다.")
+    @Test
+    void cancelOrder() {
+        // given
+        orderBook.add(createOrder(1L, SELL, 1040));
+        orderBook.add(createOrder(2L, SELL, 1040));
+        orderBook.add(createOrder(3L, SELL, 1040));
+        Iterator<TradeOrder> sellOrders = orderBook.matchableOrders(BUY, Price.of("1040"));
+        sellOrders.next();
+        sellOrders.next().fill(Quantity.of("0.4"));
+
+        // when
+        TradeOrder cancelled = orderBook.cancel(2L);
+
+        // then
+        assertThat(cancelled.getFilledQuantity()).isEqualTo(Quantity.of("0.4"));
+        assertThat(collect(orderBook.matchableOrders(BUY, Price.of("1040")))).extracting(TradeOrder::getId).containsExactly(1L, 3L);
+        assertThat(orderBook.depth(SELL)).containsExactly(new DepthLevel(Price.of("1040"), Quantity.of("2")));
+        assertThat(orderBook.cancel(2L)).isNull();
+    }
+
+    @DisplayName("가격이 같고 수량만 줄어든 정정 주문은 같은 자리에서 순서를 유지하고 가격대 잔량이 줄어든다.")
+    @Test
+    void replaceInPlaceKeepsPriority() {
+        // given
+        orderBook.add(createOrder(1L, SELL, 1040));
+        orderBook.add(createOrder(2L, SELL, 1040));
+        TradeOrder replacement = TradeOrder.create(1L, 1L, "BTC", Price.of("1040"), Quantity.of("0.25"), SELL, registeredDateTime);
+        replacement.assignId(10L);
+
+        // when
+        orderBook.replaceInPlace(replacement);
+
+        // then
+        assertThat(collect(orderBook.matchableOrders(BUY, Price.of("1040")))).extracting(TradeOrder::getId).containsExactly(10L, 2L);
+        assertThat(orderBook.depth(SELL)).containsExactly(new DepthLevel(Price.of("1040"), Quantity.of("1.25")));
+        assertThat(orderBook.find(1L).getQuantity()).isEqualTo(Quantity.of("0.25"));
+    }
+
+    @DisplayName("지정가 이내 상대 호가의 잔량 합으로 전량 체결 가능 여부와 즉시 체결 여부를 판단한다.")
+    @Test
+    void canFillAndCrosses() {
+        // given
+        TradeOrder sell1040 = createOrder(1L, SELL, 1040);
+        sell1040.fill(Quantity.of("0.5"));
+        orderBook.add(sell1040);
+        orderBook.add(createOrder(2L, SELL, 1050));
+
+        // when // then
+        assertThat(orderBook.canFill(BUY, Price.of("1050"), Quantity.of("1.5"))).isTrue();
+        assertThat(orderBook.canFill(BUY, Price.of("1050"), Quantity.of("1.6"))).isFalse();
+        assertThat(orderBook.canFill(BUY, Price.of("1040"), Quantity.of("1"))).isFalse();
+        assertThat(orderBook.crosses(BUY, Price.of("1040"))).isTrue();
+        assertThat(orderBook.crosses(BUY, Price.of("1039"))).isFalse();
+    }
+
+    @DisplayName("가격대별 잔량은 같은 가격 주문의 남은 수량 합이다.")
+    @Test
+    void depthAggregatesRemainingQuantity() {
+        // given
+        TradeOrder buy1000First = createOrder(1L, BUY, 1000);
+        buy1000First.fill(Quantity.of("0.4"));
+        orderBook.add(buy1000First);
+        orderBook.add(createOrder(2L, BUY, 1000));
+        orderBook.add(createOrder(3L, BUY, 990));
+
+        // when
+        List<DepthLevel> bids = orderBook.depth(BUY);
+
+        // then
+        assertThat(bids).containsExactly(
+                new DepthLevel(Price.of("1000"), Quantity.of("1.6")),
+                new DepthLevel(Price.of("990"), Quantity.of("1")));
+    }
+
+    @DisplayName("체결로 가격대가 사라지면 변경된 가격대에 잔량 0 으로 포함되고, 한 번 꺼내면 변경 기록이 비워진다.")
+    @Test
+    void drainChangedLevels() {
+        // given
+        TradeOrder sell1040 = createOrder(1L, SELL, 1040);
+        orderBook.add(sell1040);
+        orderBook.add(createOrder(2L, SELL, 1050));
+        orderBook.drainChangedLevels(SELL);
+
+        // when
+        Iterator<TradeOrder> sellOrders = orderBook.matchableOrders(BUY, Price.of("1040"));
+        sellOrders.next().fill(Quantity.of("1"));
+        sellOrders.remove();
+        List<DepthLevel> changedAsks = orderBook.drainChangedLevels(SELL);
+
+        // then
+        assertThat(changedAsks).containsExactly(new DepthLevel(Price.of("1040"), Quantity.ZERO));
+        assertThat(orderBook.drainChangedLevels(SELL)).isEmpty();
+        assertThat(orderBook.drainChangedLevels(BUY)).isEmpty();
+    }
+
+    @DisplayName("꺼낸 주문에 반영한 부분 체결은 호가창에 되돌려 써져 잔량과 다음 순회에 보인다.")
+    @Test
+    void writeBackPartialFill() {
+        // given
+        orderBook.add(createOrder(1L, SELL, 1040));
+        orderBook.add(createOrder(2L, SELL, 1040));
+
+        // when
+        Iterator<TradeOrder> sellOrders = orderBook.matchableOrders(BUY, Price.of("1040"));
+        sellOrders.next().fill(Quantity.of("0.3"));
+        List<TradeOrder> matchableOrders = collect(orderBook.matchableOrders(BUY, Price.of("1040")));
+
+        // then
+        assertThat(orderBook.depth(SELL)).containsExactly(new DepthLevel(Price.of("1040"), Quantity.of("1.7")));
+        assertThat(matchableOrders.get(0).getFilledQuantity()).isEqualTo(Quantity.of("0.3"));
+        assertThat(matchableOrders.get(0).getRegisteredDateTime()).isEqualTo(registeredDateTime);
+    }
+
+    private TradeOrder createOrder(Long orderId, TradeOrderSide orderSide, long price) {
+        TradeOrder order = TradeOrder.create(orderId, orderId, "BTC", Price.of(String.valueOf(price)), Quantity.of("1"), orderSide, registeredDateTime);
+        order.assignId(orderId);
+        return order;
+    }
+
+    private List<TradeOrder> collect(Iterator<TradeOrder> iterator) {
+        List<TradeOrder> orders = new ArrayList<>();
+        iterator.forEachRemaining(orders::add);
+        return orders;
+    }
+}
@@ -0,0 +1,32 @@
+package crypto.trade.orderbook;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+
+class OrderIndexTest {
+
+    @DisplayName("저장한 주문 ID 는 칸 번호로 찾을 수 있고, 지운 주문 ID 는 찾을 수 없다.")
+    @Test
+    void putGetRemove() {
+        // given
+        OrderIndex index = new OrderIndex();
+        for (int i = 0; i < 5_000; i++) {
+            index.put(1_000_000L + i, i);
+        }
+
+        // when
+        for (int i = 0; i < 5_000; i += 2) {
+            index.remove(1_000_000L + i);
+        }
+
+        // then
+        assertThat(index.size()).isEqualTo(2_500);
+        for (int i = 0; i < 5_000; i++) {
+            assertThat(index.get(1_000_000L + i)).isEqualTo((i % 2 == 0) ? OrderStore.NIL : i);
+        }
+        assertThat(index.remove(1_000_000L)).isEqualTo(OrderStore.NIL);
+    }
+}
@@ -0,0 +1,86 @@
+package crypto.trade.orderbook;
+
+import crypto.common.fixedpoint.Price;
+import crypto.common.fixedpoint.Quantity;
+import crypto.event.TimeInForce;
+import crypto.trade.entity.TradeOrder;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static crypto.trade.entity.TradeOrderSide.*;
+import static crypto.trade.entity.TradeOrderStatus.*;
+import static org.assertj.core.api.Assertions.*;
+
+
+class OrderStoreTest {
+
+    private OrderStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new OrderStore();
+    }
+
+    @DisplayName("칸에 저장한 주문은 같은 값의 TradeOrder 로 다시 만들어진다.")
+    @Test
+    void allocateAndRestore() {
+        // given
+        LocalDateTime registeredDateTime = LocalDateTime.of(2025, 7, 23, 10, 0, 0, 123_456_789);
+        TradeOrder order = TradeOrder.restore(10L, 20L, 30L, "BTC", Price.of("1040.5"), Quantity.of("2"),
+                Quantity.of("0.5"), SELL, OPEN, registeredDateTime);
+
+        // when
+        TradeOrder restored = store.toOrder(store.allocate(order), "BTC");
+
+        // then
+        assertThat(restored)
+                .extracting(TradeOrder::getId, TradeOrder::getOrderId, TradeOrder::getUserId, TradeOrder::getSymbol,
+                        TradeOrder::getPrice, TradeOrder::getQuantity, TradeOrder::getFilledQuantity,
+                        TradeOrder::getOrderSide, TradeOrder::getOrderStatus, TradeOrder::getRegisteredDateTime)
+                .containsExactly(10L, 20L, 30L, "BTC", Price.of("1040.5"), Quantity.of("2"), Quantity.of("0.5"),
+                        SELL, OPEN, registeredDateTime);
+    }
+
+    @DisplayName("칸에 저장한 주문은 메이커 전용 같은 유효 조건도 그대로 되살린다.")
+    @Test
+    void restoreTimeInForce() {
+        // given
+        TradeOrder order = createOrder(1L);
+        order.applyTimeInForce(TimeInForce.POST_ONLY);
+        order.handleOrderStatus(CANCELLED);
+
+        // when
+        TradeOrder restored = store.toOrder(store.allocate(order), "BTC");
+
+        // then
+        assertThat(restored.getTimeInForce()).isEqualTo(TimeInForce.POST_ONLY);
+        assertThat(restored.getOrderStatus()).isEqualTo(CANCELLED);
+        assertThat(restored.getOrderSide()).isEqualTo(BUY);
+    }
+
+    @DisplayName("비운 칸은 새 주문을 저장할 때 다시 쓴다.")
+    @Test
+    void reuseReleasedSlot() {
+        // given
+        int first = store.allocate(createOrder(1L));
+        store.allocate(createOrder(2L));
+        store.release(first);
+
+        // when
+        int reused = store.allocate(createOrder(3L));
+
+        // then
+        assertThat(reused).isEqualTo(first);
+        assertThat(store.id(reused)).isEqualTo(3L);
+        assertThat(store.size()).isEqualTo(2);
+    }
+
+    private TradeOrder createOrder(Long id) {
+        return TradeOrder.restore(id, id, id, "BTC", Price.of("1000"), Quantity.of("1"), Quantity.ZERO, BUY, OPEN,
+                LocalDateTime.of(2025, 7, 23, 10, 0, 0));
+    }
+}
@@ -0,0 +1,269 @@
+package crypto.trade.persistence;
+
+import crypto.common.fixedpoint.Amount;
+import crypto.common.fixedpoint.Price;
+import crypto.common.fixedpoint.Quantity;
+import crypto.trade.entity.Trade;
+import crypto.trade.entity.TradeOrder;
+import crypto.trade.entity.TradeProcessedEvent;
+import crypto.trade.journal.JournaledBatch;
+import crypto.trade.journal.TradeJournal;
+import crypto.trade.repository.TradeOrderRepository;
+import crypto.trade.repository.TradeOutboxEventRepository;
+import crypto.trade.repository.TradeProcessedEventDbRepository;
+import crypto.trade.repository.TradeRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import jakarta.persistence.EntityManager;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static crypto.trade.entity.TradeOrderSide.*;
+import static crypto.trade.entity.TradeOrderStatus.*;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.transaction.support.TransactionSynchronization.STATUS_COMMITTED;
+
+
+@ExtendWith(MockitoExtension.class)
+class TradeWriteBehindTest {
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private TradeOrderRepository tradeOrderRepository;
+
+    @Mock
+    private TradeRepository tradeRepository;
+
+    @Mock
+    private TradeProcessedEventDbRepository tradeProcessedEventDbRepository;
+
+    @Mock
+    private TradeOutboxEventRepository tradeOutboxEventRepository;
+
+    @Mock
+    private TradeJournal tradeJournal;
+
+    private TradeWriteBehind writeBehind;
+
+    @AfterEach
+    void tearDown() {
+        writeBehind.stop();
+    }
+
+    @DisplayName("큐에 쌓인 변경은 한 트랜잭션으로 모아서 반영한다.")
+    @Test
+    void flushQueuedWritesInOneTransaction() {
+        // given
+        writeBehind = create(16, 3);
+        when(tradeJournal.currentBatch()).thenReturn(1L, 2L, 3L);
+        commit(() -> writeBehind.insertTrade(createTrade()));
+        commit(() -> writeBehind.insertTrade(createTrade()));
+        commit(() -> writeBehind.insertTrade(createTrade()));
+
+        // when
+        writeBehind.start();
+        writeBehind.awaitFlushed();
+
+        // then
+        verify(entityManager, times(3)).persist(any(Trade.class));
+        verify(entityManager, times(1)).flush();
+        verify(tradeJournal, times(1)).appendFlushed(List.of(1L, 2L, 3L));
+    }
+
+    @DisplayName("반영이 실패하면 기다렸다가 같은 배치를 다시 반영한다.")
+    @Test
+    void retryFailedFlush() {
+        // given
+        writeBehind = create(16, 3);
+        when(tradeJournal.currentBatch()).thenReturn(1L);
+        doThrow(new IllegalStateException("connection reset")).doNothing().when(entityManager).flush();
+        commit(() -> writeBehind.insertTrade(createTrade()));
+
+        // when
+        writeBehind.start();
+        writeBehind.awaitFlushed();
+
+        // then
+        verify(entityManager, times(2)).flush();
+        verify(tradeJournal, times(1)).appendFlushed(List.of(1L));
+        verify(tradeJournal, never()).appendDeadLettered(anyLong());
+    }
+
+    @DisplayName("다시 시도해도 실패하는 변경만 골라 DEAD_LETTERED 로 남기고, 나머지와 이후 변경은 계속 반영한다.")
+    @Test
+    void deadLetterPoisonWrite() {
+        // given
+        writeBehind = create(16, 2);
+        when(tradeJournal.currentBatch()).thenReturn(1L, 2L, 3L, 4L);
+        Trade poison = createTrade();
+        lenient().doThrow(new IllegalStateException("constraint violation")).when(entityManager).persist(poison);
+
+        commit(() -> writeBehind.insertTrade(createTrade()));
+        commit(() -> writeBehind.insertTrade(poison));
+        commit(() -> writeBehind.insertTrade(createTrade()));
+
+        // when
+        writeBehind.start();
+        writeBehind.awaitFlushed();
+        commit(() -> writeBehind.insertTrade(createTrade()));
+        writeBehind.awaitFlushed();
+
+        // then
+        verify(tradeJournal, times(1)).appendFlushed(List.of(1L));
+        verify(tradeJournal, times(1)).appendFlushed(List.of(3L));
+        verify(tradeJournal, times(1)).appendFlushed(List.of(4L));
+        verify(tradeJournal, times(1)).appendDeadLettered(2L);
+        verify(tradeJournal, never()).appendDeadLettered(1L);
+        verify(tradeJournal, never()).appendDeadLettered(3L);
+    }
+
+    @DisplayName("큐가 가득 차면 커밋한 스레드가 기다리고, 기다리다 인터럽트되어도 변경을 버리지 않는다.")
+    @Test
+    void backpressureKeepsWriteOnInterrupt() throws InterruptedException {
+        // given
+        writeBehind = create(1, 3);
+        when(tradeJournal.currentBatch()).thenReturn(1L, 2L);
+        Trade blocked = createTrade();
+        AtomicBoolean interrupted = new AtomicBoolean();
+
+        commit(() -> writeBehind.insertTrade(createTrade()));
+        Thread producer = new Thread(() -> {
+            commit(() -> writeBehind.insertTrade(blocked));
+            interrupted.set(Thread.currentThread().isInterrupted());
+        });
+        producer.start();
+        awaitWaiting(producer);
+
+        // when
+        producer.interrupt();
+        Thread.sleep(50);
+        awaitWaiting(producer);
+        writeBehind.start();
+        producer.join(5_000);
+        writeBehind.awaitFlushed();
+
+        // then
+        assertThat(producer.isAlive()).isFalse();
+        assertThat(interrupted).isTrue();
+        verify(entityManager, times(1)).persist(blocked);
+        verify(tradeJournal, times(1)).appendQueued(2L);
+    }
+
+    @DisplayName("재시작 시 저널에 남은 배치는 이미 반영된 행을 건너뛰고 다시 반영한다.")
+    @Test
+    void replayUnflushedBatches() {
+        // given
+        writeBehind = create(16, 3);
+        TradeOrder existingOrder = createOrder(10L, Quantity.of("1"));
+        TradeOrder newOrder = createOrder(11L, Quantity.ZERO);
+        Trade existingTrade = createTrade(20L);
+        Trade newTrade = createTrade(21L);
+
+        when(tradeJournal.takeUnflushedBatches())
+                .thenReturn(List.of(new JournaledBatch(7L, "event-7", List.of(existingOrder, newOrder), List.of(existingTrade, newTrade), List.of())));
+        when(tradeOrderRepository.existsById(10L)).thenReturn(true);
+        when(tradeOrderRepository.existsById(11L)).thenReturn(false);
+        when(tradeRepository.existsById(20L)).thenReturn(true);
+        when(tradeRepository.existsById(21L)).thenReturn(false);
+        when(tradeProcessedEventDbRepository.existsById("event-7")).thenReturn(false);
+        when(tradeOrderRepository.updateFilledQuantity(10L, Quantity.of("1"))).thenReturn(1);
+
+        // when
+        writeBehind.start();
+
+        // then
+        verify(entityManager, times(1)).persist(newOrder);
+        verify(entityManager, times(1)).persist(newTrade);
+        verify(entityManager, never()).persist(existingTrade);
+        verify(entityManager, times(1)).persist(any(TradeProcessedEvent.class));
+        verify(tradeOrderRepository, times(1)).updateFilledQuantity(10L, Quantity.of("1"));
+        verify(tradeJournal, times(1)).appendFlushed(List.of(7L));
+    }
+
+    @DisplayName("커밋됐지만 처리 기록이 아직 DB 에 반영되지 않은 이벤트도 처리된 것으로 보고, 반영된 뒤에는 DB 로 확인한다.")
+    @Test
+    void isProcessedBeforeAndAfterFlush() {
+        // given
+        writeBehind = create(16, 3);
+        when(tradeJournal.currentBatch()).thenReturn(1L);
+        commit(() -> {
+            writeBehind.insertTrade(createTrade());
+            writeBehind.markProcessed("event-1");
+        });
+
+        // when
+        boolean processedBeforeFlush = writeBehind.isProcessed("event-1");
+        writeBehind.start();
+        writeBehind.awaitFlushed();
+
+        // then
+        assertThat(processedBeforeFlush).isTrue();
+        verify(entityManager, times(1)).persist(any(TradeProcessedEvent.class));
+        verify(tradeProcessedEventDbRepository, never()).existsById("event-1");
+
+        when(tradeProcessedEventDbRepository.existsById("event-1")).thenReturn(true);
+        assertThat(writeBehind.isProcessed("event-1")).isTrue();
+        assertThat(writeBehind.isProcessed("event-2")).isFalse();
+        verify(tradeProcessedEventDbRepository, times(1)).existsById("event-1");
+    }
+
+    private TradeWriteBehind create(int queueCapacity, int maxAttempts) {
+        return new TradeWriteBehind(queueCapacity, 256, 1L, maxAttempts, 0L, transactionManager, entityManager,
+                tradeOrderRepository, tradeRepository, tradeProcessedEventDbRepository, tradeOutboxEventRepository,
+                tradeJournal, new SimpleMeterRegistry());
+    }
+
+    // 매칭 트랜잭션이 커밋된 것처럼 동기화 콜백을 실행한다.
+    private static void commit(Runnable work) {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            work.run();
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(synchronization -> synchronization.afterCompletion(STATUS_COMMITTED));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private static void awaitWaiting(Thread thread) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (thread.getState() != Thread.State.WAITING) {
+            assertThat(System.currentTimeMillis()).isLessThan(deadline);
+            Thread.sleep(1);
+        }
+    }
+
+    private static Trade createTrade() {
+        return Trade.create("BTC", Price.of("1000"), Quantity.of("1"), BUY.name(), 1L, 2L, 1L, 2L,
+                Amount.ZERO, Amount.ZERO, LocalDateTime.of(2025, 7, 23, 10, 0, 0));
+    }
+
+    private static Trade createTrade(Long id) {
+        Trade trade = createTrade();
+        trade.assignId(id);
+        return trade;
+    }
+
+    private static TradeOrder createOrder(Long id, Quantity filledQuantity) {
+        return TradeOrder.restore(id, id, id, "BTC", Price.of("1000"), Quantity.of("2"), filledQuantity, BUY, OPEN,
+                LocalDateTime.of(2025, 7, 23, 10, 0, 0));
+    }
+}
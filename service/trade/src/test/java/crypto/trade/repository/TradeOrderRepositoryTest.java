@@ -1,17 +1,18 @@
 package crypto.trade.repository;
 
+import crypto.common.fixedpoint.Price;
+import crypto.common.fixedpoint.Quantity;
 import crypto.trade.entity.TradeOrder;
-import crypto.trade.entity.TradeOrderSide;
 import org.junit.jupiter.api.BeforeEach;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
+import java.time.LocalDateTime;
 
 import static crypto.trade.entity.TradeOrderSide.*;
-import static java.math.BigDecimal.valueOf;
+import static crypto.trade.entity.TradeOrderStatus.*;
 
 
 @DataJpaTest
@@ -33,41 +34,26 @@ class TradeOrderRepositoryTest {
     @BeforeEach
     void setUp() {
         // 매수 주문
-        buyOrder1 = TradeOrder.builder()
-                .userId(1L).symbol("BTC").orderSide(BUY)
-                .price(valueOf(1000)).quantity(valueOf(5)).filledQuantity(BigDecimal.ZERO)
-                .orderStatus(TradeOrderStatus.OPEN).registeredDateTime(LocalDateTime.of(2025, 7, 23, 10, 0, 0))
-                .build();
+        buyOrder1 = TradeOrder.restore(null, 1L, 1L, "BTC", Price.of("1000"), Quantity.of("5"), Quantity.ZERO,
+                BUY, OPEN, LocalDateTime.of(2025, 7, 23, 10, 0, 0));
         entityManager.persistAndFlush(buyOrder1);
 
-        buyOrder2 = TradeOrder.builder()
-                .userId(2L).symbol("BTC").orderSide(BUY)
-                .price(valueOf(1010)).quantity(valueOf(3)).filledQuantity(BigDecimal.ZERO)
-                .orderStatus(TradeOrderStatus.OPEN).registeredDateTime(LocalDateTime.of(2025, 7, 23, 10, 5, 0))
-                .build();
+        buyOrder2 = TradeOrder.restore(null, 2L, 2L, "BTC", Price.of("1010"), Quantity.of("3"), Quantity.ZERO,
+                BUY, OPEN, LocalDateTime.of(2025, 7, 23, 10, 5, 0));
         entityManager.persistAndFlush(buyOrder2);
 
         // 매도 주문
-        sellOrder1 = TradeOrder.builder()
-                .userId(3L).symbol("BTC").orderSide(SELL)
-                .price(valueOf(1050)).quantity(valueOf(2)).filledQuantity(BigDecimal.ZERO)
-                .orderStatus(TradeOrderStatus.OPEN).registeredDateTime(LocalDateTime.of(2025, 7, 23, 10, 10, 0))
-                .build();
+        sellOrder1 = TradeOrder.restore(null, 3L, 3L, "BTC", Price.of("1050"), Quantity.of("2"), Quantity.ZERO,
+                SELL, OPEN, LocalDateTime.of(2025, 7, 23, 10, 10, 0));
         entityManager.persistAndFlush(sellOrder1);
 
-        sellOrder2 = TradeOrder.builder()
-                .userId(4L).symbol("BTC").orderSide(SELL)
-                .price(valueOf(1040)).quantity(valueOf(4)).filledQuantity(BigDecimal.ZERO)
-                .orderStatus(TradeOrderStatus.OPEN).registeredDateTime(LocalDateTime.of(2025, 7, 23, 10, 15, 0))
-                .build();
+        sellOrder2 = TradeOrder.restore(null, 4L, 4L, "BTC", Price.of("1040"), Quantity.of("4"), Quantity.ZERO,
+                SELL, OPEN, LocalDateTime.of(2025, 7, 23, 10, 15, 0));
         entityManager.persistAndFlush(sellOrder2);
 
         // 이미 체결된 주문 (OPEN이 아니므로 쿼리 결과에 포함되면 안됨)
-        filledOrder = TradeOrder.builder()
-                .userId(5L).symbol("BTC").orderSide(BUY)
-                .price(valueOf(990)).quantity(valueOf(1)).filledQuantity(valueOf(1))
-                .orderStatus(TradeOrderStatus.CLOSED).registeredDateTime(LocalDateTime.of(2025, 7, 23, 9, 0, 0))
-                .build();
-        entityManager.persistAndFlush(closedOrder);
+        filledOrder = TradeOrder.restore(null, 5L, 5L, "BTC", Price.of("990"), Quantity.of("1"), Quantity.of("1"),
+                BUY, FILLED, LocalDateTime.of(2025, 7, 23, 9, 0, 0));
+        entityManager.persistAndFlush(filledOrder);
     }
-}
\ No newline at end of file
+}
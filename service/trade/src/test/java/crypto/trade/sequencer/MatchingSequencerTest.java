@@ -0,0 +1,61 @@
+package crypto.trade.sequencer;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MatchingSequencerTest {
+
+    @DisplayName("작업의 결과를 돌려주고, 작업이 던진 런타임 예외는 감싸지 않고 그대로 올린다.")
+    @Test
+    void executeOnShard() {
+        // given
+        MatchingSequencer sequencer = new MatchingSequencer(2, 4);
+        sequencer.start();
+
+        // when
+        Integer result = sequencer.dispatch("BTC", () -> 1).join();
+
+        // then
+        assertThat(result).isEqualTo(1);
+        assertThatThrownBy(() -> sequencer.execute("BTC", () -> {
+            throw new IllegalArgumentException("invalid order");
+        })).isInstanceOf(IllegalArgumentException.class);
+        sequencer.stop();
+    }
+
+    @DisplayName("멈춘 뒤의 작업은 막히지 않고 바로 실패한다.")
+    @Test
+    void failAfterStop() {
+        // given
+        MatchingSequencer sequencer = new MatchingSequencer(1, 4);
+        sequencer.start();
+        sequencer.stop();
+
+        // when // then
+        assertThatThrownBy(() -> sequencer.execute("BTC", () -> { }))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @DisplayName("멈출 때 실행되지 못하고 남은 작업의 결과는 실패로 끝난다.")
+    @Test
+    void failPendingDispatchOnStop() {
+        // given
+        MatchingSequencer sequencer = new MatchingSequencer(1, 4);
+        CompletableFuture<Integer> future = sequencer.dispatch("BTC", () -> 1);
+
+        // when
+        sequencer.stop();
+
+        // then
+        assertThat(future).failsWithin(1, TimeUnit.SECONDS)
+                .withThrowableOfType(ExecutionException.class)
+                .withCauseInstanceOf(IllegalStateException.class);
+    }
+}
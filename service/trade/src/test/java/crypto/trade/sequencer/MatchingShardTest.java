@@ -0,0 +1,85 @@
+package crypto.trade.sequencer;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MatchingShardTest {
+
+    @DisplayName("넣은 작업은 매칭 스레드에서 실행된다.")
+    @Test
+    void runPublishedTask() throws InterruptedException {
+        // given
+        MatchingShard shard = new MatchingShard(0, 4);
+        CountDownLatch executed = new CountDownLatch(1);
+        AtomicBoolean onShardThread = new AtomicBoolean();
+        shard.start();
+
+        // when
+        shard.publish(task(() -> {
+            onShardThread.set(shard.isCurrentThread());
+            executed.countDown();
+        }, new ArrayList<>()));
+
+        // then
+        assertThat(executed.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(onShardThread).isTrue();
+        shard.stop();
+    }
+
+    @DisplayName("멈춘 뒤에는 링 버퍼에 자리가 있어도 작업을 받지 않는다.")
+    @Test
+    void rejectPublishAfterStop() {
+        // given
+        MatchingShard shard = new MatchingShard(0, 4);
+        AtomicBoolean executed = new AtomicBoolean();
+        shard.start();
+        shard.stop();
+
+        // when // then
+        assertThatThrownBy(() -> shard.publish(task(() -> executed.set(true), new ArrayList<>())))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(executed).isFalse();
+    }
+
+    @DisplayName("매칭 스레드가 비우지 못하고 링 버퍼에 남은 작업은 멈출 때 실패로 알린다.")
+    @Test
+    void failRemainingTasksOnStop() {
+        // given
+        MatchingShard shard = new MatchingShard(0, 4);
+        AtomicBoolean executed = new AtomicBoolean();
+        List<RuntimeException> failures = new ArrayList<>();
+        shard.publish(task(() -> executed.set(true), failures));
+        shard.publish(task(() -> executed.set(true), failures));
+
+        // when
+        shard.stop();
+
+        // then
+        assertThat(executed).isFalse();
+        assertThat(failures).hasSize(2)
+                .allSatisfy(failure -> assertThat(failure).isInstanceOf(IllegalStateException.class));
+    }
+
+    private static MatchingShard.Task task(Runnable body, List<RuntimeException> failures) {
+        return new MatchingShard.Task() {
+            @Override
+            public void run() {
+                body.run();
+            }
+
+            @Override
+            public void fail(RuntimeException cause) {
+                failures.add(cause);
+            }
+        };
+    }
+}
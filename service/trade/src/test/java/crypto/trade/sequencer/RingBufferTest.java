@@ -0,0 +1,101 @@
+package crypto.trade.sequencer;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RingBufferTest {
+
+    @DisplayName("넣은 순서대로 꺼내진다.")
+    @Test
+    void pollInOrder() {
+        // given
+        RingBuffer<Integer> ringBuffer = new RingBuffer<>(4);
+        ringBuffer.offer(1);
+        ringBuffer.offer(2);
+        ringBuffer.offer(3);
+
+        // when // then
+        assertThat(ringBuffer.poll()).isEqualTo(1);
+        assertThat(ringBuffer.poll()).isEqualTo(2);
+        assertThat(ringBuffer.poll()).isEqualTo(3);
+        assertThat(ringBuffer.poll()).isNull();
+    }
+
+    @DisplayName("버퍼가 가득 차면 offer 가 false 를 반환하고, 비워진 뒤에는 다시 넣을 수 있다.")
+    @Test
+    void offerWhenFull() {
+        // given
+        RingBuffer<Integer> ringBuffer = new RingBuffer<>(2);
+        ringBuffer.offer(1);
+        ringBuffer.offer(2);
+
+        // when
+        boolean offered = ringBuffer.offer(3);
+        ringBuffer.poll();
+
+        // then
+        assertThat(offered).isFalse();
+        assertThat(ringBuffer.offer(3)).isTrue();
+        assertThat(ringBuffer.poll()).isEqualTo(2);
+        assertThat(ringBuffer.poll()).isEqualTo(3);
+    }
+
+    @DisplayName("용량이 2의 거듭제곱이 아니면 예외가 발생한다.")
+    @Test
+    void invalidCapacity() {
+        // when // then
+        assertThatThrownBy(() -> new RingBuffer<>(3))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @DisplayName("여러 생산자가 동시에 넣어도 모든 원소가 한 번씩만 꺼내진다.")
+    @Test
+    void multipleProducers() throws InterruptedException {
+        // given
+        RingBuffer<Integer> ringBuffer = new RingBuffer<>(64);
+        int producers = 4;
+        int perProducer = 10_000;
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        CountDownLatch latch = new CountDownLatch(producers);
+
+        // when
+        for (int p = 0; p < producers; p++) {
+            int base = p * perProducer;
+            executor.submit(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    while (!ringBuffer.offer(base + i)) {
+                        Thread.onSpinWait();
+                    }
+                }
+                latch.countDown();
+            });
+        }
+
+        List<Integer> consumed = new ArrayList<>();
+        while (consumed.size() < producers * perProducer) {
+            Integer value = ringBuffer.poll();
+            if (value != null) {
+                consumed.add(value);
+            }
+        }
+        latch.await(5, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // then
+        Set<Integer> unique = new HashSet<>(consumed);
+        assertThat(unique).hasSize(producers * perProducer);
+        assertThat(ringBuffer.poll()).isNull();
+    }
+}
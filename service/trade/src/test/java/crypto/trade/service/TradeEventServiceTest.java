@@ -0,0 +1,154 @@
+package crypto.trade.service;
+
+import crypto.common.fixedpoint.Price;
+import crypto.common.fixedpoint.Quantity;
+import crypto.common.time.TimeProvider;
+import crypto.event.Event;
+import crypto.event.TimeInForce;
+import crypto.event.payload.OrderPayload;
+import crypto.trade.entity.TradeOrder;
+import crypto.trade.eventhandler.EventHandler;
+import crypto.trade.journal.TradeJournal;
+import crypto.trade.marketdata.DepthPublisher;
+import crypto.trade.orderbook.OrderBook;
+import crypto.trade.orderbook.OrderBookManager;
+import crypto.trade.persistence.TradeWriteBehind;
+import crypto.trade.repository.TradeOrderRepository;
+import crypto.trade.repository.TradeProcessedEventDbRepository;
+import crypto.trade.repository.TradeRepository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static crypto.event.EventType.LIMIT_BUY_ORDER_TRADE;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+
+@ExtendWith(MockitoExtension.class)
+class TradeEventServiceTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 7, 23, 10, 0, 0);
+
+    @Mock
+    private EventHandler eventHandler;
+
+    @Mock
+    private TradeRepository tradeRepository;
+
+    @Mock
+    private TradeProcessedEventDbRepository tradeProcessedEventDbRepository;
+
+    @Mock
+    private TradeOrderRepository tradeOrderRepository;
+
+    @Mock
+    private OrderBookManager orderBookManager;
+
+    @Mock
+    private TradeJournal tradeJournal;
+
+    @Mock
+    private TradeWriteBehind tradeWriteBehind;
+
+    @Mock
+    private DepthPublisher depthPublisher;
+
+    @Mock
+    private TimeProvider timeProvider;
+
+    private TradeEventService tradeEventService;
+
+    @BeforeEach
+    void setUp() {
+        tradeEventService = new TradeEventService(List.of(eventHandler), tradeRepository, tradeProcessedEventDbRepository, tradeOrderRepository,
+                orderBookManager, tradeJournal, tradeWriteBehind, depthPublisher, timeProvider);
+    }
+
+    @DisplayName("IOC 주문은 호가창에 남지 않으므로 trade_orders 행과 저널 항목을 만들지 않고 ID 만 붙여 매칭한다.")
+    @Test
+    void notInsertIocOrder() {
+        verifyNotInserted(TimeInForce.IOC);
+    }
+
+    @DisplayName("FOK 주문도 trade_orders 행과 저널 항목을 만들지 않고 ID 만 붙여 매칭한다.")
+    @Test
+    void notInsertFokOrder() {
+        verifyNotInserted(TimeInForce.FOK);
+    }
+
+    @DisplayName("메이커 전용 주문은 호가창에 남을 수 있으므로 매칭 전에 trade_orders 행과 저널 항목을 만든다.")
+    @Test
+    void insertPostOnlyOrder() {
+        // given
+        Event event = limitBuyEvent(TimeInForce.POST_ONLY);
+        givenHandledEvent(event);
+        when(tradeWriteBehind.insertOrder(any(TradeOrder.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        tradeEventService.handleEvent(event);
+
+        // then
+        verify(tradeWriteBehind, times(1)).insertOrder(any(TradeOrder.class));
+        verify(tradeJournal, times(1)).appendOrder(any(TradeOrder.class));
+        verify(tradeWriteBehind, never()).assignOrderId(any(TradeOrder.class));
+    }
+
+    @DisplayName("이미 처리된 이벤트는 호가창을 건드리지 않고 건너뛴다.")
+    @Test
+    void skipProcessedEvent() {
+        // given
+        Event event = limitBuyEvent(TimeInForce.GTC);
+        when(eventHandler.supports(event)).thenReturn(true);
+        when(tradeWriteBehind.isProcessed("event-1")).thenReturn(true);
+
+        // when
+        tradeEventService.handleEvent(event);
+
+        // then
+        verifyNoInteractions(orderBookManager, tradeJournal, depthPublisher);
+        verify(eventHandler, never()).handle(any(), any());
+        verify(tradeWriteBehind, never()).markProcessed(any());
+    }
+
+    private void verifyNotInserted(TimeInForce timeInForce) {
+        // given
+        Event event = limitBuyEvent(timeInForce);
+        givenHandledEvent(event);
+
+        // when
+        tradeEventService.handleEvent(event);
+
+        // then
+        verify(tradeWriteBehind, times(1)).assignOrderId(any(TradeOrder.class));
+        verify(tradeWriteBehind, never()).insertOrder(any(TradeOrder.class));
+        verify(tradeJournal, never()).appendOrder(any(TradeOrder.class));
+        verify(eventHandler, times(1)).handle(eq(event), argThat(order -> order.getTimeInForce() == timeInForce));
+        verify(tradeWriteBehind, times(1)).markProcessed("event-1");
+    }
+
+    private void givenHandledEvent(Event event) {
+        when(eventHandler.supports(event)).thenReturn(true);
+        when(orderBookManager.getOrderBook("BTC")).thenReturn(new OrderBook("BTC"));
+        when(timeProvider.now()).thenReturn(NOW);
+    }
+
+    private static Event limitBuyEvent(TimeInForce timeInForce) {
+        return Event.of("event-1", LIMIT_BUY_ORDER_TRADE, OrderPayload.builder()
+                .orderId(1L)
+                .userId(7L)
+                .symbol("BTC")
+                .price(Price.of("1000"))
+                .quantity(Quantity.of("1"))
+                .orderSide("BUY")
+                .timeInForce(timeInForce)
+                .build());
+    }
+}
@@ -0,0 +1,79 @@
+package crypto.trade.trigger;
+
+import crypto.common.fixedpoint.Price;
+import crypto.common.fixedpoint.Quantity;
+import crypto.trade.entity.TradeOrderSide;
+import crypto.trade.entity.TradeStopOrder;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static crypto.trade.entity.TradeOrderSide.*;
+import static org.assertj.core.api.Assertions.*;
+
+
+class StopOrderBookTest {
+
+    private StopOrderBook stopOrderBook;
+
+    @BeforeEach
+    void setUp() {
+        stopOrderBook = new StopOrderBook("BTC");
+    }
+
+    @DisplayName("체결가가 넘어선 발동 가격의 스톱 주문만 발동 가격순, 등록순으로 꺼낸다.")
+    @Test
+    void triggerCrossedStops() {
+        // given
+        stopOrderBook.add(createStopOrder(1L, BUY, "1020"));
+        stopOrderBook.add(createStopOrder(2L, BUY, "1010"));
+        stopOrderBook.add(createStopOrder(3L, BUY, "1010"));
+        stopOrderBook.add(createStopOrder(4L, BUY, "1030"));
+        stopOrderBook.add(createStopOrder(5L, SELL, "990"));
+        stopOrderBook.add(createStopOrder(6L, SELL, "1025"));
+
+        // when
+        var triggered = stopOrderBook.trigger(Price.of("1020"));
+
+        // then
+        assertThat(triggered)
+                .extracting(TradeStopOrder::getOrderId)
+                .containsExactly(2L, 3L, 1L, 6L);
+        assertThat(stopOrderBook.size()).isEqualTo(2);
+        assertThat(stopOrderBook.getLastTradePrice()).isEqualTo(Price.of("1020"));
+    }
+
+    @DisplayName("지운 스톱 주문은 발동되지 않는다.")
+    @Test
+    void removeStop() {
+        // given
+        stopOrderBook.add(createStopOrder(1L, SELL, "990"));
+        stopOrderBook.add(createStopOrder(2L, SELL, "990"));
+
+        // when
+        TradeStopOrder removed = stopOrderBook.remove(1L);
+
+        // then
+        assertThat(removed.getOrderId()).isEqualTo(1L);
+        assertThat(stopOrderBook.remove(1L)).isNull();
+        assertThat(stopOrderBook.trigger(Price.of("980")))
+                .extracting(TradeStopOrder::getOrderId)
+                .containsExactly(2L);
+    }
+
+    private TradeStopOrder createStopOrder(Long orderId, TradeOrderSide orderSide, String triggerPrice) {
+        return TradeStopOrder.builder()
+                .orderId(orderId)
+                .userId(orderId)
+                .symbol("BTC")
+                .orderSide(orderSide)
+                .triggerPrice(Price.of(triggerPrice))
+                .price(Price.of(triggerPrice))
+                .quantity(Quantity.of("1"))
+                .registeredDateTime(LocalDateTime.of(2025, 7, 23, 10, 0, 0))
+                .build();
+    }
+}
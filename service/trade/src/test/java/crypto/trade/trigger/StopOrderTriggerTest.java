@@ -0,0 +1,188 @@
+package crypto.trade.trigger;
+
+import crypto.common.fixedpoint.Price;
+import crypto.common.fixedpoint.Quantity;
+import crypto.event.eventsender.OrderEventSender;
+import crypto.event.payload.OrderPayload;
+import crypto.trade.entity.TradeOrderSide;
+import crypto.trade.entity.TradeStopOrder;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static crypto.event.EventType.*;
+import static crypto.trade.entity.TradeOrderSide.*;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+
+@ExtendWith(MockitoExtension.class)
+class StopOrderTriggerTest {
+
+    private static final LocalDateTime REGISTERED_DATE_TIME = LocalDateTime.of(2025, 7, 23, 10, 0, 0);
+
+    @Mock
+    private StopOrderStore stopOrderStore;
+
+    @Mock
+    private OrderEventSender orderEventSender;
+
+    @InjectMocks
+    private StopOrderTrigger stopOrderTrigger;
+
+    @DisplayName("마지막 체결가가 이미 발동 가격을 넘어섰으면 저장하지 않고 바로 원래 주문의 체결 요청으로 보낸다.")
+    @Test
+    void releaseOnPlaceWhenAlreadyCrossed() {
+        // given
+        when(stopOrderStore.load("BTC")).thenReturn(List.of());
+        stopOrderTrigger.onTrade("BTC", Price.of("1000"));
+        TradeStopOrder stopOrder = limitStopOrder(101L, 1L, BUY, "990");
+
+        // when
+        stopOrderTrigger.place(stopOrder);
+
+        // then
+        ArgumentCaptor<OrderPayload> payload = ArgumentCaptor.forClass(OrderPayload.class);
+        verify(orderEventSender).sendAfterCommit(eq(LIMIT_BUY_ORDER_TRADE), payload.capture());
+        assertThat(payload.getValue())
+                .extracting(OrderPayload::orderId, OrderPayload::userId, OrderPayload::symbol, OrderPayload::price, OrderPayload::quantity, OrderPayload::orderSide)
+                .containsExactly(1L, 7L, "BTC", Price.of("990"), Quantity.of("1"), "BUY");
+        verify(stopOrderStore, never()).save(any());
+    }
+
+    @DisplayName("아직 발동 가격에 닿지 않은 스톱 주문은 저장하고 보관한다.")
+    @Test
+    void keepUntriggeredStopOrder() {
+        // given
+        when(stopOrderStore.load("BTC")).thenReturn(List.of());
+        stopOrderTrigger.onTrade("BTC", Price.of("1000"));
+        TradeStopOrder stopOrder = limitStopOrder(101L, 1L, BUY, "1100");
+
+        // when
+        stopOrderTrigger.place(stopOrder);
+
+        // then
+        verify(stopOrderStore).save(stopOrder);
+        verifyNoInteractions(orderEventSender);
+        assertThat(stopOrderTrigger.cancel("BTC", 1L)).isSameAs(stopOrder);
+    }
+
+    @DisplayName("체결가가 발동 가격을 넘으면 발동한 스톱 주문의 행을 지우고 지정가·시장가, 매수·매도에 맞는 체결 요청으로 보낸다.")
+    @Test
+    void releaseTriggeredStopOrdersOnTrade() {
+        // given
+        TradeStopOrder limitBuyStop = limitStopOrder(101L, 1L, BUY, "1010");
+        TradeStopOrder marketSellStop = marketSellStopOrder(102L, 2L, "990");
+        when(stopOrderStore.load("BTC")).thenReturn(List.of(limitBuyStop, marketSellStop));
+
+        // when
+        stopOrderTrigger.onTrade("BTC", Price.of("1010"));
+        stopOrderTrigger.onTrade("BTC", Price.of("980"));
+
+        // then
+        verify(stopOrderStore).delete(List.of(101L));
+        verify(stopOrderStore).delete(List.of(102L));
+
+        ArgumentCaptor<OrderPayload> limitPayload = ArgumentCaptor.forClass(OrderPayload.class);
+        verify(orderEventSender).sendAfterCommit(eq(LIMIT_BUY_ORDER_TRADE), limitPayload.capture());
+        assertThat(limitPayload.getValue().orderId()).isEqualTo(1L);
+
+        ArgumentCaptor<OrderPayload> marketPayload = ArgumentCaptor.forClass(OrderPayload.class);
+        verify(orderEventSender).sendAfterCommit(eq(MARKET_SELL_ORDER_TRADE), marketPayload.capture());
+        assertThat(marketPayload.getValue())
+                .extracting(OrderPayload::orderId, OrderPayload::price, OrderPayload::marketTotalQuantity, OrderPayload::orderSide)
+                .containsExactly(2L, null, Quantity.of("3"), "SELL");
+    }
+
+    @DisplayName("발동 가격에 닿은 스톱 주문이 없으면 행을 지우지 않고 아무것도 보내지 않는다.")
+    @Test
+    void notReleaseUntriggeredOnTrade() {
+        // given
+        when(stopOrderStore.load("BTC")).thenReturn(List.of(limitStopOrder(101L, 1L, BUY, "1100")));
+
+        // when
+        stopOrderTrigger.onTrade("BTC", Price.of("1000"));
+
+        // then
+        verify(stopOrderStore, never()).delete(any());
+        verifyNoInteractions(orderEventSender);
+    }
+
+    @DisplayName("발동이 들어간 트랜잭션이 롤백되면 메모리의 스톱 호가창을 버리고 다음 접근 때 DB 에서 다시 적재한다.")
+    @Test
+    void reloadAfterRollback() {
+        // given
+        when(stopOrderStore.load("BTC")).thenReturn(List.of(limitStopOrder(101L, 1L, BUY, "1010")));
+
+        // when
+        completeTransaction(TransactionSynchronization.STATUS_ROLLED_BACK, () -> stopOrderTrigger.onTrade("BTC", Price.of("1010")));
+        stopOrderTrigger.onTrade("BTC", Price.of("1000"));
+
+        // then
+        verify(stopOrderStore, times(2)).load("BTC");
+    }
+
+    @DisplayName("발동이 들어간 트랜잭션이 커밋되면 메모리의 스톱 호가창을 그대로 쓴다.")
+    @Test
+    void keepAfterCommit() {
+        // given
+        when(stopOrderStore.load("BTC")).thenReturn(List.of(limitStopOrder(101L, 1L, BUY, "1010")));
+
+        // when
+        completeTransaction(TransactionSynchronization.STATUS_COMMITTED, () -> stopOrderTrigger.onTrade("BTC", Price.of("1010")));
+        stopOrderTrigger.onTrade("BTC", Price.of("1000"));
+
+        // then
+        verify(stopOrderStore, times(1)).load("BTC");
+    }
+
+    private static void completeTransaction(int status, Runnable work) {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            work.run();
+            TransactionSynchronizationManager.getSynchronizations().forEach(sync -> sync.afterCompletion(status));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private static TradeStopOrder limitStopOrder(Long id, Long orderId, TradeOrderSide orderSide, String triggerPrice) {
+        TradeStopOrder stopOrder = TradeStopOrder.builder()
+                .orderId(orderId)
+                .userId(7L)
+                .symbol("BTC")
+                .orderSide(orderSide)
+                .triggerPrice(Price.of(triggerPrice))
+                .price(Price.of(triggerPrice))
+                .quantity(Quantity.of("1"))
+                .registeredDateTime(REGISTERED_DATE_TIME)
+                .build();
+        ReflectionTestUtils.setField(stopOrder, "id", id);
+        return stopOrder;
+    }
+
+    private static TradeStopOrder marketSellStopOrder(Long id, Long orderId, String triggerPrice) {
+        TradeStopOrder stopOrder = TradeStopOrder.builder()
+                .orderId(orderId)
+                .userId(7L)
+                .symbol("BTC")
+                .orderSide(SELL)
+                .triggerPrice(Price.of(triggerPrice))
+                .marketTotalQuantity(Quantity.of("3"))
+                .registeredDateTime(REGISTERED_DATE_TIME)
+                .build();
+        ReflectionTestUtils.setField(stopOrder, "id", id);
+        return stopOrder;
+    }
+}